@@ -14,6 +14,7 @@ package ai.djl;
 
 import ai.djl.engine.Engine;
 import ai.djl.inference.Predictor;
+import ai.djl.inference.PredictorPool;
 import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.DataType;
 import ai.djl.ndarray.types.Shape;
@@ -301,6 +302,19 @@ public interface Model extends AutoCloseable {
      */
     <I, O> Predictor<I, O> newPredictor(Translator<I, O> translator, Device device);
 
+    /**
+     * Creates a new {@link PredictorPool} based on the model on the current device.
+     *
+     * @param translator the object used for pre-processing and postprocessing
+     * @param maxSize the max number of predictors in the pool
+     * @param <I> the input object for pre-processing
+     * @param <O> the output object from postprocessing
+     * @return an instance of {@code PredictorPool}
+     */
+    default <I, O> PredictorPool<I, O> newPredictorPool(Translator<I, O> translator, int maxSize) {
+        return new PredictorPool<>(() -> newPredictor(translator), maxSize);
+    }
+
     /**
      * Returns the input descriptor of the model.
      *
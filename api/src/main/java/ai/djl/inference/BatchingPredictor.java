@@ -0,0 +1,262 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.inference;
+
+import ai.djl.metric.Dimension;
+import ai.djl.metric.Metrics;
+import ai.djl.metric.Unit;
+import ai.djl.translate.TranslateException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A thread-safe {@code BatchingPredictor} that groups single {@link #predict(Object)} calls from
+ * many threads into batches.
+ *
+ * <p>Requests are queued and a background thread flushes them through {@link
+ * Predictor#batchPredict(List)} when either {@code maxBatchSize} requests are pending or the
+ * oldest pending request has waited for {@code maxDelay} milliseconds. Batches are assembled by
+ * the {@link ai.djl.translate.Batchifier} of the wrapped predictor's translator. If the translator
+ * doesn't have a {@code Batchifier}, each request is processed on its own.
+ *
+ * <pre>
+ * try (Predictor&lt;Image, Classifications&gt; predictor = model.newPredictor();
+ *         BatchingPredictor&lt;Image, Classifications&gt; batching =
+ *                 new BatchingPredictor&lt;&gt;(predictor, 8, 5)) {
+ *     // can be called from multiple threads
+ *     Classifications result = batching.predict(image);
+ * }
+ * </pre>
+ *
+ * <p>When {@link Metrics} is attached, the following metrics are collected in addition to the
+ * {@link Predictor} metrics:
+ *
+ * <ul>
+ *   <li>QueueSize - number of requests that are still pending after a batch is taken
+ *   <li>BatchSize - the size of each flushed batch
+ *   <li>QueueTime - time each request spent waiting in the queue
+ * </ul>
+ *
+ * @param <I> the input type
+ * @param <O> the output type
+ */
+public class BatchingPredictor<I, O> implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchingPredictor.class);
+
+    private Predictor<I, O> predictor;
+    private int maxBatchSize;
+    private long maxDelayNanos;
+    private BlockingQueue<Job<I, O>> queue;
+    private Thread worker;
+    private volatile boolean running;
+    private Metrics metrics;
+    private Dimension dimension;
+
+    /**
+     * Constructs a new {@code BatchingPredictor} instance.
+     *
+     * <p>The {@code BatchingPredictor} takes the ownership of the given predictor, the predictor
+     * will be closed when the {@code BatchingPredictor} is closed.
+     *
+     * @param predictor the predictor used to run the batches
+     * @param maxBatchSize the max number of requests in one batch
+     * @param maxDelay the max time in milliseconds a request can wait for a batch to fill up
+     */
+    public BatchingPredictor(Predictor<I, O> predictor, int maxBatchSize, long maxDelay) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+        }
+        if (maxDelay < 0) {
+            throw new IllegalArgumentException("maxDelay must not be negative");
+        }
+        this.predictor = predictor;
+        this.maxBatchSize = predictor.translator.getBatchifier() == null ? 1 : maxBatchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelay);
+        dimension = predictor.dimension;
+        queue = new LinkedBlockingQueue<>();
+        running = true;
+        worker = new Thread(this::run, "batching-predictor");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Predicts an item for inference, blocks until the batch that contains the item is processed.
+     *
+     * @param input the input
+     * @return the output object defined by the user
+     * @throws TranslateException if an error occurs during prediction
+     */
+    public O predict(I input) throws TranslateException {
+        try {
+            return submit(input).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TranslateException("Interrupted while waiting for prediction", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TranslateException) {
+                throw (TranslateException) cause;
+            }
+            throw new TranslateException(cause);
+        }
+    }
+
+    /**
+     * Submits an item for inference and returns immediately.
+     *
+     * @param input the input
+     * @return a {@code CompletableFuture} that completes when the batch is processed
+     */
+    public CompletableFuture<O> submit(I input) {
+        if (!running) {
+            throw new IllegalStateException("BatchingPredictor is already closed.");
+        }
+        Job<I, O> job = new Job<>(input);
+        queue.add(job);
+        return job.future;
+    }
+
+    /**
+     * Returns the number of requests waiting in the queue.
+     *
+     * @return the number of requests waiting in the queue
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Returns the max number of requests in one batch.
+     *
+     * @return the max number of requests in one batch
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Attaches a Metrics param to use for benchmark.
+     *
+     * @param metrics the Metrics class
+     */
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+        predictor.setMetrics(metrics);
+    }
+
+    private void run() {
+        List<Job<I, O>> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Job<I, O> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = first.begin + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0 || !running) {
+                        queue.drainTo(batch, maxBatchSize - batch.size());
+                        break;
+                    }
+                    Job<I, O> job = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (job == null) {
+                        break;
+                    }
+                    batch.add(job);
+                }
+                runBatch(batch);
+            } catch (InterruptedException e) {
+                logger.debug("Batching predictor interrupted.");
+                running = false;
+                for (Job<I, O> job : batch) {
+                    job.future.completeExceptionally(e);
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void runBatch(List<Job<I, O>> batch) {
+        int batchSize = batch.size();
+        List<I> inputs = new ArrayList<>(batchSize);
+        long now = System.nanoTime();
+        for (Job<I, O> job : batch) {
+            inputs.add(job.input);
+            if (metrics != null) {
+                long queueTime = (now - job.begin) / 1000;
+                metrics.addMetric("QueueTime", queueTime, Unit.MICROSECONDS, dimension);
+            }
+        }
+        if (metrics != null) {
+            metrics.addMetric("QueueSize", queue.size(), Unit.COUNT, dimension);
+            metrics.addMetric("BatchSize", batchSize, Unit.COUNT, dimension);
+        }
+
+        try {
+            List<O> outputs = predictor.batchPredict(inputs);
+            for (int i = 0; i < batchSize; ++i) {
+                batch.get(i).future.complete(outputs.get(i));
+            }
+        } catch (Throwable t) {
+            for (Job<I, O> job : batch) {
+                job.future.completeExceptionally(t);
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            worker.interrupt();
+        }
+        // fail the requests that arrived after the worker stopped
+        Job<I, O> job;
+        while ((job = queue.poll()) != null) {
+            job.future.completeExceptionally(
+                    new IllegalStateException("BatchingPredictor is already closed."));
+        }
+        predictor.close();
+    }
+
+    private static final class Job<I, O> {
+
+        I input;
+        long begin;
+        CompletableFuture<O> future;
+
+        Job(I input) {
+            this.input = input;
+            begin = System.nanoTime();
+            future = new CompletableFuture<>();
+        }
+    }
+}
@@ -38,7 +38,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The {@code Predictor} interface provides a session for model inference.
@@ -90,7 +97,7 @@ public class Predictor<I, O> implements AutoCloseable {
     protected Translator<I, O> translator;
     protected long timestamp;
 
-    protected boolean prepared;
+    protected volatile boolean prepared;
     protected Model model;
     protected NDManager manager;
     protected Metrics metrics;
@@ -98,6 +105,10 @@ public class Predictor<I, O> implements AutoCloseable {
     protected ParameterStore parameterStore;
     protected Dimension dimension;
 
+    private Executor executor;
+    private ExecutorService inferenceExecutor;
+    private AtomicInteger inferenceQueueSize;
+
     /**
      * Creates a new instance of {@code BasePredictor} with the given {@link Model} and {@link
      * Translator}.
@@ -120,6 +131,8 @@ public class Predictor<I, O> implements AutoCloseable {
         block = model.getBlock();
         parameterStore = new ParameterStore(manager, copy);
         dimension = new Dimension("Model", model.getProperty("metric_dimension", "model"));
+        executor = ForkJoinPool.commonPool();
+        inferenceQueueSize = new AtomicInteger();
     }
 
     /**
@@ -160,10 +173,7 @@ public class Predictor<I, O> implements AutoCloseable {
     @SuppressWarnings({"PMD.AvoidRethrowingException", "PMD.IdenticalCatchBranches"})
     public List<O> batchPredict(List<I> inputs) throws TranslateException {
         try (PredictorContext context = new PredictorContext(model, manager, metrics)) {
-            if (!prepared) {
-                translator.prepare(context);
-                prepared = true;
-            }
+            prepare(context);
             if (translator.getBatchifier() == null) {
                 List<O> ret = new ArrayList<>(inputs.size());
                 for (I input : inputs) {
@@ -201,6 +211,96 @@ public class Predictor<I, O> implements AutoCloseable {
         }
     }
 
+    /**
+     * Predicts an item for inference asynchronously.
+     *
+     * @param input the input
+     * @return a {@code CompletableFuture} of the output object defined by the user
+     * @see #batchPredictAsync(List)
+     */
+    public CompletableFuture<O> predictAsync(I input) {
+        return batchPredictAsync(Collections.singletonList(input)).thenApply(r -> r.get(0));
+    }
+
+    /**
+     * Predicts a batch for inference asynchronously.
+     *
+     * <p>The prediction runs as a three-stage pipeline: the translator pre-processing runs on the
+     * {@link #setExecutor(Executor) executor}, the inference runs on a single thread dedicated to
+     * this predictor's device, and the post-processing runs on the executor again. While one batch
+     * is in the inference stage, the next batch can be pre-processed. A new {@link
+     * PredictorContext} is created for each batch and closed when the batch completes.
+     *
+     * <p>When {@link Metrics} is attached, the time each batch waits for a stage is recorded as
+     * "PreprocessQueueTime", "InferenceQueueTime" and "PostprocessQueueTime", and the number of
+     * batches waiting for inference as "InferenceQueueSize".
+     *
+     * @param inputs a list of inputs
+     * @return a {@code CompletableFuture} of the list of output objects defined by the user
+     */
+    public CompletableFuture<List<O>> batchPredictAsync(List<I> inputs) {
+        PredictorContext context = new PredictorContext(model, manager, metrics);
+        try {
+            prepare(context);
+        } catch (Exception e) {
+            context.close();
+            CompletableFuture<List<O>> future = new CompletableFuture<>();
+            future.completeExceptionally(
+                    e instanceof TranslateException ? e : new TranslateException(e));
+            return future;
+        }
+
+        int batchSize = inputs.size();
+        long begin = System.nanoTime();
+        CompletableFuture<List<O>> future =
+                CompletableFuture.supplyAsync(
+                                () -> {
+                                    long start = stageBegin("PreprocessQueueTime", begin);
+                                    NDList[] ndLists = preprocessStage(context, inputs);
+                                    stageEnd("Preprocess", start, ndLists, batchSize);
+                                    inferenceQueueSize.incrementAndGet();
+                                    return ndLists;
+                                },
+                                executor)
+                        .thenApplyAsync(
+                                ndLists -> {
+                                    int pending = inferenceQueueSize.decrementAndGet();
+                                    if (metrics != null) {
+                                        metrics.addMetric(
+                                                "InferenceQueueSize",
+                                                pending,
+                                                Unit.COUNT,
+                                                dimension);
+                                    }
+                                    long start = stageBegin("InferenceQueueTime", begin);
+                                    NDList[] results = new NDList[ndLists.length];
+                                    for (int i = 0; i < ndLists.length; ++i) {
+                                        results[i] = inferenceStage(context, ndLists[i]);
+                                    }
+                                    stageEnd("Inference", start, results, batchSize);
+                                    return results;
+                                },
+                                getInferenceExecutor())
+                        .thenApplyAsync(
+                                results -> {
+                                    long start = stageBegin("PostprocessQueueTime", begin);
+                                    List<O> ret = postprocessStage(context, results);
+                                    stageEnd("Postprocess", start, null, batchSize);
+                                    if (metrics != null) {
+                                        long prediction = (System.nanoTime() - begin) / 1000;
+                                        metrics.addMetric(
+                                                "Prediction",
+                                                prediction,
+                                                Unit.MICROSECONDS,
+                                                dimension);
+                                    }
+                                    return ret;
+                                },
+                                executor);
+        future.whenComplete((r, t) -> context.close());
+        return future;
+    }
+
     /**
      * Predicts an item for inference.
      *
@@ -221,10 +321,7 @@ public class Predictor<I, O> implements AutoCloseable {
 
         try {
             PredictorContext context = new PredictorContext(model, manager, metrics);
-            if (!prepared) {
-                translator.prepare(context);
-                prepared = true;
-            }
+            prepare(context);
             Batchifier batchifier = translator.getBatchifier();
             if (batchifier == null) {
                 NDList ndList = translator.processInput(context, input);
@@ -289,6 +386,110 @@ public class Predictor<I, O> implements AutoCloseable {
         this.metrics = metrics;
     }
 
+    /**
+     * Sets the {@link Executor} that runs the pre-processing and post-processing stages of {@link
+     * #batchPredictAsync(List)}.
+     *
+     * <p>The {@link ForkJoinPool#commonPool()} is used by default.
+     *
+     * @param executor the {@link Executor} for pre-processing and post-processing
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    private void prepare(TranslatorContext context) throws Exception {
+        if (!prepared) {
+            synchronized (this) {
+                if (!prepared) {
+                    translator.prepare(context);
+                    prepared = true;
+                }
+            }
+        }
+    }
+
+    private synchronized ExecutorService getInferenceExecutor() {
+        if (inferenceExecutor == null) {
+            String name = "inference-" + manager.getDevice();
+            inferenceExecutor =
+                    Executors.newSingleThreadExecutor(
+                            r -> {
+                                Thread thread = new Thread(r, name);
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+        }
+        return inferenceExecutor;
+    }
+
+    private NDList[] preprocessStage(TranslatorContext ctx, List<I> inputs) {
+        try {
+            if (translator.getBatchifier() == null) {
+                NDList[] ret = new NDList[inputs.size()];
+                for (int i = 0; i < ret.length; ++i) {
+                    ret[i] = translator.processInput(ctx, inputs.get(i));
+                }
+                return ret;
+            }
+            return new NDList[] {translator.batchProcessInput(ctx, inputs)};
+        } catch (Exception e) {
+            throw toCompletionException(e);
+        }
+    }
+
+    private NDList inferenceStage(TranslatorContext ctx, NDList ndList) {
+        try {
+            return predictInternal(ctx, ndList);
+        } catch (TranslateException e) {
+            throw toCompletionException(e);
+        }
+    }
+
+    private List<O> postprocessStage(TranslatorContext ctx, NDList[] results) {
+        try {
+            if (translator.getBatchifier() == null) {
+                List<O> ret = new ArrayList<>(results.length);
+                for (NDList result : results) {
+                    ret.add(translator.processOutput(ctx, result));
+                }
+                return ret;
+            }
+            return translator.batchProcessOutput(ctx, results[0]);
+        } catch (Exception e) {
+            throw toCompletionException(e);
+        }
+    }
+
+    private long stageBegin(String queueMetric, long submitted) {
+        long start = System.nanoTime();
+        if (metrics != null) {
+            long duration = (start - submitted) / 1000;
+            metrics.addMetric(queueMetric, duration, Unit.MICROSECONDS, dimension);
+        }
+        return start;
+    }
+
+    private void stageEnd(String metric, long start, NDList[] lists, int batchSize) {
+        if (metrics != null) {
+            if (lists != null) {
+                for (NDList list : lists) {
+                    waitToRead(list);
+                }
+            }
+            long duration = (System.nanoTime() - start) / 1000 / Math.max(1, batchSize);
+            metrics.addMetric(metric, duration, Unit.MICROSECONDS, dimension);
+        }
+    }
+
+    private static CompletionException toCompletionException(Exception e) {
+        if (e instanceof TranslateException) {
+            return new CompletionException(e);
+        }
+        return new CompletionException(new TranslateException(e));
+    }
+
     private void waitToRead(NDList list) {
         for (NDArray array : list) {
             if (array instanceof LazyNDArray) {
@@ -341,6 +542,11 @@ public class Predictor<I, O> implements AutoCloseable {
     /** {@inheritDoc} */
     @Override
     public void close() {
+        synchronized (this) {
+            if (inferenceExecutor != null) {
+                inferenceExecutor.shutdown();
+            }
+        }
         manager.close();
     }
 
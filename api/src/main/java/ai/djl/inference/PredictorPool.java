@@ -0,0 +1,266 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.inference;
+
+import ai.djl.metric.Dimension;
+import ai.djl.metric.Metrics;
+import ai.djl.metric.Unit;
+import ai.djl.translate.TranslateException;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * A bounded pool of {@link Predictor}s that can be shared by multiple threads.
+ *
+ * <p>A {@link Predictor} is not thread-safe, but creating one per request allocates a new {@link
+ * ai.djl.ndarray.NDManager}, {@link ai.djl.training.ParameterStore} and prepares the translator
+ * every time. The {@code PredictorPool} lends idle predictors to callers and creates new ones
+ * lazily up to {@code maxSize}. Callers that exceed the limit wait until a predictor is returned.
+ *
+ * <p>The pool doesn't use monitor locks, callers waiting for a predictor are parked by {@link
+ * java.util.concurrent.locks.LockSupport} and can be virtual threads.
+ *
+ * <pre>
+ * try (PredictorPool&lt;Image, Classifications&gt; pool = model.newPredictorPool(4)) {
+ *     // can be called from multiple threads
+ *     Classifications result = pool.predict(image);
+ * }
+ * </pre>
+ *
+ * <p>When {@link Metrics} is attached, the following metrics are collected in addition to the
+ * {@link Predictor} metrics:
+ *
+ * <ul>
+ *   <li>PoolUtilization - the percentage of predictors in use after each borrow
+ *   <li>PoolWaitTime - time each caller waited to borrow a predictor
+ *   <li>PoolCreated - the total number of predictors created by the pool
+ * </ul>
+ *
+ * @param <I> the input type
+ * @param <O> the output type
+ */
+public class PredictorPool<I, O> implements AutoCloseable {
+
+    private Supplier<Predictor<I, O>> factory;
+    private int maxSize;
+    private Semaphore permits;
+    private BlockingQueue<Predictor<I, O>> idle;
+    private Set<Predictor<I, O>> borrowed;
+    private AtomicInteger created;
+    private volatile boolean closed;
+    private Metrics metrics;
+    private Dimension dimension;
+
+    /**
+     * Constructs a new {@code PredictorPool} instance.
+     *
+     * @param factory the function to create a new {@link Predictor}
+     * @param maxSize the max number of predictors in the pool
+     */
+    public PredictorPool(Supplier<Predictor<I, O>> factory, int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be greater than 0");
+        }
+        this.factory = factory;
+        this.maxSize = maxSize;
+        permits = new Semaphore(maxSize, true);
+        idle = new LinkedBlockingQueue<>(maxSize);
+        // Predictor doesn't override equals(), the set compares the instances by identity
+        borrowed = ConcurrentHashMap.newKeySet();
+        created = new AtomicInteger();
+    }
+
+    /**
+     * Borrows a {@link Predictor} from the pool, blocks until one is available.
+     *
+     * <p>The predictor must be given back with {@link #release(Predictor)} after use.
+     *
+     * @return a {@link Predictor}
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Predictor<I, O> borrow() throws InterruptedException {
+        long begin = System.nanoTime();
+        permits.acquire();
+        return take(begin);
+    }
+
+    /**
+     * Borrows a {@link Predictor} from the pool, waits up to the specified time.
+     *
+     * <p>The predictor must be given back with {@link #release(Predictor)} after use.
+     *
+     * @param timeout the max time to wait
+     * @param unit the time unit of the {@code timeout} argument
+     * @return a {@link Predictor}, or {@code null} if the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Predictor<I, O> borrow(long timeout, TimeUnit unit) throws InterruptedException {
+        long begin = System.nanoTime();
+        if (!permits.tryAcquire(timeout, unit)) {
+            return null;
+        }
+        return take(begin);
+    }
+
+    /**
+     * Returns a borrowed {@link Predictor} to the pool.
+     *
+     * @param predictor the predictor returned by {@link #borrow()}
+     * @throws IllegalArgumentException if the predictor is not borrowed from this pool, or is
+     *     already released
+     */
+    public void release(Predictor<I, O> predictor) {
+        if (!borrowed.remove(predictor)) {
+            throw new IllegalArgumentException("The predictor is not borrowed from this pool.");
+        }
+        if (closed || !idle.offer(predictor)) {
+            predictor.close();
+        }
+        permits.release();
+    }
+
+    /**
+     * Predicts an item for inference with a pooled {@link Predictor}.
+     *
+     * @param input the input
+     * @return the output object defined by the user
+     * @throws TranslateException if an error occurs during prediction
+     */
+    public O predict(I input) throws TranslateException {
+        Predictor<I, O> predictor = borrowForPredict();
+        try {
+            return predictor.predict(input);
+        } finally {
+            release(predictor);
+        }
+    }
+
+    /**
+     * Predicts a batch for inference with a pooled {@link Predictor}.
+     *
+     * @param inputs a list of inputs
+     * @return a list of output objects defined by the user
+     * @throws TranslateException if an error occurs during prediction
+     */
+    public List<O> batchPredict(List<I> inputs) throws TranslateException {
+        Predictor<I, O> predictor = borrowForPredict();
+        try {
+            return predictor.batchPredict(inputs);
+        } finally {
+            release(predictor);
+        }
+    }
+
+    /**
+     * Returns the max number of predictors in the pool.
+     *
+     * @return the max number of predictors in the pool
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the number of predictors currently borrowed.
+     *
+     * @return the number of predictors currently borrowed
+     */
+    public int getActiveCount() {
+        return maxSize - permits.availablePermits();
+    }
+
+    /**
+     * Returns the total number of predictors created by the pool.
+     *
+     * @return the total number of predictors created by the pool
+     */
+    public int getCreatedCount() {
+        return created.get();
+    }
+
+    /**
+     * Attaches a Metrics param to use for benchmark.
+     *
+     * <p>The metrics are attached to the idle and the borrowed predictors.
+     *
+     * @param metrics the Metrics class
+     */
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+        for (Predictor<I, O> predictor : idle) {
+            predictor.setMetrics(metrics);
+        }
+        for (Predictor<I, O> predictor : borrowed) {
+            predictor.setMetrics(metrics);
+        }
+    }
+
+    private Predictor<I, O> borrowForPredict() throws TranslateException {
+        try {
+            return borrow();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TranslateException("Interrupted while waiting for predictor", e);
+        }
+    }
+
+    private Predictor<I, O> take(long begin) {
+        if (closed) {
+            permits.release();
+            throw new IllegalStateException("PredictorPool is already closed.");
+        }
+        Predictor<I, O> predictor = idle.poll();
+        if (predictor == null) {
+            try {
+                predictor = factory.get();
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+            predictor.setMetrics(metrics);
+            if (dimension == null) {
+                dimension = predictor.dimension;
+            }
+            int count = created.incrementAndGet();
+            if (metrics != null) {
+                metrics.addMetric("PoolCreated", count, Unit.COUNT, dimension);
+            }
+        }
+        if (metrics != null) {
+            long waitTime = (System.nanoTime() - begin) / 1000;
+            int utilization = getActiveCount() * 100 / maxSize;
+            metrics.addMetric("PoolWaitTime", waitTime, Unit.MICROSECONDS, dimension);
+            metrics.addMetric("PoolUtilization", utilization, Unit.PERCENT, dimension);
+        }
+        borrowed.add(predictor);
+        return predictor;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        closed = true;
+        Predictor<I, O> predictor;
+        while ((predictor = idle.poll()) != null) {
+            predictor.close();
+        }
+    }
+}
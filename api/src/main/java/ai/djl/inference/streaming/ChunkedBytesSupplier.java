@@ -56,6 +56,18 @@ public class ChunkedBytesSupplier implements BytesSupplier {
         queue.offer(bytesSupplier);
     }
 
+    /**
+     * Completes the {@code BytesSupplier} with an error.
+     *
+     * <p>The chunks appended before are still available, reading the last chunk throws an {@link
+     * IllegalStateException} caused by the error.
+     *
+     * @param error the error that stopped the stream
+     */
+    public void completeExceptionally(Throwable error) {
+        appendContent(new ErrorChunk(error), true);
+    }
+
     /**
      * Returns {@code true} if has more chunk.
      *
@@ -130,4 +142,26 @@ public class ChunkedBytesSupplier implements BytesSupplier {
     public ByteBuffer toByteBuffer() {
         return ByteBuffer.wrap(getAsBytes());
     }
+
+    /** The last chunk of a stream that completed exceptionally. */
+    private static final class ErrorChunk implements BytesSupplier {
+
+        private Throwable error;
+
+        ErrorChunk(Throwable error) {
+            this.error = error;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public byte[] getAsBytes() {
+            throw new IllegalStateException("The stream completed exceptionally.", error);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ByteBuffer toByteBuffer() {
+            throw new IllegalStateException("The stream completed exceptionally.", error);
+        }
+    }
 }
@@ -14,6 +14,8 @@ package ai.djl.metric;
 
 import com.google.gson.annotations.SerializedName;
 
+import java.util.Objects;
+
 /** A class represents a metric dimension. */
 public class Dimension {
 
@@ -54,4 +56,23 @@ public class Dimension {
     public String getValue() {
         return value;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        Dimension dimension = (Dimension) o;
+        return Objects.equals(name, dimension.name) && Objects.equals(value, dimension.value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, value);
+    }
 }
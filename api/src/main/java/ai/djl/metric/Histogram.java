@@ -0,0 +1,309 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.metric;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * A fixed-size, lock-free histogram that tracks the distribution of recorded values.
+ *
+ * <p>The {@code Histogram} uses log-linear buckets similar to an HDR histogram: each power of two
+ * between 2<sup>-16</sup> and 2<sup>48</sup> is split into 64 linear sub-buckets, so a reported
+ * percentile has a relative error of at most 1/64. Integer values smaller than 128 are tracked
+ * exactly. Negative values are tracked in mirrored buckets.
+ *
+ * <p>Buckets are striped across threads to avoid contention. Stripes, and the buckets within a
+ * stripe in groups of 64, are allocated lazily, so a histogram only holds the buckets around the
+ * recorded values. Both {@link #record(double)} and {@link #percentile(double)} take constant time
+ * and don't allocate memory once the buckets of the recorded value are allocated.
+ */
+public final class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MIN_EXPONENT = -16;
+    private static final int MAX_EXPONENT = 47;
+    private static final int HALF = (MAX_EXPONENT - MIN_EXPONENT + 1) * SUB_BUCKETS;
+    private static final int ZERO = HALF;
+    private static final int BUCKETS = HALF * 2 + 1;
+    private static final int GROUPS = (BUCKETS + SUB_BUCKETS - 1) / SUB_BUCKETS;
+    private static final int MAX_STRIPES = 8;
+
+    private AtomicReferenceArray<Stripe> stripes;
+    private int mask;
+    private DoubleAdder sum;
+    private DoubleAccumulator min;
+    private DoubleAccumulator max;
+    private Histogram[] self;
+
+    /** Constructs a new empty {@code Histogram} instance. */
+    public Histogram() {
+        int cpus = Runtime.getRuntime().availableProcessors();
+        int size = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, cpus)));
+        stripes = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+        sum = new DoubleAdder();
+        min = new DoubleAccumulator(Math::min, Double.POSITIVE_INFINITY);
+        max = new DoubleAccumulator(Math::max, Double.NEGATIVE_INFINITY);
+        self = new Histogram[] {this};
+    }
+
+    /**
+     * Records a value in the histogram.
+     *
+     * @param value the value to record
+     */
+    public void record(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        getStripe().add(indexOf(value), 1);
+        sum.add(value);
+        min.accumulate(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Adds all the values recorded in the other histogram into this histogram.
+     *
+     * @param other the histogram to merge
+     */
+    public void merge(Histogram other) {
+        Stripe stripe = getStripe();
+        for (int i = 0; i < BUCKETS; ++i) {
+            long count = other.getBucketCount(i);
+            if (count > 0) {
+                stripe.add(i, count);
+            }
+        }
+        sum.add(other.sum.sum());
+        min.accumulate(other.min.get());
+        max.accumulate(other.max.get());
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return count(self);
+    }
+
+    /**
+     * Returns the sum of all recorded values.
+     *
+     * @return the sum of all recorded values
+     */
+    public double getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns the average of all recorded values.
+     *
+     * @return the average of all recorded values, {@code NaN} if the histogram is empty
+     */
+    public double getMean() {
+        return mean(self);
+    }
+
+    /**
+     * Returns the smallest recorded value.
+     *
+     * @return the smallest recorded value, {@code +Infinity} if the histogram is empty
+     */
+    public double getMin() {
+        return min.get();
+    }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return the largest recorded value, {@code -Infinity} if the histogram is empty
+     */
+    public double getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the approximate value at the specified percentile.
+     *
+     * @param percentile the percentile between 0 and 100
+     * @return the approximate value at the specified percentile, {@code NaN} if the histogram is
+     *     empty
+     */
+    public double percentile(double percentile) {
+        return percentile(self, percentile);
+    }
+
+    /** Removes all recorded values from the histogram. */
+    public void reset() {
+        for (int s = 0; s < stripes.length(); ++s) {
+            Stripe stripe = stripes.get(s);
+            if (stripe != null) {
+                stripe.reset();
+            }
+        }
+        sum.reset();
+        min.reset();
+        max.reset();
+    }
+
+    static long count(Histogram[] histograms) {
+        long count = 0;
+        for (Histogram histogram : histograms) {
+            for (int s = 0; s < histogram.stripes.length(); ++s) {
+                Stripe stripe = histogram.stripes.get(s);
+                if (stripe != null) {
+                    count += stripe.count();
+                }
+            }
+        }
+        return count;
+    }
+
+    static double mean(Histogram[] histograms) {
+        double total = 0;
+        for (Histogram histogram : histograms) {
+            total += histogram.sum.sum();
+        }
+        long count = count(histograms);
+        return count == 0 ? Double.NaN : total / count;
+    }
+
+    static double percentile(Histogram[] histograms, double percentile) {
+        long count = count(histograms);
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = Math.min(count - 1, (long) (count * percentile / 100));
+        double lowest = Double.POSITIVE_INFINITY;
+        double highest = Double.NEGATIVE_INFINITY;
+        for (Histogram histogram : histograms) {
+            lowest = Math.min(lowest, histogram.min.get());
+            highest = Math.max(highest, histogram.max.get());
+        }
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            for (Histogram histogram : histograms) {
+                cumulative += histogram.getBucketCount(i);
+            }
+            if (cumulative > rank) {
+                double value = valueOf(i);
+                return Math.max(lowest, Math.min(highest, value));
+            }
+        }
+        return highest;
+    }
+
+    private long getBucketCount(int index) {
+        long count = 0;
+        for (int s = 0; s < stripes.length(); ++s) {
+            Stripe stripe = stripes.get(s);
+            if (stripe != null) {
+                count += stripe.get(index);
+            }
+        }
+        return count;
+    }
+
+    private Stripe getStripe() {
+        int index = (int) Thread.currentThread().getId() & mask;
+        Stripe stripe = stripes.get(index);
+        if (stripe == null) {
+            stripes.compareAndSet(index, null, new Stripe());
+            stripe = stripes.get(index);
+        }
+        return stripe;
+    }
+
+    private static int indexOf(double value) {
+        if (value == 0) {
+            return ZERO;
+        }
+        int index = magnitudeIndex(Math.abs(value));
+        return value > 0 ? ZERO + 1 + index : ZERO - 1 - index;
+    }
+
+    private static int magnitudeIndex(double value) {
+        int exponent = Math.getExponent(value);
+        if (exponent < MIN_EXPONENT) {
+            return 0;
+        } else if (exponent > MAX_EXPONENT) {
+            return HALF - 1;
+        }
+        long bits = Double.doubleToRawLongBits(value);
+        int sub = (int) (bits >>> (52 - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - MIN_EXPONENT) * SUB_BUCKETS + sub;
+    }
+
+    private static double valueOf(int index) {
+        if (index == ZERO) {
+            return 0;
+        }
+        int magnitude = index > ZERO ? index - ZERO - 1 : ZERO - 1 - index;
+        int exponent = magnitude / SUB_BUCKETS + MIN_EXPONENT;
+        int sub = magnitude % SUB_BUCKETS;
+        double value = Math.scalb(1 + (double) sub / SUB_BUCKETS, exponent);
+        return index > ZERO ? value : -value;
+    }
+
+    /** The buckets of one stripe, allocated in groups of {@code SUB_BUCKETS} on first use. */
+    private static final class Stripe {
+
+        private AtomicReferenceArray<AtomicLongArray> groups = new AtomicReferenceArray<>(GROUPS);
+
+        void add(int index, long count) {
+            int group = index / SUB_BUCKETS;
+            AtomicLongArray buckets = groups.get(group);
+            if (buckets == null) {
+                groups.compareAndSet(group, null, new AtomicLongArray(SUB_BUCKETS));
+                buckets = groups.get(group);
+            }
+            buckets.addAndGet(index % SUB_BUCKETS, count);
+        }
+
+        long get(int index) {
+            AtomicLongArray buckets = groups.get(index / SUB_BUCKETS);
+            return buckets == null ? 0 : buckets.get(index % SUB_BUCKETS);
+        }
+
+        long count() {
+            long count = 0;
+            for (int g = 0; g < GROUPS; ++g) {
+                AtomicLongArray buckets = groups.get(g);
+                if (buckets != null) {
+                    for (int i = 0; i < SUB_BUCKETS; ++i) {
+                        count += buckets.get(i);
+                    }
+                }
+            }
+            return count;
+        }
+
+        void reset() {
+            for (int g = 0; g < GROUPS; ++g) {
+                AtomicLongArray buckets = groups.get(g);
+                if (buckets != null) {
+                    for (int i = 0; i < SUB_BUCKETS; ++i) {
+                        buckets.set(i, 0);
+                    }
+                }
+            }
+        }
+    }
+}
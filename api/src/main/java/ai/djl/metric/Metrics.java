@@ -13,12 +13,14 @@
 package ai.djl.metric;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
@@ -38,16 +40,39 @@ import java.util.stream.Collectors;
  * <p>For more details about using the metrics, see the <a
  * href="https://github.com/deepjavalibrary/djl/blob/master/docs/how_to_collect_metrics.md">metrics
  * tutorial</a>.
+ *
+ * <p>By default every recorded {@link Metric} is retained, and {@link #percentile(String, int)}
+ * and {@link #mean(String)} are computed exactly from the samples, so the memory grows with the
+ * number of samples unless {@link #setLimit(int)} is set. Long running services should opt in to
+ * the histogram mode with {@link #Metrics(boolean) new Metrics(false)}, which keeps only the latest
+ * value and a {@link Histogram} per metric name and dimensions.
  */
 public class Metrics {
 
     private Map<String, List<Metric>> metrics;
+    private Map<String, Series> series;
+    private boolean retainSamples;
     private int limit;
     private BiConsumer<Metrics, String> onLimit;
 
-    /** Constructs an empty {@code Metrics} instance. */
+    /** Constructs an empty {@code Metrics} instance that retains every recorded {@link Metric}. */
     public Metrics() {
+        this(true);
+    }
+
+    /**
+     * Constructs an empty {@code Metrics} instance.
+     *
+     * <p>If {@code retainSamples} is {@code false}, individual {@link Metric} objects are not
+     * stored. Only the latest value and a fixed-size {@link Histogram} per metric name and
+     * dimensions are kept, which bounds the memory used by long running services.
+     *
+     * @param retainSamples whether to keep every recorded {@link Metric}
+     */
+    public Metrics(boolean retainSamples) {
+        this.retainSamples = retainSamples;
         metrics = new ConcurrentHashMap<>();
+        series = new ConcurrentHashMap<>();
     }
 
     /**
@@ -74,17 +99,26 @@ public class Metrics {
      * @param metric the {@link Metric} to be added
      */
     public void addMetric(Metric metric) {
-        List<Metric> list =
-                metrics.computeIfAbsent(
-                        metric.getMetricName(),
-                        v -> Collections.synchronizedList(new ArrayList<>()));
-        if (limit > 0 && list.size() >= limit) {
-            if (onLimit != null) {
-                onLimit.accept(this, metric.getMetricName());
+        String name = metric.getMetricName();
+        if (retainSamples) {
+            // the samples are added before the series, so a listed name always has samples
+            List<Metric> list =
+                    metrics.computeIfAbsent(
+                            name, v -> Collections.synchronizedList(new ArrayList<>()));
+            if (limit > 0 && list.size() >= limit) {
+                if (onLimit != null) {
+                    onLimit.accept(this, name);
+                }
+                list.clear();
             }
-            list.clear();
+            list.add(metric);
+            series.computeIfAbsent(name, k -> new Series()).latest = new Latest(metric);
+            return;
         }
-        list.add(metric);
+        Series s = series.computeIfAbsent(name, k -> new Series());
+        checkLimit(name, s);
+        s.latest = new Latest(metric);
+        s.getHistogram(metric.getDimensions()).record(metric.getValue());
     }
 
     /**
@@ -94,7 +128,7 @@ public class Metrics {
      * @param value the metric value
      */
     public void addMetric(String name, Number value) {
-        addMetric(new Metric(name, value));
+        addMetric(name, value, Unit.COUNT);
     }
 
     /**
@@ -106,7 +140,15 @@ public class Metrics {
      * @param dimensions the metric dimensions
      */
     public void addMetric(String name, Number value, Unit unit, Dimension... dimensions) {
-        addMetric(new Metric(name, value, unit, dimensions));
+        if (retainSamples) {
+            addMetric(new Metric(name, value, unit, dimensions));
+            return;
+        }
+        // record into the histogram directly, the Metric object is only created on demand
+        Series s = series.computeIfAbsent(name, k -> new Series());
+        checkLimit(name, s);
+        s.latest = new Latest(value, unit, dimensions);
+        s.getHistogram(dimensions).record(value.doubleValue());
     }
 
     /**
@@ -116,16 +158,25 @@ public class Metrics {
      * @return {@code true} if the metrics object has a metric with the given name
      */
     public boolean hasMetric(String name) {
-        return metrics.containsKey(name);
+        return series.containsKey(name);
     }
 
     /**
      * Returns all {@link Metric}s with the specified metric name.
      *
+     * <p>If the samples are not retained, only the latest {@link Metric} is returned.
+     *
      * @param name the name of the metric
      * @return a list of {@link Metric} with the specified metric name
      */
     public List<Metric> getMetric(String name) {
+        if (!retainSamples) {
+            Series s = series.get(name);
+            if (s == null) {
+                return Collections.emptyList();
+            }
+            return Collections.singletonList(s.getLatest(name));
+        }
         List<Metric> list = metrics.get(name);
         if (list == null) {
             return Collections.emptyList();
@@ -139,7 +190,7 @@ public class Metrics {
      * @return a set of {@link String} metric names
      */
     public Set<String> getMetricNames() {
-        return metrics.keySet();
+        return series.keySet();
     }
 
     /**
@@ -150,31 +201,60 @@ public class Metrics {
      * @throws IllegalArgumentException if the given name is not found
      */
     public Metric latestMetric(String name) {
-        List<Metric> list = metrics.get(name);
-        if (list == null || list.isEmpty()) {
+        Series s = series.get(name);
+        if (s == null) {
             throw new IllegalArgumentException("Could not find metric: " + name);
         }
-        return list.get(list.size() - 1);
+        return s.getLatest(name);
+    }
+
+    /**
+     * Returns the {@link Histogram} of the specified metric name and dimensions.
+     *
+     * @param name the name of the metric
+     * @param dimensions the metric dimensions
+     * @return the {@link Histogram}, or {@code null} if the metric is not found or the samples
+     *     are retained
+     */
+    public Histogram getHistogram(String name, Dimension... dimensions) {
+        Series s = series.get(name);
+        if (s == null) {
+            return null;
+        }
+        return s.findHistogram(dimensions);
     }
 
     /**
      * Returns a percentile {@link Metric} object for the specified metric name.
      *
+     * <p>If the samples are retained, the percentile is exact. Otherwise it is computed from the
+     * histograms of all the dimensions of the metric, see {@link Histogram} for the precision.
+     *
      * @param metricName the name of the metric
      * @param percentile the percentile
      * @return the {@link Metric} object at specified {@code percentile}
      */
     public Metric percentile(String metricName, int percentile) {
-        List<Metric> metric = metrics.get(metricName);
-        if (metric == null || metrics.isEmpty()) {
+        Series s = series.get(metricName);
+        if (s == null) {
             throw new IllegalArgumentException("Metric name not found: " + metricName);
         }
+        if (retainSamples) {
+            List<Metric> list = new ArrayList<>(metrics.get(metricName));
+            list.sort(Comparator.comparingDouble(Metric::getValue));
+            int index = list.size() * percentile / 100;
+            Metric m = list.get(Math.min(index, list.size() - 1));
+            return m.copyOf(m.getMetricName() + "_p" + percentile);
+        }
 
-        List<Metric> list = new ArrayList<>(metric);
-        list.sort(Comparator.comparingDouble(Metric::getValue));
-        int index = metric.size() * percentile / 100;
-        Metric m = list.get(index);
-        return m.copyOf(m.getMetricName() + "_p" + percentile);
+        double value = Histogram.percentile(s.histograms, percentile);
+        Metric latest = s.getLatest(metricName);
+        return new Metric(
+                metricName + "_p" + percentile,
+                latest.getMetricType(),
+                value,
+                latest.getUnit(),
+                latest.getDimensions());
     }
 
     /**
@@ -184,11 +264,110 @@ public class Metrics {
      * @return the average value of the specified metric
      */
     public double mean(String metricName) {
-        List<Metric> metric = metrics.get(metricName);
-        if (metric == null || metrics.isEmpty()) {
+        Series s = series.get(metricName);
+        if (s == null) {
             throw new IllegalArgumentException("Metric name not found: " + metricName);
         }
+        if (retainSamples) {
+            List<Metric> list = metrics.get(metricName);
+            synchronized (list) {
+                return list.stream().collect(Collectors.averagingDouble(Metric::getValue));
+            }
+        }
 
-        return metric.stream().collect(Collectors.averagingDouble(Metric::getValue));
+        return Histogram.mean(s.histograms);
+    }
+
+    private void checkLimit(String name, Series s) {
+        long count = s.count.getAndIncrement();
+        if (limit > 0 && count >= limit) {
+            if (onLimit != null) {
+                onLimit.accept(this, name);
+            }
+            s.reset();
+            s.count.incrementAndGet();
+        }
+    }
+
+    /** Holds the histograms and the latest value of one metric name. */
+    private static final class Series {
+
+        volatile Histogram[] histograms = new Histogram[0];
+        volatile Dimension[][] keys = new Dimension[0][];
+        volatile Latest latest;
+        AtomicLong count = new AtomicLong();
+
+        Histogram getHistogram(Dimension[] dimensions) {
+            Histogram histogram = findHistogram(dimensions);
+            if (histogram != null) {
+                return histogram;
+            }
+            synchronized (this) {
+                histogram = findHistogram(dimensions);
+                if (histogram == null) {
+                    int size = histograms.length;
+                    Histogram[] newHistograms = Arrays.copyOf(histograms, size + 1);
+                    Dimension[][] newKeys = Arrays.copyOf(keys, size + 1);
+                    histogram = new Histogram();
+                    newHistograms[size] = histogram;
+                    newKeys[size] = dimensions.clone();
+                    keys = newKeys;
+                    histograms = newHistograms;
+                }
+                return histogram;
+            }
+        }
+
+        Histogram findHistogram(Dimension[] dimensions) {
+            Histogram[] h = histograms;
+            Dimension[][] k = keys;
+            for (int i = 0; i < h.length && i < k.length; ++i) {
+                if (Arrays.equals(k[i], dimensions)) {
+                    return h[i];
+                }
+            }
+            return null;
+        }
+
+        Metric getLatest(String name) {
+            return latest.getMetric(name);
+        }
+
+        void reset() {
+            for (Histogram histogram : histograms) {
+                histogram.reset();
+            }
+            count.set(0);
+        }
+    }
+
+    /** The latest value of a metric, replaced as a whole so its fields are always consistent. */
+    private static final class Latest {
+
+        private final Number value;
+        private final Unit unit;
+        private final Dimension[] dimensions;
+        private volatile Metric metric;
+
+        Latest(Metric metric) {
+            this(null, null, null);
+            this.metric = metric;
+        }
+
+        Latest(Number value, Unit unit, Dimension[] dimensions) {
+            this.value = value;
+            this.unit = unit;
+            this.dimensions = dimensions;
+        }
+
+        Metric getMetric(String name) {
+            Metric m = metric;
+            if (m == null) {
+                // the Metric object is only created on demand
+                m = new Metric(name, value, unit, dimensions);
+                metric = m;
+            }
+            return m;
+        }
     }
 }
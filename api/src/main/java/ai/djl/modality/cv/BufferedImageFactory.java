@@ -32,7 +32,13 @@ import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBuffer;
 import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SampleModel;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -141,6 +147,97 @@ public class BufferedImageFactory extends ImageFactory {
         ImageIO.write(image, type, os);
     }
 
+    /**
+     * Reads the pixels of a {@code BufferedImage} into an HWC array in RGB or grayscale order.
+     *
+     * <p>The raster of the common image types (3BYTE_BGR, INT_RGB, INT_ARGB and BYTE_GRAY) is read
+     * directly, other types go through {@link BufferedImage#getRGB(int, int, int, int, int[], int,
+     * int)}.
+     *
+     * @param image the image to read
+     * @param channels 1 for grayscale or 3 for RGB
+     * @param dest the array of size {@code height * width * channels} to hold the pixels
+     */
+    static void readPixels(BufferedImage image, int channels, byte[] dest) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        WritableRaster raster = image.getRaster();
+        DataBuffer buffer = raster.getDataBuffer();
+        SampleModel model = raster.getSampleModel();
+        // a sub image shares the raster of its parent with a translated origin
+        int x0 = -raster.getSampleModelTranslateX();
+        int y0 = -raster.getSampleModelTranslateY();
+        int type = image.getType();
+        int pos = 0;
+        if ((type == BufferedImage.TYPE_3BYTE_BGR || type == BufferedImage.TYPE_BYTE_GRAY)
+                && buffer instanceof DataBufferByte
+                && model instanceof ComponentSampleModel) {
+            byte[] data = ((DataBufferByte) buffer).getData();
+            ComponentSampleModel csm = (ComponentSampleModel) model;
+            int pixelStride = csm.getPixelStride();
+            int scanlineStride = csm.getScanlineStride();
+            int[] bands = csm.getBandOffsets();
+            for (int y = 0; y < height; ++y) {
+                int offset = buffer.getOffset() + (y0 + y) * scanlineStride + x0 * pixelStride;
+                for (int x = 0; x < width; ++x) {
+                    if (type == BufferedImage.TYPE_BYTE_GRAY) {
+                        byte gray = data[offset + bands[0]];
+                        dest[pos++] = gray;
+                        if (channels == 3) {
+                            dest[pos++] = gray;
+                            dest[pos++] = gray;
+                        }
+                    } else {
+                        int red = data[offset + bands[0]] & 0xFF;
+                        int green = data[offset + bands[1]] & 0xFF;
+                        int blue = data[offset + bands[2]] & 0xFF;
+                        pos = putPixel(dest, pos, channels, red, green, blue);
+                    }
+                    offset += pixelStride;
+                }
+            }
+            return;
+        }
+        int[] pixels;
+        int stride;
+        int offset;
+        if ((type == BufferedImage.TYPE_INT_RGB || type == BufferedImage.TYPE_INT_ARGB)
+                && buffer instanceof DataBufferInt
+                && model instanceof SinglePixelPackedSampleModel) {
+            SinglePixelPackedSampleModel sppsm = (SinglePixelPackedSampleModel) model;
+            pixels = ((DataBufferInt) buffer).getData();
+            stride = sppsm.getScanlineStride();
+            offset = buffer.getOffset() + sppsm.getOffset(x0, y0);
+        } else {
+            // get an array of integer pixels in the default RGB color mode
+            pixels = image.getRGB(0, 0, width, height, null, 0, width);
+            stride = width;
+            offset = 0;
+        }
+        for (int y = 0; y < height; ++y) {
+            int index = offset + y * stride;
+            for (int x = 0; x < width; ++x) {
+                int rgb = pixels[index++];
+                int red = (rgb >> 16) & 0xFF;
+                int green = (rgb >> 8) & 0xFF;
+                int blue = rgb & 0xFF;
+                pos = putPixel(dest, pos, channels, red, green, blue);
+            }
+        }
+    }
+
+    private static int putPixel(byte[] dest, int pos, int channels, int red, int green, int blue) {
+        if (channels == 1) {
+            int gray = Math.round(0.299f * red + 0.587f * green + 0.114f * blue);
+            dest[pos] = (byte) gray;
+            return pos + 1;
+        }
+        dest[pos] = (byte) red;
+        dest[pos + 1] = (byte) green;
+        dest[pos + 2] = (byte) blue;
+        return pos + 3;
+    }
+
     private class BufferedImageWrapper implements Image {
 
         private BufferedImage image;
@@ -246,36 +343,10 @@ public class BufferedImageFactory extends ImageFactory {
                 channel = 3;
             }
 
-            ByteBuffer bb = manager.allocateDirect(channel * height * width);
-            if (image.getType() == BufferedImage.TYPE_BYTE_GRAY) {
-                int[] data = new int[width * height];
-                image.getData().getPixels(0, 0, width, height, data);
-                for (int gray : data) {
-                    byte b = (byte) gray;
-                    bb.put(b);
-                    if (flag != Flag.GRAYSCALE) {
-                        bb.put(b);
-                        bb.put(b);
-                    }
-                }
-            } else {
-                // get an array of integer pixels in the default RGB color mode
-                int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
-                for (int rgb : pixels) {
-                    int red = (rgb >> 16) & 0xFF;
-                    int green = (rgb >> 8) & 0xFF;
-                    int blue = rgb & 0xFF;
-
-                    if (flag == Flag.GRAYSCALE) {
-                        int gray = Math.round(0.299f * red + 0.587f * green + 0.114f * blue);
-                        bb.put((byte) gray);
-                    } else {
-                        bb.put((byte) red);
-                        bb.put((byte) green);
-                        bb.put((byte) blue);
-                    }
-                }
-            }
+            byte[] pixels = new byte[channel * height * width];
+            readPixels(image, channel, pixels);
+            ByteBuffer bb = manager.allocateDirect(pixels.length);
+            bb.put(pixels);
             bb.rewind();
             return manager.create(bb, new Shape(height, width, channel), DataType.UINT8);
         }
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.modality.cv;
+
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.types.Shape;
+
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code ImageBatchConverter} converts images into a float32 tensor in one pass.
+ *
+ * <p>It fuses the common pre-processing {@code Resize -> ToTensor -> Normalize} into a single loop
+ * over the source pixels: the image is optionally resized with bilinear interpolation, scaled and
+ * normalized while being written into the destination buffer. No intermediate HWC uint8 tensor is
+ * created. A batch of images is written into one pre-allocated NCHW or NHWC buffer.
+ *
+ * <p>The pixels of a {@code BufferedImage} are read directly from its raster. Other {@link Image}
+ * implementations are converted with {@link Image#toNDArray(NDManager, Image.Flag)} first.
+ *
+ * <p>The bilinear resize uses half-pixel centers (the same as OpenCV and PyTorch with {@code
+ * align_corners=false}), but keeps the interpolated values in float instead of rounding them to
+ * uint8. The result may differ slightly from the engine's resize.
+ */
+public final class ImageBatchConverter {
+
+    private int width;
+    private int height;
+    private int channels;
+    private Image.Flag flag;
+    private boolean channelsFirst;
+    private float[] factor;
+    private float[] bias;
+    private float[][] lookup;
+
+    ImageBatchConverter(Builder builder) {
+        width = builder.width;
+        height = builder.height;
+        flag = builder.flag;
+        channels = flag == Image.Flag.GRAYSCALE ? 1 : 3;
+        channelsFirst = builder.channelsFirst;
+        factor = new float[channels];
+        bias = new float[channels];
+        lookup = new float[channels][256];
+        for (int c = 0; c < channels; ++c) {
+            float mean = builder.mean == null ? 0f : builder.mean[c];
+            float std = builder.std == null ? 1f : builder.std[c];
+            factor[c] = builder.scale / std;
+            bias[c] = -mean / std;
+            for (int i = 0; i < 256; ++i) {
+                lookup[c][i] = (i * builder.scale - mean) / std;
+            }
+        }
+    }
+
+    /**
+     * Creates a builder to build a {@code ImageBatchConverter}.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of channels of the output.
+     *
+     * @return the number of channels of the output
+     */
+    public int getChannels() {
+        return channels;
+    }
+
+    /**
+     * Returns the shape of the output of an image.
+     *
+     * @param image the image to convert
+     * @return the shape of the output of an image, CHW or HWC
+     */
+    public Shape getShape(Image image) {
+        int w = width > 0 ? width : image.getWidth();
+        int h = height > 0 ? height : image.getHeight();
+        if (channelsFirst) {
+            return new Shape(channels, h, w);
+        }
+        return new Shape(h, w, channels);
+    }
+
+    /**
+     * Converts an image into a float32 {@link NDArray} of shape CHW or HWC.
+     *
+     * @param manager the manager to create the array
+     * @param image the image to convert
+     * @return the converted {@link NDArray}
+     */
+    public NDArray toNDArray(NDManager manager, Image image) {
+        Shape shape = getShape(image);
+        ByteBuffer bb = toBuffer(manager, Collections.singletonList(image), shape);
+        return manager.create(bb, shape, DataType.FLOAT32);
+    }
+
+    /**
+     * Converts images into one float32 {@link NDArray} of shape NCHW or NHWC.
+     *
+     * <p>All the images must have the same size once resized.
+     *
+     * @param manager the manager to create the array
+     * @param images the images to convert
+     * @return the converted {@link NDArray}
+     */
+    public NDArray toNDArray(NDManager manager, List<Image> images) {
+        if (images.isEmpty()) {
+            throw new IllegalArgumentException("No image to convert.");
+        }
+        Shape shape = getShape(images.get(0));
+        ByteBuffer bb = toBuffer(manager, images, shape);
+        Shape batchShape = new Shape(images.size()).addAll(shape);
+        return manager.create(bb, batchShape, DataType.FLOAT32);
+    }
+
+    /**
+     * Converts an image into a float buffer.
+     *
+     * <p>The values are written at the current position of the buffer in CHW or HWC order, the
+     * position is advanced past the image. This allows to fill a pre-allocated batch buffer one
+     * image at a time.
+     *
+     * @param manager the manager used to convert images that are not {@code BufferedImage}
+     * @param image the image to convert
+     * @param dest the buffer to hold the output
+     */
+    public void convert(NDManager manager, Image image, FloatBuffer dest) {
+        int srcWidth = image.getWidth();
+        int srcHeight = image.getHeight();
+        byte[] pixels = getPixels(manager, image);
+        int outWidth = width > 0 ? width : srcWidth;
+        int outHeight = height > 0 ? height : srcHeight;
+        int base = dest.position();
+        int plane = outWidth * outHeight;
+        int channelStride = channelsFirst ? outWidth : 1;
+        int pixelStride = channelsFirst ? 1 : channels;
+        float[] row = new float[outWidth * channels];
+
+        boolean resize = outWidth != srcWidth || outHeight != srcHeight;
+        int[] xLow = null;
+        int[] xHigh = null;
+        float[] xWeight = null;
+        int[] yLow = null;
+        int[] yHigh = null;
+        float[] yWeight = null;
+        if (resize) {
+            xLow = new int[outWidth];
+            xHigh = new int[outWidth];
+            xWeight = new float[outWidth];
+            computeAxis(srcWidth, outWidth, xLow, xHigh, xWeight);
+            yLow = new int[outHeight];
+            yHigh = new int[outHeight];
+            yWeight = new float[outHeight];
+            computeAxis(srcHeight, outHeight, yLow, yHigh, yWeight);
+        }
+        for (int y = 0; y < outHeight; ++y) {
+            if (resize) {
+                int top = yLow[y] * srcWidth;
+                int bottom = yHigh[y] * srcWidth;
+                float wy = yWeight[y];
+                for (int x = 0; x < outWidth; ++x) {
+                    int left = xLow[x];
+                    int right = xHigh[x];
+                    float wx = xWeight[x];
+                    for (int c = 0; c < channels; ++c) {
+                        float tl = pixels[(top + left) * channels + c] & 0xFF;
+                        float tr = pixels[(top + right) * channels + c] & 0xFF;
+                        float bl = pixels[(bottom + left) * channels + c] & 0xFF;
+                        float br = pixels[(bottom + right) * channels + c] & 0xFF;
+                        float t = tl + (tr - tl) * wx;
+                        float b = bl + (br - bl) * wx;
+                        float value = t + (b - t) * wy;
+                        row[c * channelStride + x * pixelStride] = value * factor[c] + bias[c];
+                    }
+                }
+            } else {
+                int index = y * srcWidth * channels;
+                for (int x = 0; x < outWidth; ++x) {
+                    for (int c = 0; c < channels; ++c) {
+                        row[c * channelStride + x * pixelStride] =
+                                lookup[c][pixels[index++] & 0xFF];
+                    }
+                }
+            }
+            if (channelsFirst) {
+                for (int c = 0; c < channels; ++c) {
+                    dest.position(base + c * plane + y * outWidth);
+                    dest.put(row, c * outWidth, outWidth);
+                }
+            } else {
+                dest.position(base + y * outWidth * channels);
+                dest.put(row);
+            }
+        }
+        dest.position(base + plane * channels);
+    }
+
+    private ByteBuffer toBuffer(NDManager manager, List<Image> images, Shape shape) {
+        int size = Math.toIntExact(shape.size());
+        ByteBuffer bb = manager.allocateDirect(images.size() * size * 4);
+        FloatBuffer fb = bb.asFloatBuffer();
+        for (Image image : images) {
+            if (!getShape(image).equals(shape)) {
+                throw new IllegalArgumentException(
+                        "All images must have the same size, expected: " + shape);
+            }
+            convert(manager, image, fb);
+        }
+        return bb;
+    }
+
+    private byte[] getPixels(NDManager manager, Image image) {
+        Object wrapped = image.getWrappedImage();
+        if (wrapped instanceof BufferedImage) {
+            byte[] pixels = new byte[image.getWidth() * image.getHeight() * channels];
+            BufferedImageFactory.readPixels((BufferedImage) wrapped, channels, pixels);
+            return pixels;
+        }
+        try (NDArray array = image.toNDArray(manager, flag)) {
+            return array.toByteArray();
+        }
+    }
+
+    private static void computeAxis(int src, int dest, int[] low, int[] high, float[] weight) {
+        float ratio = (float) src / dest;
+        for (int i = 0; i < dest; ++i) {
+            // half-pixel centers, clamped to the border
+            float pos = Math.max((i + 0.5f) * ratio - 0.5f, 0f);
+            int index = Math.min((int) pos, src - 1);
+            low[i] = index;
+            high[i] = Math.min(index + 1, src - 1);
+            weight[i] = pos - index;
+        }
+    }
+
+    /** The Builder to construct a {@link ImageBatchConverter}. */
+    public static final class Builder {
+
+        int width;
+        int height;
+        Image.Flag flag = Image.Flag.COLOR;
+        boolean channelsFirst = true;
+        float scale = 1f / 255;
+        float[] mean;
+        float[] std;
+
+        Builder() {}
+
+        /**
+         * Sets the size to resize the images to, the images are not resized by default.
+         *
+         * @param width the width of the output
+         * @param height the height of the output
+         * @return this builder
+         */
+        public Builder optResize(int width, int height) {
+            this.width = width;
+            this.height = height;
+            return this;
+        }
+
+        /**
+         * Sets the color mode of the output (default is {@link Image.Flag#COLOR}).
+         *
+         * @param flag the color mode of the output
+         * @return this builder
+         */
+        public Builder optFlag(Image.Flag flag) {
+            this.flag = flag;
+            return this;
+        }
+
+        /**
+         * Sets whether to output CHW (default) or HWC.
+         *
+         * @param channelsFirst {@code true} to output CHW
+         * @return this builder
+         */
+        public Builder optChannelsFirst(boolean channelsFirst) {
+            this.channelsFirst = channelsFirst;
+            return this;
+        }
+
+        /**
+         * Sets the factor to multiply the pixel values with (default is 1/255, the same as {@code
+         * ToTensor}).
+         *
+         * @param scale the factor to multiply the pixel values with
+         * @return this builder
+         */
+        public Builder optScale(float scale) {
+            this.scale = scale;
+            return this;
+        }
+
+        /**
+         * Sets the mean and standard deviation to normalize each channel with, after scaling.
+         *
+         * @param mean the mean of each channel
+         * @param std the standard deviation of each channel
+         * @return this builder
+         */
+        public Builder optNormalize(float[] mean, float[] std) {
+            this.mean = mean;
+            this.std = std;
+            return this;
+        }
+
+        /**
+         * Builds the {@link ImageBatchConverter}.
+         *
+         * @return the new {@link ImageBatchConverter}
+         */
+        public ImageBatchConverter build() {
+            int channels = flag == Image.Flag.GRAYSCALE ? 1 : 3;
+            if ((mean == null) != (std == null)
+                    || (mean != null && (mean.length != channels || std.length != channels))) {
+                throw new IllegalArgumentException(
+                        "mean and std must have " + channels + " values.");
+            }
+            if (width < 0 || height < 0 || (width == 0) != (height == 0)) {
+                throw new IllegalArgumentException("Invalid resize: " + width + 'x' + height);
+            }
+            return new ImageBatchConverter(this);
+        }
+    }
+}
@@ -12,6 +12,7 @@
  */
 package ai.djl.modality.cv.output;
 
+import ai.djl.modality.cv.util.NmsUtils;
 import ai.djl.util.JsonSerializable;
 import ai.djl.util.JsonUtils;
 
@@ -19,7 +20,6 @@ import com.google.gson.JsonObject;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.PriorityQueue;
 
 /**
  * A {@code Rectangle} specifies an area in a coordinate space that is enclosed by the {@code
@@ -185,70 +185,23 @@ public class Rectangle implements BoundingBox, JsonSerializable {
      */
     public static List<Integer> nms(
             List<Rectangle> boxes, List<Double> scores, float nmsThreshold) {
-        List<Integer> ret = new ArrayList<>();
-        PriorityQueue<Integer> pq =
-                new PriorityQueue<>(
-                        50,
-                        (lhs, rhs) -> {
-                            // Intentionally reversed to put high confidence at the head of the
-                            // queue.
-                            return Double.compare(scores.get(rhs), scores.get(lhs));
-                        });
-        for (int i = 0; i < boxes.size(); ++i) {
-            pq.add(i);
+        int size = boxes.size();
+        float[] buf = new float[size * 4];
+        float[] probs = new float[size];
+        for (int i = 0; i < size; ++i) {
+            Rectangle rect = boxes.get(i);
+            int pos = i * 4;
+            buf[pos] = (float) rect.getX();
+            buf[pos + 1] = (float) rect.getY();
+            buf[pos + 2] = (float) (rect.getX() + rect.getWidth());
+            buf[pos + 3] = (float) (rect.getY() + rect.getHeight());
+            probs[i] = scores.get(i).floatValue();
         }
-
-        // do non maximum suppression
-        while (!pq.isEmpty()) {
-            // insert detection with max confidence
-            int[] detections = pq.stream().mapToInt(Integer::intValue).toArray();
-            ret.add(detections[0]);
-            Rectangle box = boxes.get(detections[0]);
-            pq.clear();
-            for (int i = 1; i < detections.length; i++) {
-                int detection = detections[i];
-                Rectangle location = boxes.get(detection);
-                if (box.boxIou(location) < nmsThreshold) {
-                    pq.add(detection);
-                }
-            }
+        int[] kept = NmsUtils.nms(buf, probs, size, nmsThreshold);
+        List<Integer> ret = new ArrayList<>(kept.length);
+        for (int index : kept) {
+            ret.add(index);
         }
         return ret;
     }
-
-    private double boxIou(Rectangle other) {
-        double intersection = intersection(other);
-        double union =
-                getWidth() * getHeight() + other.getWidth() * other.getHeight() - intersection;
-        return intersection / union;
-    }
-
-    private double intersection(Rectangle b) {
-        double w =
-                overlap(
-                        (getX() * 2 + getWidth()) / 2,
-                        getWidth(),
-                        (b.getX() * 2 + b.getWidth()) / 2,
-                        b.getWidth());
-        double h =
-                overlap(
-                        (getY() * 2 + getHeight()) / 2,
-                        getHeight(),
-                        (b.getY() * 2 + b.getHeight()) / 2,
-                        b.getHeight());
-        if (w < 0 || h < 0) {
-            return 0;
-        }
-        return w * h;
-    }
-
-    private double overlap(double x1, double w1, double x2, double w2) {
-        double l1 = x1 - w1 / 2;
-        double l2 = x2 - w2 / 2;
-        double left = Math.max(l1, l2);
-        double r1 = x1 + w1 / 2;
-        double r2 = x2 + w2 / 2;
-        double right = Math.min(r1, r2);
-        return right - left;
-    }
 }
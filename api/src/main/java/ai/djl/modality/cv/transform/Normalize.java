@@ -33,6 +33,24 @@ public class Normalize implements Transform {
         this.std = std;
     }
 
+    /**
+     * Returns the mean of each channel.
+     *
+     * @return the mean of each channel
+     */
+    public float[] getMean() {
+        return mean;
+    }
+
+    /**
+     * Returns the standard deviation of each channel.
+     *
+     * @return the standard deviation of each channel
+     */
+    public float[] getStd() {
+        return std;
+    }
+
     /** {@inheritDoc} */
     @Override
     public NDArray transform(NDArray array) {
@@ -75,6 +75,15 @@ public class Resize implements Transform {
         return height;
     }
 
+    /**
+     * Returns the interpolation.
+     *
+     * @return the interpolation
+     */
+    public Image.Interpolation getInterpolation() {
+        return interpolation;
+    }
+
     /** {@inheritDoc} */
     @Override
     public NDArray transform(NDArray array) {
@@ -14,6 +14,7 @@ package ai.djl.modality.cv.translator;
 
 import ai.djl.Model;
 import ai.djl.modality.cv.Image;
+import ai.djl.modality.cv.ImageBatchConverter;
 import ai.djl.modality.cv.transform.CenterCrop;
 import ai.djl.modality.cv.transform.CenterFit;
 import ai.djl.modality.cv.transform.Normalize;
@@ -24,6 +25,7 @@ import ai.djl.modality.cv.transform.ToTensor;
 import ai.djl.modality.cv.util.NDImageUtils;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.Shape;
 import ai.djl.translate.ArgumentsUtil;
 import ai.djl.translate.Batchifier;
@@ -55,6 +57,7 @@ public abstract class BaseImageTranslator<T> implements Translator<Image, T> {
 
     private Image.Flag flag;
     private Batchifier batchifier;
+    private ImageBatchConverter converter;
     protected int width;
     protected int height;
 
@@ -69,6 +72,9 @@ public abstract class BaseImageTranslator<T> implements Translator<Image, T> {
         batchifier = builder.batchifier;
         width = builder.width;
         height = builder.height;
+        if (builder.fusedPreprocess) {
+            converter = createConverter();
+        }
     }
 
     /** {@inheritDoc} */
@@ -80,8 +86,14 @@ public abstract class BaseImageTranslator<T> implements Translator<Image, T> {
     /** {@inheritDoc} */
     @Override
     public NDList processInput(TranslatorContext ctx, Image input) {
-        NDArray array = input.toNDArray(ctx.getNDManager(), flag);
-        NDList list = pipeline.transform(new NDList(array));
+        NDManager manager = ctx.getNDManager();
+        NDList list;
+        if (useConverter(manager)) {
+            list = new NDList(converter.toNDArray(manager, input));
+        } else {
+            NDArray array = input.toNDArray(manager, flag);
+            list = pipeline.transform(new NDList(array));
+        }
         Shape shape = list.get(0).getShape();
         int processedWidth;
         int processedHeight;
@@ -100,6 +112,64 @@ public abstract class BaseImageTranslator<T> implements Translator<Image, T> {
         return list;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public NDList batchProcessInput(TranslatorContext ctx, List<Image> inputs) throws Exception {
+        NDManager manager = ctx.getNDManager();
+        if (inputs.isEmpty() || batchifier != Batchifier.STACK || !useConverter(manager)) {
+            return Translator.super.batchProcessInput(ctx, inputs);
+        }
+        Shape shape = converter.getShape(inputs.get(0));
+        for (Image input : inputs) {
+            if (!converter.getShape(input).equals(shape)) {
+                return Translator.super.batchProcessInput(ctx, inputs);
+            }
+        }
+        // all the images are written into one NCHW buffer, no per image tensor is stacked
+        NDArray batch = converter.toNDArray(manager, inputs);
+        Image last = inputs.get(inputs.size() - 1);
+        ctx.setAttachment("width", last.getWidth());
+        ctx.setAttachment("height", last.getHeight());
+        ctx.setAttachment("processedWidth", (int) shape.get(2));
+        ctx.setAttachment("processedHeight", (int) shape.get(1));
+        return new NDList(batch);
+    }
+
+    private boolean useConverter(NDManager manager) {
+        // TensorFlow expects HWC images, it keeps using the pipeline
+        return converter != null && !"TensorFlow".equals(manager.getEngine().getEngineName());
+    }
+
+    private ImageBatchConverter createConverter() {
+        // only [Resize(BILINEAR)] -> ToTensor -> [Normalize] can be fused
+        ImageBatchConverter.Builder builder = ImageBatchConverter.builder().optFlag(flag);
+        int channels = flag == Image.Flag.GRAYSCALE ? 1 : 3;
+        int stage = 0;
+        for (Transform transform : pipeline.getTransforms()) {
+            if (stage == 0 && transform instanceof Resize) {
+                Resize resize = (Resize) transform;
+                if (resize.getInterpolation() != Image.Interpolation.BILINEAR) {
+                    return null;
+                }
+                builder.optResize(resize.getWidth(), resize.getHeight());
+                stage = 1;
+            } else if (stage < 2 && transform instanceof ToTensor) {
+                stage = 2;
+            } else if (stage == 2 && transform instanceof Normalize) {
+                Normalize normalize = (Normalize) transform;
+                if (normalize.getMean().length != channels
+                        || normalize.getStd().length != channels) {
+                    return null;
+                }
+                builder.optNormalize(normalize.getMean(), normalize.getStd());
+                stage = 3;
+            } else {
+                return null;
+            }
+        }
+        return stage >= 2 ? builder.build() : null;
+    }
+
     /**
      * A builder to extend for all classes extending the {@link BaseImageTranslator}.
      *
@@ -113,6 +183,7 @@ public abstract class BaseImageTranslator<T> implements Translator<Image, T> {
         protected Image.Flag flag = Image.Flag.COLOR;
         protected Pipeline pipeline;
         protected Batchifier batchifier = Batchifier.STACK;
+        protected boolean fusedPreprocess;
 
         /**
          * Sets the optional {@link ai.djl.modality.cv.Image.Flag} (default is {@link
@@ -175,6 +246,23 @@ public abstract class BaseImageTranslator<T> implements Translator<Image, T> {
             return self();
         }
 
+        /**
+         * Sets whether to fuse the pre-processing into a single pass over the image pixels
+         * (default is false).
+         *
+         * <p>This only applies to a pipeline made of an optional bilinear {@link Resize}, a {@link
+         * ToTensor} and an optional {@link Normalize}. The image is converted with an {@link
+         * ImageBatchConverter} without creating the intermediate uint8 tensor, and a batch of
+         * images is written into a single buffer. Other pipelines are not affected.
+         *
+         * @param fusedPreprocess {@code true} to fuse the pre-processing
+         * @return this builder
+         */
+        public T optFusedPreprocess(boolean fusedPreprocess) {
+            this.fusedPreprocess = fusedPreprocess;
+            return self();
+        }
+
         protected abstract T self();
 
         protected void validate() {
@@ -276,6 +364,7 @@ public abstract class BaseImageTranslator<T> implements Translator<Image, T> {
             } else if ("-1,1".equals(range)) {
                 addTransform(a -> a.div(128f).sub(1));
             }
+            fusedPreprocess = ArgumentsUtil.booleanValue(arguments, "fusedPreprocess");
             if (arguments.containsKey("batchifier")) {
                 batchifier = Batchifier.fromString((String) arguments.get("batchifier"));
             }
@@ -15,6 +15,7 @@ package ai.djl.modality.cv.translator;
 import ai.djl.modality.cv.output.BoundingBox;
 import ai.djl.modality.cv.output.DetectedObjects;
 import ai.djl.modality.cv.output.Rectangle;
+import ai.djl.modality.cv.util.NmsUtils;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.types.DataType;
 import ai.djl.translate.ArgumentsUtil;
@@ -73,50 +74,81 @@ public class YoloV5Translator extends ObjectDetectionTranslator {
             List<Rectangle> boxes,
             List<Integer> classIds,
             List<Float> scores) {
-        List<String> retClasses = new ArrayList<>();
-        List<Double> retProbs = new ArrayList<>();
-        List<BoundingBox> retBB = new ArrayList<>();
-
-        for (int classId = 0; classId < classes.size(); classId++) {
-            List<Rectangle> r = new ArrayList<>();
-            List<Double> s = new ArrayList<>();
-            List<Integer> map = new ArrayList<>();
-            for (int j = 0; j < classIds.size(); ++j) {
-                if (classIds.get(j) == classId) {
-                    r.add(boxes.get(j));
-                    s.add(scores.get(j).doubleValue());
-                    map.add(j);
-                }
-            }
-            if (r.isEmpty()) {
+        int size = boxes.size();
+        float[] buf = new float[size * 4];
+        float[] probs = new float[size];
+        int[] ids = new int[size];
+        for (int i = 0; i < size; ++i) {
+            Rectangle rect = boxes.get(i);
+            int pos = i * 4;
+            buf[pos] = (float) rect.getX();
+            buf[pos + 1] = (float) rect.getY();
+            buf[pos + 2] = (float) (rect.getX() + rect.getWidth());
+            buf[pos + 3] = (float) (rect.getY() + rect.getHeight());
+            probs[i] = scores.get(i);
+            ids[i] = classIds.get(i);
+        }
+        return nms(imageWidth, imageHeight, buf, probs, ids, size);
+    }
+
+    /**
+     * Applies per class non-maximum suppression to the candidate boxes.
+     *
+     * @param imageWidth the width of the original image
+     * @param imageHeight the height of the original image
+     * @param boxes the boxes in {@code (x1, y1, x2, y2)} format
+     * @param scores the scores of the boxes
+     * @param classIds the class ids of the boxes
+     * @param size the number of boxes
+     * @return the detected objects
+     */
+    protected DetectedObjects nms(
+            int imageWidth,
+            int imageHeight,
+            float[] boxes,
+            float[] scores,
+            int[] classIds,
+            int size) {
+        int[] kept =
+                NmsUtils.nms(
+                        boxes,
+                        scores,
+                        classIds,
+                        size,
+                        Float.NEGATIVE_INFINITY,
+                        nmsThreshold,
+                        Integer.MAX_VALUE);
+        List<String> retClasses = new ArrayList<>(kept.length);
+        List<Double> retProbs = new ArrayList<>(kept.length);
+        List<BoundingBox> retBB = new ArrayList<>(kept.length);
+        for (int index : kept) {
+            int id = classIds[index];
+            if (id < 0 || id >= classes.size()) {
                 continue;
             }
-            List<Integer> nms = Rectangle.nms(r, s, nmsThreshold);
-            for (int index : nms) {
-                int pos = map.get(index);
-                int id = classIds.get(pos);
-                retClasses.add(classes.get(id));
-                retProbs.add(scores.get(pos).doubleValue());
-                Rectangle rect = boxes.get(pos);
-                if (removePadding) {
-                    int padW = (width - imageWidth) / 2;
-                    int padH = (height - imageHeight) / 2;
-                    rect =
-                            new Rectangle(
-                                    (rect.getX() - padW) / imageWidth,
-                                    (rect.getY() - padH) / imageHeight,
-                                    rect.getWidth() / imageWidth,
-                                    rect.getHeight() / imageHeight);
-                } else if (applyRatio) {
-                    rect =
-                            new Rectangle(
-                                    rect.getX() / width,
-                                    rect.getY() / height,
-                                    rect.getWidth() / width,
-                                    rect.getHeight() / height);
-                }
-                retBB.add(rect);
+            retClasses.add(classes.get(id));
+            retProbs.add((double) scores[index]);
+            int pos = index * 4;
+            double x = boxes[pos];
+            double y = boxes[pos + 1];
+            double w = boxes[pos + 2] - x;
+            double h = boxes[pos + 3] - y;
+            Rectangle rect;
+            if (removePadding) {
+                int padW = (width - imageWidth) / 2;
+                int padH = (height - imageHeight) / 2;
+                rect =
+                        new Rectangle(
+                                (x - padW) / imageWidth,
+                                (y - padH) / imageHeight,
+                                w / imageWidth,
+                                h / imageHeight);
+            } else if (applyRatio) {
+                rect = new Rectangle(x / width, y / height, w / width, h / height);
+            } else {
+                rect = new Rectangle(x, y, w, h);
             }
+            retBB.add(rect);
         }
         return new DetectedObjects(retClasses, retProbs, retBB);
     }
@@ -127,9 +159,10 @@ public class YoloV5Translator extends ObjectDetectionTranslator {
         int stride = 5 + sizeClasses;
         int size = flattened.length / stride;
 
-        ArrayList<Rectangle> boxes = new ArrayList<>();
-        ArrayList<Float> scores = new ArrayList<>();
-        ArrayList<Integer> classIds = new ArrayList<>();
+        float[] boxes = new float[size * 4];
+        float[] scores = new float[size];
+        int[] classIds = new int[size];
+        int count = 0;
 
         for (int i = 0; i < size; i++) {
             int indexBase = i * stride;
@@ -147,14 +180,33 @@ public class YoloV5Translator extends ObjectDetectionTranslator {
                 float yPos = flattened[indexBase + 1];
                 float w = flattened[indexBase + 2];
                 float h = flattened[indexBase + 3];
-                Rectangle rect =
-                        new Rectangle(Math.max(0, xPos - w / 2), Math.max(0, yPos - h / 2), w, h);
-                boxes.add(rect);
-                scores.add(score);
-                classIds.add(maxIndex);
+                putBox(boxes, count, xPos, yPos, w, h);
+                scores[count] = score;
+                classIds[count] = maxIndex;
+                ++count;
             }
         }
-        return nms(imageWidth, imageHeight, boxes, classIds, scores);
+        return nms(imageWidth, imageHeight, boxes, scores, classIds, count);
+    }
+
+    /**
+     * Writes a center format box into the boxes buffer in {@code (x1, y1, x2, y2)} format.
+     *
+     * @param boxes the boxes buffer
+     * @param index the index of the box
+     * @param xPos the center x of the box
+     * @param yPos the center y of the box
+     * @param w the width of the box
+     * @param h the height of the box
+     */
+    static void putBox(float[] boxes, int index, float xPos, float yPos, float w, float h) {
+        int pos = index * 4;
+        float x = Math.max(0, xPos - w / 2);
+        float y = Math.max(0, yPos - h / 2);
+        boxes[pos] = x;
+        boxes[pos + 1] = y;
+        boxes[pos + 2] = x + w;
+        boxes[pos + 3] = y + h;
     }
 
     private DetectedObjects processFromDetectOutput() {
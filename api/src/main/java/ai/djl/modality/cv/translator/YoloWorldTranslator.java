@@ -20,6 +20,7 @@ import ai.djl.modality.cv.output.BoundingBox;
 import ai.djl.modality.cv.output.DetectedObjects;
 import ai.djl.modality.cv.output.Rectangle;
 import ai.djl.modality.cv.translator.BaseImageTranslator.BaseBuilder;
+import ai.djl.modality.cv.util.NmsUtils;
 import ai.djl.modality.nlp.NlpUtils;
 import ai.djl.modality.nlp.preprocess.LowerCaseConvertor;
 import ai.djl.modality.nlp.preprocess.PunctuationSeparator;
@@ -60,6 +61,7 @@ public class YoloWorldTranslator
 
     private static final int MAX_DETECTION = 300;
     private static final int[] AXIS_0 = {0};
+    private static final int[] AXIS_1 = {1};
 
     private SimpleBpeTokenizer tokenizer;
     private BaseImageTranslator<?> imageProcessor;
@@ -142,24 +144,18 @@ public class YoloWorldTranslator
         int numBox = Math.toIntExact(box.getShape().get(0));
 
         float[] buf = box.toFloatArray();
-        float[] confidences = split.get(1).toFloatArray();
+        float[] confidences = split.get(1).max(AXIS_1).toFloatArray();
         long[] ids = split.get(1).argMax(1).toLongArray();
 
-        List<Rectangle> boxes = new ArrayList<>(numBox);
-        List<Double> scores = new ArrayList<>(numBox);
-        for (int i = 0; i < numBox; ++i) {
-            float xPos = buf[i * 4];
-            float yPos = buf[i * 4 + 1];
-            float w = buf[i * 4 + 2] - xPos;
-            float h = buf[i * 4 + 3] - yPos;
-            Rectangle rect = new Rectangle(xPos, yPos, w, h);
-            boxes.add(rect);
-            scores.add((double) confidences[i]);
-        }
-        List<Integer> nms = Rectangle.nms(boxes, scores, nmsThreshold);
-        if (nms.size() > MAX_DETECTION) {
-            nms = nms.subList(0, MAX_DETECTION);
-        }
+        int[] nms =
+                NmsUtils.nms(
+                        buf,
+                        confidences,
+                        null,
+                        numBox,
+                        Float.NEGATIVE_INFINITY,
+                        nmsThreshold,
+                        MAX_DETECTION);
 
         List<String> retClasses = new ArrayList<>();
         List<Double> retProbs = new ArrayList<>();
@@ -167,15 +163,13 @@ public class YoloWorldTranslator
         for (int index : nms) {
             int id = (int) ids[index];
             retClasses.add(classes.get(id));
-            retProbs.add((double) confidences[id]);
-            Rectangle rect = boxes.get(index);
-            rect =
-                    new Rectangle(
-                            rect.getX() / width,
-                            rect.getY() / height,
-                            rect.getWidth() / width,
-                            rect.getHeight() / height);
-            retBB.add(rect);
+            retProbs.add((double) confidences[index]);
+            int pos = index * 4;
+            float x = buf[pos];
+            float y = buf[pos + 1];
+            float w = buf[pos + 2] - x;
+            float h = buf[pos + 3] - y;
+            retBB.add(new Rectangle(x / width, y / height, w / width, h / height));
         }
         return new DetectedObjects(retClasses, retProbs, retBB);
     }
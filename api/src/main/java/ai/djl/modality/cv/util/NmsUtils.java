@@ -0,0 +1,365 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.modality.cv.util;
+
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+
+import java.util.Arrays;
+
+/**
+ * {@code NmsUtils} is a non-maximum suppression utility that works on primitive arrays.
+ *
+ * <p>The boxes are stored in a flat {@code float[]} in {@code (x1, y1, x2, y2)} corner format, the
+ * box {@code i} is at offset {@code i * 4}. The candidates are filtered by the score threshold and
+ * sorted once, each candidate is then only compared with the boxes that are already kept.
+ *
+ * <p>When class ids are provided, a box only suppresses the boxes of the same class. The returned
+ * indices are ordered by descending score.
+ */
+public final class NmsUtils {
+
+    private NmsUtils() {}
+
+    /**
+     * Applies class agnostic non-maximum suppression.
+     *
+     * @param boxes the boxes in {@code (x1, y1, x2, y2)} format
+     * @param scores the scores of the boxes
+     * @param size the number of boxes
+     * @param iouThreshold the boxes that overlap a kept box with IoU no less than the threshold are
+     *     suppressed
+     * @return the indices of the kept boxes
+     */
+    public static int[] nms(float[] boxes, float[] scores, int size, float iouThreshold) {
+        return nms(
+                boxes,
+                scores,
+                null,
+                size,
+                Float.NEGATIVE_INFINITY,
+                iouThreshold,
+                Integer.MAX_VALUE);
+    }
+
+    /**
+     * Applies non-maximum suppression.
+     *
+     * @param boxes the boxes in {@code (x1, y1, x2, y2)} format
+     * @param scores the scores of the boxes
+     * @param classIds the class ids of the boxes, {@code null} for class agnostic suppression
+     * @param size the number of boxes
+     * @param scoreThreshold the boxes with score no greater than the threshold are dropped
+     * @param iouThreshold the boxes that overlap a kept box with IoU no less than the threshold are
+     *     suppressed
+     * @param maxDetections the max number of boxes to keep
+     * @return the indices of the kept boxes
+     */
+    public static int[] nms(
+            float[] boxes,
+            float[] scores,
+            int[] classIds,
+            int size,
+            float scoreThreshold,
+            float iouThreshold,
+            int maxDetections) {
+        return batchedNms(
+                boxes,
+                scores,
+                classIds,
+                null,
+                1,
+                size,
+                scoreThreshold,
+                iouThreshold,
+                maxDetections)[0];
+    }
+
+    /**
+     * Applies non-maximum suppression to the boxes of multiple images at once.
+     *
+     * <p>A box only suppresses the boxes of the same image, and the same class if class ids are
+     * provided.
+     *
+     * @param boxes the boxes in {@code (x1, y1, x2, y2)} format
+     * @param scores the scores of the boxes
+     * @param classIds the class ids of the boxes, {@code null} for class agnostic suppression
+     * @param imageIds the image index of the boxes, {@code null} if all the boxes are from one
+     *     image
+     * @param numImages the number of images
+     * @param size the number of boxes
+     * @param scoreThreshold the boxes with score no greater than the threshold are dropped
+     * @param iouThreshold the boxes that overlap a kept box with IoU no less than the threshold are
+     *     suppressed
+     * @param maxDetections the max number of boxes to keep for each image
+     * @return the indices of the kept boxes of each image
+     */
+    public static int[][] batchedNms(
+            float[] boxes,
+            float[] scores,
+            int[] classIds,
+            int[] imageIds,
+            int numImages,
+            int size,
+            float scoreThreshold,
+            float iouThreshold,
+            int maxDetections) {
+        int[] order = sortByScore(scores, size, scoreThreshold);
+        float[] areas = areas(boxes, size);
+        int[] kept = new int[order.length];
+        int numKept = 0;
+        int[] counts = new int[numImages];
+        for (int index : order) {
+            int image = imageIds == null ? 0 : imageIds[index];
+            if (counts[image] >= maxDetections) {
+                continue;
+            }
+            boolean suppressed = false;
+            for (int k = 0; k < numKept; ++k) {
+                int other = kept[k];
+                if (imageIds != null && imageIds[other] != image) {
+                    continue;
+                }
+                if (classIds != null && classIds[other] != classIds[index]) {
+                    continue;
+                }
+                if (iou(boxes, areas, index, other) >= iouThreshold) {
+                    suppressed = true;
+                    break;
+                }
+            }
+            if (!suppressed) {
+                kept[numKept++] = index;
+                counts[image]++;
+            }
+        }
+
+        int[][] ret = new int[numImages][];
+        if (imageIds == null) {
+            ret[0] = Arrays.copyOf(kept, numKept);
+            return ret;
+        }
+        for (int i = 0; i < numImages; ++i) {
+            ret[i] = new int[counts[i]];
+        }
+        int[] pos = new int[numImages];
+        for (int k = 0; k < numKept; ++k) {
+            int index = kept[k];
+            int image = imageIds[index];
+            ret[image][pos[image]++] = index;
+        }
+        return ret;
+    }
+
+    /**
+     * Applies Gaussian Soft-NMS.
+     *
+     * <p>Instead of dropping the overlapped boxes, their scores are decayed by {@code
+     * exp(-iou^2 / sigma)}. The boxes with a decayed score no greater than the score threshold are
+     * dropped. The decayed scores of the kept boxes are written back to {@code scores}.
+     *
+     * @param boxes the boxes in {@code (x1, y1, x2, y2)} format
+     * @param scores the scores of the boxes, updated with the decayed scores
+     * @param classIds the class ids of the boxes, {@code null} for class agnostic suppression
+     * @param size the number of boxes
+     * @param sigma the sigma of the Gaussian decay
+     * @param scoreThreshold the boxes with score no greater than the threshold are dropped
+     * @param maxDetections the max number of boxes to keep
+     * @return the indices of the kept boxes
+     */
+    public static int[] softNms(
+            float[] boxes,
+            float[] scores,
+            int[] classIds,
+            int size,
+            float sigma,
+            float scoreThreshold,
+            int maxDetections) {
+        int[] candidates = sortByScore(scores, size, scoreThreshold);
+        float[] areas = areas(boxes, size);
+        int remaining = candidates.length;
+        float[] decayed = new float[remaining];
+        for (int i = 0; i < remaining; ++i) {
+            decayed[i] = scores[candidates[i]];
+        }
+        int[] kept = new int[Math.min(remaining, maxDetections)];
+        int numKept = 0;
+        while (remaining > 0 && numKept < kept.length) {
+            int best = 0;
+            for (int i = 1; i < remaining; ++i) {
+                if (decayed[i] > decayed[best]) {
+                    best = i;
+                }
+            }
+            int index = candidates[best];
+            scores[index] = decayed[best];
+            kept[numKept++] = index;
+            // remove the selected box by moving the last candidate into its slot
+            --remaining;
+            candidates[best] = candidates[remaining];
+            decayed[best] = decayed[remaining];
+
+            int i = 0;
+            while (i < remaining) {
+                int other = candidates[i];
+                if (classIds == null || classIds[other] == classIds[index]) {
+                    float iou = iou(boxes, areas, index, other);
+                    decayed[i] *= (float) Math.exp(-(iou * iou) / sigma);
+                    if (decayed[i] <= scoreThreshold) {
+                        --remaining;
+                        candidates[i] = candidates[remaining];
+                        decayed[i] = decayed[remaining];
+                        continue;
+                    }
+                }
+                ++i;
+            }
+        }
+        return Arrays.copyOf(kept, numKept);
+    }
+
+    /**
+     * Applies class agnostic non-maximum suppression with the IoU computed by {@link NDArray}
+     * operations.
+     *
+     * <p>The pairwise IoU matrix of the boxes is computed by the engine, only the greedy selection
+     * runs on the CPU. The matrix takes {@code O(n^2)} memory, the boxes should be filtered by score
+     * before calling this method.
+     *
+     * @param boxes the boxes of shape (N, 4) in {@code (x1, y1, x2, y2)} format
+     * @param scores the scores of shape (N)
+     * @param iouThreshold the boxes that overlap a kept box with IoU no less than the threshold are
+     *     suppressed
+     * @param maxDetections the max number of boxes to keep
+     * @return the indices of the kept boxes
+     */
+    public static int[] nms(
+            NDArray boxes, NDArray scores, float iouThreshold, int maxDetections) {
+        int size = Math.toIntExact(scores.size());
+        if (size == 0) {
+            return new int[0];
+        }
+        long[] order;
+        boolean[] suppressed;
+        try (NDManager manager = boxes.getManager().newSubManager()) {
+            manager.tempAttachAll(boxes, scores);
+            NDArray sorted = scores.argSort(0, false);
+            order = sorted.toLongArray();
+            NDArray b = boxes.get(sorted);
+            NDArray x1 = b.get(":, 0");
+            NDArray y1 = b.get(":, 1");
+            NDArray x2 = b.get(":, 2");
+            NDArray y2 = b.get(":, 3");
+            NDArray area = x2.sub(x1).mul(y2.sub(y1));
+            NDArray w =
+                    x2.expandDims(1)
+                            .minimum(x2.expandDims(0))
+                            .sub(x1.expandDims(1).maximum(x1.expandDims(0)))
+                            .maximum(0f);
+            NDArray h =
+                    y2.expandDims(1)
+                            .minimum(y2.expandDims(0))
+                            .sub(y1.expandDims(1).maximum(y1.expandDims(0)))
+                            .maximum(0f);
+            NDArray inter = w.mul(h);
+            NDArray union = area.expandDims(1).add(area.expandDims(0)).sub(inter);
+            suppressed = inter.div(union).gte(iouThreshold).toBooleanArray();
+        }
+
+        boolean[] removed = new boolean[size];
+        int[] kept = new int[Math.min(size, maxDetections)];
+        int numKept = 0;
+        for (int i = 0; i < size && numKept < kept.length; ++i) {
+            if (removed[i]) {
+                continue;
+            }
+            kept[numKept++] = (int) order[i];
+            int row = i * size;
+            for (int j = i + 1; j < size; ++j) {
+                if (suppressed[row + j]) {
+                    removed[j] = true;
+                }
+            }
+        }
+        return Arrays.copyOf(kept, numKept);
+    }
+
+    /**
+     * Returns the IoU (intersection over union) of two boxes.
+     *
+     * @param boxes the boxes in {@code (x1, y1, x2, y2)} format
+     * @param i the index of the first box
+     * @param j the index of the second box
+     * @return the IoU of two boxes
+     */
+    public static float iou(float[] boxes, int i, int j) {
+        int a = i * 4;
+        int b = j * 4;
+        float areaA = (boxes[a + 2] - boxes[a]) * (boxes[a + 3] - boxes[a + 1]);
+        float areaB = (boxes[b + 2] - boxes[b]) * (boxes[b + 3] - boxes[b + 1]);
+        return iou(boxes, a, b, areaA, areaB);
+    }
+
+    private static float iou(float[] boxes, float[] areas, int i, int j) {
+        return iou(boxes, i * 4, j * 4, areas[i], areas[j]);
+    }
+
+    private static float iou(float[] boxes, int a, int b, float areaA, float areaB) {
+        float w = Math.min(boxes[a + 2], boxes[b + 2]) - Math.max(boxes[a], boxes[b]);
+        if (w <= 0) {
+            return 0;
+        }
+        float h = Math.min(boxes[a + 3], boxes[b + 3]) - Math.max(boxes[a + 1], boxes[b + 1]);
+        if (h <= 0) {
+            return 0;
+        }
+        float intersection = w * h;
+        float union = areaA + areaB - intersection;
+        return union > 0 ? intersection / union : 0;
+    }
+
+    private static float[] areas(float[] boxes, int size) {
+        float[] areas = new float[size];
+        for (int i = 0; i < size; ++i) {
+            int pos = i * 4;
+            areas[i] = (boxes[pos + 2] - boxes[pos]) * (boxes[pos + 3] - boxes[pos + 1]);
+        }
+        return areas;
+    }
+
+    /**
+     * Returns the indices of the scores above the threshold in descending order.
+     *
+     * <p>The score and index are packed into a {@code long} so that a single primitive sort is
+     * used: the high bits hold the score bits mapped to a monotonic int, the low bits hold the
+     * reversed index to keep the lower index first for equal scores.
+     */
+    private static int[] sortByScore(float[] scores, int size, float threshold) {
+        long[] keys = new long[size];
+        int count = 0;
+        for (int i = 0; i < size; ++i) {
+            float score = scores[i];
+            if (score > threshold) {
+                int bits = Float.floatToIntBits(score);
+                bits ^= (bits >> 31) & 0x7fffffff;
+                keys[count++] = ((long) bits << 32) | (size - 1 - i);
+            }
+        }
+        Arrays.sort(keys, 0, count);
+        int[] order = new int[count];
+        for (int i = 0; i < count; ++i) {
+            order[i] = size - 1 - (int) keys[count - 1 - i];
+        }
+        return order;
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.modality.nlp.generate;
+
+import ai.djl.inference.streaming.ChunkedBytesSupplier;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+import ai.djl.translate.TranslateException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * {@code SeqBatchEngine} drives a {@link SeqBatchScheduler} with its own thread to serve many
+ * generation requests with one model (continuous batching).
+ *
+ * <p>At every step, the engine admits the pending prompts into the running batch, runs one
+ * inference call and streams the generated token of each sequence to its {@link
+ * ChunkedBytesSupplier}. Finished sequences are evicted from the batch right away, so new prompts
+ * can take their place in the next step.
+ *
+ * <p>The number of concurrent tokens is limited by {@code maxTokens}. Each sequence reserves the
+ * max length it can reach, which is {@link SearchConfig#getMaxSeqLength()} or its prompt length
+ * if longer. A prompt waits in the queue until the running sequences leave enough room, unless
+ * the batch is empty.
+ *
+ * <p>If the generation fails or the engine is closed, the unfinished streams are completed with
+ * {@link ChunkedBytesSupplier#completeExceptionally(Throwable)}, reading their last chunk throws
+ * an {@link IllegalStateException} caused by the error.
+ *
+ * <pre>
+ * try (SeqBatchEngine engine = new SeqBatchEngine(scheduler, manager, 4096)) {
+ *     ChunkedBytesSupplier tokens = engine.submit(tokenizer.encode(prompt).getIds());
+ *     while (tokens.hasNext()) {
+ *         byte[] token = tokens.nextChunk(1, TimeUnit.MINUTES);
+ *     }
+ * }
+ * </pre>
+ */
+public class SeqBatchEngine implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeqBatchEngine.class);
+
+    private SeqBatchScheduler scheduler;
+    private NDManager manager;
+    private NDManager workspace;
+    private int maxTokens;
+    private LongFunction<byte[]> tokenEncoder;
+    private BlockingQueue<Request> pending;
+    private Map<Long, Request> active;
+    private AtomicLong nextUid;
+    private volatile int reservedTokens;
+    private Thread worker;
+    private volatile boolean running;
+
+    /**
+     * Constructs a new {@code SeqBatchEngine} instance.
+     *
+     * <p>Each chunk of the returned {@link ChunkedBytesSupplier}s contains one generated token id
+     * as 8 bytes in big-endian order.
+     *
+     * @param scheduler the scheduler that runs the search algorithm
+     * @param manager the manager to create the search state
+     * @param maxTokens the max number of tokens of all the running sequences
+     */
+    public SeqBatchEngine(SeqBatchScheduler scheduler, NDManager manager, int maxTokens) {
+        this(scheduler, manager, maxTokens, id -> ByteBuffer.allocate(8).putLong(id).array());
+    }
+
+    /**
+     * Constructs a new {@code SeqBatchEngine} instance.
+     *
+     * @param scheduler the scheduler that runs the search algorithm
+     * @param manager the manager to create the search state
+     * @param maxTokens the max number of tokens of all the running sequences
+     * @param tokenEncoder the function to convert a generated token id to a chunk, e.g. decode it
+     *     with a tokenizer
+     */
+    public SeqBatchEngine(
+            SeqBatchScheduler scheduler,
+            NDManager manager,
+            int maxTokens,
+            LongFunction<byte[]> tokenEncoder) {
+        if (maxTokens < 1) {
+            throw new IllegalArgumentException("maxTokens must be greater than 0");
+        }
+        this.scheduler = scheduler;
+        this.manager = manager;
+        this.maxTokens = maxTokens;
+        this.tokenEncoder = tokenEncoder;
+        pending = new LinkedBlockingQueue<>();
+        active = new ConcurrentHashMap<>();
+        nextUid = new AtomicLong();
+        running = true;
+        worker = new Thread(this::run, "seq-batch-engine");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Submits a prompt for generation.
+     *
+     * @param inputIds the token ids of the prompt
+     * @return a {@link ChunkedBytesSupplier} that receives the generated tokens
+     */
+    public ChunkedBytesSupplier submit(long[] inputIds) {
+        if (!running) {
+            throw new IllegalStateException("SeqBatchEngine is already closed.");
+        }
+        if (inputIds.length == 0) {
+            throw new IllegalArgumentException("The prompt is empty.");
+        }
+        int reserve = Math.max(scheduler.config.getMaxSeqLength(), inputIds.length + 1);
+        Request request = new Request(nextUid.getAndIncrement(), inputIds, reserve);
+        pending.add(request);
+        return request.output;
+    }
+
+    /**
+     * Returns the number of sequences in the running batch.
+     *
+     * @return the number of sequences in the running batch
+     */
+    public int getActiveCount() {
+        return active.size();
+    }
+
+    /**
+     * Returns the number of prompts waiting to be admitted.
+     *
+     * @return the number of prompts waiting to be admitted
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Returns the number of tokens reserved by the running sequences.
+     *
+     * @return the number of tokens reserved by the running sequences
+     */
+    public int getReservedTokens() {
+        return reservedTokens;
+    }
+
+    private void run() {
+        workspace = manager.newSubManager();
+        while (running) {
+            try {
+                if (!admit()) {
+                    continue;
+                }
+                step();
+            } catch (InterruptedException e) {
+                logger.debug("SeqBatchEngine interrupted.");
+                running = false;
+            } catch (TranslateException | RuntimeException e) {
+                logger.error("Generation failed, all the running sequences are aborted.", e);
+                abort(e);
+            }
+        }
+        abort(new IllegalStateException("SeqBatchEngine is closed."));
+        workspace.close();
+    }
+
+    private boolean admit() throws InterruptedException, TranslateException {
+        List<Request> admitted = new ArrayList<>();
+        if (active.isEmpty()) {
+            Request first = pending.poll(100, TimeUnit.MILLISECONDS);
+            if (first == null) {
+                return false;
+            }
+            // a long prompt is allowed to run alone
+            activate(first, admitted);
+        }
+        Request request;
+        while ((request = pending.peek()) != null
+                && reservedTokens + request.reserve <= maxTokens) {
+            activate(pending.poll(), admitted);
+        }
+        if (!admitted.isEmpty()) {
+            addRequests(admitted);
+        }
+        return true;
+    }
+
+    private void activate(Request request, List<Request> admitted) {
+        active.put(request.uid, request);
+        reservedTokens += request.reserve;
+        admitted.add(request);
+    }
+
+    private void addRequests(List<Request> requests) throws TranslateException {
+        int maxLength = 0;
+        for (Request request : requests) {
+            maxLength = Math.max(maxLength, request.inputIds.length);
+        }
+        long padTokenId = scheduler.config.getPadTokenId();
+        long[][] inputIds = new long[requests.size()][maxLength];
+        long[] uids = new long[requests.size()];
+        for (int i = 0; i < requests.size(); ++i) {
+            long[] ids = requests.get(i).inputIds;
+            // left padding
+            Arrays.fill(inputIds[i], 0, maxLength - ids.length, padTokenId);
+            System.arraycopy(ids, 0, inputIds[i], maxLength - ids.length, ids.length);
+            uids[i] = requests.get(i).uid;
+        }
+        scheduler.addRequest(workspace.create(inputIds), workspace.create(uids));
+    }
+
+    private void step() throws TranslateException {
+        SeqBatcher seqBatcher = scheduler.seqBatcher;
+        long[] uids = seqBatcher.batchUid.toLongArray();
+        NDArray outputIds = scheduler.inferenceCall();
+        long[] tokens = outputIds.toLongArray();
+        outputIds.close();
+
+        Map<Long, NDArray> finished = null;
+        if (seqBatcher.sequenceComplete()) {
+            finished = seqBatcher.collectAndTrim();
+            for (NDArray array : finished.values()) {
+                array.close();
+            }
+        }
+        for (int i = 0; i < uids.length; ++i) {
+            Request request = active.get(uids[i]);
+            boolean last = finished != null && finished.containsKey(uids[i]);
+            request.output.appendContent(tokenEncoder.apply(tokens[i]), last);
+            if (last) {
+                active.remove(uids[i]);
+                reservedTokens -= request.reserve;
+            }
+        }
+        compact();
+    }
+
+    /** Moves the live search state into a new manager and releases the intermediate arrays. */
+    private void compact() {
+        NDManager next = manager.newSubManager();
+        SeqBatcher seqBatcher = scheduler.seqBatcher;
+        if (seqBatcher.getData() != null) {
+            seqBatcher.getData().getList().attach(next);
+        }
+        seqBatcher.batchUid.attach(next);
+        seqBatcher.offSets.attach(next);
+        seqBatcher.manager = next;
+        scheduler.manager = next;
+        workspace.close();
+        workspace = next;
+    }
+
+    private void abort(Throwable error) {
+        scheduler.seqBatcher = null;
+        for (Request request : active.values()) {
+            request.output.completeExceptionally(error);
+        }
+        active.clear();
+        reservedTokens = 0;
+        if (!running) {
+            drainPending(error);
+        }
+    }
+
+    private void drainPending(Throwable error) {
+        Request request;
+        while ((request = pending.poll()) != null) {
+            request.output.completeExceptionally(error);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            worker.interrupt();
+        }
+        // complete the requests that arrived after the worker stopped
+        drainPending(new IllegalStateException("SeqBatchEngine is closed."));
+    }
+
+    private static final class Request {
+
+        long uid;
+        long[] inputIds;
+        int reserve;
+        ChunkedBytesSupplier output;
+
+        Request(long uid, long[] inputIds, int reserve) {
+            this.uid = uid;
+            this.inputIds = inputIds;
+            this.reserve = reserve;
+            output = new ChunkedBytesSupplier();
+        }
+    }
+}
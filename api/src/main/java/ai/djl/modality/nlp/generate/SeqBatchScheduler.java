@@ -110,7 +110,8 @@ public abstract class SeqBatchScheduler {
      */
     public void addRequest(NDArray inputIds, NDArray batchUids) throws TranslateException {
         SeqBatcher seqBatcherNew = initForward(inputIds, batchUids);
-        if (seqBatcher == null) {
+        if (seqBatcher == null || seqBatcher.getData() == null) {
+            // all the previous sequences have finished
             seqBatcher = seqBatcherNew;
         } else {
             seqBatcher.addBatch(seqBatcherNew);
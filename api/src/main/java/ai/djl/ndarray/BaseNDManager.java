@@ -435,6 +435,31 @@ public abstract class BaseNDManager implements NDManager {
         }
     }
 
+    /**
+     * Allocates a direct buffer from the {@link BufferPool} to stage data for native code.
+     *
+     * <p>Only use a pooled buffer if the native array makes its own copy of the data, and give it
+     * back with {@link #releasePooledBuffer(ByteBuffer)} once the data is copied. A buffer that
+     * native code keeps referencing, for example a CPU tensor created from the buffer memory, must
+     * not be pooled because the views of the array can outlive it.
+     *
+     * @param capacity the number of bytes required
+     * @return a direct buffer in native order
+     */
+    public ByteBuffer allocatePooledBuffer(int capacity) {
+        return BufferPool.getInstance().acquire(capacity);
+    }
+
+    /**
+     * Gives a pooled buffer that is no longer referenced by native code back to the {@link
+     * BufferPool}.
+     *
+     * @param buffer the buffer returned by {@link #allocatePooledBuffer(int)}
+     */
+    public void releasePooledBuffer(ByteBuffer buffer) {
+        BufferPool.getInstance().release(buffer);
+    }
+
     NDManager getAlternativeManager() {
         return alternativeManager;
     }
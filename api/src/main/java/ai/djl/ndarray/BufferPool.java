@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.ndarray;
+
+import ai.djl.util.Utils;
+
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A pool of direct {@code ByteBuffer}s that are used to stage data before it is handed to native
+ * code.
+ *
+ * <p>Allocating a new direct buffer for every {@link NDManager#create(java.nio.Buffer,
+ * ai.djl.ndarray.types.Shape)} call puts a lot of pressure on the direct memory and the {@code
+ * Cleaner} thread. The {@code BufferPool} rounds the requested capacity up to a power of two size
+ * class and reuses the buffers that are given back. Each thread keeps one buffer per size class in
+ * a local cache, the rest are shared by all threads. The buffers of the local caches and the shared
+ * pool together are bounded by {@code maxRetainedBytes}.
+ *
+ * <p>The default pool can be configured with the following system properties or environment
+ * variables:
+ *
+ * <ul>
+ *   <li>DJL_BUFFER_POOL_MAX_BYTES - the max number of bytes retained by the pool, including the
+ *       thread local caches, 0 to disable pooling, default 64 MB
+ *   <li>DJL_BUFFER_POOL_MAX_BUFFER - the max capacity of a pooled buffer, default 16 MB
+ * </ul>
+ *
+ * <p>A buffer given back with {@link #release(ByteBuffer)} must not be used by the caller or by
+ * native code anymore.
+ */
+public final class BufferPool {
+
+    private static final int MIN_SHIFT = 8;
+    private static final int MAX_LOCAL_SIZE = 1 << 20;
+
+    private static final BufferPool INSTANCE =
+            new BufferPool(
+                    Integer.parseInt(
+                            Utils.getEnvOrSystemProperty("DJL_BUFFER_POOL_MAX_BUFFER", "16777216")),
+                    Long.parseLong(
+                            Utils.getEnvOrSystemProperty("DJL_BUFFER_POOL_MAX_BYTES", "67108864")));
+
+    private int maxBufferSize;
+    private long maxRetainedBytes;
+    private List<Queue<ByteBuffer>> free;
+    private ThreadLocal<LocalCache> local;
+    private Queue<LocalCache> localCaches;
+    private AtomicLong retained;
+    private AtomicLong hits;
+    private AtomicLong misses;
+
+    /**
+     * Constructs a new {@code BufferPool} instance.
+     *
+     * @param maxBufferSize the max capacity of a pooled buffer
+     * @param maxRetainedBytes the max number of bytes retained by the pool, including the thread
+     *     local caches, 0 to disable pooling
+     */
+    public BufferPool(int maxBufferSize, long maxRetainedBytes) {
+        this.maxBufferSize = Math.max(1 << MIN_SHIFT, Integer.highestOneBit(maxBufferSize));
+        this.maxRetainedBytes = maxRetainedBytes;
+        int classes = sizeClass(this.maxBufferSize) + 1;
+        free = new ArrayList<>(classes);
+        for (int i = 0; i < classes; ++i) {
+            free.add(new ConcurrentLinkedQueue<>());
+        }
+        localCaches = new ConcurrentLinkedQueue<>();
+        local =
+                ThreadLocal.withInitial(
+                        () -> {
+                            LocalCache cache = new LocalCache(classes);
+                            localCaches.add(cache);
+                            return cache;
+                        });
+        retained = new AtomicLong();
+        hits = new AtomicLong();
+        misses = new AtomicLong();
+    }
+
+    /**
+     * Returns the default {@code BufferPool}.
+     *
+     * @return the default {@code BufferPool}
+     */
+    public static BufferPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns a direct buffer in native order with the specified limit.
+     *
+     * <p>The capacity of the returned buffer may be larger than requested.
+     *
+     * @param capacity the number of bytes required
+     * @return a direct buffer in native order
+     */
+    public ByteBuffer acquire(int capacity) {
+        if (maxRetainedBytes <= 0 || capacity > maxBufferSize) {
+            misses.incrementAndGet();
+            return ByteBuffer.allocateDirect(capacity).order(ByteOrder.nativeOrder());
+        }
+        int index = sizeClass(capacity);
+        ByteBuffer[] cache = local.get().buffers;
+        ByteBuffer buf = cache[index];
+        if (buf != null) {
+            cache[index] = null;
+        } else {
+            buf = free.get(index).poll();
+        }
+        if (buf == null) {
+            misses.incrementAndGet();
+            buf = ByteBuffer.allocateDirect(1 << (index + MIN_SHIFT));
+        } else {
+            retained.addAndGet(-buf.capacity());
+            hits.incrementAndGet();
+        }
+        buf.clear().limit(capacity);
+        return buf.order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Gives a buffer back to the pool.
+     *
+     * <p>Heap buffers and buffers whose capacity is not a size class of the pool are ignored.
+     *
+     * @param buf the buffer returned by {@link #acquire(int)}
+     */
+    public void release(ByteBuffer buf) {
+        if (buf == null || !buf.isDirect() || maxRetainedBytes <= 0) {
+            return;
+        }
+        int capacity = buf.capacity();
+        if (capacity < 1 << MIN_SHIFT
+                || capacity > maxBufferSize
+                || Integer.bitCount(capacity) != 1) {
+            return;
+        }
+        if (!reserve(capacity) && !(reclaimTerminated() && reserve(capacity))) {
+            return;
+        }
+        int index = sizeClass(capacity);
+        if (capacity <= MAX_LOCAL_SIZE) {
+            ByteBuffer[] cache = local.get().buffers;
+            if (cache[index] == null) {
+                cache[index] = buf;
+                return;
+            }
+        }
+        free.get(index).offer(buf);
+    }
+
+    /**
+     * Returns the number of {@link #acquire(int)} calls served with a reused buffer.
+     *
+     * @return the number of {@link #acquire(int)} calls served with a reused buffer
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of {@link #acquire(int)} calls that allocated a new buffer.
+     *
+     * @return the number of {@link #acquire(int)} calls that allocated a new buffer
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the number of bytes retained by the pool.
+     *
+     * <p>The buffers cached by each thread are included. The buffers cached by a thread that
+     * terminated are counted until the pool is full and reclaims them.
+     *
+     * @return the number of bytes retained by the pool
+     */
+    public long getRetainedBytes() {
+        return retained.get();
+    }
+
+    private boolean reserve(int capacity) {
+        if (retained.addAndGet(capacity) > maxRetainedBytes) {
+            retained.addAndGet(-capacity);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Drops the local caches of the terminated threads.
+     *
+     * @return {@code true} if any byte is reclaimed
+     */
+    private boolean reclaimTerminated() {
+        long reclaimed = 0;
+        for (LocalCache cache : localCaches) {
+            Thread thread = cache.thread.get();
+            if (thread == null || !thread.isAlive()) {
+                if (localCaches.remove(cache)) {
+                    for (ByteBuffer buf : cache.buffers) {
+                        if (buf != null) {
+                            reclaimed += buf.capacity();
+                        }
+                    }
+                }
+            }
+        }
+        retained.addAndGet(-reclaimed);
+        return reclaimed > 0;
+    }
+
+    private static int sizeClass(int capacity) {
+        if (capacity <= 1 << MIN_SHIFT) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(capacity - 1) - MIN_SHIFT;
+    }
+
+    /** The buffers cached by a thread. */
+    private static final class LocalCache {
+
+        WeakReference<Thread> thread;
+        ByteBuffer[] buffers;
+
+        LocalCache(int classes) {
+            thread = new WeakReference<>(Thread.currentThread());
+            buffers = new ByteBuffer[classes];
+        }
+    }
+}
@@ -21,10 +21,11 @@ import ai.djl.util.Pair;
 import com.google.gson.JsonObject;
 import com.google.gson.annotations.SerializedName;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
-import java.io.DataOutputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -32,7 +33,11 @@ import java.io.PushbackInputStream;
 import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -168,6 +173,74 @@ public class NDList extends ArrayList<NDArray> implements NDResource, BytesSuppl
         }
     }
 
+    /**
+     * Decodes NDList from a file with memory mapping.
+     *
+     * <p>The safetensors, numpy and uncompressed npz files, as well as the NDList format, are
+     * memory mapped. Each {@link NDArray} is created over a slice of the mapping, an engine that
+     * supports external memory uses the mapped pages without copy, other engines copy the data
+     * once. The mapping is private, the file is never modified by the arrays. Compressed npz files
+     * are decoded as a stream.
+     *
+     * @param manager manager assigned to {@link NDArray}
+     * @param path the file to load from
+     * @return {@code NDList}
+     * @throws IOException if failed to read the file
+     */
+    public static NDList decode(NDManager manager, Path path) throws IOException {
+        FileChannel channel;
+        FileChannel.MapMode mode;
+        try {
+            // a private (copy-on-write) mapping requires a writable channel
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            mode = FileChannel.MapMode.PRIVATE;
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            // read-only mapping, the arrays are copied from the mapped pages
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            mode = FileChannel.MapMode.READ_ONLY;
+        }
+        try {
+            long size = channel.size();
+            if (size < 9) {
+                throw new IllegalArgumentException("Invalid input length: " + size);
+            }
+            byte[] magic = new byte[9];
+            NDSerializer.readFully(channel, ByteBuffer.wrap(magic), 0);
+            if (magic[0] == 'P' && magic[1] == 'K') {
+                NDList list = decodeNumpy(manager, channel, mode);
+                if (list != null) {
+                    return list;
+                }
+            } else if (magic[0] == (byte) 0x93
+                    && magic[1] == 'N'
+                    && magic[2] == 'U'
+                    && magic[3] == 'M') {
+                return new NDList(NDSerializer.decodeNumpy(manager, channel, mode, 0));
+            } else if (magic[8] == '{') {
+                return decodeSafetensors(manager, channel, mode);
+            } else if (size <= Integer.MAX_VALUE) {
+                ByteBuffer bb = channel.map(mode, 0, size);
+                int count = bb.getInt();
+                if (count < 0) {
+                    throw new IllegalArgumentException("Invalid NDList size: " + count);
+                }
+                NDList list = new NDList(count);
+                for (int i = 0; i < count; i++) {
+                    list.add(NDSerializer.decode(manager, bb));
+                }
+                return list;
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Invalid NDArray input", e);
+        } finally {
+            // the mappings stay valid after the channel is closed
+            channel.close();
+        }
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(path))) {
+            return decode(manager, is);
+        }
+    }
+
     private static NDList decodeSafetensors(NDManager manager, InputStream is) throws IOException {
         DataInputStream dis;
         if (is instanceof DataInputStream) {
@@ -181,11 +254,59 @@ public class NDList extends ArrayList<NDArray> implements NDResource, BytesSuppl
         int len = Math.toIntExact(ByteBuffer.wrap(buf).order(ByteOrder.LITTLE_ENDIAN).getLong());
         buf = new byte[len];
         dis.readFully(buf);
+        List<Pair<String, SafeTensor>> list = parseSafetensors(buf);
+        long max = 0;
+        for (Pair<String, SafeTensor> pair : list) {
+            max = Math.max(max, pair.getValue().offsets[1]);
+        }
+        buf = new byte[Math.toIntExact(max)];
+        dis.readFully(buf);
+        NDList ret = new NDList(list.size());
+        for (Pair<String, SafeTensor> pair : list) {
+            SafeTensor st = pair.getValue();
+            Shape shape = new Shape(st.shape);
+            ByteBuffer bb = ByteBuffer.wrap(buf, (int) st.offsets[0], st.size());
+            bb.order(ByteOrder.LITTLE_ENDIAN);
+            DataType dataType = DataType.fromSafetensors(st.dtype);
+            NDArray array = manager.create(bb, shape, dataType);
+            array.setName(pair.getKey());
+            ret.add(array);
+        }
+        return ret;
+    }
+
+    private static NDList decodeSafetensors(
+            NDManager manager, FileChannel channel, FileChannel.MapMode mode) throws IOException {
+        ByteBuffer bb = ByteBuffer.allocate(8);
+        bb.order(ByteOrder.LITTLE_ENDIAN);
+        NDSerializer.readFully(channel, bb, 0);
+        int len = Math.toIntExact(bb.getLong(0));
+        byte[] buf = new byte[len];
+        NDSerializer.readFully(channel, ByteBuffer.wrap(buf), 8);
+        List<Pair<String, SafeTensor>> list = parseSafetensors(buf);
+        long base = 8L + len;
+        NDList ret = new NDList(list.size());
+        for (Pair<String, SafeTensor> pair : list) {
+            SafeTensor st = pair.getValue();
+            long position = base + st.offsets[0];
+            ByteBuffer data = channel.map(mode, position, st.size());
+            data.order(ByteOrder.LITTLE_ENDIAN);
+            DataType dataType = DataType.fromSafetensors(st.dtype);
+            boolean aligned = position % dataType.getNumOfBytes() == 0;
+            Shape shape = new Shape(st.shape);
+            NDArray array = NDSerializer.create(manager, data, aligned, shape, dataType);
+            array.setName(pair.getKey());
+            ret.add(array);
+        }
+        return ret;
+    }
+
+    private static List<Pair<String, SafeTensor>> parseSafetensors(byte[] buf)
+            throws IOException {
         String json = new String(buf, StandardCharsets.UTF_8);
         // rust implementation sort by name, our implementation preserve the order.
         JsonObject jsonObject = JsonUtils.GSON.fromJson(json, JsonObject.class);
         List<Pair<String, SafeTensor>> list = new ArrayList<>();
-        int max = 0;
         for (String key : jsonObject.keySet()) {
             if ("__metadata__".equals(key)) {
                 continue;
@@ -194,26 +315,9 @@ public class NDList extends ArrayList<NDArray> implements NDResource, BytesSuppl
             if (value.offsets.length != 2) {
                 throw new IOException("Malformed safetensors metadata: " + json);
             }
-            max = Math.max(max, value.offsets[1]);
             list.add(new Pair<>(key, value));
         }
-        buf = new byte[max];
-        dis.readFully(buf);
-        NDList ret = new NDList(list.size());
-        for (Pair<String, SafeTensor> pair : list) {
-            if ("__metadata__".equals(pair.getKey())) {
-                continue;
-            }
-            SafeTensor st = pair.getValue();
-            Shape shape = new Shape(st.shape);
-            ByteBuffer bb = ByteBuffer.wrap(buf, st.offsets[0], st.size());
-            bb.order(ByteOrder.LITTLE_ENDIAN);
-            DataType dataType = DataType.fromSafetensors(st.dtype);
-            NDArray array = manager.create(bb, shape, dataType);
-            array.setName(pair.getKey());
-            ret.add(array);
-        }
-        return ret;
+        return list;
     }
 
     private static NDList decodeNumpy(NDManager manager, InputStream is) throws IOException {
@@ -231,6 +335,67 @@ public class NDList extends ArrayList<NDArray> implements NDResource, BytesSuppl
         return list;
     }
 
+    private static NDList decodeNumpy(
+            NDManager manager, FileChannel channel, FileChannel.MapMode mode) throws IOException {
+        // scan the local file headers first, a compressed entry is decoded as a stream
+        List<Pair<String, Long>> entries = new ArrayList<>();
+        ByteBuffer header = ByteBuffer.allocate(30);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        long size = channel.size();
+        long pos = 0;
+        while (pos + header.capacity() <= size) {
+            header.clear();
+            NDSerializer.readFully(channel, header, pos);
+            if (header.getInt(0) != 0x04034b50) {
+                // central directory
+                break;
+            }
+            int flags = header.getShort(6) & 0xFFFF;
+            int method = header.getShort(8) & 0xFFFF;
+            if (method != ZipEntry.STORED || (flags & 8) != 0) {
+                return null;
+            }
+            long entrySize = header.getInt(18) & 0xFFFFFFFFL;
+            int nameLength = header.getShort(26) & 0xFFFF;
+            int extraLength = header.getShort(28) & 0xFFFF;
+            ByteBuffer buf = ByteBuffer.allocate(nameLength + extraLength);
+            buf.order(ByteOrder.LITTLE_ENDIAN);
+            NDSerializer.readFully(channel, buf, pos + header.capacity());
+            String name = new String(buf.array(), 0, nameLength, StandardCharsets.UTF_8);
+            if (entrySize == 0xFFFFFFFFL) {
+                entrySize = getZip64Size(buf, nameLength);
+            }
+            long data = pos + header.capacity() + nameLength + extraLength;
+            entries.add(new Pair<>(name, data));
+            pos = data + entrySize;
+        }
+
+        NDList list = new NDList(entries.size());
+        for (Pair<String, Long> entry : entries) {
+            String name = entry.getKey();
+            NDArray array = NDSerializer.decodeNumpy(manager, channel, mode, entry.getValue());
+            if (!name.startsWith("arr_") && name.endsWith(".npy")) {
+                array.setName(name.substring(0, name.length() - 4));
+            }
+            list.add(array);
+        }
+        return list;
+    }
+
+    private static long getZip64Size(ByteBuffer extra, int offset) throws IOException {
+        int pos = offset;
+        while (pos + 4 <= extra.limit()) {
+            int id = extra.getShort(pos) & 0xFFFF;
+            int len = extra.getShort(pos + 2) & 0xFFFF;
+            if (id == 1 && len >= 16) {
+                // original size followed by compressed size
+                return extra.getLong(pos + 12);
+            }
+            pos += 4 + len;
+        }
+        throw new IOException("Missing zip64 extra field.");
+    }
+
     /**
      * Returns the first occurrence of the specified element from this NDList if it is present.
      *
@@ -457,7 +622,7 @@ public class NDList extends ArrayList<NDArray> implements NDResource, BytesSuppl
         } else if (encoding == Encoding.SAFETENSORS) {
             Map<String, SafeTensor> map = new ConcurrentHashMap<>(size());
             int i = 0;
-            int offset = 0;
+            long offset = 0;
             for (NDArray nd : this) {
                 String name = nd.getName();
                 if (name == null) {
@@ -467,9 +632,8 @@ public class NDList extends ArrayList<NDArray> implements NDResource, BytesSuppl
                 SafeTensor st = new SafeTensor();
                 st.dtype = nd.getDataType().asSafetensors();
                 st.shape = nd.getShape().getShape();
-                long size = nd.getDataType().getNumOfBytes() * nd.size();
-                int limit = offset + Math.toIntExact(size);
-                st.offsets = new int[] {offset, limit};
+                long limit = offset + nd.getDataType().getNumOfBytes() * nd.size();
+                st.offsets = new long[] {offset, limit};
                 map.put(name, st);
                 offset = limit;
             }
@@ -481,17 +645,35 @@ public class NDList extends ArrayList<NDArray> implements NDResource, BytesSuppl
             os.write(buf.array());
             os.write(json);
             for (NDArray nd : this) {
-                os.write(nd.toByteArray());
+                NDSerializer.writeData(nd.toByteBuffer(true), os);
             }
+            os.flush();
             return;
         }
 
-        DataOutputStream dos = new DataOutputStream(os);
-        dos.writeInt(size());
+        ByteBuffer buf = ByteBuffer.allocate(4);
+        buf.putInt(0, size());
+        os.write(buf.array());
         for (NDArray nd : this) {
-            NDSerializer.encode(nd, dos);
+            NDSerializer.encode(nd, os);
+        }
+        os.flush();
+    }
+
+    /**
+     * Writes the encoded NDList to a file.
+     *
+     * <p>The data of the arrays is streamed to the file without building the encoded NDList in
+     * memory.
+     *
+     * @param path the file to be written to
+     * @param encoding encode mode, one of ndlist/npz/safetensor format
+     * @throws IOException if failed on IO operation
+     */
+    public void encode(Path path, Encoding encoding) throws IOException {
+        try (FileOutputStream fos = new FileOutputStream(path.toFile())) {
+            encode(fos, encoding);
         }
-        dos.flush();
     }
 
     /** {@inheritDoc} */
@@ -555,10 +737,10 @@ public class NDList extends ArrayList<NDArray> implements NDResource, BytesSuppl
         long[] shape;
 
         @SerializedName("data_offsets")
-        int[] offsets;
+        long[] offsets;
 
         int size() {
-            return offsets[1] - offsets[0];
+            return Math.toIntExact(offsets[1] - offsets[0]);
         }
     }
 }
@@ -19,11 +19,14 @@ import ai.djl.ndarray.types.Shape;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.regex.Matcher;
@@ -51,72 +54,90 @@ final class NDSerializer {
      * @return byte array
      */
     static byte[] encode(NDArray array) {
-        int total = Math.toIntExact(array.size()) * array.getDataType().getNumOfBytes() + 100;
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream(total)) {
-            encode(array, baos);
-            return baos.toByteArray();
-        } catch (IOException e) {
-            throw new AssertionError("This should never happen", e);
+        ByteBuffer bb = array.getDataType() == DataType.STRING ? null : array.toByteBuffer(true);
+        byte[] header = encodeHeader(array, bb);
+        if (bb == null) {
+            return header;
         }
+        byte[] buf = Arrays.copyOf(header, header.length + bb.remaining());
+        bb.get(buf, header.length, bb.remaining());
+        return buf;
     }
 
     static void encode(NDArray array, OutputStream os) throws IOException {
-        DataOutputStream dos;
-        if (os instanceof DataOutputStream) {
-            dos = (DataOutputStream) os;
-        } else {
-            dos = new DataOutputStream(os);
-        }
-        // magic string for version identification
-        dos.writeUTF(MAGIC_NUMBER);
-        dos.writeInt(VERSION);
-        String name = array.getName();
-        if (name == null) {
-            dos.write(0);
-        } else {
-            dos.write(1);
-            dos.writeUTF(name);
+        ByteBuffer bb = array.getDataType() == DataType.STRING ? null : array.toByteBuffer(true);
+        os.write(encodeHeader(array, bb));
+        if (bb != null) {
+            writeData(bb, os);
         }
-        dos.writeUTF(array.getSparseFormat().name());
-        dos.writeUTF(array.getDataType().name());
-
-        Shape shape = array.getShape();
-        dos.write(shape.getEncoded());
+        os.flush();
+    }
 
-        if (array.getDataType() == DataType.STRING) {
-            String[] data = array.toStringArray();
-            dos.writeInt(data.length);
-            for (String str : data) {
-                dos.writeUTF(str);
+    private static byte[] encodeHeader(NDArray array, ByteBuffer bb) {
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream(128);
+                DataOutputStream dos = new DataOutputStream(baos)) {
+            // magic string for version identification
+            dos.writeUTF(MAGIC_NUMBER);
+            dos.writeInt(VERSION);
+            String name = array.getName();
+            if (name == null) {
+                dos.write(0);
+            } else {
+                dos.write(1);
+                dos.writeUTF(name);
             }
-            dos.flush();
-            return;
-        }
+            dos.writeUTF(array.getSparseFormat().name());
+            dos.writeUTF(array.getDataType().name());
 
-        ByteBuffer bb = array.toByteBuffer();
-        dos.write(bb.order() == ByteOrder.BIG_ENDIAN ? '>' : '<');
-        int length = bb.remaining();
-        dos.writeInt(length);
+            Shape shape = array.getShape();
+            dos.write(shape.getEncoded());
 
-        if (length > 0) {
-            if (bb.hasArray() && bb.remaining() == bb.array().length) {
-                dos.write(bb.array(), bb.position(), length);
-            } else {
-                if (length > BUFFER_SIZE) {
-                    byte[] buf = new byte[BUFFER_SIZE];
-                    while (length > BUFFER_SIZE) {
-                        bb.get(buf);
-                        dos.write(buf);
-                        length = bb.remaining();
-                    }
+            if (bb == null) {
+                String[] data = array.toStringArray();
+                dos.writeInt(data.length);
+                for (String str : data) {
+                    dos.writeUTF(str);
                 }
+            } else {
+                dos.write(bb.order() == ByteOrder.BIG_ENDIAN ? '>' : '<');
+                dos.writeInt(bb.remaining());
+            }
+            dos.flush();
+            return baos.toByteArray();
+        } catch (IOException e) {
+            throw new AssertionError("This should never happen", e);
+        }
+    }
 
-                byte[] buf = new byte[length];
-                bb.get(buf);
-                dos.write(buf);
+    /**
+     * Writes the remaining bytes of a buffer to the {@code OutputStream}.
+     *
+     * <p>A direct buffer is written through the channel of a {@code FileOutputStream}, or in
+     * chunks, the data is never copied into a single byte array.
+     *
+     * @param bb the data to write
+     * @param os the {@code OutputStream} to write to
+     * @throws IOException if failed on IO operation
+     */
+    static void writeData(ByteBuffer bb, OutputStream os) throws IOException {
+        if (bb.hasArray()) {
+            os.write(bb.array(), bb.arrayOffset() + bb.position(), bb.remaining());
+            bb.position(bb.limit());
+            return;
+        }
+        if (os instanceof FileOutputStream) {
+            FileChannel channel = ((FileOutputStream) os).getChannel();
+            while (bb.hasRemaining()) {
+                channel.write(bb);
             }
+            return;
+        }
+        byte[] buf = new byte[Math.min(BUFFER_SIZE, bb.remaining())];
+        while (bb.hasRemaining()) {
+            int len = Math.min(buf.length, bb.remaining());
+            bb.get(buf, 0, len);
+            os.write(buf, 0, len);
         }
-        dos.flush();
     }
 
     static void encodeAsNumpy(NDArray array, OutputStream os) throws IOException {
@@ -134,20 +155,19 @@ final class NDSerializer {
 
         int len = sb.length() + 1;
         int padding = ARRAY_ALIGN - (NUMPY_MAGIC.length + len + 4) % ARRAY_ALIGN;
-        ByteBuffer bb = ByteBuffer.allocate(2);
+        ByteBuffer bb = ByteBuffer.allocate(NUMPY_MAGIC.length + 4 + padding + len);
         bb.order(ByteOrder.LITTLE_ENDIAN);
+        bb.put(NUMPY_MAGIC);
+        bb.put((byte) 1);
+        bb.put((byte) 0); // version 1.0
         bb.putShort((short) (padding + len));
-
-        os.write(NUMPY_MAGIC);
-        os.write(1);
-        os.write(0); // version 1.0
-        os.write(bb.array());
-        os.write(sb.toString().getBytes(StandardCharsets.US_ASCII));
+        bb.put(sb.toString().getBytes(StandardCharsets.US_ASCII));
         for (int i = 0; i < padding; ++i) {
-            os.write(' ');
+            bb.put((byte) ' ');
         }
-        os.write('\n');
-        os.write(array.toByteArray());
+        bb.put((byte) '\n');
+        os.write(bb.array());
+        writeData(array.toByteBuffer(true), os);
     }
 
     static NDArray decode(NDManager manager, ByteBuffer bb) {
@@ -200,7 +220,8 @@ final class NDSerializer {
         data.limit(length);
         data.order(order);
 
-        NDArray array = manager.create(data, shape, dataType);
+        boolean aligned = bb.position() % dataType.getNumOfBytes() == 0;
+        NDArray array = create(manager, data, aligned, shape, dataType);
         array.setName(name);
         bb.position(bb.position() + length);
         return array;
@@ -273,54 +294,118 @@ final class NDSerializer {
             dis = new DataInputStream(is);
         }
 
-        byte[] buf = new byte[NUMPY_MAGIC.length];
+        byte[] buf = new byte[NUMPY_MAGIC.length + 6];
+        dis.readFully(buf, 0, NUMPY_MAGIC.length + 2);
+        int len = readNumpyVersion(buf) == 1 ? 2 : 4;
+        dis.readFully(buf, NUMPY_MAGIC.length + 2, len);
+        buf = new byte[getNumpyHeaderLength(buf)];
         dis.readFully(buf);
-        if (!Arrays.equals(buf, NUMPY_MAGIC)) {
-            throw new IllegalArgumentException("Malformed numpy data");
-        }
-        byte major = dis.readByte();
-        byte minor = dis.readByte();
-        if (major < 1 || major > 3 || minor != 0) {
-            throw new IllegalArgumentException("Unknown numpy version: " + major + '.' + minor);
+        NumpyHeader header = new NumpyHeader(buf);
+        len = header.getDataLength();
+        ByteBuffer data = manager.allocateDirect(len);
+        if (header.order != null) {
+            data.order(header.order);
         }
-        int len = major == 1 ? 2 : 4;
-        dis.readFully(buf, 0, len);
-        ByteBuffer bb = ByteBuffer.wrap(buf, 0, len);
-        bb.order(ByteOrder.LITTLE_ENDIAN);
-        if (major == 1) {
-            len = bb.getShort();
-        } else {
-            len = bb.getInt();
+        readData(dis, data, len);
+
+        return manager.create(data, header.shape, header.dataType);
+    }
+
+    /**
+     * Decodes a numpy array stored in a file with memory mapping.
+     *
+     * @param manager the {@link NDManager} assigned to the {@link NDArray}
+     * @param channel the file that contains the numpy array
+     * @param mode the mode to map the data of the array
+     * @param position the position of the numpy array in the file
+     * @return {@link NDArray}
+     * @throws IOException data is not readable
+     */
+    static NDArray decodeNumpy(
+            NDManager manager, FileChannel channel, FileChannel.MapMode mode, long position)
+            throws IOException {
+        byte[] buf = new byte[NUMPY_MAGIC.length + 6];
+        ByteBuffer bb = ByteBuffer.wrap(buf, 0, NUMPY_MAGIC.length + 2);
+        readFully(channel, bb, position);
+        int len = readNumpyVersion(buf) == 1 ? 2 : 4;
+        readFully(channel, ByteBuffer.wrap(buf, bb.limit(), len), position + bb.limit());
+        long offset = position + bb.limit() + len;
+        buf = new byte[getNumpyHeaderLength(buf)];
+        readFully(channel, ByteBuffer.wrap(buf), offset);
+        offset += buf.length;
+        NumpyHeader header = new NumpyHeader(buf);
+        ByteBuffer data = channel.map(mode, offset, header.getDataLength());
+        data.order(header.order == null ? ByteOrder.nativeOrder() : header.order);
+        boolean aligned = offset % header.dataType.getNumOfBytes() == 0;
+        return create(manager, data, aligned, header.shape, header.dataType);
+    }
+
+    /**
+     * Creates an {@link NDArray} over a buffer that may be a slice of a memory mapped file.
+     *
+     * <p>Engines can keep a reference to a direct buffer instead of copying it. Only a writable and
+     * aligned direct buffer is shared with the engine, other direct buffers are copied once into a
+     * new direct buffer.
+     *
+     * @param manager the {@link NDManager} assigned to the {@link NDArray}
+     * @param data the data of the array
+     * @param aligned whether the data is aligned to the size of the data type
+     * @param shape the shape of the array
+     * @param dataType the data type of the array
+     * @return {@link NDArray}
+     */
+    static NDArray create(
+            NDManager manager, ByteBuffer data, boolean aligned, Shape shape, DataType dataType) {
+        if (data.isDirect() && (data.isReadOnly() || !aligned)) {
+            ByteBuffer copy = manager.allocateDirect(data.remaining());
+            copy.order(data.order());
+            copy.put(data);
+            copy.rewind();
+            data = copy;
         }
-        buf = new byte[len];
-        dis.readFully(buf);
-        String header = new String(buf, StandardCharsets.UTF_8).trim();
-        Matcher m = PATTERN.matcher(header);
-        if (!m.find()) {
-            throw new IllegalArgumentException("Invalid numpy header: " + header);
+        return manager.create(data, shape, dataType);
+    }
+
+    /**
+     * Reads bytes from a file into the remaining of a buffer.
+     *
+     * @param channel the file to read from
+     * @param bb the buffer to fill
+     * @param position the position in the file to read from
+     * @throws IOException if failed to read enough bytes
+     */
+    static void readFully(FileChannel channel, ByteBuffer bb, long position) throws IOException {
+        long pos = position;
+        while (bb.hasRemaining()) {
+            int read = channel.read(bb, pos);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of file at: " + pos);
+            }
+            pos += read;
         }
-        String typeStr = m.group(1);
-        DataType dataType = DataType.fromNumpy(typeStr);
-        String shapeStr = m.group(2);
-        long[] longs;
-        if (shapeStr.isEmpty()) {
-            longs = new long[0];
-        } else {
-            String[] tokens = shapeStr.split(", ?");
-            longs = Arrays.stream(tokens).mapToLong(Long::parseLong).toArray();
+    }
+
+    private static int readNumpyVersion(byte[] buf) {
+        for (int i = 0; i < NUMPY_MAGIC.length; ++i) {
+            if (buf[i] != NUMPY_MAGIC[i]) {
+                throw new IllegalArgumentException("Malformed numpy data");
+            }
         }
-        Shape shape = new Shape(longs);
-        len = Math.toIntExact(shape.size() * dataType.getNumOfBytes());
-        ByteBuffer data = manager.allocateDirect(len);
-        char order = typeStr.charAt(0);
-        if (order == '>') {
-            data.order(ByteOrder.BIG_ENDIAN);
-        } else if (order == '<') {
-            data.order(ByteOrder.LITTLE_ENDIAN);
+        byte major = buf[NUMPY_MAGIC.length];
+        byte minor = buf[NUMPY_MAGIC.length + 1];
+        if (major < 1 || major > 3 || minor != 0) {
+            throw new IllegalArgumentException("Unknown numpy version: " + major + '.' + minor);
         }
-        readData(dis, data, len);
+        return major;
+    }
 
-        return manager.create(data, shape, dataType);
+    private static int getNumpyHeaderLength(byte[] buf) {
+        ByteBuffer bb = ByteBuffer.wrap(buf, NUMPY_MAGIC.length + 2, 4);
+        bb.order(ByteOrder.LITTLE_ENDIAN);
+        if (buf[NUMPY_MAGIC.length] == 1) {
+            return bb.getShort() & 0xFFFF;
+        }
+        return bb.getInt();
     }
 
     private static void readData(DataInputStream dis, ByteBuffer data, int len) throws IOException {
@@ -404,4 +489,40 @@ final class NDSerializer {
         }
         return new String(chars, 0, chararrCount);
     }
+
+    private static final class NumpyHeader {
+
+        DataType dataType;
+        Shape shape;
+        ByteOrder order;
+
+        NumpyHeader(byte[] buf) {
+            String header = new String(buf, StandardCharsets.UTF_8).trim();
+            Matcher m = PATTERN.matcher(header);
+            if (!m.find()) {
+                throw new IllegalArgumentException("Invalid numpy header: " + header);
+            }
+            String typeStr = m.group(1);
+            dataType = DataType.fromNumpy(typeStr);
+            String shapeStr = m.group(2);
+            long[] longs;
+            if (shapeStr.isEmpty()) {
+                longs = new long[0];
+            } else {
+                String[] tokens = shapeStr.split(", ?");
+                longs = Arrays.stream(tokens).mapToLong(Long::parseLong).toArray();
+            }
+            shape = new Shape(longs);
+            char c = typeStr.charAt(0);
+            if (c == '>') {
+                order = ByteOrder.BIG_ENDIAN;
+            } else if (c == '<') {
+                order = ByteOrder.LITTLE_ENDIAN;
+            }
+        }
+
+        int getDataLength() {
+            return Math.toIntExact(shape.size() * dataType.getNumOfBytes());
+        }
+    }
 }
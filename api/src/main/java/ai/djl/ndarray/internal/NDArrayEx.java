@@ -300,6 +300,21 @@ public interface NDArrayEx {
             float momentum,
             boolean lazyUpdate);
 
+    /**
+     * Makes the data and the gradients of the weights views of this flat array and a flat array of
+     * gradients, so that they can be updated together in place.
+     *
+     * <p>The segment of each weight starts where the segment of the previous weight ends. The
+     * weights keep their identity, and the values already in the flat arrays are used.
+     *
+     * @param weights the weights that require gradient
+     * @param grads the flat array of gradients
+     * @throws UnsupportedOperationException if the engine can't share the memory of the weights
+     */
+    default void bindFlatParameters(NDList weights, NDArray grads) {
+        throw new UnsupportedOperationException("Not implemented");
+    }
+
     /*
     // Neural network
     */
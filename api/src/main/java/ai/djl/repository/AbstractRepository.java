@@ -12,6 +12,8 @@
  */
 package ai.djl.repository;
 
+import ai.djl.metric.Metrics;
+import ai.djl.metric.Unit;
 import ai.djl.util.Hex;
 import ai.djl.util.Progress;
 import ai.djl.util.TarUtils;
@@ -27,15 +29,27 @@ import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLDecoder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipInputStream;
 
@@ -43,6 +57,22 @@ import java.util.zip.ZipInputStream;
  * The {@code AbstractRepository} is the shared base for implementers of the {@link Repository}
  * interface.
  *
+ * <p>The items of an artifact are downloaded concurrently. Files served over HTTP are downloaded
+ * with parallel range requests, and an interrupted download resumes from the partial file on the
+ * next attempt. The download can be tuned with the following environment variables or system
+ * properties:
+ *
+ * <ul>
+ *   <li>DJL_DOWNLOAD_THREADS: the max number of items downloaded at the same time, default 4
+ *   <li>DJL_DOWNLOAD_CONNECTIONS: the max number of connections used to download a file, default 4
+ *   <li>DJL_DOWNLOAD_SEGMENT_SIZE: the min number of bytes downloaded by a connection, default 16
+ *       MB
+ * </ul>
+ *
+ * <p>The downloaded items can be shared by the processes on a host with a {@link ContentStore}.
+ * An item without a SHA1 hash is only shared when it is downloaded over HTTP, where the hash is
+ * computed while downloading.
+ *
  * @see Repository
  */
 public abstract class AbstractRepository implements Repository {
@@ -52,6 +82,7 @@ public abstract class AbstractRepository implements Repository {
     protected String name;
     protected URI uri;
     protected Map<String, String> arguments;
+    protected Metrics metrics;
 
     protected AbstractRepository(String name, URI uri) {
         this.name = name;
@@ -71,6 +102,16 @@ public abstract class AbstractRepository implements Repository {
         return uri;
     }
 
+    /**
+     * Attaches a {@link Metrics} to record the download time and throughput of {@link
+     * #prepare(Artifact, Progress)}.
+     *
+     * @param metrics the {@link Metrics} to record to
+     */
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
     /** {@inheritDoc} */
     @Override
     public InputStream openStream(Artifact.Item item, String path) throws IOException {
@@ -136,6 +177,7 @@ public abstract class AbstractRepository implements Repository {
             throw new AssertionError("Parent path should never be null: " + resourceDir);
         }
 
+        long begin = System.nanoTime();
         Files.createDirectories(parentDir);
         Path tmp = Files.createTempDirectory(parentDir, resourceDir.toFile().getName());
         if (progress != null) {
@@ -146,18 +188,36 @@ public abstract class AbstractRepository implements Repository {
             progress.reset("Downloading", totalSize);
         }
 
+        DownloadProgress downloadProgress = new DownloadProgress(progress);
+        ContentStore store = ContentStore.getInstance();
+        int threads = Math.min(getConfig("DJL_DOWNLOAD_THREADS", 4), files.size());
         try {
             logger.debug("Items to download: {}", files.size());
-            for (Artifact.Item item : files.values()) {
-                download(tmp, baseUri, item, progress);
+            if (threads <= 1) {
+                for (Artifact.Item item : files.values()) {
+                    downloadItem(store, tmp, baseUri, item, downloadProgress);
+                }
+            } else {
+                downloadAll(store, tmp, baseUri, files, downloadProgress, threads);
             }
             Utils.moveQuietly(tmp, resourceDir);
+            deleteIfEmpty(parentDir.resolve(".download"));
         } finally {
             Utils.deleteQuietly(tmp);
             if (progress != null) {
                 progress.end();
             }
         }
+
+        if (metrics != null) {
+            long duration = (System.nanoTime() - begin) / 1000;
+            metrics.addMetric("DownloadTime", duration, Unit.MICROSECONDS);
+            long bytes = downloadProgress.bytes.get();
+            if (duration > 0) {
+                metrics.addMetric(
+                        "DownloadThroughput", bytes * 1_000_000 / duration, Unit.BYTES_PER_SECOND);
+            }
+        }
     }
 
     /** {@inheritDoc} */
@@ -187,6 +247,11 @@ public abstract class AbstractRepository implements Repository {
         }
 
         logger.debug("Downloading artifact: {} ...", fileUri);
+        String scheme = fileUri.getScheme();
+        if ("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme)) {
+            downloadHttp(tmp, fileUri, item, progress);
+            return;
+        }
         try (InputStream is = new BufferedInputStream(fileUri.toURL().openStream())) {
             save(is, tmp, item, progress);
         }
@@ -195,6 +260,162 @@ public abstract class AbstractRepository implements Repository {
     protected void save(InputStream is, Path tmp, Artifact.Item item, Progress progress)
             throws IOException {
         ProgressInputStream pis = new ProgressInputStream(is, progress);
+        extract(pis, tmp, item);
+        pis.validateChecksum(item);
+    }
+
+    private void downloadAll(
+            ContentStore store,
+            Path tmp,
+            URI baseUri,
+            Map<String, Artifact.Item> files,
+            Progress progress,
+            int threads)
+            throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>(files.size());
+            for (Artifact.Item item : files.values()) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    downloadItem(store, tmp, baseUri, item, progress);
+                                    return null;
+                                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Download interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException("Failed to download files", cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void downloadItem(
+            ContentStore store, Path tmp, URI baseUri, Artifact.Item item, Progress progress)
+            throws IOException {
+        if (store == null) {
+            download(tmp, baseUri, item, progress);
+            return;
+        }
+        String sha1 = item.getSha1Hash();
+        if (sha1 != null) {
+            String key = ContentStore.getKey(item, sha1);
+            // only one process downloads the item, the others wait and link the same files
+            store.link(key, tmp, dir -> download(dir, baseUri, item, progress));
+            return;
+        }
+        URI fileUri = URI.create(item.getUri());
+        if (!fileUri.isAbsolute()) {
+            fileUri = getBaseUri().resolve(baseUri).resolve(fileUri);
+        }
+        String scheme = fileUri.getScheme();
+        if ("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme)) {
+            // the content is keyed by the SHA1 hash computed while downloading
+            downloadHttp(tmp, fileUri, item, progress, store);
+        } else {
+            // the content hash is unknown, the item is not shared
+            download(tmp, baseUri, item, progress);
+        }
+    }
+
+    /**
+     * Downloads an item from a HTTP URL with parallel range requests.
+     *
+     * <p>The SHA1 hash is verified as the file is downloaded, then the file is extracted into the
+     * temp directory. A partial download is kept next to the temp directory and resumed by the next
+     * attempt. A lock file makes sure only one download at a time uses the resumable partial file,
+     * a concurrent download of the same URL writes to its own file.
+     *
+     * @param tmp the temp directory to save the item to
+     * @param fileUri the HTTP URL of the item
+     * @param item the item to download
+     * @param progress the (optionally null) progress tracker
+     * @throws IOException if failed to download the item
+     */
+    protected void downloadHttp(Path tmp, URI fileUri, Artifact.Item item, Progress progress)
+            throws IOException {
+        downloadHttp(tmp, fileUri, item, progress, null);
+    }
+
+    /**
+     * Downloads an item from a HTTP URL, and extracts it into the {@link ContentStore} entry keyed
+     * by the SHA1 hash of the downloaded file if the store is not {@code null}.
+     *
+     * @param tmp the temp directory to save the item to
+     * @param fileUri the HTTP URL of the item
+     * @param item the item to download
+     * @param progress the (optionally null) progress tracker
+     * @param store the (optionally null) content store
+     * @throws IOException if failed to download the item
+     */
+    void downloadHttp(
+            Path tmp, URI fileUri, Artifact.Item item, Progress progress, ContentStore store)
+            throws IOException {
+        // the partial file must outlive the temp directory to resume the download
+        Path dir = tmp.toAbsolutePath().resolveSibling(".download");
+        Files.createDirectories(dir);
+        String name = Utils.hash(fileUri.toString());
+        int connections = getConfig("DJL_DOWNLOAD_CONNECTIONS", 4);
+        long segmentSize = getConfig("DJL_DOWNLOAD_SEGMENT_SIZE", 16 * 1024 * 1024);
+        Path lockFile = dir.resolve(name + ".lock");
+        try (FileChannel channel =
+                        FileChannel.open(
+                                lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                FileLock lock = tryLock(channel)) {
+            if (lock == null) {
+                // the same file is being downloaded by another thread or process, download to a
+                // unique file that is not resumed
+                name = name + '-' + UUID.randomUUID();
+            }
+            Path file = dir.resolve(name);
+            HttpDownloader downloader =
+                    new HttpDownloader(fileUri.toURL(), file, progress, connections, segmentSize);
+            try {
+                String sha1 = downloader.download();
+                validateChecksum(item, sha1);
+                if (store == null) {
+                    extract(file, tmp, item);
+                } else {
+                    String key = ContentStore.getKey(item, sha1);
+                    store.link(key, tmp, d -> extract(file, d, item));
+                }
+            } finally {
+                Files.deleteIfExists(file);
+                if (lock == null) {
+                    downloader.deletePartialFiles();
+                }
+            }
+        }
+    }
+
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // locked by another thread of this process
+            return null;
+        }
+    }
+
+    private void extract(Path file, Path tmp, Artifact.Item item) throws IOException {
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(file))) {
+            extract(is, tmp, item);
+        }
+    }
+
+    private void extract(InputStream is, Path tmp, Artifact.Item item) throws IOException {
         String fileName = item.getName();
         String extension = item.getExtension();
         if ("dir".equals(item.getType())) {
@@ -207,27 +428,51 @@ public abstract class AbstractRepository implements Repository {
                 dir = tmp;
             }
             if ("zip".equals(extension)) {
-                ZipUtils.unzip(pis, dir);
+                ZipUtils.unzip(is, dir);
             } else if ("tgz".equals(extension)) {
-                TarUtils.untar(pis, dir, true);
+                TarUtils.untar(is, dir, true);
             } else if ("tar".equals(extension)) {
-                TarUtils.untar(pis, dir, false);
+                TarUtils.untar(is, dir, false);
             } else {
                 throw new IOException("File type is not supported: " + extension);
             }
         } else {
             Path file = tmp.resolve(fileName);
             if ("zip".equals(extension)) {
-                ZipInputStream zis = new ZipInputStream(pis);
+                ZipInputStream zis = new ZipInputStream(is);
                 zis.getNextEntry();
                 Files.copy(zis, file, StandardCopyOption.REPLACE_EXISTING);
             } else if ("gzip".equals(extension)) {
-                Files.copy(new GZIPInputStream(pis), file, StandardCopyOption.REPLACE_EXISTING);
+                Files.copy(new GZIPInputStream(is), file, StandardCopyOption.REPLACE_EXISTING);
             } else {
-                Files.copy(pis, file, StandardCopyOption.REPLACE_EXISTING);
+                Files.copy(is, file, StandardCopyOption.REPLACE_EXISTING);
             }
         }
-        pis.validateChecksum(item);
+    }
+
+    private static void validateChecksum(Artifact.Item item, String sha1) throws IOException {
+        String expectedHash = item.getSha1Hash();
+        if (expectedHash != null && !sha1.equalsIgnoreCase(expectedHash)) {
+            throw new IOException(
+                    "Checksum error: "
+                            + item.getName()
+                            + ", expected sha1: "
+                            + expectedHash
+                            + ", actual sha1: "
+                            + sha1);
+        }
+    }
+
+    private static void deleteIfEmpty(Path dir) {
+        try {
+            Files.deleteIfExists(dir);
+        } catch (IOException ignore) {
+            // still in use by another download
+        }
+    }
+
+    private static int getConfig(String key, int def) {
+        return Integer.parseInt(Utils.getEnvOrSystemProperty(key, String.valueOf(def)));
     }
 
     private static Map<String, String> parseQueryString(URI uri) {
@@ -302,23 +547,14 @@ public abstract class AbstractRepository implements Repository {
         }
 
         private void validateChecksum(Artifact.Item item) throws IOException {
-            String expectedHash = item.getSha1Hash();
-            if (expectedHash == null) {
+            if (item.getSha1Hash() == null) {
                 return;
             }
 
             // drain InputSteam to get correct sha1 hash
             Utils.toByteArray(dis);
             String sha1 = Hex.toHexString(dis.getMessageDigest().digest());
-            if (!sha1.equalsIgnoreCase(item.getSha1Hash())) {
-                throw new IOException(
-                        "Checksum error: "
-                                + item.getName()
-                                + ", expected sha1: "
-                                + item.getSha1Hash()
-                                + ", actual sha1: "
-                                + sha1);
-            }
+            AbstractRepository.validateChecksum(item, sha1);
         }
 
         /** {@inheritDoc} */
@@ -327,4 +563,62 @@ public abstract class AbstractRepository implements Repository {
             dis.close();
         }
     }
+
+    /**
+     * A thread-safe {@link Progress} shared by the concurrent downloads of an artifact, it also
+     * counts the downloaded bytes.
+     */
+    private static final class DownloadProgress implements Progress {
+
+        private Progress progress;
+        AtomicLong bytes = new AtomicLong();
+
+        DownloadProgress(Progress progress) {
+            this.progress = progress;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized void reset(String message, long max, String trailingMessage) {
+            if (progress != null) {
+                progress.reset(message, max, trailingMessage);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized void start(long initialProgress) {
+            if (progress != null) {
+                progress.start(initialProgress);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void end() {
+            // ended by prepare() once all items are downloaded
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void increment(long increment) {
+            if (increment <= 0) {
+                return;
+            }
+            bytes.addAndGet(increment);
+            if (progress != null) {
+                synchronized (this) {
+                    progress.increment(increment);
+                }
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized void update(long progress, String message) {
+            if (this.progress != null) {
+                this.progress.update(progress, message);
+            }
+        }
+    }
 }
@@ -0,0 +1,400 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.repository;
+
+import ai.djl.util.Utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * {@code ContentStore} is a content-addressed cache of downloaded artifact items that is shared by
+ * all the processes on a host.
+ *
+ * <p>Each entry is a directory keyed by the SHA1 hash of the downloaded archive.
+ * The files of an entry are hard linked into the resource directory of each artifact that uses
+ * them, so artifacts with different URIs but the same content share the disk space. The files are
+ * copied if the file system doesn't support hard links. The linked files must be treated as read
+ * only.
+ *
+ * <p>An entry is created by only one process at a time: the loader runs while holding a file lock
+ * on the key, other processes and threads wait for the lock and then reuse the entry. When the
+ * total size of the store exceeds the max size, the least recently used entries are evicted. An
+ * evicted entry doesn't affect the artifacts that were already linked to it.
+ *
+ * <p>The store is used by {@link AbstractRepository} when enabled with the following environment
+ * variables or system properties:
+ *
+ * <ul>
+ *   <li>DJL_CONTENT_STORE: set to {@code true} to share the downloaded items, default false
+ *   <li>DJL_CONTENT_STORE_MAX_SIZE: the max size of the store in bytes, default 0 (unlimited)
+ * </ul>
+ */
+public final class ContentStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContentStore.class);
+
+    private static final Map<Path, ReentrantLock> LOCKS = new ConcurrentHashMap<>();
+
+    private Path objects;
+    private Path locks;
+    private Path temp;
+    private long maxSize;
+
+    /**
+     * Constructs a new {@code ContentStore} instance.
+     *
+     * @param root the root directory of the store
+     * @param maxSize the max size of the store in bytes, 0 for unlimited
+     */
+    public ContentStore(Path root, long maxSize) {
+        this.maxSize = maxSize;
+        objects = root.resolve("objects");
+        locks = root.resolve("locks");
+        temp = root.resolve("tmp");
+    }
+
+    /**
+     * Returns the store configured by the environment variables, or {@code null} if it is not
+     * enabled.
+     *
+     * @return the store configured by the environment variables
+     */
+    public static ContentStore getInstance() {
+        if (!Boolean.parseBoolean(Utils.getEnvOrSystemProperty("DJL_CONTENT_STORE"))) {
+            return null;
+        }
+        String maxSize = Utils.getEnvOrSystemProperty("DJL_CONTENT_STORE_MAX_SIZE", "0");
+        Path root = Utils.getCacheDir().resolve("cache/store");
+        return new ContentStore(root, Long.parseLong(maxSize));
+    }
+
+    /**
+     * Returns the key of an artifact item.
+     *
+     * <p>The key is derived from the SHA1 hash of the content, either declared by the item or
+     * computed while downloading. The type, extension and name are included since they change the
+     * extracted files.
+     *
+     * @param item the artifact item
+     * @param sha1 the SHA1 hash of the content of the item in hex
+     * @return the key of the item
+     */
+    public static String getKey(Artifact.Item item, String sha1) {
+        return Utils.hash(
+                "sha1:"
+                        + sha1.toLowerCase(Locale.ROOT)
+                        + '|'
+                        + item.getType()
+                        + '|'
+                        + item.getExtension()
+                        + '|'
+                        + item.getName());
+    }
+
+    /**
+     * Returns if the store contains the entry.
+     *
+     * @param key the key of the entry
+     * @return {@code true} if the store contains the entry
+     */
+    public boolean contains(String key) {
+        return Files.isDirectory(objects.resolve(key));
+    }
+
+    /**
+     * Links the files of an entry into the target directory, the entry is loaded first if it is not
+     * in the store.
+     *
+     * @param key the key of the entry
+     * @param target the directory to link the files to
+     * @param loader the loader that writes the files of the entry into an empty directory
+     * @throws IOException if failed to load or link the entry
+     */
+    public void link(String key, Path target, Loader loader) throws IOException {
+        Path entry = objects.resolve(key);
+        boolean loaded = false;
+        KeyLock lock = lock(key);
+        try {
+            if (Files.isDirectory(entry)) {
+                logger.debug("Reusing cached content: {}", key);
+            } else {
+                load(entry, loader);
+                loaded = true;
+            }
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            linkTree(entry, target);
+        } finally {
+            lock.close();
+        }
+        if (loaded && maxSize > 0) {
+            evict(maxSize, key);
+        }
+    }
+
+    /**
+     * Returns the total size of the entries in bytes.
+     *
+     * @return the total size of the entries in bytes
+     * @throws IOException if failed to read the store
+     */
+    public long getSize() throws IOException {
+        long size = 0;
+        for (Path entry : listEntries()) {
+            size += getSize(entry);
+        }
+        return size;
+    }
+
+    /**
+     * Evicts the least recently used entries until the total size is no more than the given size.
+     *
+     * <p>The entries that are being loaded or linked are skipped.
+     *
+     * @param size the max total size in bytes
+     * @throws IOException if failed to read the store
+     */
+    public void evict(long size) throws IOException {
+        evict(size, null);
+    }
+
+    private void evict(long size, String keep) throws IOException {
+        List<Path> entries = listEntries();
+        Map<Path, Long> sizes = new HashMap<>();
+        Map<Path, Long> times = new HashMap<>();
+        long total = 0;
+        for (Path entry : entries) {
+            try {
+                long entrySize = getSize(entry);
+                times.put(entry, Files.getLastModifiedTime(entry).toMillis());
+                sizes.put(entry, entrySize);
+                total += entrySize;
+            } catch (IOException e) {
+                // evicted by another process
+                logger.trace("Cached content is removed: {}", entry, e);
+            }
+        }
+        List<Path> candidates = new ArrayList<>(sizes.keySet());
+        candidates.sort(Comparator.comparing(times::get));
+        for (Path entry : candidates) {
+            if (total <= size) {
+                break;
+            }
+            String key = entry.toFile().getName();
+            if (key.equals(keep)) {
+                continue;
+            }
+            try (KeyLock lock = tryLock(key)) {
+                if (lock == null) {
+                    continue;
+                }
+                Path trash = temp.resolve("evict-" + UUID.randomUUID());
+                Files.createDirectories(temp);
+                Files.move(entry, trash, StandardCopyOption.ATOMIC_MOVE);
+                Utils.deleteQuietly(trash);
+                total -= sizes.get(entry);
+                logger.debug("Evicted cached content: {}", key);
+            } catch (IOException e) {
+                logger.debug("Failed to evict cached content: {}", key, e);
+            }
+        }
+    }
+
+    private void load(Path entry, Loader loader) throws IOException {
+        Files.createDirectories(temp);
+        Files.createDirectories(objects);
+        Path dir = Files.createTempDirectory(temp, entry.toFile().getName());
+        try {
+            loader.load(dir);
+            Files.move(dir, entry, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Utils.deleteQuietly(dir);
+        }
+    }
+
+    private List<Path> listEntries() throws IOException {
+        if (!Files.isDirectory(objects)) {
+            return new ArrayList<>();
+        }
+        List<Path> list = new ArrayList<>();
+        try (Stream<Path> stream = Files.list(objects)) {
+            stream.filter(Files::isDirectory).forEach(list::add);
+        }
+        return list;
+    }
+
+    private KeyLock lock(String key) throws IOException {
+        ReentrantLock lock = LOCKS.computeIfAbsent(getLockFile(key), k -> new ReentrantLock());
+        lock.lock();
+        FileChannel channel = null;
+        try {
+            channel = openLockFile(key);
+            return new KeyLock(lock, channel, channel.lock());
+        } catch (IOException | RuntimeException e) {
+            if (channel != null) {
+                channel.close();
+            }
+            lock.unlock();
+            throw e;
+        }
+    }
+
+    private KeyLock tryLock(String key) throws IOException {
+        ReentrantLock lock = LOCKS.computeIfAbsent(getLockFile(key), k -> new ReentrantLock());
+        if (!lock.tryLock()) {
+            return null;
+        }
+        FileChannel channel = null;
+        try {
+            channel = openLockFile(key);
+            FileLock fileLock = channel.tryLock();
+            if (fileLock != null) {
+                return new KeyLock(lock, channel, fileLock);
+            }
+        } catch (OverlappingFileLockException e) {
+            logger.trace("Lock is held by this process: {}", key);
+        } catch (IOException | RuntimeException e) {
+            if (channel != null) {
+                channel.close();
+            }
+            lock.unlock();
+            throw e;
+        }
+        if (channel != null) {
+            channel.close();
+        }
+        lock.unlock();
+        return null;
+    }
+
+    private FileChannel openLockFile(String key) throws IOException {
+        Files.createDirectories(locks);
+        return FileChannel.open(
+                getLockFile(key), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    }
+
+    private Path getLockFile(String key) {
+        return locks.resolve(key + ".lock").toAbsolutePath();
+    }
+
+    private static long getSize(Path dir) throws IOException {
+        long[] size = {0};
+        Files.walkFileTree(
+                dir,
+                new SimpleFileVisitor<Path>() {
+
+                    /** {@inheritDoc} */
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                        size[0] += attrs.size();
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+        return size[0];
+    }
+
+    private static void linkTree(Path source, Path target) throws IOException {
+        boolean[] linkSupported = {true};
+        Files.walkFileTree(
+                source,
+                new SimpleFileVisitor<Path>() {
+
+                    /** {@inheritDoc} */
+                    @Override
+                    public FileVisitResult preVisitDirectory(
+                            Path dir, BasicFileAttributes attrs) throws IOException {
+                        Files.createDirectories(target.resolve(source.relativize(dir).toString()));
+                        return FileVisitResult.CONTINUE;
+                    }
+
+                    /** {@inheritDoc} */
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
+                            throws IOException {
+                        Path dest = target.resolve(source.relativize(file).toString());
+                        if (linkSupported[0]) {
+                            try {
+                                Files.createLink(dest, file);
+                                return FileVisitResult.CONTINUE;
+                            } catch (IOException | UnsupportedOperationException e) {
+                                logger.debug("Hard link is not supported, copy files instead.");
+                                linkSupported[0] = false;
+                            }
+                        }
+                        Files.copy(file, dest, StandardCopyOption.REPLACE_EXISTING);
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+    }
+
+    /** A {@code Loader} writes the files of an entry. */
+    @FunctionalInterface
+    public interface Loader {
+
+        /**
+         * Writes the files of an entry into the directory.
+         *
+         * @param dir the empty directory to write to
+         * @throws IOException if failed to load the entry
+         */
+        void load(Path dir) throws IOException;
+    }
+
+    /** Holds both the in-process lock and the file lock of a key. */
+    private static final class KeyLock implements AutoCloseable {
+
+        private ReentrantLock lock;
+        private FileChannel channel;
+        private FileLock fileLock;
+
+        KeyLock(ReentrantLock lock, FileChannel channel, FileLock fileLock) {
+            this.lock = lock;
+            this.channel = channel;
+            this.fileLock = fileLock;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() throws IOException {
+            try {
+                fileLock.release();
+                channel.close();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
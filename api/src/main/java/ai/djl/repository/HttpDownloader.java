@@ -0,0 +1,446 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.repository;
+
+import ai.djl.util.Hex;
+import ai.djl.util.Progress;
+import ai.djl.util.Utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@code HttpDownloader} downloads a file over HTTP with range requests.
+ *
+ * <p>A large file is split into segments that are downloaded in parallel into a {@code .part}
+ * file. The progress of each segment is saved in a {@code .part.state} file, an interrupted
+ * download resumes from the partial file as long as the server returns the same {@code ETag} or
+ * {@code Last-Modified}. The SHA1 hash is computed while the data arrives: the calling thread
+ * follows the contiguous prefix that has been written, which is still in the page cache.
+ *
+ * <p>Servers that do not support range requests are downloaded with a single stream from the
+ * beginning. An empty file, for which the first range is not satisfiable, is downloaded without a
+ * range.
+ */
+final class HttpDownloader {
+
+    private static final Logger logger = LoggerFactory.getLogger(HttpDownloader.class);
+
+    private static final Pattern CONTENT_RANGE = Pattern.compile("bytes \\d+-\\d+/(\\d+)");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_RETRY = 3;
+    private static final long SAVE_STATE_INTERVAL = 1000;
+    private static final int READ_TIMEOUT = 60_000;
+    private static final int RANGE_NOT_SATISFIABLE = 416;
+
+    private URL url;
+    private Path file;
+    private Path partFile;
+    private Path stateFile;
+    private Progress progress;
+    private int connections;
+    private long minSegmentSize;
+
+    private final Object lock = new Object();
+    private String validator;
+    private long length;
+    private List<Segment> segments;
+    private IOException error;
+
+    /**
+     * Constructs a new {@code HttpDownloader} instance.
+     *
+     * @param url the url to download
+     * @param file the file to save to
+     * @param progress the (optionally null) progress tracker, it must be thread-safe
+     * @param connections the max number of parallel connections
+     * @param minSegmentSize the min size of a segment
+     */
+    HttpDownloader(
+            URL url, Path file, Progress progress, int connections, long minSegmentSize) {
+        this.url = url;
+        this.file = file;
+        this.progress = progress;
+        this.connections = Math.max(connections, 1);
+        this.minSegmentSize = Math.max(minSegmentSize, 1);
+        String fileName = file.toFile().getName();
+        partFile = file.resolveSibling(fileName + ".part");
+        stateFile = file.resolveSibling(fileName + ".part.state");
+    }
+
+    /**
+     * Downloads the file.
+     *
+     * @return the SHA1 hash of the file in hex
+     * @throws IOException if failed to download the file
+     */
+    String download() throws IOException {
+        HttpURLConnection probe = open(0, 0);
+        try {
+            int code = probe.getResponseCode();
+            if (code == HttpURLConnection.HTTP_PARTIAL) {
+                String range = probe.getHeaderField("Content-Range");
+                Matcher m = CONTENT_RANGE.matcher(String.valueOf(range));
+                if (m.matches()) {
+                    length = Long.parseLong(m.group(1));
+                    validator = getValidator(probe);
+                    probe.getInputStream().close();
+                    return downloadSegments();
+                }
+            } else if (code == RANGE_NOT_SATISFIABLE) {
+                // the probe range is not satisfiable for an empty file
+                return downloadWithoutRange();
+            } else if (code != HttpURLConnection.HTTP_OK) {
+                throw new IOException("Failed to download " + url + ", status: " + code);
+            }
+            // the server doesn't support range requests
+            Files.deleteIfExists(stateFile);
+            try (InputStream is = probe.getInputStream()) {
+                return downloadStream(is);
+            }
+        } finally {
+            probe.disconnect();
+        }
+    }
+
+    private String downloadWithoutRange() throws IOException {
+        Files.deleteIfExists(stateFile);
+        HttpURLConnection conn = open();
+        try {
+            int code = conn.getResponseCode();
+            if (code != HttpURLConnection.HTTP_OK) {
+                throw new IOException("Failed to download " + url + ", status: " + code);
+            }
+            try (InputStream is = conn.getInputStream()) {
+                return downloadStream(is);
+            }
+        } finally {
+            conn.disconnect();
+        }
+    }
+
+    private String downloadStream(InputStream is) throws IOException {
+        MessageDigest md = newDigest();
+        try (FileChannel channel = openPartFile(true)) {
+            byte[] buf = new byte[BUFFER_SIZE];
+            long position = 0;
+            int read;
+            while ((read = is.read(buf)) != -1) {
+                md.update(buf, 0, read);
+                writeFully(channel, buf, read, position);
+                position += read;
+                if (progress != null) {
+                    progress.increment(read);
+                }
+            }
+        }
+        Files.move(partFile, file, StandardCopyOption.REPLACE_EXISTING);
+        return Hex.toHexString(md.digest());
+    }
+
+    private String downloadSegments() throws IOException {
+        boolean resumed = loadState();
+        if (!resumed) {
+            segments = new ArrayList<>();
+            int count = (int) Math.max(Math.min(connections, length / minSegmentSize), 1);
+            long size = (length + count - 1) / count;
+            for (long start = 0; start < length; start += size) {
+                segments.add(new Segment(start, Math.min(start + size, length)));
+            }
+        }
+        logger.debug("Downloading {} with {} segments, resumed: {}", url, segments.size(), resumed);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(segments.size(), 1));
+        String sha1;
+        try (FileChannel channel = openPartFile(!resumed)) {
+            for (Segment segment : segments) {
+                if (progress != null) {
+                    progress.increment(segment.written);
+                }
+                executor.execute(() -> downloadSegment(channel, segment));
+            }
+            try {
+                sha1 = hash(channel);
+            } finally {
+                // the written counts are only advanced after the data is written
+                executor.shutdownNow();
+                saveState();
+            }
+        }
+        Files.move(partFile, file, StandardCopyOption.REPLACE_EXISTING);
+        Files.deleteIfExists(stateFile);
+        return sha1;
+    }
+
+    /**
+     * Deletes the partial file and the state file of an incomplete download.
+     *
+     * @throws IOException if failed to delete the files
+     */
+    void deletePartialFiles() throws IOException {
+        Files.deleteIfExists(partFile);
+        Files.deleteIfExists(stateFile);
+    }
+
+    private void downloadSegment(FileChannel channel, Segment segment) {
+        try {
+            downloadRange(channel, segment);
+        } catch (IOException e) {
+            fail(e);
+        } catch (RuntimeException e) {
+            fail(new IOException(e));
+        }
+    }
+
+    private void downloadRange(FileChannel channel, Segment segment) throws IOException {
+        byte[] buf = new byte[BUFFER_SIZE];
+        int retry = 0;
+        while (!segment.isDone() && !Thread.currentThread().isInterrupted()) {
+            long position = segment.start + segment.written;
+            HttpURLConnection conn = open(position, segment.end - 1);
+            try {
+                int code = conn.getResponseCode();
+                if (code != HttpURLConnection.HTTP_PARTIAL) {
+                    // the file has changed since the download started
+                    throw new IOException("Unexpected status " + code + " for range request");
+                }
+                try (InputStream is = conn.getInputStream()) {
+                    int read;
+                    while (!segment.isDone() && (read = is.read(buf)) != -1) {
+                        read = (int) Math.min(read, segment.end - position);
+                        writeFully(channel, buf, read, position);
+                        position += read;
+                        synchronized (lock) {
+                            segment.written += read;
+                            lock.notifyAll();
+                        }
+                        if (progress != null) {
+                            progress.increment(read);
+                        }
+                    }
+                }
+                if (!segment.isDone()) {
+                    throw new IOException("Connection closed before the end of the range");
+                }
+            } catch (IOException e) {
+                if (++retry > MAX_RETRY || Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                logger.debug("Retry segment {} of {} from {}", segment.start, url, position, e);
+            } finally {
+                conn.disconnect();
+            }
+        }
+    }
+
+    private String hash(FileChannel channel) throws IOException {
+        MessageDigest md = newDigest();
+        ByteBuffer bb = ByteBuffer.allocate(BUFFER_SIZE);
+        long hashed = 0;
+        long lastSave = System.currentTimeMillis();
+        for (Segment segment : segments) {
+            while (hashed < segment.end) {
+                long available;
+                synchronized (lock) {
+                    available = segment.start + segment.written;
+                    while (hashed >= available) {
+                        if (error != null) {
+                            throw error;
+                        }
+                        try {
+                            lock.wait(SAVE_STATE_INTERVAL);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IOException("Download interrupted", e);
+                        }
+                        available = segment.start + segment.written;
+                    }
+                }
+                bb.clear();
+                bb.limit((int) Math.min(BUFFER_SIZE, available - hashed));
+                int read = channel.read(bb, hashed);
+                if (read <= 0) {
+                    throw new IOException("Failed to read " + partFile);
+                }
+                bb.flip();
+                md.update(bb);
+                hashed += read;
+
+                long now = System.currentTimeMillis();
+                if (now - lastSave > SAVE_STATE_INTERVAL) {
+                    saveState();
+                    lastSave = now;
+                }
+            }
+        }
+        return Hex.toHexString(md.digest());
+    }
+
+    private void fail(IOException e) {
+        synchronized (lock) {
+            if (error == null) {
+                error = e;
+            }
+            lock.notifyAll();
+        }
+    }
+
+    private HttpURLConnection open() throws IOException {
+        URLConnection conn = url.openConnection();
+        if (!(conn instanceof HttpURLConnection)) {
+            throw new IOException("Not a HTTP url: " + url);
+        }
+        HttpURLConnection http = (HttpURLConnection) conn;
+        // a stalled connection is retried
+        http.setReadTimeout(READ_TIMEOUT);
+        return http;
+    }
+
+    private HttpURLConnection open(long start, long end) throws IOException {
+        HttpURLConnection http = open();
+        http.setRequestProperty("Range", "bytes=" + start + '-' + end);
+        if (validator != null) {
+            // returns the whole file instead of the range if the file has changed
+            http.setRequestProperty("If-Range", validator);
+        }
+        return http;
+    }
+
+    private FileChannel openPartFile(boolean truncate) throws IOException {
+        if (truncate) {
+            return FileChannel.open(
+                    partFile,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        }
+        return FileChannel.open(
+                partFile,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Loads the progress of a previous download.
+     *
+     * <p>The state file contains the validator, the length of the file and one line per segment:
+     * {@code start end written}.
+     */
+    private boolean loadState() throws IOException {
+        if (validator == null || Files.notExists(stateFile) || Files.notExists(partFile)) {
+            return false;
+        }
+        List<String> lines = Utils.readLines(Files.newInputStream(stateFile));
+        if (lines.size() < 3
+                || !validator.equals(lines.get(0))
+                || length != Long.parseLong(lines.get(1))) {
+            return false;
+        }
+        List<Segment> list = new ArrayList<>();
+        for (String line : lines.subList(2, lines.size())) {
+            String[] tokens = line.split(" ");
+            Segment segment = new Segment(Long.parseLong(tokens[0]), Long.parseLong(tokens[1]));
+            segment.written = Long.parseLong(tokens[2]);
+            list.add(segment);
+        }
+        segments = list;
+        return true;
+    }
+
+    private void saveState() throws IOException {
+        if (validator == null) {
+            // cannot verify the partial file is still valid
+            return;
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append(validator).append('\n').append(length).append('\n');
+        synchronized (lock) {
+            for (Segment segment : segments) {
+                sb.append(segment.start)
+                        .append(' ')
+                        .append(segment.end)
+                        .append(' ')
+                        .append(segment.written)
+                        .append('\n');
+            }
+        }
+        Path tmp = Paths.get(stateFile + ".tmp");
+        Files.write(tmp, sb.toString().getBytes(StandardCharsets.UTF_8));
+        Files.move(tmp, stateFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static String getValidator(URLConnection conn) {
+        String etag = conn.getHeaderField("ETag");
+        if (etag != null && !etag.startsWith("W/")) {
+            return etag;
+        }
+        return conn.getHeaderField("Last-Modified");
+    }
+
+    private static void writeFully(FileChannel channel, byte[] buf, int len, long position)
+            throws IOException {
+        ByteBuffer bb = ByteBuffer.wrap(buf, 0, len);
+        long pos = position;
+        while (bb.hasRemaining()) {
+            pos += channel.write(bb, pos);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("SHA1 algorithm not found.", e);
+        }
+    }
+
+    private static final class Segment {
+
+        long start;
+        long end;
+        long written;
+
+        Segment(long start, long end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        boolean isDone() {
+            return start + written >= end;
+        }
+    }
+}
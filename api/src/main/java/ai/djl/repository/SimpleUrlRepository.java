@@ -102,6 +102,11 @@ public class SimpleUrlRepository extends AbstractRepository {
     protected void download(Path tmp, URI baseUri, Artifact.Item item, Progress progress)
             throws IOException {
         logger.debug("Downloading artifact: {} ...", uri);
+        String scheme = uri.getScheme();
+        if ("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme)) {
+            downloadHttp(tmp, uri, item, progress);
+            return;
+        }
         try (InputStream is = new BufferedInputStream(uri.toURL().openStream())) {
             save(is, tmp, item, progress);
         }
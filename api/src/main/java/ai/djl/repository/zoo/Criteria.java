@@ -15,11 +15,22 @@ package ai.djl.repository.zoo;
 import ai.djl.Application;
 import ai.djl.Device;
 import ai.djl.MalformedModelException;
+import ai.djl.inference.Predictor;
+import ai.djl.metric.Metrics;
+import ai.djl.metric.Unit;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.types.Shape;
 import ai.djl.nn.Block;
 import ai.djl.translate.DefaultTranslatorFactory;
+import ai.djl.translate.NoopTranslator;
+import ai.djl.translate.TranslateException;
 import ai.djl.translate.Translator;
 import ai.djl.translate.TranslatorFactory;
 import ai.djl.util.JsonUtils;
+import ai.djl.util.Pair;
+import ai.djl.util.PairList;
 import ai.djl.util.Progress;
 
 import com.google.gson.Gson;
@@ -76,6 +87,10 @@ public class Criteria<I, O> {
     private Block block;
     private String modelName;
     private Progress progress;
+    private List<I> warmupInputs;
+    private PairList<DataType, Shape[]> warmupShapes;
+    private int warmupIterations;
+    private Metrics warmupMetrics;
     private List<ModelLoader> resolvedLoaders;
 
     Criteria(Builder<I, O> builder) {
@@ -94,6 +109,10 @@ public class Criteria<I, O> {
         this.block = builder.block;
         this.modelName = builder.modelName;
         this.progress = builder.progress;
+        this.warmupInputs = builder.warmupInputs;
+        this.warmupShapes = builder.warmupShapes;
+        this.warmupIterations = builder.warmupIterations;
+        this.warmupMetrics = builder.warmupMetrics;
     }
 
     /**
@@ -147,8 +166,9 @@ public class Criteria<I, O> {
         Logger logger = LoggerFactory.getLogger(ModelZoo.class);
         Exception lastException = null;
         for (ModelLoader loader : resolvedLoaders) {
+            ZooModel<I, O> model;
             try {
-                return loader.loadModel(this);
+                model = loader.loadModel(this);
             } catch (ModelNotFoundException e) {
                 lastException = e;
                 logger.trace("", e);
@@ -157,7 +177,15 @@ public class Criteria<I, O> {
                         e.getMessage(),
                         loader.getGroupId(),
                         loader.getArtifactId());
+                continue;
             }
+            try {
+                warmup(model);
+            } catch (TranslateException | RuntimeException e) {
+                model.close();
+                throw new MalformedModelException("Failed to warm up the model", e);
+            }
+            return model;
         }
         throw new ModelNotFoundException(
                 "No model with the specified URI or the matching Input/Output type is found.",
@@ -299,6 +327,42 @@ public class Criteria<I, O> {
         return progress;
     }
 
+    /**
+     * Returns the recorded inputs to warm up the model.
+     *
+     * @return the recorded inputs to warm up the model
+     */
+    public List<I> getWarmupInputs() {
+        return warmupInputs;
+    }
+
+    /**
+     * Returns the data type and the shapes of the sample inputs to warm up the model.
+     *
+     * @return the data type and the shapes of the sample inputs to warm up the model
+     */
+    public PairList<DataType, Shape[]> getWarmupShapes() {
+        return warmupShapes;
+    }
+
+    /**
+     * Returns the number of warm-up iterations.
+     *
+     * @return the number of warm-up iterations
+     */
+    public int getWarmupIterations() {
+        return warmupIterations;
+    }
+
+    /**
+     * Returns the optional {@link Metrics} that records the warm-up latency.
+     *
+     * @return the optional {@link Metrics} that records the warm-up latency
+     */
+    public Metrics getWarmupMetrics() {
+        return warmupMetrics;
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString() {
@@ -334,6 +398,9 @@ public class Criteria<I, O> {
         if (factory == null) {
             sb.append("\tNo translator supplied\n");
         }
+        if (isWarmupEnabled()) {
+            sb.append("\tWarm-up iterations: ").append(warmupIterations).append('\n');
+        }
         return sb.toString();
     }
 
@@ -357,7 +424,11 @@ public class Criteria<I, O> {
                 .optTranslatorFactory(factory)
                 .optBlock(block)
                 .optModelName(modelName)
-                .optProgress(progress);
+                .optProgress(progress)
+                .optWarmupInputs(warmupInputs)
+                .optWarmupShapes(warmupShapes)
+                .optWarmupIterations(warmupIterations)
+                .optWarmupMetrics(warmupMetrics);
     }
 
     /**
@@ -372,6 +443,71 @@ public class Criteria<I, O> {
         return new Builder<>();
     }
 
+    private boolean isWarmupEnabled() {
+        return warmupIterations > 0
+                && ((warmupInputs != null && !warmupInputs.isEmpty())
+                        || (warmupShapes != null && !warmupShapes.isEmpty()));
+    }
+
+    /**
+     * Runs the warm-up inputs through a {@link Predictor}, so the engine's profiling, graph
+     * optimization and kernel tuning happen before the model serves real requests.
+     *
+     * <p>The latency of each iteration is recorded as {@code WarmupLatency}, the predictor also
+     * records its own metrics into the same {@link Metrics}.
+     */
+    private void warmup(ZooModel<I, O> model) throws TranslateException {
+        if (!isWarmupEnabled()) {
+            return;
+        }
+        Logger logger = LoggerFactory.getLogger(ModelZoo.class);
+        Metrics metrics = warmupMetrics == null ? new Metrics() : warmupMetrics;
+        long first = 0;
+        long last = 0;
+        boolean hasInputs = warmupInputs != null && !warmupInputs.isEmpty();
+        boolean hasShapes = warmupShapes != null && !warmupShapes.isEmpty();
+        try (Predictor<I, O> predictor = hasInputs ? model.newPredictor() : null;
+                Predictor<NDList, NDList> noop =
+                        hasShapes ? model.newPredictor(new NoopTranslator()) : null) {
+            if (predictor != null) {
+                predictor.setMetrics(metrics);
+            }
+            if (noop != null) {
+                noop.setMetrics(metrics);
+            }
+            for (int i = 0; i < warmupIterations; ++i) {
+                long begin = System.nanoTime();
+                if (predictor != null) {
+                    for (I input : warmupInputs) {
+                        predictor.predict(input);
+                    }
+                }
+                if (noop != null) {
+                    for (Pair<DataType, Shape[]> pair : warmupShapes) {
+                        try (NDManager manager = model.getNDManager().newSubManager()) {
+                            NDList list = new NDList();
+                            for (Shape shape : pair.getValue()) {
+                                list.add(manager.ones(shape, pair.getKey()));
+                            }
+                            noop.predict(list).attach(manager);
+                        }
+                    }
+                }
+                last = (System.nanoTime() - begin) / 1000;
+                if (i == 0) {
+                    first = last;
+                }
+                metrics.addMetric("WarmupLatency", last, Unit.MICROSECONDS);
+                logger.debug("Warm-up iteration {}: {} us", i, last);
+            }
+        }
+        logger.info(
+                "Model warmed up with {} iterations, first: {} us, last: {} us",
+                warmupIterations,
+                first,
+                last);
+    }
+
     private List<ModelLoader> resolveModelLoaders() throws ModelNotFoundException {
         if (inputClass == null || outputClass == null) {
             throw new IllegalArgumentException("inputClass and outputClass are required.");
@@ -467,6 +603,10 @@ public class Criteria<I, O> {
         String modelName;
         Progress progress;
         Translator<I, O> translator;
+        List<I> warmupInputs;
+        PairList<DataType, Shape[]> warmupShapes;
+        int warmupIterations = 1;
+        Metrics warmupMetrics;
 
         Builder() {
             application = Application.UNDEFINED;
@@ -490,6 +630,10 @@ public class Criteria<I, O> {
             modelName = parent.modelName;
             progress = parent.progress;
             translator = (Translator<I, O>) parent.translator;
+            warmupInputs = (List<I>) parent.warmupInputs;
+            warmupShapes = parent.warmupShapes;
+            warmupIterations = parent.warmupIterations;
+            warmupMetrics = parent.warmupMetrics;
         }
 
         /**
@@ -742,6 +886,77 @@ public class Criteria<I, O> {
             return this;
         }
 
+        /**
+         * Sets the recorded inputs to warm up the model with.
+         *
+         * <p>The inputs are run through a {@link Predictor} of the model before {@link
+         * Criteria#loadModel()} returns.
+         *
+         * @param inputs the recorded inputs
+         * @return this {@code Builder}
+         */
+        public Builder<I, O> optWarmupInputs(List<I> inputs) {
+            this.warmupInputs = inputs;
+            return this;
+        }
+
+        /**
+         * Adds a sample input to warm up the model with, the sample is made of arrays of ones with
+         * the given shapes, one array for each input of the model.
+         *
+         * <p>The sample is run through the model with a {@link NoopTranslator}, call this method
+         * multiple times to warm up the model for different shapes.
+         *
+         * @param dataType the data type of the arrays
+         * @param shapes the shapes of the arrays, including the batch dimension
+         * @return this {@code Builder}
+         */
+        public Builder<I, O> optWarmupShapes(DataType dataType, Shape... shapes) {
+            PairList<DataType, Shape[]> list = new PairList<>();
+            if (warmupShapes != null) {
+                list.addAll(warmupShapes);
+            }
+            list.add(dataType, shapes);
+            warmupShapes = list;
+            return this;
+        }
+
+        /**
+         * Sets the data type and the shapes of the sample inputs to warm up the model with.
+         *
+         * @param shapes the data type and the shapes of the sample inputs
+         * @return this {@code Builder}
+         */
+        public Builder<I, O> optWarmupShapes(PairList<DataType, Shape[]> shapes) {
+            this.warmupShapes = shapes;
+            return this;
+        }
+
+        /**
+         * Sets the number of times the warm-up inputs are run (default is 1).
+         *
+         * @param iterations the number of warm-up iterations
+         * @return this {@code Builder}
+         */
+        public Builder<I, O> optWarmupIterations(int iterations) {
+            this.warmupIterations = iterations;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Metrics} to record the latency of each warm-up iteration.
+         *
+         * <p>The latency is recorded as {@code WarmupLatency} in microseconds, it can be used to
+         * tell if the model has reached a steady state.
+         *
+         * @param metrics the {@link Metrics} to record to
+         * @return this {@code Builder}
+         */
+        public Builder<I, O> optWarmupMetrics(Metrics metrics) {
+            this.warmupMetrics = metrics;
+            return this;
+        }
+
         /**
          * Builds a {@link Criteria} instance.
          *
@@ -15,6 +15,7 @@ package ai.djl.repository.zoo;
 import ai.djl.Device;
 import ai.djl.Model;
 import ai.djl.inference.Predictor;
+import ai.djl.inference.PredictorPool;
 import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.DataType;
 import ai.djl.ndarray.types.Shape;
@@ -149,6 +150,16 @@ public class ZooModel<I, O> implements Model {
         return model.newPredictor(translator, device);
     }
 
+    /**
+     * Creates a new {@link PredictorPool} based on the model with the default translator.
+     *
+     * @param maxSize the max number of predictors in the pool
+     * @return an instance of {@code PredictorPool}
+     */
+    public PredictorPool<I, O> newPredictorPool(int maxSize) {
+        return newPredictorPool(translator, maxSize);
+    }
+
     /** {@inheritDoc} */
     @Override
     public <P, Q> Predictor<P, Q> newPredictor(Translator<P, Q> translator, Device device) {
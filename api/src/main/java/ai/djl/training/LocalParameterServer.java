@@ -16,6 +16,10 @@ import ai.djl.Device;
 import ai.djl.ndarray.NDArray;
 import ai.djl.training.optimizer.Optimizer;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /** {@code LocalParameterServer} is an implementation of the {@code ParameterServer} interface. */
 public class LocalParameterServer implements ParameterServer {
 
@@ -38,12 +42,7 @@ public class LocalParameterServer implements ParameterServer {
     @Override
     public void update(String parameterId, NDArray[] grads, NDArray[] params) {
         Device firstDevice = params[0].getDevice();
-        // reduce gradient from all devices to first device
-        for (int i = 1; i < grads.length; i++) {
-            try (NDArray gradCopy = grads[i].toDevice(firstDevice, true)) {
-                grads[0].addi(gradCopy);
-            }
-        }
+        reduce(grads, firstDevice);
         // update weights on different devices with reduced gradient
         // use duplicate because after the first optimizer.update
         // PyTorch optimizer will zero grads[0]
@@ -61,7 +60,70 @@ public class LocalParameterServer implements ParameterServer {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void updateAll(List<String> parameterIds, List<NDArray[]> params) {
+        if (optimizer.isForeach()) {
+            // the optimizer reduces the gradients of the replicas, which are kept in flat arrays
+            List<String> ids = new ArrayList<>();
+            List<NDArray> weights = new ArrayList<>();
+            for (int i = 0; i < parameterIds.size(); ++i) {
+                for (NDArray param : params.get(i)) {
+                    ids.add(parameterIds.get(i));
+                    weights.add(param);
+                }
+            }
+            optimizer.updateAll(ids, weights);
+            return;
+        }
+        if (optimizer.getClipGradNorm() <= 0) {
+            ParameterServer.super.updateAll(parameterIds, params);
+            return;
+        }
+        List<String> ids = new ArrayList<>();
+        List<NDArray> weights = new ArrayList<>();
+        List<NDArray> aggregatedGrads = new ArrayList<>();
+        List<NDArray[]> allGrads = new ArrayList<>(params.size());
+        List<NDArray> copies = new ArrayList<>();
+        try {
+            for (int i = 0; i < parameterIds.size(); ++i) {
+                String parameterId = parameterIds.get(i);
+                NDArray[] array = params.get(i);
+                NDArray[] grads =
+                        Arrays.stream(array).map(NDArray::getGradient).toArray(NDArray[]::new);
+                allGrads.add(grads);
+                Device firstDevice = array[0].getDevice();
+                reduce(grads, firstDevice);
+                NDArray aggregatedGrad = grads[0].duplicate();
+                copies.add(aggregatedGrad);
+                for (NDArray param : array) {
+                    NDArray grad = aggregatedGrad;
+                    if (!param.getDevice().equals(firstDevice)) {
+                        grad = aggregatedGrad.toDevice(param.getDevice(), true);
+                        copies.add(grad);
+                    }
+                    ids.add(parameterId);
+                    weights.add(param);
+                    aggregatedGrads.add(grad);
+                }
+            }
+            optimizer.updateAll(ids, weights, aggregatedGrads);
+        } finally {
+            copies.forEach(NDArray::close);
+            allGrads.forEach(grads -> Arrays.stream(grads).forEach(NDArray::close));
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void close() {}
+
+    private static void reduce(NDArray[] grads, Device firstDevice) {
+        // reduce gradient from all devices to first device
+        for (int i = 1; i < grads.length; i++) {
+            try (NDArray gradCopy = grads[i].toDevice(firstDevice, true)) {
+                grads[0].addi(gradCopy);
+            }
+        }
+    }
 }
@@ -16,6 +16,7 @@ package ai.djl.training;
 import ai.djl.ndarray.NDArray;
 
 import java.util.Arrays;
+import java.util.List;
 
 /** An interface for a key-value store to store parameters, and their corresponding gradients. */
 public interface ParameterServer extends AutoCloseable {
@@ -49,6 +50,18 @@ public interface ParameterServer extends AutoCloseable {
      */
     void update(String parameterId, NDArray[] grads, NDArray[] params);
 
+    /**
+     * Updates the parameters of a list of keys from Parameter Server.
+     *
+     * @param parameterIds the keys to identify the parameters
+     * @param params the parameter NDArrays in different devices to be updated for each key
+     */
+    default void updateAll(List<String> parameterIds, List<NDArray[]> params) {
+        for (int i = 0; i < parameterIds.size(); ++i) {
+            update(parameterIds.get(i), params.get(i));
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     void close();
@@ -77,14 +77,16 @@ public class ParameterStore {
 
     /** Updates all the mirrored parameters. */
     public void updateAllParameters() {
+        List<String> parameterIds = new ArrayList<>(parameterMap.size());
+        List<NDArray[]> params = new ArrayList<>(parameterMap.size());
         for (Map.Entry<String, ParameterData> entry : parameterMap.entrySet()) {
-            String parameterId = entry.getKey();
             ParameterData data = entry.getValue();
             if (data.requireGradient()) {
-                NDArray[] params = data.toArray();
-                parameterServer.update(parameterId, params);
+                parameterIds.add(entry.getKey());
+                params.add(data.toArray());
             }
         }
+        parameterServer.updateAll(parameterIds, params);
     }
 
     /**
@@ -50,6 +50,7 @@ public class Batch implements AutoCloseable {
     private long progress;
     private long progressTotal;
     private List<?> indices;
+    private long waitTime;
 
     /**
      * Creates a new instance of {@code Batch} with the given manager, data and labels.
@@ -182,6 +183,24 @@ public class Batch implements AutoCloseable {
         return progressTotal;
     }
 
+    /**
+     * Returns the time in nanoseconds the consumer was blocked waiting for this batch to load.
+     *
+     * @return the time in nanoseconds the consumer was blocked waiting for this batch to load
+     */
+    public long getWaitTime() {
+        return waitTime;
+    }
+
+    /**
+     * Sets the time in nanoseconds the consumer was blocked waiting for this batch to load.
+     *
+     * @param waitTime the time in nanoseconds the consumer was blocked waiting for this batch
+     */
+    public void setWaitTime(long waitTime) {
+        this.waitTime = waitTime;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void close() {
@@ -22,6 +22,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -31,12 +32,19 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * DataIterable is a data loader that combines {@link Dataset}, {@link Batchifier}, {@link
  * Pipeline}, and {@link Sampler} to provide an iterable over the given {@link RandomAccessDataset}.
  *
+ * <p>When an {@link ExecutorService} is provided, up to {@code preFetchNumber} batches are loaded
+ * ahead of the consumer in order, a new batch is only scheduled when one is consumed. Each batch
+ * can be further split into {@code recordParallelism} chunks of records that are loaded by
+ * different threads. The time the consumer is blocked waiting for a batch is available from {@link
+ * Batch#getWaitTime()}.
+ *
  * <p>We don't recommended using DataIterable directly. Instead use {@link RandomAccessDataset}
  * combined with {@link ai.djl.training.Trainer} to iterate over the {@link RandomAccessDataset}}
  */
@@ -58,6 +66,7 @@ public class DataIterable implements Iterable<Batch>, Iterator<Batch> {
     private Queue<Future<Batch>> queue;
     private AtomicInteger progressCounter;
     private boolean autoClose;
+    private int recordParallelism;
 
     /**
      * Creates a new instance of {@code DataIterable} with the given parameters.
@@ -84,6 +93,48 @@ public class DataIterable implements Iterable<Batch>, Iterator<Batch> {
             ExecutorService executor,
             int preFetchNumber,
             Device device) {
+        this(
+                dataset,
+                manager,
+                sampler,
+                dataBatchifier,
+                labelBatchifier,
+                pipeline,
+                targetPipeline,
+                executor,
+                preFetchNumber,
+                device,
+                1);
+    }
+
+    /**
+     * Creates a new instance of {@code DataIterable} with the given parameters.
+     *
+     * @param dataset the dataset to iterate on
+     * @param manager the manager to create the arrays
+     * @param sampler a sampler to sample data with
+     * @param dataBatchifier a batchifier for data
+     * @param labelBatchifier a batchifier for labels
+     * @param pipeline the pipeline of transforms to apply on the data
+     * @param targetPipeline the pipeline of transforms to apply on the labels
+     * @param executor an {@link ExecutorService}
+     * @param preFetchNumber the number of samples to prefetch
+     * @param device the {@link Device}
+     * @param recordParallelism the number of threads that load the records of one batch, only
+     *     used with an {@code executor}
+     */
+    public DataIterable(
+            RandomAccessDataset dataset,
+            NDManager manager,
+            Sampler sampler,
+            Batchifier dataBatchifier,
+            Batchifier labelBatchifier,
+            Pipeline pipeline,
+            Pipeline targetPipeline,
+            ExecutorService executor,
+            int preFetchNumber,
+            Device device,
+            int recordParallelism) {
         this.dataset = dataset;
         this.manager = manager.newSubManager();
         this.manager.setName("dataIter");
@@ -93,6 +144,7 @@ public class DataIterable implements Iterable<Batch>, Iterator<Batch> {
         this.targetPipeline = targetPipeline;
         this.executor = executor;
         this.device = device;
+        this.recordParallelism = recordParallelism;
         progressCounter = new AtomicInteger(0);
         String close = System.getProperty("ai.djl.dataiterator.autoclose", "true");
         autoClose = Boolean.parseBoolean(close);
@@ -139,10 +191,13 @@ public class DataIterable implements Iterable<Batch>, Iterator<Batch> {
     public Batch next() {
         if (executor == null) {
             // single thread data loading with blocking fetch
+            long begin = System.nanoTime();
             List<Long> indices = sample.next();
             try {
                 int progress = progressCounter.addAndGet(indices.size());
-                return fetch(indices, progress);
+                Batch batch = fetch(indices, progress);
+                batch.setWaitTime(System.nanoTime() - begin);
+                return batch;
             } catch (IOException e) {
                 logger.error(e.getMessage());
                 throw new IllegalStateException("Data loading failed", e);
@@ -152,7 +207,10 @@ public class DataIterable implements Iterable<Batch>, Iterator<Batch> {
             preFetch();
             Future<Batch> future = queue.poll();
             try {
-                return future.get();
+                long begin = System.nanoTime();
+                Batch batch = future.get();
+                batch.setWaitTime(System.nanoTime() - begin);
+                return batch;
             } catch (InterruptedException | ExecutionException e) {
                 logger.error(e.getMessage());
                 throw new IllegalStateException("Data loading failed", e);
@@ -164,23 +222,26 @@ public class DataIterable implements Iterable<Batch>, Iterator<Batch> {
         NDManager subManager = manager.newSubManager();
         subManager.setName("dataIter fetch");
         int batchSize = indices.size();
-        NDList[] data = new NDList[batchSize];
-        NDList[] labels = new NDList[batchSize];
-        for (int i = 0; i < batchSize; i++) {
-            Record record = dataset.get(subManager, indices.get(i));
-            data[i] = record.getData();
-            // apply transform
-            if (pipeline != null) {
-                data[i] = pipeline.transform(data[i]);
+        NDList batchData;
+        NDList batchLabels;
+        Record batch = pipeline == null ? dataset.getBatch(subManager, indices) : null;
+        if (batch != null) {
+            batchData = batch.getData();
+            batchLabels = batch.getLabels();
+        } else {
+            NDList[] data = new NDList[batchSize];
+            NDList[] labels = new NDList[batchSize];
+            if (executor != null && recordParallelism > 1 && batchSize > 1) {
+                fetchParallel(subManager, indices, data, labels);
+            } else {
+                fetchRecords(subManager, indices, data, labels, 0, batchSize);
             }
+            batchData = dataBatchifier.batchify(data);
+            batchLabels = labelBatchifier.batchify(labels);
 
-            labels[i] = record.getLabels();
+            Arrays.stream(data).forEach(NDList::close);
+            Arrays.stream(labels).forEach(NDList::close);
         }
-        NDList batchData = dataBatchifier.batchify(data);
-        NDList batchLabels = labelBatchifier.batchify(labels);
-
-        Arrays.stream(data).forEach(NDList::close);
-        Arrays.stream(labels).forEach(NDList::close);
 
         // apply label transform
         if (targetPipeline != null) {
@@ -203,6 +264,65 @@ public class DataIterable implements Iterable<Batch>, Iterator<Batch> {
                 indices);
     }
 
+    private void fetchParallel(
+            NDManager subManager, List<Long> indices, NDList[] data, NDList[] labels)
+            throws IOException {
+        int batchSize = indices.size();
+        int chunks = Math.min(recordParallelism, batchSize);
+        int chunkSize = (batchSize + chunks - 1) / chunks;
+        List<FutureTask<Void>> tasks = new ArrayList<>(chunks - 1);
+        for (int from = chunkSize; from < batchSize; from += chunkSize) {
+            int start = from;
+            int end = Math.min(batchSize, from + chunkSize);
+            FutureTask<Void> task =
+                    new FutureTask<>(
+                            () -> {
+                                fetchRecords(subManager, indices, data, labels, start, end);
+                                return null;
+                            });
+            executor.execute(task);
+            tasks.add(task);
+        }
+        fetchRecords(subManager, indices, data, labels, 0, chunkSize);
+        for (FutureTask<Void> task : tasks) {
+            // runs the chunk on this thread if no worker has picked it up yet, this avoids
+            // waiting on a busy executor that is also running the prefetch tasks
+            task.run();
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while loading records", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                throw new IOException("Failed to load records", cause);
+            }
+        }
+    }
+
+    private void fetchRecords(
+            NDManager subManager,
+            List<Long> indices,
+            NDList[] data,
+            NDList[] labels,
+            int from,
+            int to)
+            throws IOException {
+        for (int i = from; i < to; i++) {
+            Record record = dataset.get(subManager, indices.get(i));
+            data[i] = record.getData();
+            // apply transform
+            if (pipeline != null) {
+                data[i] = pipeline.transform(data[i]);
+            }
+
+            labels[i] = record.getLabels();
+        }
+    }
+
     private void preFetch() {
         if (!sample.hasNext()) {
             return;
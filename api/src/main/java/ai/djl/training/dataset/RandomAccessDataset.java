@@ -53,6 +53,7 @@ public abstract class RandomAccessDataset implements Dataset {
     protected Pipeline pipeline;
     protected Pipeline targetPipeline;
     protected int prefetchNumber;
+    protected int recordParallelism;
     protected long limit;
     protected Device device;
 
@@ -71,6 +72,7 @@ public abstract class RandomAccessDataset implements Dataset {
         this.pipeline = builder.pipeline;
         this.targetPipeline = builder.targetPipeline;
         this.prefetchNumber = builder.prefetchNumber;
+        this.recordParallelism = builder.recordParallelism;
         this.limit = builder.limit;
         this.device = builder.device;
     }
@@ -85,6 +87,25 @@ public abstract class RandomAccessDataset implements Dataset {
      */
     public abstract Record get(NDManager manager, long index) throws IOException;
 
+    /**
+     * Gets the batch of the given indices at once, with the data and the labels already
+     * batchified.
+     *
+     * <p>The default implementation returns {@code null}, and the records are read one at a time
+     * with {@link #get(NDManager, long)} and batchified. A dataset can override it when it gathers
+     * a whole batch faster than one record at a time. It is not used when the dataset has a data
+     * {@link Pipeline}.
+     *
+     * @param manager the manager used to create the arrays
+     * @param indices the indices of the requested data items
+     * @return a {@link Record} that contains the batchified data and labels, or {@code null} to
+     *     read the records one at a time
+     * @throws IOException if an I/O error occurs
+     */
+    protected Record getBatch(NDManager manager, List<Long> indices) throws IOException {
+        return null;
+    }
+
     /** {@inheritDoc} */
     @Override
     public Iterable<Batch> getData(NDManager manager) throws IOException, TranslateException {
@@ -137,7 +158,8 @@ public abstract class RandomAccessDataset implements Dataset {
                 targetPipeline,
                 executorService,
                 prefetchNumber,
-                device);
+                device,
+                recordParallelism);
     }
 
     /**
@@ -342,6 +364,7 @@ public abstract class RandomAccessDataset implements Dataset {
         protected Pipeline pipeline;
         protected Pipeline targetPipeline;
         protected int prefetchNumber = 2;
+        protected int recordParallelism = 1;
         protected long limit = Long.MAX_VALUE;
         protected Device device;
 
@@ -481,6 +504,21 @@ public abstract class RandomAccessDataset implements Dataset {
             return self();
         }
 
+        /**
+         * Sets the number of threads that load the records of one batch.
+         *
+         * <p>The records are loaded with the {@link ExecutorService} passed to {@link
+         * #getData(NDManager, ExecutorService)}, this has no effect if the data is loaded without
+         * an {@code ExecutorService}.
+         *
+         * @param recordParallelism the number of threads that load the records of one batch
+         * @return this {@code BaseBuilder}
+         */
+        public T optRecordParallelism(int recordParallelism) {
+            this.recordParallelism = recordParallelism;
+            return self();
+        }
+
         /**
          * Sets the {@link Device}.
          *
@@ -532,6 +570,7 @@ public abstract class RandomAccessDataset implements Dataset {
             this.pipeline = dataset.pipeline;
             this.targetPipeline = dataset.targetPipeline;
             this.prefetchNumber = dataset.prefetchNumber;
+            this.recordParallelism = dataset.recordParallelism;
             this.device = dataset.device;
 
             limit = Long.MAX_VALUE;
@@ -546,6 +585,17 @@ public abstract class RandomAccessDataset implements Dataset {
             return dataset.get(manager, indices[Math.toIntExact(index) + from]);
         }
 
+        /** {@inheritDoc} */
+        @Override
+        protected Record getBatch(NDManager manager, List<Long> batchIndices)
+                throws IOException {
+            List<Long> list = new ArrayList<>(batchIndices.size());
+            for (long index : batchIndices) {
+                list.add((long) indices[Math.toIntExact(index) + from]);
+            }
+            return dataset.getBatch(manager, list);
+        }
+
         /** {@inheritDoc} */
         @Override
         protected long availableSize() {
@@ -571,6 +621,7 @@ public abstract class RandomAccessDataset implements Dataset {
             this.pipeline = dataset.pipeline;
             this.targetPipeline = dataset.targetPipeline;
             this.prefetchNumber = dataset.prefetchNumber;
+            this.recordParallelism = dataset.recordParallelism;
             this.device = dataset.device;
 
             limit = Long.MAX_VALUE;
@@ -582,6 +633,16 @@ public abstract class RandomAccessDataset implements Dataset {
             return dataset.get(manager, subIndices.get(Math.toIntExact(index)));
         }
 
+        /** {@inheritDoc} */
+        @Override
+        protected Record getBatch(NDManager manager, List<Long> indices) throws IOException {
+            List<Long> list = new ArrayList<>(indices.size());
+            for (long index : indices) {
+                list.add(subIndices.get(Math.toIntExact(index)));
+            }
+            return dataset.getBatch(manager, list);
+        }
+
         /** {@inheritDoc} */
         @Override
         protected long availableSize() {
@@ -24,6 +24,7 @@ import ai.djl.training.dataset.RandomAccessDataset;
 import ai.djl.training.hyperparameter.optimizer.HpORandom;
 import ai.djl.training.hyperparameter.optimizer.HpOptimizer;
 import ai.djl.training.hyperparameter.param.HpSet;
+import ai.djl.training.hyperparameter.scheduler.TrialScheduler;
 import ai.djl.translate.TranslateException;
 import ai.djl.util.Pair;
 
@@ -31,8 +32,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
-/** Helper for easy training with hyperparameters. */
+/**
+ * Helper for easy training with hyperparameters.
+ *
+ * <p>The hyperparameter trials run one at a time by default. Override {@link #numParallelTrials()}
+ * to run them concurrently on a bounded thread pool, the datasets are prepared once and shared by
+ * all the trials. Override {@link #setupTrialScheduler()} to stop the unpromising trials early
+ * based on the validation loss after each epoch, and {@link #setupHpOptimizer(HpSet)} to choose
+ * how the hyperparameters are searched.
+ */
 public abstract class EasyHpo {
 
     private static final Logger logger = LoggerFactory.getLogger(EasyHpo.class);
@@ -51,22 +66,59 @@ public abstract class EasyHpo {
         RandomAccessDataset validateSet = getDataset(Dataset.Usage.TEST);
 
         HpSet hyperParams = setupHyperParams();
-        HpOptimizer hpOptimizer = new HpORandom(hyperParams);
+        HpOptimizer hpOptimizer = setupHpOptimizer(hyperParams);
+        TrialScheduler scheduler = setupTrialScheduler();
 
         final int hyperparameterTests = numHyperParameterTests();
+        int parallel = Math.min(numParallelTrials(), hyperparameterTests);
 
-        for (int i = 0; i < hyperparameterTests; i++) {
-            HpSet hpVals = hpOptimizer.nextConfig();
-            Pair<Model, TrainingResult> trained = train(hpVals, trainingSet, validateSet);
-            trained.getKey().close();
-            float loss = trained.getValue().getValidateLoss();
-            hpOptimizer.update(hpVals, loss);
-            logger.info(
-                    "--------- hp test {}/{} - Loss {} - {}", i, hyperparameterTests, loss, hpVals);
+        if (parallel <= 1) {
+            for (int i = 0; i < hyperparameterTests; i++) {
+                runTrial(i, hpOptimizer, scheduler, trainingSet, validateSet);
+            }
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(parallel);
+            try {
+                List<Future<?>> futures = new ArrayList<>(hyperparameterTests);
+                for (int i = 0; i < hyperparameterTests; i++) {
+                    int trial = i;
+                    futures.add(
+                            executor.submit(
+                                    () -> {
+                                        runTrial(
+                                                trial,
+                                                hpOptimizer,
+                                                scheduler,
+                                                trainingSet,
+                                                validateSet);
+                                        return null;
+                                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Hyperparameter search is interrupted", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                } else if (cause instanceof TranslateException) {
+                    throw (TranslateException) cause;
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new TranslateException(cause);
+            } finally {
+                executor.shutdownNow();
+            }
         }
 
         HpSet bestHpVals = hpOptimizer.getBest().getKey();
-        Pair<Model, TrainingResult> trained = train(bestHpVals, trainingSet, validateSet);
+        Pair<Model, TrainingResult> trained = train(bestHpVals, trainingSet, validateSet, -1, null);
         TrainingResult result = trained.getValue();
 
         Model model = trained.getKey();
@@ -74,8 +126,40 @@ public abstract class EasyHpo {
         return trained;
     }
 
+    private void runTrial(
+            int trial,
+            HpOptimizer hpOptimizer,
+            TrialScheduler scheduler,
+            RandomAccessDataset trainingSet,
+            RandomAccessDataset validateSet)
+            throws IOException, TranslateException {
+        HpSet hpVals;
+        synchronized (hpOptimizer) {
+            hpVals = hpOptimizer.nextConfig();
+        }
+        Pair<Model, TrainingResult> trained =
+                train(hpVals, trainingSet, validateSet, trial, scheduler);
+        trained.getKey().close();
+        TrainingResult result = trained.getValue();
+        float loss = result.getValidateLoss();
+        synchronized (hpOptimizer) {
+            hpOptimizer.update(hpVals, loss);
+        }
+        logger.info(
+                "--------- hp test {}/{} - Epoch {} - Loss {} - {}",
+                trial,
+                numHyperParameterTests(),
+                result.getEpoch(),
+                loss,
+                hpVals);
+    }
+
     private Pair<Model, TrainingResult> train(
-            HpSet hpVals, RandomAccessDataset trainingSet, RandomAccessDataset validateSet)
+            HpSet hpVals,
+            RandomAccessDataset trainingSet,
+            RandomAccessDataset validateSet,
+            int trial,
+            TrialScheduler scheduler)
             throws IOException, TranslateException {
 
         // Construct neural network
@@ -90,13 +174,66 @@ public abstract class EasyHpo {
             // initialize trainer with proper input shape
             trainer.initialize(inputShape(hpVals));
 
-            EasyTrain.fit(trainer, numEpochs(hpVals), trainingSet, validateSet);
+            int numEpochs = numEpochs(hpVals);
+            if (scheduler == null) {
+                EasyTrain.fit(trainer, numEpochs, trainingSet, validateSet);
+            } else {
+                for (int epoch = 1; epoch <= numEpochs; ++epoch) {
+                    EasyTrain.fit(trainer, 1, trainingSet, validateSet);
+                    Float loss = trainer.getTrainingResult().getValidateLoss();
+                    if (epoch < numEpochs
+                            && loss != null
+                            && scheduler.shouldStop(trial, epoch, loss)) {
+                        logger.info("hp test {} is stopped at epoch {}", trial, epoch);
+                        break;
+                    }
+                }
+            }
 
             TrainingResult result = trainer.getTrainingResult();
             return new Pair<>(model, result);
+        } catch (IOException | TranslateException | RuntimeException e) {
+            model.close();
+            throw e;
         }
     }
 
+    /**
+     * Returns the {@link HpOptimizer} to search the hyperparameters with.
+     *
+     * <p>The default is {@link HpORandom}, {@link
+     * ai.djl.training.hyperparameter.optimizer.HpOTpe} is usually more sample efficient.
+     *
+     * @param hyperParams the hyperparameters to search
+     * @return the {@link HpOptimizer} to search the hyperparameters with
+     */
+    protected HpOptimizer setupHpOptimizer(HpSet hyperParams) {
+        return new HpORandom(hyperParams);
+    }
+
+    /**
+     * Returns the {@link TrialScheduler} to stop the trials early, or {@code null} to train every
+     * trial for all the epochs.
+     *
+     * @return the {@link TrialScheduler} to stop the trials early
+     * @see ai.djl.training.hyperparameter.scheduler.AshaScheduler
+     */
+    protected TrialScheduler setupTrialScheduler() {
+        return null;
+    }
+
+    /**
+     * Returns the max number of trials to run concurrently.
+     *
+     * <p>The trials share the datasets and the engine, make sure that the dataset can be iterated
+     * by multiple threads and that the devices have enough memory for the concurrent trials.
+     *
+     * @return the max number of trials to run concurrently
+     */
+    protected int numParallelTrials() {
+        return 1;
+    }
+
     /**
      * Returns the initial hyperparameters.
      *
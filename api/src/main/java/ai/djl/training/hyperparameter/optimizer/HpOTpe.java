@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.training.hyperparameter.optimizer;
+
+import ai.djl.training.hyperparameter.param.HpSet;
+import ai.djl.training.hyperparameter.param.Hyperparameter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A Tree-structured Parzen Estimator (TPE) {@link HpOptimizer}.
+ *
+ * <p>After the startup trials, which are random, the tested hyperparameters are split into a good
+ * group with the lowest {@code gamma} fraction of the losses and a bad group with the rest. Each
+ * group is modeled with a Parzen estimator per hyperparameter: a Gaussian kernel density for
+ * numbers (in log space if the values span multiple orders of magnitude) and smoothed frequencies
+ * for other values. The next hyperparameters are the candidate, drawn from the hyperparameter
+ * ranges, that maximizes {@code l(x) / g(x)}, where {@code l} and {@code g} are the densities of
+ * the good and bad group.
+ *
+ * <p>See <a
+ * href="https://papers.nips.cc/paper/4443-algorithms-for-hyper-parameter-optimization">Algorithms
+ * for Hyper-Parameter Optimization</a>.
+ */
+public class HpOTpe extends BaseHpOptimizer {
+
+    private int numStartupTrials;
+    private int numCandidates;
+    private float gamma;
+
+    /**
+     * Constructs a new {@link HpOTpe} with 10 startup trials, 24 candidates and gamma of 0.25.
+     *
+     * @param hyperParams the hyperparameters to test with
+     */
+    public HpOTpe(HpSet hyperParams) {
+        this(hyperParams, 10, 24, 0.25f);
+    }
+
+    /**
+     * Constructs a new {@link HpOTpe}.
+     *
+     * @param hyperParams the hyperparameters to test with
+     * @param numStartupTrials the number of random trials before using the estimators
+     * @param numCandidates the number of candidates to draw for each trial
+     * @param gamma the fraction of the trials in the good group
+     */
+    public HpOTpe(HpSet hyperParams, int numStartupTrials, int numCandidates, float gamma) {
+        super(hyperParams);
+        if (gamma <= 0 || gamma >= 1) {
+            throw new IllegalArgumentException("gamma must be between 0 and 1: " + gamma);
+        }
+        this.numStartupTrials = numStartupTrials;
+        this.numCandidates = Math.max(1, numCandidates);
+        this.gamma = gamma;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public HpSet nextConfig() {
+        List<Map.Entry<HpSet, Float>> sorted = new ArrayList<>();
+        for (Map.Entry<HpSet, Float> entry : results.entrySet()) {
+            if (!Float.isNaN(entry.getValue())) {
+                sorted.add(entry);
+            }
+        }
+        if (sorted.size() < Math.max(numStartupTrials, 2)) {
+            return hyperParams.random();
+        }
+        sorted.sort(Map.Entry.comparingByValue());
+        int numGood = Math.max(1, (int) Math.ceil(gamma * sorted.size()));
+        if (numGood >= sorted.size()) {
+            return hyperParams.random();
+        }
+        List<HpSet> all = new ArrayList<>(sorted.size());
+        for (Map.Entry<HpSet, Float> entry : sorted) {
+            all.add(entry.getKey());
+        }
+        List<HpSet> good = all.subList(0, numGood);
+        List<HpSet> bad = all.subList(numGood, all.size());
+
+        HpSet best = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < numCandidates; ++i) {
+            HpSet candidate = hyperParams.random();
+            double score = 0;
+            for (Map.Entry<String, Hyperparameter<?>> entry : candidate.getHParams().entrySet()) {
+                String name = entry.getKey();
+                Object value = entry.getValue().random();
+                score += logDensity(name, value, good, all) - logDensity(name, value, bad, all);
+            }
+            if (best == null || score > bestScore) {
+                best = candidate;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    private static double logDensity(
+            String name, Object value, List<HpSet> group, List<HpSet> all) {
+        List<Object> observed = values(name, all);
+        if (value instanceof Number) {
+            double[] points = toDoubles(observed);
+            if (points.length == observed.size()) {
+                double x = ((Number) value).doubleValue();
+                return numberLogDensity(x, values(name, group), points);
+            }
+        }
+        int count = 0;
+        for (Object v : values(name, group)) {
+            if (Objects.equals(v, value)) {
+                ++count;
+            }
+        }
+        Set<Object> distinct = new HashSet<>(observed);
+        distinct.add(value);
+        return Math.log((count + 1.0) / (group.size() + distinct.size()));
+    }
+
+    private static double numberLogDensity(double x, List<Object> group, double[] observed) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (double v : observed) {
+            min = Math.min(min, v);
+            max = Math.max(max, v);
+        }
+        boolean log = min > 0 && x > 0 && max / min >= 100;
+        double[] points = observed.clone();
+        double[] samples = toDoubles(group);
+        if (log) {
+            x = Math.log(x);
+            for (int i = 0; i < points.length; ++i) {
+                points[i] = Math.log(points[i]);
+            }
+            for (int i = 0; i < samples.length; ++i) {
+                samples[i] = Math.log(samples[i]);
+            }
+            min = Math.log(min);
+            max = Math.log(max);
+        }
+        double range = max - min;
+        if (range <= 0) {
+            range = Math.max(Math.abs(max), 1);
+        }
+        double mean = 0;
+        for (double v : points) {
+            mean += v;
+        }
+        mean /= points.length;
+        double variance = 0;
+        for (double v : points) {
+            variance += (v - mean) * (v - mean);
+        }
+        double std = Math.sqrt(variance / points.length);
+        double bandwidth =
+                Math.max(std * Math.pow(Math.max(samples.length, 1), -0.2), range * 0.01);
+
+        // a uniform prior over the observed range avoids a zero density
+        double sum = 1 / (range + 2 * bandwidth);
+        for (double v : samples) {
+            double z = (x - v) / bandwidth;
+            sum += Math.exp(-0.5 * z * z) / (bandwidth * Math.sqrt(2 * Math.PI));
+        }
+        return Math.log(sum / (samples.length + 1));
+    }
+
+    private static List<Object> values(String name, List<HpSet> configs) {
+        List<Object> list = new ArrayList<>(configs.size());
+        for (HpSet config : configs) {
+            Hyperparameter<?> param = config.getHParam(name);
+            list.add(param == null ? null : param.random());
+        }
+        return list;
+    }
+
+    private static double[] toDoubles(List<Object> values) {
+        double[] ret = new double[values.size()];
+        int size = 0;
+        for (Object v : values) {
+            if (v instanceof Number) {
+                ret[size++] = ((Number) v).doubleValue();
+            }
+        }
+        if (size < ret.length) {
+            double[] copy = new double[size];
+            System.arraycopy(ret, 0, copy, 0, size);
+            return copy;
+        }
+        return ret;
+    }
+}
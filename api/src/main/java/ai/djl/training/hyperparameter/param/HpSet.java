@@ -12,6 +12,7 @@
  */
 package ai.djl.training.hyperparameter.param;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -64,6 +65,15 @@ public final class HpSet extends Hyperparameter<HpSet> {
         return hyperParams.get(name);
     }
 
+    /**
+     * Returns the hyperparameters in the set by name.
+     *
+     * @return the hyperparameters in the set by name
+     */
+    public Map<String, Hyperparameter<?>> getHParams() {
+        return Collections.unmodifiableMap(hyperParams);
+    }
+
     /** {@inheritDoc} */
     @Override
     public HpSet random() {
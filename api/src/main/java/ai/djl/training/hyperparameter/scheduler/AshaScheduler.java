@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.training.hyperparameter.scheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An asynchronous successive halving (ASHA) {@link TrialScheduler}.
+ *
+ * <p>The epochs {@code gracePeriod * reductionFactor^k} below the max epochs are the rungs. When a
+ * trial reaches a rung, its validation loss is recorded and compared with the losses of all the
+ * trials that reached the same rung before. The trial only continues if it is in the best {@code
+ * 1 / reductionFactor} of them, so that most of the epochs are spent on the promising trials.
+ * Unlike synchronous successive halving, a trial never waits for the other trials.
+ *
+ * <p>See <a href="https://arxiv.org/abs/1810.05934">A System for Massively Parallel
+ * Hyperparameter Tuning</a>.
+ */
+public class AshaScheduler implements TrialScheduler {
+
+    private int[] rungs;
+    private List<List<Float>> recorded;
+    private int reductionFactor;
+
+    /**
+     * Constructs a new {@code AshaScheduler}.
+     *
+     * @param maxEpochs the max number of epochs of a trial
+     * @param gracePeriod the min number of epochs before a trial can be stopped
+     * @param reductionFactor the fraction of trials to keep at each rung is {@code 1 /
+     *     reductionFactor}, 2 for successive halving
+     */
+    public AshaScheduler(int maxEpochs, int gracePeriod, int reductionFactor) {
+        if (gracePeriod < 1 || reductionFactor < 2) {
+            throw new IllegalArgumentException(
+                    "gracePeriod must be positive and reductionFactor must be at least 2");
+        }
+        this.reductionFactor = reductionFactor;
+        List<Integer> list = new ArrayList<>();
+        for (long epoch = gracePeriod; epoch < maxEpochs; epoch *= reductionFactor) {
+            list.add((int) epoch);
+        }
+        rungs = list.stream().mapToInt(Integer::intValue).toArray();
+        recorded = new ArrayList<>(rungs.length);
+        for (int i = 0; i < rungs.length; ++i) {
+            recorded.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Returns the epochs at which the trials are compared.
+     *
+     * @return the epochs at which the trials are compared
+     */
+    public int[] getRungs() {
+        return rungs.clone();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized boolean shouldStop(int trial, int epoch, float loss) {
+        for (int i = 0; i < rungs.length; ++i) {
+            if (rungs[i] != epoch) {
+                continue;
+            }
+            List<Float> losses = recorded.get(i);
+            losses.add(loss);
+            int k = (losses.size() + reductionFactor - 1) / reductionFactor;
+            List<Float> sorted = new ArrayList<>(losses);
+            Collections.sort(sorted);
+            float cutoff = sorted.get(k - 1);
+            return Float.isNaN(loss) || loss > cutoff;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.training.hyperparameter.scheduler;
+
+/**
+ * A {@code TrialScheduler} decides whether a hyperparameter trial should continue training.
+ *
+ * <p>The scheduler is called by multiple trials concurrently, implementations must be thread safe.
+ *
+ * @see ai.djl.training.hyperparameter.EasyHpo
+ */
+public interface TrialScheduler {
+
+    /**
+     * Reports the validation loss of a trial after an epoch, and returns if the trial should stop.
+     *
+     * @param trial the id of the trial
+     * @param epoch the number of epochs the trial has completed
+     * @param loss the <b>validation</b> loss after the epoch
+     * @return {@code true} if the trial should stop training
+     */
+    boolean shouldStop(int trial, int epoch, float loss);
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.training.listener;
+
+import ai.djl.metric.Metrics;
+import ai.djl.training.Trainer;
+
+/**
+ * {@link TrainingListener} that tracks the time the training loop waits for data.
+ *
+ * <p>Adds "data-loading" metric with the time in nanoseconds each training batch was waited for,
+ * see {@link ai.djl.training.dataset.Batch#getWaitTime()}. A high value compared to the "train"
+ * metric indicates the training is input-bound instead of compute-bound.
+ */
+public class DataLoadingTrainingListener extends TrainingListenerAdapter {
+
+    /** {@inheritDoc} */
+    @Override
+    public void onTrainingBatch(Trainer trainer, BatchData batchData) {
+        Metrics metrics = trainer.getMetrics();
+        if (metrics != null) {
+            metrics.addMetric("data-loading", batchData.getBatch().getWaitTime());
+        }
+    }
+}
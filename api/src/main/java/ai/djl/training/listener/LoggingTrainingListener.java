@@ -211,6 +211,12 @@ public class LoggingTrainingListener implements TrainingListener {
             logger.info(String.format("step P50: %.3f ms, P90: %.3f ms", p50, p90));
         }
 
+        if (metrics.hasMetric("data-loading")) {
+            p50 = metrics.percentile("data-loading", 50).getValue().longValue() / 1_000_000f;
+            p90 = metrics.percentile("data-loading", 90).getValue().longValue() / 1_000_000f;
+            logger.info(String.format("data-loading P50: %.3f ms, P90: %.3f ms", p50, p90));
+        }
+
         if (metrics.hasMetric("epoch")) {
             p50 = metrics.percentile("epoch", 50).getValue().longValue() / 1_000_000_000f;
             p90 = metrics.percentile("epoch", 90).getValue().longValue() / 1_000_000_000f;
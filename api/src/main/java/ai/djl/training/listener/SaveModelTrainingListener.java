@@ -12,17 +12,40 @@
  */
 package ai.djl.training.listener;
 
+import ai.djl.Device;
 import ai.djl.Model;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+import ai.djl.nn.Parameter;
 import ai.djl.training.Trainer;
+import ai.djl.training.util.ShardedCheckpoint;
+import ai.djl.util.Pair;
+import ai.djl.util.PairList;
+import ai.djl.util.Utils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 
-/** A {@link TrainingListener} that saves a model and can save checkpoints. */
+/**
+ * A {@link TrainingListener} that saves a model and can save checkpoints.
+ *
+ * <p>By default, the checkpoints are saved on the training thread. In the asynchronous mode, the
+ * parameters are copied to the host at the checkpoint, and written as a {@link ShardedCheckpoint}
+ * on a background thread, so the training continues while the checkpoint is written. The final
+ * model is always saved in the standard format at the end of training.
+ */
 public class SaveModelTrainingListener extends TrainingListenerAdapter {
 
     private static final Logger logger = LoggerFactory.getLogger(SaveModelTrainingListener.class);
@@ -32,6 +55,12 @@ public class SaveModelTrainingListener extends TrainingListenerAdapter {
     private Consumer<Trainer> onSaveModel;
     private int checkpoint;
     private int epoch;
+    private boolean asyncCheckpoint;
+    private int maxCheckpoints = -1;
+    private int maxPendingWrites = 1;
+    private long shardSize = ShardedCheckpoint.DEFAULT_SHARD_SIZE;
+    private ExecutorService executor;
+    private Semaphore pendingWrites;
 
     /**
      * Constructs a {@link SaveModelTrainingListener} using the model's name.
@@ -79,15 +108,28 @@ public class SaveModelTrainingListener extends TrainingListenerAdapter {
 
         if (checkpoint > 0 && epoch % checkpoint == 0) {
             // save model at end of each epoch
-            saveModel(trainer);
+            if (asyncCheckpoint) {
+                saveCheckpoint(trainer);
+            } else {
+                saveModel(trainer);
+                removeOldCheckpoints(getModelName(trainer.getModel()));
+            }
         }
     }
 
     /** {@inheritDoc} */
     @Override
     public void onTrainingEnd(Trainer trainer) {
-        if (checkpoint == -1 || epoch % checkpoint != 0) {
+        if (asyncCheckpoint) {
+            waitForCheckpoints();
+            if (executor != null) {
+                executor.shutdown();
+                executor = null;
+            }
+        }
+        if (asyncCheckpoint || checkpoint == -1 || epoch % checkpoint != 0) {
             saveModel(trainer);
+            removeOldCheckpoints(getModelName(trainer.getModel()));
         }
     }
 
@@ -128,6 +170,83 @@ public class SaveModelTrainingListener extends TrainingListenerAdapter {
         this.checkpoint = checkpoint;
     }
 
+    /**
+     * Returns whether the checkpoints are written asynchronously.
+     *
+     * @return whether the checkpoints are written asynchronously
+     */
+    public boolean isAsyncCheckpoint() {
+        return asyncCheckpoint;
+    }
+
+    /**
+     * Sets whether the checkpoints are written asynchronously as {@link ShardedCheckpoint}.
+     *
+     * @param asyncCheckpoint whether the checkpoints are written asynchronously
+     */
+    public void setAsyncCheckpoint(boolean asyncCheckpoint) {
+        this.asyncCheckpoint = asyncCheckpoint;
+    }
+
+    /**
+     * Returns the maximum number of checkpoints to keep (or -1 to keep all checkpoints).
+     *
+     * @return the maximum number of checkpoints to keep
+     */
+    public int getMaxCheckpoints() {
+        return maxCheckpoints;
+    }
+
+    /**
+     * Sets the maximum number of checkpoints to keep, the checkpoints of the oldest epochs are
+     * removed.
+     *
+     * @param maxCheckpoints the maximum number of checkpoints to keep (or -1 to keep all)
+     */
+    public void setMaxCheckpoints(int maxCheckpoints) {
+        this.maxCheckpoints = maxCheckpoints;
+    }
+
+    /**
+     * Sets the maximum number of checkpoints being written at the same time in asynchronous mode.
+     * The training waits at the next checkpoint if the limit is reached, which bounds the memory
+     * used by the parameter copies. Must be set before training.
+     *
+     * @param maxPendingWrites the maximum number of checkpoints being written
+     */
+    public void setMaxPendingWrites(int maxPendingWrites) {
+        if (maxPendingWrites <= 0) {
+            throw new IllegalArgumentException("Invalid maxPendingWrites: " + maxPendingWrites);
+        }
+        this.maxPendingWrites = maxPendingWrites;
+    }
+
+    /**
+     * Sets the maximum size of a shard file of the asynchronous checkpoints.
+     *
+     * @param shardSize the maximum size of a shard file in bytes, must not exceed {@link
+     *     ShardedCheckpoint#MAX_SHARD_SIZE}
+     */
+    public void setShardSize(long shardSize) {
+        if (shardSize <= 0 || shardSize > ShardedCheckpoint.MAX_SHARD_SIZE) {
+            throw new IllegalArgumentException("Invalid shard size: " + shardSize);
+        }
+        this.shardSize = shardSize;
+    }
+
+    /**
+     * Waits until all asynchronous checkpoints are written.
+     *
+     * <p>This is called at the end of training.
+     */
+    public void waitForCheckpoints() {
+        Semaphore semaphore = pendingWrites;
+        if (semaphore != null) {
+            semaphore.acquireUninterruptibly(maxPendingWrites);
+            semaphore.release(maxPendingWrites);
+        }
+    }
+
     /**
      * Sets the callback function on model saving.
      *
@@ -141,10 +260,7 @@ public class SaveModelTrainingListener extends TrainingListenerAdapter {
 
     protected void saveModel(Trainer trainer) {
         Model model = trainer.getModel();
-        String modelName = model.getName();
-        if (overrideModelName != null) {
-            modelName = overrideModelName;
-        }
+        String modelName = getModelName(model);
         try {
             model.setProperty("Epoch", String.valueOf(epoch));
             if (onSaveModel != null) {
@@ -155,4 +271,94 @@ public class SaveModelTrainingListener extends TrainingListenerAdapter {
             logger.error("Failed to save checkpoint", e);
         }
     }
+
+    /**
+     * Saves a checkpoint asynchronously.
+     *
+     * <p>The parameters are copied to the host on the calling thread, and written on a background
+     * thread.
+     *
+     * @param trainer the trainer to save the checkpoint of
+     */
+    protected void saveCheckpoint(Trainer trainer) {
+        Model model = trainer.getModel();
+        String modelName = getModelName(model);
+        int currentEpoch = epoch;
+        model.setProperty("Epoch", String.valueOf(currentEpoch));
+        if (onSaveModel != null) {
+            onSaveModel.accept(trainer);
+        }
+        Map<String, String> properties = new LinkedHashMap<>(model.getProperties());
+
+        if (executor == null) {
+            pendingWrites = new Semaphore(maxPendingWrites);
+            executor =
+                    Executors.newFixedThreadPool(
+                            maxPendingWrites,
+                            r -> {
+                                Thread thread = new Thread(r, "checkpoint-writer");
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+        }
+        pendingWrites.acquireUninterruptibly();
+
+        NDManager snapshot = trainer.getManager().newSubManager(Device.cpu());
+        PairList<String, NDArray> arrays = new PairList<>();
+        try {
+            for (Pair<String, Parameter> pair : model.getBlock().getParameters()) {
+                Parameter parameter = pair.getValue();
+                if (parameter.isInitialized()) {
+                    NDArray array = parameter.getArray().toDevice(Device.cpu(), true);
+                    array.attach(snapshot);
+                    arrays.add(pair.getKey(), array);
+                }
+            }
+        } catch (RuntimeException e) {
+            snapshot.close();
+            pendingWrites.release();
+            throw e;
+        }
+
+        Path dir = Paths.get(outputDir);
+        Path path = ShardedCheckpoint.getCheckpointPath(dir, modelName, currentEpoch);
+        executor.execute(
+                () -> {
+                    try {
+                        ShardedCheckpoint.save(
+                                path, modelName, currentEpoch, properties, arrays, shardSize);
+                        removeOldCheckpoints(modelName);
+                    } catch (IOException | RuntimeException e) {
+                        logger.error("Failed to save checkpoint", e);
+                    } finally {
+                        snapshot.close();
+                        pendingWrites.release();
+                    }
+                });
+    }
+
+    private String getModelName(Model model) {
+        if (overrideModelName != null) {
+            return overrideModelName;
+        }
+        return model.getName();
+    }
+
+    private synchronized void removeOldCheckpoints(String modelName) {
+        if (maxCheckpoints <= 0) {
+            return;
+        }
+        try {
+            Map<Integer, List<Path>> checkpoints =
+                    ShardedCheckpoint.listCheckpoints(Paths.get(outputDir), modelName);
+            Iterator<List<Path>> it = checkpoints.values().iterator();
+            for (int i = checkpoints.size(); i > maxCheckpoints; --i) {
+                for (Path path : it.next()) {
+                    Utils.deleteQuietly(path);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to remove old checkpoints", e);
+        }
+    }
 }
@@ -82,6 +82,7 @@ public interface TrainingListener {
          *
          * <ul>
          *   <li>{@link EpochTrainingListener}
+         *   <li>{@link DataLoadingTrainingListener}
          *   <li>{@link EvaluatorTrainingListener}
          *   <li>{@link DivergenceCheckTrainingListener}
          * </ul>
@@ -91,6 +92,7 @@ public interface TrainingListener {
         static TrainingListener[] basic() {
             return new TrainingListener[] {
                 new EpochTrainingListener(),
+                new DataLoadingTrainingListener(),
                 new EvaluatorTrainingListener(),
                 new DivergenceCheckTrainingListener()
             };
@@ -111,6 +113,7 @@ public interface TrainingListener {
         static TrainingListener[] logging() {
             return new TrainingListener[] {
                 new EpochTrainingListener(),
+                new DataLoadingTrainingListener(),
                 new EvaluatorTrainingListener(),
                 new DivergenceCheckTrainingListener(),
                 new LoggingTrainingListener()
@@ -129,6 +132,7 @@ public interface TrainingListener {
         static TrainingListener[] logging(int frequency) {
             return new TrainingListener[] {
                 new EpochTrainingListener(),
+                new DataLoadingTrainingListener(),
                 new EvaluatorTrainingListener(),
                 new DivergenceCheckTrainingListener(),
                 new LoggingTrainingListener(frequency)
@@ -156,6 +160,7 @@ public interface TrainingListener {
             }
             return new TrainingListener[] {
                 new EpochTrainingListener(),
+                new DataLoadingTrainingListener(),
                 new MemoryTrainingListener(outputDir),
                 new EvaluatorTrainingListener(),
                 new DivergenceCheckTrainingListener(),
@@ -45,6 +45,8 @@ public class Adam extends Optimizer {
 
     private Map<String, Map<Device, NDArray>> means;
     private Map<String, Map<Device, NDArray>> variances;
+    private Map<String, FlatState> flatMeans;
+    private Map<String, FlatState> flatVariances;
 
     /**
      * Creates a new instance of {@code Adam} optimizer.
@@ -59,6 +61,8 @@ public class Adam extends Optimizer {
         epsilon = builder.epsilon;
         means = new ConcurrentHashMap<>();
         variances = new ConcurrentHashMap<>();
+        flatMeans = new ConcurrentHashMap<>();
+        flatVariances = new ConcurrentHashMap<>();
     }
 
     /** {@inheritDoc} */
@@ -107,6 +111,38 @@ public class Adam extends Optimizer {
                 false);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void foreachUpdate(ParameterGroup group) {
+        int t = updateCount(group);
+        double coef1 = 1.0 - Math.pow(beta1, t);
+        double coef2 = 1.0 - Math.pow(beta2, t);
+        float newLearningRate = getLearningRate(learningRateTracker, group, t);
+        float learningRateBiasCorrection = (float) (newLearningRate * Math.sqrt(coef2) / coef1);
+        float weightDecay = getWeightDecay();
+
+        Preconditions.checkArgument(
+                !Float.isNaN(learningRateBiasCorrection)
+                        && !Float.isNaN(weightDecay)
+                        && !Float.isInfinite(learningRateBiasCorrection)
+                        && !Float.isInfinite(weightDecay),
+                "learning rate or weight decay is nan or infinite");
+        NDArray mean = withFlatState(flatMeans, group);
+        NDArray variance = withFlatState(flatVariances, group);
+
+        NDArray grad = group.getFlatGradient().mul(rescaleGrad);
+        if (clipGrad >= 0) {
+            grad = grad.clip(-clipGrad, clipGrad);
+        }
+        if (weightDecay != 0f) {
+            grad.addi(group.getFlatWeight().mul(weightDecay));
+        }
+        mean.muli(beta1).addi(grad.mul(1 - beta1));
+        variance.muli(beta2).addi(grad.square().muli(1 - beta2));
+        NDArray delta = mean.mul(learningRateBiasCorrection).divi(variance.sqrt().addi(epsilon));
+        group.subtractFromWeights(delta);
+    }
+
     /**
      * Creates a builder to build a {@code Adam}.
      *
@@ -49,6 +49,8 @@ public class AdamW extends Optimizer {
 
     private Map<String, Map<Device, NDArray>> means;
     private Map<String, Map<Device, NDArray>> variances;
+    private Map<String, FlatState> flatMeans;
+    private Map<String, FlatState> flatVariances;
 
     /**
      * Creates a new instance of {@code Adam} optimizer.
@@ -63,6 +65,8 @@ public class AdamW extends Optimizer {
         epsilon = builder.epsilon;
         means = new ConcurrentHashMap<>();
         variances = new ConcurrentHashMap<>();
+        flatMeans = new ConcurrentHashMap<>();
+        flatVariances = new ConcurrentHashMap<>();
     }
 
     /** {@inheritDoc} */
@@ -111,6 +115,39 @@ public class AdamW extends Optimizer {
                 true);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void foreachUpdate(ParameterGroup group) {
+        int t = updateCount(group);
+        double coef1 = 1.0 - Math.pow(beta1, t);
+        double coef2 = 1.0 - Math.pow(beta2, t);
+        float newLearningRate = getLearningRate(learningRateTracker, group, t);
+        float learningRateBiasCorrection = (float) (newLearningRate * Math.sqrt(coef2) / coef1);
+        float weightDecay = getWeightDecay();
+
+        Preconditions.checkArgument(
+                !Float.isNaN(newLearningRate)
+                        && !Float.isNaN(weightDecay)
+                        && !Float.isInfinite(newLearningRate)
+                        && !Float.isInfinite(weightDecay),
+                "learning rate or weight decay is nan or infinite");
+        NDArray mean = withFlatState(flatMeans, group);
+        NDArray variance = withFlatState(flatVariances, group);
+
+        NDArray grad = group.getFlatGradient().mul(rescaleGrad);
+        if (clipGrad >= 0) {
+            grad = grad.clip(-clipGrad, clipGrad);
+        }
+        mean.muli(beta1).addi(grad.mul(1 - beta1));
+        variance.muli(beta2).addi(grad.square().muli(1 - beta2));
+        NDArray delta = mean.mul(learningRateBiasCorrection).divi(variance.sqrt().addi(epsilon));
+        if (weightDecay != 0f) {
+            // decoupled weight decay with the weights before the update
+            delta.addi(group.getFlatWeight().mul(newLearningRate * weightDecay));
+        }
+        group.subtractFromWeights(delta);
+    }
+
     /**
      * Creates a builder to build a {@code Adam}.
      *
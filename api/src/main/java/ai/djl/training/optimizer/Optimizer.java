@@ -14,8 +14,22 @@ package ai.djl.training.optimizer;
 
 import ai.djl.Device;
 import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDArrays;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.index.NDIndex;
+import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.training.tracker.ParameterTracker;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
@@ -33,7 +47,13 @@ public abstract class Optimizer {
     private float weightDecays;
     private int beginNumUpdate;
     private int numUpdate;
+    private boolean foreach;
+    private float clipGradNorm;
+    private volatile float gradientNorm = Float.NaN;
     private Map<String, Integer> updateCounts = new ConcurrentHashMap<>();
+    private List<ParameterGroup> parameterGroups = Collections.emptyList();
+    private List<String> groupedIds = Collections.emptyList();
+    private List<NDArray> groupedWeights = Collections.emptyList();
 
     /**
      * Creates a new instance of {@code Optimizer}.
@@ -45,6 +65,8 @@ public abstract class Optimizer {
         this.weightDecays = builder.weightDecays;
         this.clipGrad = builder.clipGrad;
         this.beginNumUpdate = builder.beginNumUpdate;
+        this.foreach = builder.foreach;
+        this.clipGradNorm = builder.clipGradNorm;
     }
 
     /**
@@ -126,6 +148,36 @@ public abstract class Optimizer {
         return weightDecays;
     }
 
+    /**
+     * Returns whether the parameters are updated with the multi-tensor step of {@link
+     * #updateAll(List, List)}.
+     *
+     * @return whether the parameters are updated with the multi-tensor step
+     */
+    public boolean isForeach() {
+        return foreach;
+    }
+
+    /**
+     * Returns the maximum global norm of the gradients, gradient norm clipping is turned off if it
+     * is not positive.
+     *
+     * @return the maximum global norm of the gradients
+     */
+    public float getClipGradNorm() {
+        return clipGradNorm;
+    }
+
+    /**
+     * Returns the global norm of the rescaled gradients computed by the last call of {@link
+     * #updateAll(List, List)} with gradient norm clipping, or NaN if it is not computed.
+     *
+     * @return the global norm of the rescaled gradients
+     */
+    public float getGradientNorm() {
+        return gradientNorm;
+    }
+
     protected int updateCount(String parameterId) {
         // if index exists, increment update count, if not, use begin number of update + 1
         int count =
@@ -144,6 +196,138 @@ public abstract class Optimizer {
      */
     public abstract void update(String parameterId, NDArray weight, NDArray grad);
 
+    /**
+     * Updates a list of parameters according to the gradients attached to them.
+     *
+     * <p>If {@link #isForeach()} is true, the parameters are grouped by device and data type into
+     * {@link ParameterGroup}s. The groups are kept between calls as long as the parameters don't
+     * change, and the weights and the gradients of each group are views of two flat arrays. The
+     * gradients of the replicas of a parameter on different devices are summed, and each group is
+     * updated with {@link #foreachUpdate(ParameterGroup)}. The gradients are filled with zeros
+     * after the step. This requires the engine to share the memory of the parameters with the
+     * flat arrays.
+     *
+     * <p>Otherwise, the parameters are updated with {@link #updateAll(List, List, List)}.
+     *
+     * @param parameterIds the parameters to be updated
+     * @param weights the weights of the parameters
+     * @throws UnsupportedOperationException if the multi-tensor update is not supported by the
+     *     engine
+     */
+    public void updateAll(List<String> parameterIds, List<NDArray> weights) {
+        if (!foreach) {
+            List<NDArray> grads = new ArrayList<>(weights.size());
+            try {
+                for (NDArray weight : weights) {
+                    grads.add(weight.getGradient());
+                }
+                updateAll(parameterIds, weights, grads);
+            } finally {
+                grads.forEach(NDArray::close);
+            }
+            return;
+        }
+        List<ParameterGroup> groups = getParameterGroups(parameterIds, weights);
+        try {
+            groups.forEach(ParameterGroup::beginStep);
+            reduceGradients(groups);
+            if (clipGradNorm > 0) {
+                List<List<String>> ids = new ArrayList<>(groups.size());
+                List<NDArray> grads = new ArrayList<>(groups.size());
+                for (ParameterGroup group : groups) {
+                    ids.add(group.getParameterIds());
+                    grads.add(group.getFlatGradient());
+                }
+                clipGradientNorm(ids, grads);
+            }
+            for (ParameterGroup group : groups) {
+                foreachUpdate(group);
+                group.zeroGradients();
+            }
+        } finally {
+            groups.forEach(ParameterGroup::endStep);
+        }
+    }
+
+    /**
+     * Updates a list of parameters one by one with {@link #update(String, NDArray, NDArray)}.
+     *
+     * <p>If gradient norm clipping is on, the gradients are scaled first so that their global norm
+     * is at most {@link #getClipGradNorm()}.
+     *
+     * @param parameterIds the parameters to be updated
+     * @param weights the weights of the parameters
+     * @param grads the gradients
+     */
+    public void updateAll(List<String> parameterIds, List<NDArray> weights, List<NDArray> grads) {
+        if (clipGradNorm > 0 && !grads.isEmpty()) {
+            try (NDManager manager = grads.get(0).getManager().newSubManager()) {
+                manager.tempAttachAll(new NDList(grads));
+                List<List<String>> ids = new ArrayList<>(parameterIds.size());
+                for (String parameterId : parameterIds) {
+                    ids.add(Collections.singletonList(parameterId));
+                }
+                clipGradientNorm(ids, grads);
+            }
+        }
+        for (int i = 0; i < parameterIds.size(); ++i) {
+            update(parameterIds.get(i), weights.get(i), grads.get(i));
+        }
+    }
+
+    /**
+     * Updates a group of parameters on the same device with the same data type, using the
+     * flattened gradients of the group.
+     *
+     * <p>The default implementation splits the flattened gradients and updates each parameter
+     * with {@link #update(String, NDArray, NDArray)}. Optimizers should override it to perform the
+     * step on the whole group with a few operations.
+     *
+     * @param group the group of parameters to be updated
+     */
+    protected void foreachUpdate(ParameterGroup group) {
+        List<String> ids = group.getParameterIds();
+        NDList grads = group.split(group.getFlatGradient());
+        for (int i = 0; i < group.size(); ++i) {
+            update(ids.get(i), group.getWeight(i), grads.get(i));
+        }
+    }
+
+    /**
+     * Increments the update count of all parameters of a group.
+     *
+     * @param group the group of parameters
+     * @return the number of updates
+     */
+    protected int updateCount(ParameterGroup group) {
+        int count = 0;
+        for (String parameterId : group.getParameterIds()) {
+            count = Math.max(count, updateCount(parameterId));
+        }
+        return count;
+    }
+
+    /**
+     * Returns the learning rate of a group of parameters.
+     *
+     * @param tracker the learning rate tracker
+     * @param group the group of parameters
+     * @param numUpdate the number of updates
+     * @return the learning rate of the group
+     * @throws IllegalStateException if the parameters of the group have different learning rates
+     */
+    protected float getLearningRate(ParameterTracker tracker, ParameterGroup group, int numUpdate) {
+        List<String> ids = group.getParameterIds();
+        float learningRate = tracker.getNewValue(ids.get(0), numUpdate);
+        for (int i = 1; i < ids.size(); ++i) {
+            if (tracker.getNewValue(ids.get(i), numUpdate) != learningRate) {
+                throw new IllegalStateException(
+                        "Per parameter learning rate is not supported by the multi-tensor update.");
+            }
+        }
+        return learningRate;
+    }
+
     protected NDArray withDefaultState(
             Map<String, Map<Device, NDArray>> state,
             String key,
@@ -170,6 +354,145 @@ public abstract class Optimizer {
                 device, k -> arrayMap.values().iterator().next().toDevice(device, true));
     }
 
+    /**
+     * Returns the flat state of a group of parameters, the state of each parameter is a segment
+     * of the array at the offset of the parameter in the group.
+     *
+     * <p>The state is created with zeros on the first call. If the parameters of the group change,
+     * the state of the parameters that remain in the group is kept. The returned array is
+     * attached to the manager of the group until the group is closed.
+     *
+     * @param state the map of the flat state
+     * @param group the group of parameters
+     * @return the flat state of the group
+     */
+    protected NDArray withFlatState(Map<String, FlatState> state, ParameterGroup group) {
+        FlatState flat = state.compute(group.getKey(), (k, v) -> FlatState.of(v, group));
+        group.getManager().tempAttachAll(flat.array);
+        return flat.array;
+    }
+
+    private synchronized List<ParameterGroup> getParameterGroups(
+            List<String> parameterIds, List<NDArray> weights) {
+        boolean same = parameterIds.equals(groupedIds) && weights.size() == groupedWeights.size();
+        for (int i = 0; same && i < weights.size(); ++i) {
+            same = weights.get(i) == groupedWeights.get(i);
+        }
+        if (!same) {
+            // the new groups copy the current values before the old flat arrays are released
+            List<ParameterGroup> groups = ParameterGroup.group(parameterIds, weights);
+            parameterGroups.forEach(ParameterGroup::close);
+            parameterGroups = groups;
+            groupedIds = new ArrayList<>(parameterIds);
+            groupedWeights = new ArrayList<>(weights);
+        }
+        return parameterGroups;
+    }
+
+    private static void reduceGradients(List<ParameterGroup> groups) {
+        // the replicas of the same parameters on other devices get the sum of the gradients
+        Map<List<String>, List<ParameterGroup>> replicas = new LinkedHashMap<>();
+        for (ParameterGroup group : groups) {
+            replicas.computeIfAbsent(group.getParameterIds(), k -> new ArrayList<>()).add(group);
+        }
+        for (List<ParameterGroup> list : replicas.values()) {
+            if (list.size() == 1) {
+                continue;
+            }
+            ParameterGroup first = list.get(0);
+            NDArray sum = first.getFlatGradient();
+            for (int i = 1; i < list.size(); ++i) {
+                sum.addi(list.get(i).getFlatGradient().toDevice(first.getDevice(), true));
+            }
+            for (int i = 1; i < list.size(); ++i) {
+                ParameterGroup group = list.get(i);
+                group.getFlatGradient().set(new NDIndex(), sum.toDevice(group.getDevice(), true));
+            }
+        }
+    }
+
+    private void clipGradientNorm(List<List<String>> parameterIds, List<NDArray> grads) {
+        // replicas of the same parameter on other devices are not counted again
+        Set<String> seen = new HashSet<>();
+        double sum = 0;
+        for (int i = 0; i < grads.size(); ++i) {
+            if (!seen.addAll(parameterIds.get(i))) {
+                continue;
+            }
+            NDArray squared = grads.get(i).toType(DataType.FLOAT32, false).square().sum();
+            sum += squared.getFloat();
+        }
+        float norm = (float) (Math.sqrt(sum) * Math.abs(rescaleGrad));
+        gradientNorm = norm;
+        if (norm <= clipGradNorm) {
+            return;
+        }
+        float scale = clipGradNorm / (norm + 1e-6f);
+        for (NDArray grad : grads) {
+            grad.muli(scale);
+        }
+    }
+
+    /** The optimizer state of a group of parameters in one contiguous array. */
+    protected static final class FlatState {
+
+        NDArray array;
+        Map<String, long[]> segments;
+
+        private FlatState(NDArray array, Map<String, long[]> segments) {
+            this.array = array;
+            this.segments = segments;
+        }
+
+        static FlatState of(FlatState old, ParameterGroup group) {
+            List<String> ids = group.getParameterIds();
+            long[] offsets = group.getOffsets();
+            Map<String, long[]> segments = new HashMap<>();
+            boolean same = old != null && old.segments.size() == ids.size();
+            for (int i = 0; i < ids.size(); ++i) {
+                long[] segment = {offsets[i], offsets[i + 1]};
+                segments.put(ids.get(i), segment);
+                if (same) {
+                    long[] oldSegment = old.segments.get(ids.get(i));
+                    same = oldSegment != null && oldSegment[0] == segment[0];
+                    same = same && oldSegment[1] == segment[1];
+                }
+            }
+            if (same) {
+                return old;
+            }
+
+            DataType dataType = group.getDataType();
+            Device device = group.getDevice();
+            NDArray array;
+            try (NDManager manager = group.getManager().newSubManager()) {
+                if (old == null) {
+                    array = manager.zeros(new Shape(group.getNumElements()), dataType, device);
+                } else {
+                    // keep the state of the parameters that remain in the group
+                    manager.tempAttachAll(old.array);
+                    NDList parts = new NDList(ids.size());
+                    for (int i = 0; i < ids.size(); ++i) {
+                        long size = offsets[i + 1] - offsets[i];
+                        long[] oldSegment = old.segments.get(ids.get(i));
+                        if (oldSegment != null && oldSegment[1] - oldSegment[0] == size) {
+                            parts.add(old.array.get("{}:{}", oldSegment[0], oldSegment[1]));
+                        } else {
+                            parts.add(manager.zeros(new Shape(size), dataType, device));
+                        }
+                    }
+                    array = parts.size() == 1 ? parts.head().duplicate() : NDArrays.concat(parts);
+                }
+                // the state is detached for the same reason as withDefaultState()
+                array.detach();
+            }
+            if (old != null) {
+                old.array.close();
+            }
+            return new FlatState(array, segments);
+        }
+    }
+
     /** The Builder to construct an {@link Optimizer}. */
     @SuppressWarnings("rawtypes")
     public abstract static class OptimizerBuilder<T extends OptimizerBuilder> {
@@ -178,6 +501,8 @@ public abstract class Optimizer {
         private float weightDecays;
         private float clipGrad = -1;
         private int beginNumUpdate;
+        private boolean foreach;
+        private float clipGradNorm = -1;
 
         protected OptimizerBuilder() {}
 
@@ -230,6 +555,34 @@ public abstract class Optimizer {
             return self();
         }
 
+        /**
+         * Sets whether to update the parameters with a multi-tensor step. The parameters are
+         * grouped by device and data type, and the weights, gradients and optimizer state of each
+         * group are kept in contiguous arrays, so that each group is updated with a few operations
+         * instead of a few operations per parameter. Only engines that can make the parameters
+         * views of the contiguous arrays support it, which is PyTorch for now. Defaults to false.
+         *
+         * @param foreach whether to update the parameters with a multi-tensor step
+         * @return this {@code Builder}
+         */
+        public T optForeach(boolean foreach) {
+            this.foreach = foreach;
+            return self();
+        }
+
+        /**
+         * Sets the maximum global norm of the gradients. If the L2 norm of all rescaled gradients
+         * is larger than \(clipGradNorm\), the gradients are scaled by \(clipGradNorm / norm\).
+         * If \(clipGradNorm \le 0\), gradient norm clipping is turned off.
+         *
+         * @param clipGradNorm the maximum global norm of the gradients
+         * @return this {@code Builder}
+         */
+        public T optClipGradNorm(float clipGradNorm) {
+            this.clipGradNorm = clipGradNorm;
+            return self();
+        }
+
         protected abstract T self();
     }
 }
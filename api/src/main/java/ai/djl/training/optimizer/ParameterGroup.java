@@ -0,0 +1,292 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.training.optimizer;
+
+import ai.djl.Device;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDArrays;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.index.NDIndex;
+import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.types.Shape;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@code ParameterGroup} is a group of parameters on the same device with the same data type,
+ * which are updated together by {@link Optimizer#updateAll(List, List)}.
+ *
+ * <p>The weights and the gradients of the group are kept in two persistent flat arrays, and each
+ * parameter is a view of its segment, so that the optimizer step runs as a few operations on the
+ * whole group instead of a few operations per parameter. The flat arrays are allocated once when
+ * the group is created, and reused as long as the parameters don't change. This requires the
+ * engine to support {@link ai.djl.ndarray.internal.NDArrayEx#bindFlatParameters(NDList,
+ * NDArray)}.
+ */
+public final class ParameterGroup implements AutoCloseable {
+
+    private String key;
+    private DataType dataType;
+    private List<String> parameterIds;
+    private List<NDArray> weights;
+    private long[] offsets;
+    private NDManager manager;
+    private NDManager stepManager;
+    private NDArray flatGrad;
+    private NDArray flatWeight;
+
+    private ParameterGroup(String key, DataType dataType) {
+        this.key = key;
+        this.dataType = dataType;
+        parameterIds = new ArrayList<>();
+        weights = new ArrayList<>();
+    }
+
+    /**
+     * Groups the parameters by device and data type, and binds the weights and the gradients of
+     * each group to flat arrays.
+     *
+     * @param parameterIds the ids of the parameters
+     * @param weights the weights of the parameters
+     * @return the parameter groups
+     * @throws UnsupportedOperationException if the engine can't bind the parameters to flat arrays
+     */
+    static List<ParameterGroup> group(List<String> parameterIds, List<NDArray> weights) {
+        Map<String, ParameterGroup> groups = new LinkedHashMap<>();
+        for (int i = 0; i < parameterIds.size(); ++i) {
+            NDArray weight = weights.get(i);
+            Device device = weight.getDevice();
+            DataType dataType = weight.getDataType();
+            String key = device + "/" + dataType;
+            ParameterGroup group =
+                    groups.computeIfAbsent(key, k -> new ParameterGroup(k, dataType));
+            group.parameterIds.add(parameterIds.get(i));
+            group.weights.add(weight);
+        }
+        List<ParameterGroup> ret = new ArrayList<>(groups.values());
+        try {
+            for (ParameterGroup group : ret) {
+                group.init();
+            }
+        } catch (RuntimeException e) {
+            ret.forEach(ParameterGroup::close);
+            throw e;
+        }
+        return ret;
+    }
+
+    private void init() {
+        int size = weights.size();
+        offsets = new long[size + 1];
+        for (int i = 0; i < size; ++i) {
+            offsets[i + 1] = offsets[i] + weights.get(i).size();
+        }
+        NDArray weight = weights.get(0);
+        manager = weight.getManager().newSubManager();
+        try (NDManager temp = manager.newSubManager()) {
+            NDList flatWeights = new NDList(size);
+            NDList flatGrads = new NDList(size);
+            for (NDArray array : weights) {
+                NDArray grad = array.getGradient();
+                temp.attachAll(grad);
+                flatGrads.add(grad.reshape(-1));
+                NDArray flat = array.reshape(-1);
+                temp.attachAll(flat);
+                flatWeights.add(flat);
+            }
+            flatWeight = size == 1 ? flatWeights.head().duplicate() : NDArrays.concat(flatWeights);
+            flatGrad = size == 1 ? flatGrads.head().duplicate() : NDArrays.concat(flatGrads);
+            flatWeight.attach(manager);
+            flatGrad.attach(manager);
+        }
+        try {
+            flatWeight.getNDArrayInternal().bindFlatParameters(new NDList(weights), flatGrad);
+        } catch (UnsupportedOperationException e) {
+            throw new UnsupportedOperationException(
+                    "The multi-tensor update is not supported by the engine: "
+                            + weight.getManager().getEngine().getEngineName(),
+                    e);
+        }
+    }
+
+    /**
+     * Starts an optimizer step, the arrays created by the step are attached to a temporary {@link
+     * NDManager} until {@link #endStep()} is called.
+     */
+    void beginStep() {
+        stepManager = manager.newSubManager();
+        stepManager.tempAttachAll(flatWeight, flatGrad);
+    }
+
+    /** Ends an optimizer step and closes the arrays created by the step. */
+    void endStep() {
+        if (stepManager != null) {
+            stepManager.close();
+            stepManager = null;
+        }
+    }
+
+    /**
+     * Returns the key of the group, which identifies the device and data type.
+     *
+     * @return the key of the group
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the device of the group.
+     *
+     * @return the device of the group
+     */
+    public Device getDevice() {
+        return weights.get(0).getDevice();
+    }
+
+    /**
+     * Returns the data type of the group.
+     *
+     * @return the data type of the group
+     */
+    public DataType getDataType() {
+        return dataType;
+    }
+
+    /**
+     * Returns the number of parameters in the group.
+     *
+     * @return the number of parameters in the group
+     */
+    public int size() {
+        return parameterIds.size();
+    }
+
+    /**
+     * Returns the total number of elements of the parameters.
+     *
+     * @return the total number of elements of the parameters
+     */
+    public long getNumElements() {
+        return offsets[offsets.length - 1];
+    }
+
+    /**
+     * Returns the ids of the parameters.
+     *
+     * @return the ids of the parameters
+     */
+    public List<String> getParameterIds() {
+        return Collections.unmodifiableList(parameterIds);
+    }
+
+    /**
+     * Returns the offset of each parameter in the flattened arrays, followed by the total number
+     * of elements.
+     *
+     * @return the offsets of the parameters
+     */
+    public long[] getOffsets() {
+        return offsets.clone();
+    }
+
+    /**
+     * Returns the weight of a parameter.
+     *
+     * @param index the index of the parameter in the group
+     * @return the weight of the parameter
+     */
+    public NDArray getWeight(int index) {
+        return weights.get(index);
+    }
+
+    /**
+     * Returns the temporary {@link NDManager} of the current optimizer step.
+     *
+     * @return the temporary {@link NDManager} of the current optimizer step
+     */
+    public NDManager getManager() {
+        return stepManager;
+    }
+
+    /**
+     * Returns the flat array that the gradients of the group are views of.
+     *
+     * @return the flattened gradients
+     */
+    public NDArray getFlatGradient() {
+        return flatGrad;
+    }
+
+    /**
+     * Returns the flat array that the weights of the group are views of.
+     *
+     * @return the flattened weights
+     */
+    public NDArray getFlatWeight() {
+        return flatWeight;
+    }
+
+    /**
+     * Splits a flattened array of the group into one array per parameter with the parameter shape.
+     *
+     * @param flat the flattened array
+     * @return the arrays of each parameter
+     */
+    public NDList split(NDArray flat) {
+        int size = weights.size();
+        NDList parts;
+        if (size == 1) {
+            parts = new NDList(flat);
+        } else {
+            long[] indices = new long[size - 1];
+            System.arraycopy(offsets, 1, indices, 0, size - 1);
+            parts = flat.split(indices);
+        }
+        NDList ret = new NDList(size);
+        for (int i = 0; i < size; ++i) {
+            Shape shape = weights.get(i).getShape();
+            ret.add(parts.get(i).reshape(shape));
+        }
+        return ret;
+    }
+
+    /**
+     * Subtracts a flattened update from the weights of the group in place.
+     *
+     * @param delta the flattened update
+     */
+    public void subtractFromWeights(NDArray delta) {
+        flatWeight.subi(delta);
+    }
+
+    /** Fills the gradients of the group with zeros. */
+    public void zeroGradients() {
+        // subtracting a gradient from itself leaves NaN for the infinite values
+        flatGrad.set(new NDIndex(), 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        endStep();
+        if (manager != null) {
+            manager.close();
+        }
+    }
+}
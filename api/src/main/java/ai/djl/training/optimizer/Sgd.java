@@ -40,6 +40,7 @@ public class Sgd extends Optimizer {
     private ParameterTracker learningRateTracker;
     private float momentum;
     private Map<String, Map<Device, NDArray>> momentumStates;
+    private Map<String, FlatState> flatMomentumStates;
 
     /**
      * Creates a new instance of {@code Sgd}.
@@ -51,6 +52,7 @@ public class Sgd extends Optimizer {
         learningRateTracker = builder.learningRateTracker;
         momentum = builder.momentum;
         momentumStates = new ConcurrentHashMap<>();
+        flatMomentumStates = new ConcurrentHashMap<>();
     }
 
     /** {@inheritDoc} */
@@ -78,6 +80,29 @@ public class Sgd extends Optimizer {
                 inputs, weights, learningRate, weightDecay, rescaleGrad, clipGrad, momentum, true);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void foreachUpdate(ParameterGroup group) {
+        float weightDecay = getWeightDecay();
+        float learningRate = getLearningRate(learningRateTracker, group, updateCount(group));
+
+        NDArray grad = group.getFlatGradient().mul(rescaleGrad);
+        if (clipGrad >= 0) {
+            grad = grad.clip(-clipGrad, clipGrad);
+        }
+        if (weightDecay != 0f) {
+            grad.addi(group.getFlatWeight().mul(weightDecay));
+        }
+        grad.muli(learningRate);
+        if (momentum != 0f) {
+            NDArray state = withFlatState(flatMomentumStates, group);
+            state.muli(momentum).addi(grad);
+            group.subtractFromWeights(state);
+        } else {
+            group.subtractFromWeights(grad);
+        }
+    }
+
     /** The Builder to construct an {@link Sgd} object. */
     public static final class Builder extends OptimizerBuilder<Builder> {
 
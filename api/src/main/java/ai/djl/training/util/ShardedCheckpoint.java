@@ -0,0 +1,512 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.training.util;
+
+import ai.djl.MalformedModelException;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.nn.Block;
+import ai.djl.nn.Parameter;
+import ai.djl.util.JsonUtils;
+import ai.djl.util.Pair;
+import ai.djl.util.PairList;
+import ai.djl.util.Utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@code ShardedCheckpoint} is a checkpoint format that stores the raw bytes of the parameters in
+ * shard files, which can be memory mapped.
+ *
+ * <p>A checkpoint is a directory named {@code <modelName>-<epoch>.ckpt}, which contains a {@code
+ * checkpoint.json} index and the {@code shard-<n>.bin} files. The directory is written under a
+ * temporary name and renamed when complete, so a partially written checkpoint is never visible.
+ *
+ * <p>The shards are mapped in copy-on-write mode when a parameter is first accessed, so opening a
+ * checkpoint doesn't read the parameters, and the pages are only loaded when they are used. If a
+ * shard can't be opened for writing, it is mapped read-only and the arrays are copied from the
+ * mapped pages.
+ *
+ * <p>A shard is a single memory mapped buffer, so a parameter larger than {@link #MAX_SHARD_SIZE}
+ * can't be saved.
+ */
+public final class ShardedCheckpoint implements AutoCloseable {
+
+    /** The default maximum size of a shard. */
+    public static final long DEFAULT_SHARD_SIZE = 1L << 30;
+
+    /** The maximum size of a shard, which is the maximum size of a memory mapped buffer. */
+    public static final long MAX_SHARD_SIZE = Integer.MAX_VALUE;
+
+    private static final String INDEX_FILE = "checkpoint.json";
+    private static final int VERSION = 1;
+    private static final int ALIGNMENT = 64;
+
+    private Path path;
+    private Index index;
+    private Map<String, Entry> entries;
+    private MappedByteBuffer[] shards;
+
+    private ShardedCheckpoint(Path path, Index index) {
+        this.path = path;
+        this.index = index;
+        entries = new LinkedHashMap<>();
+        for (Entry entry : index.parameters) {
+            entries.put(entry.name, entry);
+        }
+        shards = new MappedByteBuffer[index.shards.size()];
+    }
+
+    /**
+     * Returns the path of the checkpoint of a model at an epoch.
+     *
+     * @param modelDir the directory of the checkpoints
+     * @param modelName the name of the model
+     * @param epoch the epoch of the checkpoint
+     * @return the path of the checkpoint
+     */
+    public static Path getCheckpointPath(Path modelDir, String modelName, int epoch) {
+        return modelDir.resolve(String.format(Locale.ROOT, "%s-%04d.ckpt", modelName, epoch));
+    }
+
+    /**
+     * Returns the epoch of the latest complete checkpoint of a model, or -1 if there is none.
+     *
+     * @param modelDir the directory of the checkpoints
+     * @param modelName the name of the model
+     * @return the epoch of the latest checkpoint
+     * @throws IOException if failed to list the directory
+     */
+    public static int getLatestEpoch(Path modelDir, String modelName) throws IOException {
+        Pattern pattern = Pattern.compile(Pattern.quote(modelName) + "-(\\d{4,}).ckpt");
+        try (Stream<Path> stream = Files.walk(modelDir, 1, FileVisitOption.FOLLOW_LINKS)) {
+            return stream.filter(p -> Files.isRegularFile(p.resolve(INDEX_FILE)))
+                    .map(
+                            p -> {
+                                Matcher m = pattern.matcher(p.toFile().getName());
+                                if (m.matches()) {
+                                    return Integer.parseInt(m.group(1));
+                                }
+                                return null;
+                            })
+                    .filter(Objects::nonNull)
+                    .max(Integer::compare)
+                    .orElse(-1);
+        }
+    }
+
+    /**
+     * Returns the paths of the checkpoints and parameter files of a model, sorted by epoch.
+     *
+     * @param modelDir the directory of the checkpoints
+     * @param modelName the name of the model
+     * @return the paths of the checkpoints and parameter files of each epoch
+     * @throws IOException if failed to list the directory
+     */
+    public static Map<Integer, List<Path>> listCheckpoints(Path modelDir, String modelName)
+            throws IOException {
+        Pattern pattern = Pattern.compile(Pattern.quote(modelName) + "-(\\d{4,})\\.(ckpt|params)");
+        try (Stream<Path> stream = Files.walk(modelDir, 1, FileVisitOption.FOLLOW_LINKS)) {
+            return stream.map(p -> new Pair<>(pattern.matcher(p.toFile().getName()), p))
+                    .filter(p -> p.getKey().matches())
+                    .collect(
+                            Collectors.groupingBy(
+                                    p -> Integer.parseInt(p.getKey().group(1)),
+                                    TreeMap::new,
+                                    Collectors.mapping(Pair::getValue, Collectors.toList())));
+        }
+    }
+
+    /**
+     * Saves the parameters of a {@link Block} as a checkpoint.
+     *
+     * @param path the path of the checkpoint
+     * @param modelName the name of the model
+     * @param epoch the epoch of the checkpoint
+     * @param properties the properties of the model
+     * @param block the block to save
+     * @throws IOException if failed to write the checkpoint
+     */
+    public static void save(
+            Path path, String modelName, int epoch, Map<String, String> properties, Block block)
+            throws IOException {
+        PairList<String, NDArray> arrays = new PairList<>();
+        for (Pair<String, Parameter> pair : block.getParameters()) {
+            Parameter parameter = pair.getValue();
+            if (parameter.isInitialized()) {
+                arrays.add(pair.getKey(), parameter.getArray());
+            }
+        }
+        save(path, modelName, epoch, properties, arrays, DEFAULT_SHARD_SIZE);
+    }
+
+    /**
+     * Saves a list of named arrays as a checkpoint.
+     *
+     * @param path the path of the checkpoint
+     * @param modelName the name of the model
+     * @param epoch the epoch of the checkpoint
+     * @param properties the properties of the model
+     * @param arrays the arrays to save
+     * @param shardSize the maximum size of a shard, a larger array is stored in its own shard,
+     *     must not exceed {@link #MAX_SHARD_SIZE}
+     * @throws IOException if failed to write the checkpoint
+     * @throws IllegalArgumentException if an array is larger than {@link #MAX_SHARD_SIZE}
+     */
+    public static void save(
+            Path path,
+            String modelName,
+            int epoch,
+            Map<String, String> properties,
+            PairList<String, NDArray> arrays,
+            long shardSize)
+            throws IOException {
+        if (shardSize <= 0 || shardSize > MAX_SHARD_SIZE) {
+            throw new IllegalArgumentException("Invalid shard size: " + shardSize);
+        }
+        // reject a too large array before anything is written
+        for (Pair<String, NDArray> pair : arrays) {
+            NDArray array = pair.getValue();
+            long length = array.getShape().size() * array.getDataType().getNumOfBytes();
+            if (length > MAX_SHARD_SIZE) {
+                throw new IllegalArgumentException(
+                        "Parameter "
+                                + pair.getKey()
+                                + " is too large for a sharded checkpoint: "
+                                + length
+                                + " bytes");
+            }
+        }
+        Path tmp = path.resolveSibling(path.toFile().getName() + ".tmp");
+        Utils.deleteQuietly(tmp);
+        Files.createDirectories(tmp);
+
+        Index index = new Index();
+        index.version = VERSION;
+        index.modelName = modelName;
+        index.epoch = epoch;
+        index.byteOrder = ByteOrder.nativeOrder().toString();
+        index.properties = new LinkedHashMap<>(properties);
+        index.shards = new ArrayList<>();
+        index.parameters = new ArrayList<>();
+
+        FileChannel channel = null;
+        long offset = 0;
+        try {
+            for (Pair<String, NDArray> pair : arrays) {
+                NDArray array = pair.getValue();
+                ByteBuffer bb = array.toByteBuffer();
+                long length = bb.remaining();
+                if (channel == null || (offset > 0 && offset + length > shardSize)) {
+                    if (channel != null) {
+                        channel.force(true);
+                        channel.close();
+                    }
+                    int shardId = index.shards.size();
+                    String shard = String.format(Locale.ROOT, "shard-%05d.bin", shardId);
+                    index.shards.add(shard);
+                    channel =
+                            FileChannel.open(
+                                    tmp.resolve(shard),
+                                    StandardOpenOption.CREATE_NEW,
+                                    StandardOpenOption.WRITE);
+                    offset = 0;
+                }
+                Entry entry = new Entry();
+                entry.name = pair.getKey();
+                entry.dataType = array.getDataType().name();
+                entry.shape = array.getShape().getShape();
+                entry.shard = index.shards.size() - 1;
+                entry.offset = offset;
+                entry.length = length;
+                index.parameters.add(entry);
+
+                while (bb.hasRemaining()) {
+                    channel.write(bb, offset + length - bb.remaining());
+                }
+                offset += (length + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+            }
+            if (channel != null) {
+                channel.force(true);
+            }
+        } finally {
+            if (channel != null) {
+                channel.close();
+            }
+        }
+
+        // the index is written last, a checkpoint without index is incomplete
+        Path indexFile = tmp.resolve(INDEX_FILE);
+        try (Writer writer = Files.newBufferedWriter(indexFile)) {
+            JsonUtils.GSON_PRETTY.toJson(index, writer);
+        }
+        try (FileChannel fc = FileChannel.open(indexFile, StandardOpenOption.WRITE)) {
+            fc.force(true);
+        }
+        Utils.deleteQuietly(path);
+        try {
+            Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tmp, path);
+        }
+    }
+
+    /**
+     * Opens a checkpoint, the parameters are loaded lazily.
+     *
+     * @param path the path of the checkpoint
+     * @return the checkpoint
+     * @throws IOException if the checkpoint is invalid
+     */
+    public static ShardedCheckpoint open(Path path) throws IOException {
+        Index index;
+        try (Reader reader = Files.newBufferedReader(path.resolve(INDEX_FILE))) {
+            index = JsonUtils.GSON.fromJson(reader, Index.class);
+        }
+        if (index == null || index.version != VERSION) {
+            throw new IOException("Unsupported checkpoint: " + path);
+        }
+        if (!ByteOrder.nativeOrder().toString().equals(index.byteOrder)) {
+            throw new IOException("Unsupported byte order of checkpoint: " + index.byteOrder);
+        }
+        return new ShardedCheckpoint(path, index);
+    }
+
+    /**
+     * Returns the name of the model.
+     *
+     * @return the name of the model
+     */
+    public String getModelName() {
+        return index.modelName;
+    }
+
+    /**
+     * Returns the epoch of the checkpoint.
+     *
+     * @return the epoch of the checkpoint
+     */
+    public int getEpoch() {
+        return index.epoch;
+    }
+
+    /**
+     * Returns the properties of the model.
+     *
+     * @return the properties of the model
+     */
+    public Map<String, String> getProperties() {
+        return Collections.unmodifiableMap(index.properties);
+    }
+
+    /**
+     * Returns the names of the parameters in the checkpoint.
+     *
+     * @return the names of the parameters
+     */
+    public List<String> getParameterNames() {
+        return new ArrayList<>(entries.keySet());
+    }
+
+    /**
+     * Returns whether the checkpoint contains a parameter.
+     *
+     * @param name the name of the parameter
+     * @return whether the checkpoint contains the parameter
+     */
+    public boolean contains(String name) {
+        return entries.containsKey(name);
+    }
+
+    /**
+     * Returns the shape of a parameter.
+     *
+     * @param name the name of the parameter
+     * @return the shape of the parameter
+     */
+    public Shape getShape(String name) {
+        return new Shape(getEntry(name).shape);
+    }
+
+    /**
+     * Returns the data of a parameter, which is a view of the memory mapped shard.
+     *
+     * @param name the name of the parameter
+     * @return the data of the parameter
+     * @throws IOException if failed to map the shard
+     */
+    public ByteBuffer getBuffer(String name) throws IOException {
+        Entry entry = getEntry(name);
+        ByteBuffer bb = map(entry.shard).duplicate();
+        bb.position(Math.toIntExact(entry.offset));
+        bb.limit(Math.toIntExact(entry.offset + entry.length));
+        return bb.slice().order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Creates an {@link NDArray} of a parameter.
+     *
+     * @param manager the manager to create the array
+     * @param name the name of the parameter
+     * @return the array of the parameter
+     * @throws IOException if failed to map the shard
+     */
+    public NDArray get(NDManager manager, String name) throws IOException {
+        Entry entry = getEntry(name);
+        ByteBuffer bb = getBuffer(name);
+        if (bb.isReadOnly()) {
+            ByteBuffer copy = manager.allocateDirect(bb.remaining());
+            copy.order(bb.order());
+            copy.put(bb);
+            copy.rewind();
+            bb = copy;
+        }
+        DataType dataType = DataType.valueOf(entry.dataType);
+        NDArray array = manager.create(bb, new Shape(entry.shape), dataType);
+        array.setName(name);
+        return array;
+    }
+
+    /**
+     * Loads the parameters of the checkpoint into an initialized {@link Block}.
+     *
+     * @param block the block to load the parameters into
+     * @throws IOException if failed to map the shards
+     * @throws MalformedModelException if the parameters don't match the block
+     */
+    public void loadParameters(Block block) throws IOException, MalformedModelException {
+        for (Pair<String, Parameter> pair : block.getParameters()) {
+            String name = pair.getKey();
+            Parameter parameter = pair.getValue();
+            if (!parameter.isInitialized()) {
+                throw new IllegalStateException("Parameter is not initialized: " + name);
+            }
+            Entry entry = entries.get(name);
+            if (entry == null) {
+                throw new MalformedModelException("Parameter not found in checkpoint: " + name);
+            }
+            NDArray array = parameter.getArray();
+            Shape shape = new Shape(entry.shape);
+            DataType dataType = DataType.valueOf(entry.dataType);
+            if (!shape.equals(array.getShape()) || dataType != array.getDataType()) {
+                throw new MalformedModelException(
+                        "Unexpected parameter "
+                                + name
+                                + ": "
+                                + shape
+                                + " "
+                                + dataType
+                                + ", expected: "
+                                + array.getShape()
+                                + " "
+                                + array.getDataType());
+            }
+            array.set(getBuffer(name));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        // the mapped buffers are unmapped when garbage collected
+        synchronized (this) {
+            for (int i = 0; i < shards.length; ++i) {
+                shards[i] = null;
+            }
+        }
+    }
+
+    private Entry getEntry(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            throw new IllegalArgumentException("Parameter not found in checkpoint: " + name);
+        }
+        return entry;
+    }
+
+    private synchronized MappedByteBuffer map(int shard) throws IOException {
+        if (shards[shard] == null) {
+            Path file = path.resolve(index.shards.get(shard));
+            FileChannel channel;
+            FileChannel.MapMode mode;
+            try {
+                // a private (copy-on-write) mapping requires a writable channel, the arrays can be
+                // modified without changing the file
+                channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                mode = FileChannel.MapMode.PRIVATE;
+            } catch (IOException | UnsupportedOperationException | SecurityException e) {
+                // read-only mapping, the arrays are copied from the mapped pages
+                channel = FileChannel.open(file, StandardOpenOption.READ);
+                mode = FileChannel.MapMode.READ_ONLY;
+            }
+            try {
+                long size = channel.size();
+                if (size > MAX_SHARD_SIZE) {
+                    throw new IOException("Shard is too large: " + file);
+                }
+                shards[shard] = channel.map(mode, 0, size);
+            } finally {
+                channel.close();
+            }
+        }
+        return shards[shard];
+    }
+
+    private static final class Index {
+
+        int version;
+        String modelName;
+        int epoch;
+        String byteOrder;
+        Map<String, String> properties;
+        List<String> shards;
+        List<Entry> parameters;
+    }
+
+    private static final class Entry {
+
+        String name;
+        String dataType;
+        long[] shape;
+        int shard;
+        long offset;
+        long length;
+    }
+}
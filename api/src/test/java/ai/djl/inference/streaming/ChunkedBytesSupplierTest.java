@@ -43,4 +43,21 @@ public class ChunkedBytesSupplierTest {
 
         Assert.assertFalse(data.hasNext());
     }
+
+    @Test
+    public void testCompleteExceptionally() throws InterruptedException {
+        ChunkedBytesSupplier data = new ChunkedBytesSupplier();
+        data.appendContent(new byte[] {1}, false);
+        IllegalArgumentException error = new IllegalArgumentException("failed");
+        data.completeExceptionally(error);
+
+        Assert.assertEquals(data.nextChunk(1, TimeUnit.MILLISECONDS), new byte[] {1});
+        Assert.assertTrue(data.hasNext());
+        IllegalStateException e =
+                Assert.expectThrows(
+                        IllegalStateException.class,
+                        () -> data.nextChunk(1, TimeUnit.MILLISECONDS));
+        Assert.assertSame(e.getCause(), error);
+        Assert.assertFalse(data.hasNext());
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.metric;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class HistogramTest {
+
+    @Test
+    public void testPercentile() {
+        Histogram histogram = new Histogram();
+        Assert.assertTrue(Double.isNaN(histogram.percentile(50)));
+        for (int i = 1; i <= 100; ++i) {
+            histogram.record(i);
+        }
+        Assert.assertEquals(histogram.getCount(), 100);
+        Assert.assertEquals(histogram.getMean(), 50.5);
+        Assert.assertEquals(histogram.getMin(), 1d);
+        Assert.assertEquals(histogram.getMax(), 100d);
+        Assert.assertEquals(histogram.percentile(50), 51d);
+        Assert.assertEquals(histogram.percentile(90), 91d);
+        Assert.assertEquals(histogram.percentile(100), 100d);
+        Assert.assertEquals(histogram.percentile(0), 1d);
+
+        histogram.reset();
+        Assert.assertEquals(histogram.getCount(), 0);
+        histogram.record(123456.789);
+        histogram.record(-2.5);
+        histogram.record(0);
+        Assert.assertEquals(histogram.percentile(0), -2.5);
+        Assert.assertEquals(histogram.percentile(50), 0d);
+        Assert.assertEquals(histogram.percentile(99), 123456.789, 123456.789 / 64);
+    }
+
+    @Test
+    public void testMerge() throws InterruptedException {
+        Histogram h1 = new Histogram();
+        Histogram h2 = new Histogram();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; ++t) {
+            executor.submit(
+                    () -> {
+                        for (int i = 0; i < 1000; ++i) {
+                            h1.record(i % 10);
+                        }
+                    });
+        }
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        Assert.assertEquals(h1.getCount(), 4000);
+
+        h2.record(1000);
+        h2.merge(h1);
+        Assert.assertEquals(h2.getCount(), 4001);
+        Assert.assertEquals(h2.getMax(), 1000d);
+        Assert.assertEquals(h2.percentile(50), 5d);
+    }
+}
@@ -64,6 +64,35 @@ public class MetricsTest {
                 });
         metrics.addMetric("m1", 1L);
         Assert.assertEquals(metrics.getMetric("m1").size(), 1);
+
+        // retained samples give exact percentiles and don't keep histograms
+        metrics.addMetric("m5", 1000.3d);
+        Assert.assertEquals(metrics.percentile("m5", 50).getValue().doubleValue(), 1000.3d);
+        Assert.assertNull(metrics.getHistogram("m5"));
+    }
+
+    @Test
+    public void testBoundedMetrics() {
+        Metrics metrics = new Metrics(false);
+        Dimension dimension = new Dimension("Model", "mlp");
+        for (int i = 0; i < 100; ++i) {
+            metrics.addMetric("latency", i, Unit.MICROSECONDS, dimension);
+        }
+        metrics.addMetric("latency", 1000, Unit.MICROSECONDS);
+        Assert.assertEquals(metrics.getMetric("latency").size(), 1);
+        Assert.assertEquals(metrics.latestMetric("latency").getValue().intValue(), 1000);
+        Assert.assertEquals(metrics.latestMetric("latency").getUnit(), Unit.MICROSECONDS);
+        Assert.assertEquals(metrics.percentile("latency", 50).getValue().intValue(), 50);
+        Assert.assertEquals(metrics.percentile("latency", 100).getValue().intValue(), 1000);
+        Assert.assertEquals(metrics.getHistogram("latency", dimension).getCount(), 100);
+        Assert.assertEquals(metrics.getHistogram("latency").getCount(), 1);
+        Assert.assertNull(metrics.getHistogram("latency", new Dimension("Model", "none")));
+        Assert.assertNull(metrics.getHistogram("none"));
+
+        metrics.setLimit(10);
+        metrics.setOnLimit((m, n) -> Assert.assertEquals(m.mean(n), 58.911, 0.001));
+        metrics.addMetric("latency", 1, Unit.MICROSECONDS, dimension);
+        Assert.assertEquals(metrics.mean("latency"), 1d);
     }
 
     @Test
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.modality.cv;
+
+import ai.djl.modality.cv.util.NDImageUtils;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.types.Shape;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+
+public class ImageBatchConverterTest {
+
+    @Test
+    public void testRasterTypes() {
+        ImageFactory factory = ImageFactory.getInstance();
+        int[] types = {
+            BufferedImage.TYPE_3BYTE_BGR,
+            BufferedImage.TYPE_INT_RGB,
+            BufferedImage.TYPE_INT_ARGB,
+            BufferedImage.TYPE_INT_BGR
+        };
+        try (NDManager manager = NDManager.newBaseManager()) {
+            for (int type : types) {
+                BufferedImage img = newImage(type, 6, 4);
+                NDArray array = factory.fromImage(img).toNDArray(manager);
+                Assert.assertEquals(array.getShape(), new Shape(4, 6, 3));
+                Assert.assertEquals(array.toUint8Array(), expected(img, 0, 0, 6, 4));
+
+                // sub image shares the raster of its parent
+                Image sub = factory.fromImage(img).getSubImage(1, 2, 3, 2);
+                int[] pixels = sub.toNDArray(manager).toUint8Array();
+                Assert.assertEquals(pixels, expected(img, 1, 2, 3, 2));
+            }
+
+            BufferedImage gray = new BufferedImage(3, 2, BufferedImage.TYPE_BYTE_GRAY);
+            gray.getRaster().setPixels(0, 0, 3, 2, new int[] {0, 10, 20, 30, 40, 250});
+            NDArray array = factory.fromImage(gray).toNDArray(manager, Image.Flag.GRAYSCALE);
+            Assert.assertEquals(array.toUint8Array(), new int[] {0, 10, 20, 30, 40, 250});
+            array = factory.fromImage(gray).toNDArray(manager);
+            Assert.assertEquals(array.get("1, 2").toUint8Array(), new int[] {250, 250, 250});
+        }
+    }
+
+    @Test
+    public void testConvert() {
+        ImageFactory factory = ImageFactory.getInstance();
+        float[] mean = {0.485f, 0.456f, 0.406f};
+        float[] std = {0.229f, 0.224f, 0.225f};
+        try (NDManager manager = NDManager.newBaseManager()) {
+            Image img = factory.fromImage(newImage(BufferedImage.TYPE_3BYTE_BGR, 8, 6));
+            NDArray expected = NDImageUtils.toTensor(img.toNDArray(manager));
+            expected = NDImageUtils.normalize(expected, mean, std);
+
+            ImageBatchConverter converter =
+                    ImageBatchConverter.builder().optNormalize(mean, std).build();
+            NDArray array = converter.toNDArray(manager, img);
+            Assert.assertEquals(array.getShape(), new Shape(3, 6, 8));
+            Assert.assertTrue(array.allClose(expected, 1e-5, 1e-5, false));
+
+            // HWC batch
+            converter =
+                    ImageBatchConverter.builder()
+                            .optNormalize(mean, std)
+                            .optChannelsFirst(false)
+                            .build();
+            List<Image> images = Arrays.asList(img, img.duplicate());
+            NDArray batch = converter.toNDArray(manager, images);
+            Assert.assertEquals(batch.getShape(), new Shape(2, 6, 8, 3));
+            NDArray hwc = expected.transpose(1, 2, 0);
+            Assert.assertTrue(batch.get(1).allClose(hwc, 1e-5, 1e-5, false));
+
+            // downsampling by 2 with half-pixel centers averages 2x2 blocks
+            converter = ImageBatchConverter.builder().optResize(4, 3).optScale(1f).build();
+            array = converter.toNDArray(manager, img);
+            NDArray pixels = img.toNDArray(manager).toType(DataType.FLOAT32, false);
+            NDArray pooled = pixels.reshape(3, 2, 4, 2, 3).mean(new int[] {1, 3});
+            Assert.assertTrue(array.allClose(pooled.transpose(2, 0, 1), 1e-4, 1e-4, false));
+
+            Assert.assertThrows(
+                    IllegalArgumentException.class,
+                    () ->
+                            ImageBatchConverter.builder()
+                                    .optFlag(Image.Flag.GRAYSCALE)
+                                    .optNormalize(mean, std)
+                                    .build());
+        }
+    }
+
+    private static BufferedImage newImage(int type, int width, int height) {
+        BufferedImage img = new BufferedImage(width, height, type);
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                int red = x * 40;
+                int green = y * 50;
+                int blue = (x + y) * 17;
+                img.setRGB(x, y, 0xFF000000 | (red << 16) | (green << 8) | blue);
+            }
+        }
+        return img;
+    }
+
+    private static int[] expected(BufferedImage img, int x0, int y0, int width, int height) {
+        int[] ret = new int[width * height * 3];
+        int pos = 0;
+        for (int y = y0; y < y0 + height; ++y) {
+            for (int x = x0; x < x0 + width; ++x) {
+                int rgb = img.getRGB(x, y);
+                ret[pos++] = (rgb >> 16) & 0xFF;
+                ret[pos++] = (rgb >> 8) & 0xFF;
+                ret[pos++] = rgb & 0xFF;
+            }
+        }
+        return ret;
+    }
+}
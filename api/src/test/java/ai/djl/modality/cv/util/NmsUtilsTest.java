@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.modality.cv.util;
+
+import ai.djl.modality.cv.output.Rectangle;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.Shape;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class NmsUtilsTest {
+
+    private static final float[] BOXES = {
+        0, 0, 10, 10, // 0
+        1, 1, 11, 11, // 1, overlaps 0
+        20, 20, 30, 30, // 2
+        0, 0, 10, 9, // 3, overlaps 0
+        21, 21, 31, 31 // 4, overlaps 2
+    };
+    private static final float[] SCORES = {0.9f, 0.8f, 0.7f, 0.95f, 0.1f};
+
+    @Test
+    public void testNms() {
+        int[] kept = NmsUtils.nms(BOXES, SCORES, 5, 0.5f);
+        Assert.assertEquals(kept, new int[] {3, 2});
+
+        kept = NmsUtils.nms(BOXES, SCORES, null, 5, 0.75f, 0.5f, 10);
+        Assert.assertEquals(kept, new int[] {3});
+
+        kept = NmsUtils.nms(BOXES, SCORES, null, 5, 0f, 0.95f, 2);
+        Assert.assertEquals(kept, new int[] {3, 0});
+
+        Assert.assertEquals(NmsUtils.iou(BOXES, 0, 3), 0.9f, 1e-6f);
+        Assert.assertEquals(NmsUtils.iou(BOXES, 0, 2), 0f);
+    }
+
+    @Test
+    public void testClassAwareNms() {
+        int[] classIds = {0, 1, 0, 0, 1};
+        int[] kept = NmsUtils.nms(BOXES, SCORES, classIds, 5, 0f, 0.5f, 10);
+        Assert.assertEquals(kept, new int[] {3, 1, 2, 4});
+    }
+
+    @Test
+    public void testBatchedNms() {
+        int[] imageIds = {0, 1, 0, 1, 1};
+        int[][] kept = NmsUtils.batchedNms(BOXES, SCORES, null, imageIds, 3, 5, 0f, 0.5f, 10);
+        Assert.assertEquals(kept[0], new int[] {0, 2});
+        Assert.assertEquals(kept[1], new int[] {3, 4});
+        Assert.assertEquals(kept[2].length, 0);
+    }
+
+    @Test
+    public void testSoftNms() {
+        float[] scores = SCORES.clone();
+        int[] kept = NmsUtils.softNms(BOXES, scores, null, 5, 0.5f, 0.05f, 10);
+        // the overlapped boxes are kept with decayed scores
+        Assert.assertEquals(kept, new int[] {3, 2, 1, 0});
+        Assert.assertTrue(scores[0] < SCORES[0] * Math.exp(-0.81 / 0.5) + 1e-6);
+
+        scores = SCORES.clone();
+        kept = NmsUtils.softNms(BOXES, scores, null, 5, 0.5f, 0.3f, 10);
+        Assert.assertEquals(kept, new int[] {3, 2, 1});
+    }
+
+    @Test
+    public void testRectangleNms() {
+        List<Rectangle> boxes = new ArrayList<>();
+        List<Double> scores = new ArrayList<>();
+        for (int i = 0; i < SCORES.length; ++i) {
+            int pos = i * 4;
+            float w = BOXES[pos + 2] - BOXES[pos];
+            float h = BOXES[pos + 3] - BOXES[pos + 1];
+            boxes.add(new Rectangle(BOXES[pos], BOXES[pos + 1], w, h));
+            scores.add((double) SCORES[i]);
+        }
+        Assert.assertEquals(Rectangle.nms(boxes, scores, 0.5f), Arrays.asList(3, 2));
+    }
+
+    @Test
+    public void testNDArrayNms() {
+        try (NDManager manager = NDManager.newBaseManager()) {
+            NDArray boxes = manager.create(BOXES, new Shape(5, 4));
+            NDArray scores = manager.create(SCORES);
+            int[] kept = NmsUtils.nms(boxes, scores, 0.5f, 10);
+            Assert.assertEquals(kept, new int[] {3, 2});
+            kept = NmsUtils.nms(boxes, scores, 0.5f, 1);
+            Assert.assertEquals(kept, new int[] {3});
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.ndarray;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class BufferPoolTest {
+
+    @Test
+    public void testAcquireRelease() {
+        BufferPool pool = new BufferPool(4096, 8192);
+        ByteBuffer buf = pool.acquire(1000);
+        Assert.assertTrue(buf.isDirect());
+        Assert.assertEquals(buf.order(), ByteOrder.nativeOrder());
+        Assert.assertEquals(buf.capacity(), 1024);
+        Assert.assertEquals(buf.limit(), 1000);
+        Assert.assertEquals(pool.getMisses(), 1);
+
+        pool.release(buf);
+        ByteBuffer reused = pool.acquire(600);
+        Assert.assertSame(reused, buf);
+        Assert.assertEquals(reused.limit(), 600);
+        Assert.assertEquals(reused.position(), 0);
+        Assert.assertEquals(pool.getHits(), 1);
+
+        // larger than the max buffer size
+        ByteBuffer large = pool.acquire(5000);
+        Assert.assertEquals(large.capacity(), 5000);
+        pool.release(large);
+        Assert.assertNotSame(pool.acquire(5000), large);
+        Assert.assertEquals(pool.getMisses(), 3);
+
+        // heap buffers are ignored
+        pool.release(reused);
+        pool.release(ByteBuffer.allocate(1024));
+        Assert.assertSame(pool.acquire(1024), reused);
+    }
+
+    @Test
+    public void testSharedPool() throws ExecutionException, InterruptedException {
+        BufferPool pool = new BufferPool(4096, 5000);
+        ByteBuffer a = pool.acquire(2048);
+        ByteBuffer b = pool.acquire(2048);
+        ByteBuffer c = pool.acquire(2048);
+        pool.release(a); // thread local cache
+        Assert.assertEquals(pool.getRetainedBytes(), 2048);
+        pool.release(b);
+        pool.release(c); // exceeds maxRetainedBytes
+        Assert.assertEquals(pool.getRetainedBytes(), 4096);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ByteBuffer other = executor.submit(() -> pool.acquire(2048)).get();
+            Assert.assertSame(other, b);
+            Assert.assertEquals(pool.getRetainedBytes(), 2048);
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertSame(pool.acquire(2048), a);
+        Assert.assertEquals(pool.getRetainedBytes(), 0);
+    }
+
+    @Test
+    public void testTerminatedThread() throws InterruptedException {
+        BufferPool pool = new BufferPool(4096, 3000);
+        Thread thread = new Thread(() -> pool.release(pool.acquire(2048)));
+        thread.start();
+        thread.join();
+        Assert.assertEquals(pool.getRetainedBytes(), 2048);
+
+        // the cache of the terminated thread is reclaimed when the pool is full
+        ByteBuffer buf = pool.acquire(2048);
+        pool.release(buf);
+        Assert.assertEquals(pool.getRetainedBytes(), 2048);
+        Assert.assertSame(pool.acquire(2048), buf);
+    }
+}
@@ -19,6 +19,9 @@ import org.testng.annotations.Test;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 public class NDListTest {
 
@@ -50,4 +53,33 @@ public class NDListTest {
             Assert.assertEquals(list.get(0).toByteArray(), new byte[] {0, 1, 2, 3, 4, 5});
         }
     }
+
+    @Test
+    public void testDecodePath() throws IOException {
+        try (NDManager manager = NDManager.newBaseManager(Device.cpu())) {
+            Path dir = Paths.get("build/tmp/ndlist");
+            Files.createDirectories(dir);
+            for (String name : new String[] {"list.npz", "list.safetensors", "2d.npy"}) {
+                Path file = Paths.get("src/test/resources/" + name);
+                NDList expected = NDList.decode(manager, Files.readAllBytes(file));
+                NDList list = NDList.decode(manager, file);
+                Assert.assertEquals(list.size(), expected.size());
+                for (int i = 0; i < list.size(); ++i) {
+                    Assert.assertEquals(list.get(i).getName(), expected.get(i).getName());
+                    Assert.assertEquals(list.get(i), expected.get(i));
+                }
+
+                for (NDList.Encoding encoding : NDList.Encoding.values()) {
+                    Path out = dir.resolve(name + '.' + encoding);
+                    expected.encode(out, encoding);
+                    Assert.assertEquals(Files.readAllBytes(out), expected.encode(encoding));
+                    NDList decoded = NDList.decode(manager, out);
+                    Assert.assertEquals(decoded.size(), expected.size());
+                    for (int i = 0; i < decoded.size(); ++i) {
+                        Assert.assertEquals(decoded.get(i), expected.get(i));
+                    }
+                }
+            }
+        }
+    }
 }
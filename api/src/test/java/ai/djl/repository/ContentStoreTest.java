@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.repository;
+
+import ai.djl.util.Utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ContentStoreTest {
+
+    @Test
+    public void testSingleFlight() throws IOException, InterruptedException, ExecutionException {
+        Path dir = Paths.get("build/tmp/store/single");
+        Utils.deleteQuietly(dir);
+        ContentStore store = new ContentStore(dir.resolve("root"), 0);
+        AtomicInteger loads = new AtomicInteger();
+        ContentStore.Loader loader =
+                d -> {
+                    loads.incrementAndGet();
+                    Files.createDirectories(d.resolve("sub"));
+                    Files.write(d.resolve("sub/model.bin"), new byte[1024]);
+                };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; ++i) {
+                Path target = dir.resolve("view" + i);
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    store.link("key", target, loader);
+                                    return null;
+                                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(loads.get(), 1);
+        Assert.assertTrue(store.contains("key"));
+        for (int i = 0; i < 8; ++i) {
+            Path file = dir.resolve("view" + i + "/sub/model.bin");
+            Assert.assertEquals(Files.size(file), 1024);
+        }
+    }
+
+    @Test
+    public void testEviction() throws IOException {
+        Path dir = Paths.get("build/tmp/store/evict");
+        Utils.deleteQuietly(dir);
+        ContentStore store = new ContentStore(dir.resolve("root"), 2500);
+        for (int i = 0; i < 3; ++i) {
+            byte[] content = ("content" + i).getBytes(StandardCharsets.UTF_8);
+            store.link(
+                    "key" + i,
+                    dir.resolve("view" + i),
+                    d -> {
+                        Files.write(d.resolve("model.bin"), new byte[1000]);
+                        Files.write(d.resolve("name.txt"), content);
+                    });
+            // make sure the access time differs
+            Path entry = dir.resolve("root/objects/key" + i);
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(1000L * (i + 1)));
+        }
+        // the least recently used entry is evicted
+        Assert.assertFalse(store.contains("key0"));
+        Assert.assertTrue(store.contains("key1"));
+        Assert.assertTrue(store.contains("key2"));
+        Assert.assertTrue(store.getSize() <= 2500);
+
+        // the views are not affected by the eviction
+        byte[] name = Files.readAllBytes(dir.resolve("view0/name.txt"));
+        Assert.assertEquals(new String(name, StandardCharsets.UTF_8), "content0");
+
+        store.evict(0);
+        Assert.assertEquals(store.getSize(), 0);
+    }
+}
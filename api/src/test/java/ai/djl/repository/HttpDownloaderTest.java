@@ -0,0 +1,289 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.repository;
+
+import ai.djl.metric.Metrics;
+import ai.djl.util.Hex;
+import ai.djl.util.Utils;
+import ai.djl.util.ZipUtils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+public class HttpDownloaderTest {
+
+    private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d+)");
+
+    private HttpServer server;
+    private byte[] data;
+    private byte[] zip;
+    private AtomicLong served = new AtomicLong();
+    private AtomicInteger requests = new AtomicInteger();
+    private volatile int truncate;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        data = new byte[100_000];
+        new Random(1).nextBytes(data);
+
+        Path dir = Paths.get("build/tmp/download/model");
+        Utils.deleteQuietly(dir.getParent());
+        Files.createDirectories(dir);
+        Files.write(dir.resolve("model.bin"), data);
+        Path zipFile = dir.resolveSibling("model.zip");
+        ZipUtils.zip(dir, zipFile, false);
+        zip = Files.readAllBytes(zipFile);
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/data.bin", e -> serve(e, data, true));
+        server.createContext("/norange.bin", e -> serve(e, data, false));
+        server.createContext("/model.zip", e -> serve(e, zip, true));
+        server.createContext("/copy.zip", e -> serve(e, zip, true));
+        server.createContext("/empty.bin", e -> serve(e, new byte[0], true));
+        server.start();
+    }
+
+    @AfterClass
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testParallelDownload() throws IOException {
+        reset(0);
+        Path file = Paths.get("build/tmp/download/parallel.bin");
+        HttpDownloader downloader = new HttpDownloader(getUrl("/data.bin"), file, null, 4, 10_000);
+        Assert.assertEquals(downloader.download(), sha1(data));
+        Assert.assertEquals(Files.readAllBytes(file), data);
+        // probe + 4 segments
+        Assert.assertEquals(requests.get(), 5);
+        Assert.assertTrue(Files.notExists(Paths.get(file + ".part")));
+        Assert.assertTrue(Files.notExists(Paths.get(file + ".part.state")));
+
+        reset(0);
+        file = Paths.get("build/tmp/download/norange.bin");
+        downloader = new HttpDownloader(getUrl("/norange.bin"), file, null, 4, 10_000);
+        Assert.assertEquals(downloader.download(), sha1(data));
+        Assert.assertEquals(Files.readAllBytes(file), data);
+        Assert.assertEquals(requests.get(), 1);
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        reset(0);
+        Path file = Paths.get("build/tmp/download/empty.bin");
+        HttpDownloader downloader = new HttpDownloader(getUrl("/empty.bin"), file, null, 4, 10);
+        // the probe range is not satisfiable, the file is downloaded without range
+        Assert.assertEquals(downloader.download(), sha1(new byte[0]));
+        Assert.assertEquals(Files.size(file), 0);
+        Assert.assertEquals(requests.get(), 2);
+        Assert.assertTrue(Files.notExists(Paths.get(file + ".part")));
+    }
+
+    @Test
+    public void testResume() throws IOException {
+        Path file = Paths.get("build/tmp/download/resume.bin");
+        URL url = getUrl("/data.bin");
+
+        // every connection is closed after 5000 bytes, the retries resume the range
+        reset(5000);
+        HttpDownloader downloader = new HttpDownloader(url, file, null, 1, 10_000_000);
+        Assert.assertThrows(IOException.class, downloader::download);
+        Assert.assertTrue(Files.exists(Paths.get(file + ".part.state")));
+        // excludes the byte of the probe request
+        long written = served.get() - 1;
+        Assert.assertTrue(written > 5000 && written < data.length);
+
+        // the next attempt continues from the partial file
+        reset(0);
+        downloader = new HttpDownloader(url, file, null, 1, 10_000_000);
+        Assert.assertEquals(downloader.download(), sha1(data));
+        Assert.assertEquals(Files.readAllBytes(file), data);
+        Assert.assertEquals(served.get(), 1 + data.length - written);
+        Assert.assertTrue(Files.notExists(Paths.get(file + ".part.state")));
+    }
+
+    @Test
+    public void testPrepare() throws IOException {
+        reset(0);
+        System.setProperty("DJL_DOWNLOAD_SEGMENT_SIZE", "1000");
+        try {
+            Repository repo = Repository.newInstance("test", getUrl("/model.zip").toString());
+            List<MRL> list = repo.getResources();
+            Artifact artifact = repo.resolve(list.get(0), null);
+            Path dir = repo.getResourceDirectory(artifact);
+            Utils.deleteQuietly(dir);
+
+            Metrics metrics = new Metrics();
+            ((AbstractRepository) repo).setMetrics(metrics);
+            repo.prepare(artifact);
+            Assert.assertEquals(Files.readAllBytes(dir.resolve("model.bin")), data);
+            Assert.assertTrue(metrics.hasMetric("DownloadTime"));
+            Assert.assertTrue(metrics.hasMetric("DownloadThroughput"));
+            Assert.assertTrue(requests.get() > 2);
+            Utils.deleteQuietly(dir);
+        } finally {
+            System.clearProperty("DJL_DOWNLOAD_SEGMENT_SIZE");
+        }
+    }
+
+    @Test
+    public void testConcurrentDownload() throws IOException, URISyntaxException {
+        reset(0);
+        URL url = getUrl("/model.zip");
+        Repository repo = Repository.newInstance("test", url.toString());
+        Artifact artifact = repo.resolve(repo.getResources().get(0), null);
+        Artifact.Item item = artifact.getFiles().values().iterator().next();
+        URI uri = url.toURI();
+
+        Path tmp = Paths.get("build/tmp/download/concurrent/tmp").toAbsolutePath();
+        Path dir = tmp.resolveSibling(".download");
+        Utils.deleteQuietly(tmp.getParent());
+        Files.createDirectories(tmp);
+        Files.createDirectories(dir);
+        Path lockFile = dir.resolve(Utils.hash(uri.toString()) + ".lock");
+        try (FileChannel channel =
+                        FileChannel.open(
+                                lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                FileLock lock = channel.lock()) {
+            // the resumable file is locked by another download, a unique file is used instead
+            ((AbstractRepository) repo).downloadHttp(tmp, uri, item, null);
+            Assert.assertTrue(lock.isValid());
+        }
+        try (Stream<Path> stream = Files.walk(tmp)) {
+            Path file = stream.filter(p -> p.endsWith("model.bin")).findFirst().orElse(null);
+            Assert.assertNotNull(file);
+            Assert.assertEquals(Files.readAllBytes(file), data);
+        }
+        try (Stream<Path> stream = Files.list(dir)) {
+            // only the lock file is left
+            Assert.assertEquals(stream.count(), 1);
+        }
+    }
+
+    @Test
+    public void testContentStore() throws IOException, URISyntaxException {
+        reset(0);
+        URL url = getUrl("/model.zip");
+        Repository repo = Repository.newInstance("test", url.toString());
+        Artifact artifact = repo.resolve(repo.getResources().get(0), null);
+        Artifact.Item item = artifact.getFiles().values().iterator().next();
+        Assert.assertNull(item.getSha1Hash());
+
+        Path dir = Paths.get("build/tmp/download/store").toAbsolutePath();
+        Utils.deleteQuietly(dir);
+        ContentStore store = new ContentStore(dir.resolve("root"), 0);
+        // the same content from different URLs is keyed by its SHA1 hash and stored once
+        for (String path : new String[] {"/model.zip", "/copy.zip"}) {
+            Path tmp = dir.resolve("tmp" + path.substring(1, path.indexOf('.')));
+            Files.createDirectories(tmp);
+            URI uri = getUrl(path).toURI();
+            ((AbstractRepository) repo).downloadHttp(tmp, uri, item, null, store);
+            try (Stream<Path> stream = Files.walk(tmp)) {
+                Path file = stream.filter(p -> p.endsWith("model.bin")).findFirst().orElse(null);
+                Assert.assertNotNull(file);
+                Assert.assertEquals(Files.readAllBytes(file), data);
+            }
+        }
+        Assert.assertTrue(store.contains(ContentStore.getKey(item, sha1(zip))));
+        Assert.assertEquals(store.getSize(), data.length);
+    }
+
+    private void reset(int truncate) {
+        this.truncate = truncate;
+        served.set(0);
+        requests.set(0);
+    }
+
+    private URL getUrl(String path) throws IOException {
+        return new URL("http://localhost:" + server.getAddress().getPort() + path);
+    }
+
+    private void serve(HttpExchange exchange, byte[] content, boolean rangeSupported)
+            throws IOException {
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.getResponseHeaders().add("Content-Length", String.valueOf(content.length));
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+            return;
+        }
+        requests.incrementAndGet();
+        String range = exchange.getRequestHeaders().getFirst("Range");
+        Matcher m = range == null ? null : RANGE.matcher(range);
+        int start = 0;
+        int end = content.length;
+        int status = 200;
+        if (rangeSupported && m != null && m.matches()) {
+            start = Integer.parseInt(m.group(1));
+            if (start >= content.length) {
+                exchange.getResponseHeaders().add("Content-Range", "bytes */" + content.length);
+                exchange.sendResponseHeaders(416, -1);
+                exchange.close();
+                return;
+            }
+            end = Math.min(Integer.parseInt(m.group(2)) + 1, content.length);
+            String contentRange = "bytes " + start + '-' + (end - 1) + '/' + content.length;
+            exchange.getResponseHeaders().add("Content-Range", contentRange);
+            exchange.getResponseHeaders().add("ETag", "\"" + content.length + "\"");
+            status = 206;
+        }
+        int len = end - start;
+        if (truncate > 0 && len > truncate) {
+            // a chunked response that ends before the end of the range
+            len = truncate;
+            exchange.sendResponseHeaders(status, 0);
+        } else {
+            // -1 for an empty body, 0 would be a chunked response
+            exchange.sendResponseHeaders(status, len == 0 ? -1 : len);
+        }
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(content, start, len);
+            served.addAndGet(len);
+        }
+    }
+
+    private static String sha1(byte[] buf) {
+        try {
+            return Hex.toHexString(MessageDigest.getInstance("SHA1").digest(buf));
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -13,14 +13,21 @@
 package ai.djl.repository;
 
 import ai.djl.MalformedModelException;
+import ai.djl.ModelException;
+import ai.djl.metric.Metrics;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
 import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.types.Shape;
 import ai.djl.nn.Block;
 import ai.djl.nn.Blocks;
 import ai.djl.repository.zoo.Criteria;
 import ai.djl.repository.zoo.ModelNotFoundException;
 import ai.djl.repository.zoo.ModelZoo;
+import ai.djl.repository.zoo.ZooModel;
+import ai.djl.translate.NoopTranslator;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -29,6 +36,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 
 public class ZooTest {
 
@@ -58,6 +66,38 @@ public class ZooTest {
         Assert.assertThrows(criteria::isDownloaded);
     }
 
+    @Test
+    public void testCriteriaWarmup() throws ModelException, IOException {
+        Path modelDir = Paths.get("build/model");
+        Files.createDirectories(modelDir);
+
+        try (NDManager manager = NDManager.newBaseManager()) {
+            NDList input = new NDList(manager.ones(new Shape(1, 3)));
+            Metrics metrics = new Metrics();
+            Criteria<NDList, NDList> criteria =
+                    Criteria.builder()
+                            .setTypes(NDList.class, NDList.class)
+                            .optModelPath(modelDir)
+                            .optBlock(Blocks.identityBlock())
+                            .optOption("hasParameter", "false")
+                            .optTranslator(new NoopTranslator())
+                            .optWarmupInputs(Collections.singletonList(input))
+                            .optWarmupShapes(DataType.FLOAT32, new Shape(2, 3))
+                            .optWarmupShapes(DataType.INT64, new Shape(4, 3))
+                            .optWarmupIterations(3)
+                            .optWarmupMetrics(metrics)
+                            .build();
+            Assert.assertEquals(criteria.getWarmupShapes().size(), 2);
+            Assert.assertEquals(criteria.toBuilder().build().getWarmupIterations(), 3);
+
+            try (ZooModel<NDList, NDList> model = criteria.loadModel()) {
+                Assert.assertNotNull(model);
+                Assert.assertEquals(metrics.getMetric("WarmupLatency").size(), 3);
+                Assert.assertTrue(metrics.hasMetric("Inference"));
+            }
+        }
+    }
+
     @Test
     public void testCriteriaToBuilder() {
         Criteria<Input, Output> criteria1 =
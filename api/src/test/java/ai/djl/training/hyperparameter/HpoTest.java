@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.training.hyperparameter;
+
+import ai.djl.training.hyperparameter.optimizer.HpOTpe;
+import ai.djl.training.hyperparameter.optimizer.HpOptimizer;
+import ai.djl.training.hyperparameter.param.HpCategorical;
+import ai.djl.training.hyperparameter.param.HpFloat;
+import ai.djl.training.hyperparameter.param.HpSet;
+import ai.djl.training.hyperparameter.scheduler.AshaScheduler;
+import ai.djl.util.RandomUtils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class HpoTest {
+
+    @Test
+    public void testAshaScheduler() {
+        AshaScheduler scheduler = new AshaScheduler(20, 1, 3);
+        Assert.assertEquals(scheduler.getRungs(), new int[] {1, 3, 9});
+
+        // the first trial at a rung always continues
+        Assert.assertFalse(scheduler.shouldStop(0, 1, 1.0f));
+        // only the best third continues
+        Assert.assertTrue(scheduler.shouldStop(1, 1, 2.0f));
+        Assert.assertTrue(scheduler.shouldStop(2, 1, 1.5f));
+        Assert.assertFalse(scheduler.shouldStop(3, 1, 0.5f));
+        // epochs between the rungs are not compared
+        Assert.assertFalse(scheduler.shouldStop(1, 2, 10f));
+        Assert.assertFalse(scheduler.shouldStop(0, 3, 0.8f));
+        Assert.assertTrue(scheduler.shouldStop(3, 3, 0.9f));
+        Assert.assertTrue(scheduler.shouldStop(4, 1, Float.NaN));
+
+        Assert.assertThrows(IllegalArgumentException.class, () -> new AshaScheduler(10, 1, 1));
+    }
+
+    @Test
+    public void testTpe() {
+        RandomUtils.RANDOM.setSeed(1234);
+        List<String> activations = Arrays.asList("relu", "tanh", "sigmoid");
+        HpSet hyperParams =
+                new HpSet(
+                        "hp",
+                        Arrays.asList(
+                                new HpFloat("lr", 1e-5f, 1f, true),
+                                new HpCategorical<>("act", activations)));
+        HpOptimizer optimizer = new HpOTpe(hyperParams, 10, 24, 0.25f);
+        float startup = 0;
+        float last = 0;
+        for (int i = 0; i < 40; ++i) {
+            HpSet config = optimizer.nextConfig();
+            float lr = (Float) config.getHParam("lr").random();
+            String act = (String) config.getHParam("act").random();
+            float distance = (float) (Math.log10(lr) + 3);
+            float loss = distance * distance + ("tanh".equals(act) ? 0 : 1);
+            optimizer.update(config, loss);
+            if (i < 10) {
+                startup += loss / 10;
+            } else if (i >= 30) {
+                last += loss / 10;
+            }
+        }
+        Assert.assertTrue(last < startup, "TPE loss " + last + " random loss " + startup);
+        HpSet best = optimizer.getBest().getKey();
+        Assert.assertEquals(best.getHParam("act").random(), "tanh");
+    }
+}
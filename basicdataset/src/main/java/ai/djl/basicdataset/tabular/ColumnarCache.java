@@ -0,0 +1,524 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.basicdataset.tabular;
+
+import ai.djl.basicdataset.tabular.utils.DynamicBuffer;
+import ai.djl.basicdataset.tabular.utils.Feature;
+import ai.djl.basicdataset.tabular.utils.Featurizer;
+import ai.djl.basicdataset.tabular.utils.PreparedFeaturizer;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.Shape;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A memory-mapped, column-oriented binary cache of the featurized values of a {@link
+ * TabularDataset}.
+ *
+ * <p>The cache is built once from the parsed dataset, and later epochs and runs read the
+ * featurized values directly from the mapped file instead of parsing the cells again. Each feature
+ * is stored as one of the following column types:
+ *
+ * <ul>
+ *   <li>FLOAT - one featurized float per row, used when the {@link Featurizer} always outputs a
+ *       single value
+ *   <li>PREPARED_FLOAT - a FLOAT column of a numeric {@link PreparedFeaturizer} (e.g. normalized
+ *       numbers), followed by the parsed cell values to prepare the featurizer again
+ *   <li>DICTIONARY - an int code per row and the featurized vector of each distinct cell value,
+ *       used for categorical (e.g. one-hot encoded) features
+ * </ul>
+ *
+ * <p>The cache file records a key built from the source data and the featurizers. A cache with a
+ * different key is stale and is rebuilt.
+ */
+public final class ColumnarCache {
+
+    private static final int MAGIC = 0x444A4C43; // DJLC
+    private static final int VERSION = 2;
+    private static final byte FLOAT = 0;
+    private static final byte DICTIONARY = 1;
+    private static final byte PREPARED_FLOAT = 2;
+
+    private int rows;
+    private Map<String, Column> columns;
+
+    private ColumnarCache(int rows, Map<String, Column> columns) {
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    /**
+     * Returns the key that identifies the cached values of the features.
+     *
+     * <p>The key contains the source key, and the name and the {@link Featurizer#getCacheKey()
+     * featurizer key} of each feature.
+     *
+     * @param sourceKey the key of the source data, e.g. its location, size and modified time
+     * @param features the features (both data and labels) of the cache
+     * @return the key of the cache
+     */
+    public static String getKey(String sourceKey, List<Feature> features) {
+        StringBuilder sb = new StringBuilder(sourceKey);
+        for (Feature feature : features) {
+            String featurizerKey = feature.getFeaturizer().getCacheKey();
+            sb.append('\n').append(feature.getName()).append(':').append(featurizerKey);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Opens an existing cache file.
+     *
+     * @param path the cache file
+     * @param features the features (both data and labels) the cache must contain
+     * @param key the key returned by {@link #getKey(String, List)}
+     * @return the {@code ColumnarCache}, or {@code null} if the file doesn't exist or is stale
+     * @throws IOException if failed to read the cache file
+     */
+    public static ColumnarCache open(Path path, List<Feature> features, String key)
+            throws IOException {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try (FileChannel fc = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = read(fc, 0, 20);
+            if (header.remaining() < 20
+                    || header.getInt() != MAGIC
+                    || header.getInt() != VERSION) {
+                return null;
+            }
+            int rows = header.getInt();
+            int numColumns = header.getInt();
+            int keyLength = header.getInt();
+            if (keyLength < 0 || keyLength > fc.size()) {
+                return null;
+            }
+            long position = 20;
+            String cachedKey = readString(fc, position, keyLength);
+            position += keyLength;
+            if (numColumns != features.size() || !key.equals(cachedKey)) {
+                return null;
+            }
+            Map<String, Column> columns = new HashMap<>();
+            for (int i = 0; i < numColumns; ++i) {
+                ByteBuffer bb = read(fc, position, 9);
+                byte type = bb.get();
+                int width = bb.getInt();
+                int nameLength = bb.getInt();
+                position += 9;
+                String name = readString(fc, position, nameLength);
+                position += nameLength;
+                if (!name.equals(features.get(i).getName())) {
+                    return null;
+                }
+
+                Column column = new Column(width);
+                if (type == FLOAT || type == PREPARED_FLOAT) {
+                    long size = (long) rows * Float.BYTES;
+                    column.values = map(fc, position, size).asFloatBuffer();
+                    position += size;
+                    if (type == PREPARED_FLOAT) {
+                        column.raw = map(fc, position, size).asFloatBuffer();
+                        position += size;
+                    }
+                } else {
+                    int dictSize = read(fc, position, 4).getInt();
+                    position += 4;
+                    column.dictionary = new ArrayList<>(dictSize);
+                    for (int j = 0; j < dictSize; ++j) {
+                        int len = read(fc, position, 4).getInt();
+                        position += 4;
+                        column.dictionary.add(readString(fc, position, len));
+                        position += len;
+                    }
+                    long size = (long) dictSize * width * Float.BYTES;
+                    column.vectors = new float[dictSize * width];
+                    map(fc, position, size).asFloatBuffer().get(column.vectors);
+                    position += size;
+                    size = (long) rows * Integer.BYTES;
+                    column.codes = map(fc, position, size).asIntBuffer();
+                    position += size;
+                }
+                columns.put(name, column);
+            }
+            return new ColumnarCache(rows, columns);
+        }
+    }
+
+    /**
+     * Builds a cache file from a prepared {@link TabularDataset}.
+     *
+     * @param path the cache file
+     * @param dataset the dataset with prepared featurizers
+     * @param features the features (both data and labels) to cache
+     * @param key the key returned by {@link #getKey(String, List)}
+     * @param rows the number of rows in the dataset
+     * @throws IOException if failed to write the cache file
+     */
+    public static void write(
+            Path path, TabularDataset dataset, List<Feature> features, String key, int rows)
+            throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel fc =
+                FileChannel.open(
+                        tmp,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING)) {
+            byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer header = allocate(20 + keyBytes.length);
+            header.putInt(MAGIC).putInt(VERSION).putInt(rows).putInt(features.size());
+            header.putInt(keyBytes.length).put(keyBytes);
+            writeFully(fc, header);
+            for (Feature feature : features) {
+                writeColumn(fc, dataset, feature, rows);
+            }
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Returns the number of rows in the cache.
+     *
+     * @return the number of rows in the cache
+     */
+    public int size() {
+        return rows;
+    }
+
+    /**
+     * Prepares the {@link PreparedFeaturizer}s of the features from the cached values.
+     *
+     * @param features the features to prepare
+     */
+    public void prepareFeaturizers(List<Feature> features) {
+        for (Feature feature : features) {
+            if (feature.getFeaturizer() instanceof PreparedFeaturizer) {
+                Column column = columns.get(feature.getName());
+                // the list view creates the cell values lazily, they are not kept in memory
+                List<String> inputs =
+                        new AbstractList<String>() {
+
+                            /** {@inheritDoc} */
+                            @Override
+                            public String get(int index) {
+                                if (column.raw != null) {
+                                    return Float.toString(column.raw.get(index));
+                                }
+                                return column.dictionary.get(column.codes.get(index));
+                            }
+
+                            /** {@inheritDoc} */
+                            @Override
+                            public int size() {
+                                return rows;
+                            }
+                        };
+                ((PreparedFeaturizer) feature.getFeaturizer()).prepare(inputs);
+            }
+        }
+    }
+
+    /**
+     * Returns the featurized values of a row.
+     *
+     * @param manager the manager used to create the arrays
+     * @param index the row index
+     * @param selected the features to pull from the row
+     * @return the features formatted as an {@link NDList}
+     */
+    public NDList getRow(NDManager manager, long index, List<Feature> selected) {
+        int row = Math.toIntExact(index);
+        int width = getWidth(selected);
+        float[] data = new float[width];
+        fill(data, 0, row, selected);
+        return new NDList(manager.create(data, new Shape(width)));
+    }
+
+    /**
+     * Returns the featurized values of the consecutive rows as one array of shape (count, width).
+     *
+     * <p>If a single FLOAT column is selected, the mapped column slice is passed to {@link
+     * NDManager#create(java.nio.Buffer, Shape)} without an intermediate copy.
+     *
+     * @param manager the manager used to create the array
+     * @param start the index of the first row
+     * @param count the number of rows
+     * @param selected the features to pull from the rows
+     * @return the features of the rows
+     */
+    public NDArray getRows(NDManager manager, long start, int count, List<Feature> selected) {
+        int from = Math.toIntExact(start);
+        if (from < 0 || count < 0 || from + count > rows) {
+            throw new IndexOutOfBoundsException("Invalid rows: " + start + ", count: " + count);
+        }
+        if (selected.size() == 1) {
+            Column column = columns.get(selected.get(0).getName());
+            if (column.values != null) {
+                FloatBuffer slice = column.values.duplicate();
+                slice.position(from);
+                slice.limit(from + count);
+                return manager.create(slice.slice(), new Shape(count, 1));
+            }
+        }
+        int width = getWidth(selected);
+        float[] data = new float[count * width];
+        for (int i = 0; i < count; ++i) {
+            fill(data, i * width, from + i, selected);
+        }
+        return manager.create(data, new Shape(count, width));
+    }
+
+    /**
+     * Returns the featurized values of the rows as one array of shape (indices.length, width).
+     *
+     * @param manager the manager used to create the array
+     * @param indices the indices of the rows
+     * @param selected the features to pull from the rows
+     * @return the features of the rows
+     */
+    public NDArray getRows(NDManager manager, long[] indices, List<Feature> selected) {
+        int width = getWidth(selected);
+        float[] data = new float[indices.length * width];
+        for (int i = 0; i < indices.length; ++i) {
+            fill(data, i * width, Math.toIntExact(indices[i]), selected);
+        }
+        return manager.create(data, new Shape(indices.length, width));
+    }
+
+    /**
+     * Returns the featurized values of a FLOAT column as an {@link NDArray}.
+     *
+     * <p>The mapped column is passed to {@link NDManager#create(java.nio.Buffer, Shape)} without
+     * an intermediate copy.
+     *
+     * @param manager the manager used to create the array
+     * @param name the feature name
+     * @return the values of the column
+     */
+    public NDArray getColumn(NDManager manager, String name) {
+        Column column = columns.get(name);
+        if (column == null || column.values == null) {
+            throw new IllegalArgumentException("Not a FLOAT column: " + name);
+        }
+        return manager.create(column.values.duplicate(), new Shape(rows));
+    }
+
+    private int getWidth(List<Feature> selected) {
+        int width = 0;
+        for (Feature feature : selected) {
+            width += columns.get(feature.getName()).width;
+        }
+        return width;
+    }
+
+    private void fill(float[] data, int offset, int row, List<Feature> selected) {
+        int pos = offset;
+        for (Feature feature : selected) {
+            Column column = columns.get(feature.getName());
+            if (column.values != null) {
+                data[pos] = column.values.get(row);
+            } else {
+                int code = column.codes.get(row);
+                System.arraycopy(column.vectors, code * column.width, data, pos, column.width);
+            }
+            pos += column.width;
+        }
+    }
+
+    private static void writeColumn(
+            FileChannel fc, TabularDataset dataset, Feature feature, int rows) throws IOException {
+        String name = feature.getName();
+        Featurizer featurizer = feature.getFeaturizer();
+        boolean prepared = featurizer instanceof PreparedFeaturizer;
+
+        if (rows > 0 && featurize(featurizer, dataset.getCell(0, name)).length == 1) {
+            // single value columns are stored as floats without a dictionary
+            DynamicBuffer values = new DynamicBuffer();
+            float[] raw = prepared ? new float[rows] : null;
+            boolean numeric = true;
+            for (int i = 0; i < rows && numeric; ++i) {
+                String cell = dataset.getCell(i, name);
+                featurizer.featurize(values, cell);
+                if (values.getLength() != i + 1) {
+                    throw new IllegalArgumentException(
+                            "Featurizer of " + name + " doesn't output fixed size values.");
+                }
+                if (raw != null) {
+                    try {
+                        raw[i] = Float.parseFloat(cell);
+                    } catch (NumberFormatException e) {
+                        // the featurizer is prepared with the cell values
+                        numeric = false;
+                    }
+                }
+            }
+            if (numeric) {
+                writeColumnHeader(fc, prepared ? PREPARED_FLOAT : FLOAT, 1, name);
+                ByteBuffer bb = allocate(rows * Float.BYTES);
+                bb.asFloatBuffer().put(values.getBuffer());
+                writeFully(fc, bb);
+                if (raw != null) {
+                    bb.clear();
+                    bb.asFloatBuffer().put(raw);
+                    writeFully(fc, bb);
+                }
+                return;
+            }
+        }
+        writeDictionaryColumn(fc, dataset, name, featurizer, rows);
+    }
+
+    private static void writeDictionaryColumn(
+            FileChannel fc, TabularDataset dataset, String name, Featurizer featurizer, int rows)
+            throws IOException {
+        // dictionary encode the cells and featurize each distinct value once
+        Map<String, Integer> map = new HashMap<>();
+        List<String> dictionary = new ArrayList<>();
+        int[] codes = new int[rows];
+        for (int i = 0; i < rows; ++i) {
+            String cell = dataset.getCell(i, name);
+            Integer code = map.get(cell);
+            if (code == null) {
+                code = dictionary.size();
+                map.put(cell, code);
+                dictionary.add(cell);
+            }
+            codes[i] = code;
+        }
+        int width = -1;
+        List<float[]> vectors = new ArrayList<>(dictionary.size());
+        for (String value : dictionary) {
+            float[] vector = featurize(featurizer, value);
+            if (width == -1) {
+                width = vector.length;
+            } else if (width != vector.length) {
+                throw new IllegalArgumentException(
+                        "Featurizer of " + name + " doesn't output fixed size values.");
+            }
+            vectors.add(vector);
+        }
+        if (width == -1) {
+            width = 0;
+        }
+
+        writeColumnHeader(fc, DICTIONARY, width, name);
+        int size = 4;
+        List<byte[]> entries = new ArrayList<>(dictionary.size());
+        for (String value : dictionary) {
+            byte[] buf = value.getBytes(StandardCharsets.UTF_8);
+            entries.add(buf);
+            size += 4 + buf.length;
+        }
+        ByteBuffer bb = allocate(size);
+        bb.putInt(dictionary.size());
+        for (byte[] entry : entries) {
+            bb.putInt(entry.length).put(entry);
+        }
+        writeFully(fc, bb);
+
+        bb = allocate(dictionary.size() * width * Float.BYTES);
+        FloatBuffer fb = bb.asFloatBuffer();
+        for (float[] vector : vectors) {
+            fb.put(vector);
+        }
+        writeFully(fc, bb);
+
+        bb = allocate(rows * Integer.BYTES);
+        IntBuffer ib = bb.asIntBuffer();
+        ib.put(codes);
+        writeFully(fc, bb);
+    }
+
+    private static void writeColumnHeader(FileChannel fc, byte type, int width, String name)
+            throws IOException {
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer bb = allocate(9 + nameBytes.length);
+        bb.put(type).putInt(width).putInt(nameBytes.length).put(nameBytes);
+        writeFully(fc, bb);
+    }
+
+    private static float[] featurize(Featurizer featurizer, String value) {
+        DynamicBuffer buf = new DynamicBuffer();
+        featurizer.featurize(buf, value);
+        float[] vector = new float[buf.getLength()];
+        buf.getBuffer().get(vector);
+        return vector;
+    }
+
+    private static ByteBuffer allocate(int size) {
+        return ByteBuffer.allocate(size).order(ByteOrder.nativeOrder());
+    }
+
+    private static void writeFully(FileChannel fc, ByteBuffer bb) throws IOException {
+        bb.rewind();
+        while (bb.hasRemaining()) {
+            fc.write(bb);
+        }
+    }
+
+    private static ByteBuffer read(FileChannel fc, long position, int size) throws IOException {
+        ByteBuffer bb = allocate(size);
+        while (bb.hasRemaining()) {
+            if (fc.read(bb, position + bb.position()) < 0) {
+                break;
+            }
+        }
+        bb.flip();
+        return bb;
+    }
+
+    private static String readString(FileChannel fc, long position, int size) throws IOException {
+        byte[] buf = read(fc, position, size).array();
+        return new String(buf, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuffer map(FileChannel fc, long position, long size) throws IOException {
+        return fc.map(FileChannel.MapMode.READ_ONLY, position, size).order(ByteOrder.nativeOrder());
+    }
+
+    private static final class Column {
+
+        int width;
+        FloatBuffer values;
+        FloatBuffer raw;
+        IntBuffer codes;
+        List<String> dictionary;
+        float[] vectors;
+
+        Column(int width) {
+            this.width = width;
+        }
+    }
+}
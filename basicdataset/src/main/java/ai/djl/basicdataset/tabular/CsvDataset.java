@@ -24,9 +24,12 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.MalformedURLException;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
 import java.util.zip.GZIPInputStream;
@@ -47,6 +50,9 @@ public class CsvDataset extends TabularDataset {
     /** {@inheritDoc} */
     @Override
     public String getCell(long rowIndex, String featureName) {
+        if (csvRecords == null) {
+            throw new IllegalStateException("CSV is not parsed, the dataset is loaded from cache.");
+        }
         CSVRecord record = csvRecords.get(Math.toIntExact(rowIndex));
         return record.get(featureName);
     }
@@ -54,17 +60,46 @@ public class CsvDataset extends TabularDataset {
     /** {@inheritDoc} */
     @Override
     protected long availableSize() {
+        if (csvRecords == null && columnarCache != null) {
+            return columnarCache.size();
+        }
         return csvRecords.size();
     }
 
     /** {@inheritDoc} */
     @Override
     public void prepare(Progress progress) throws IOException {
+        if (loadColumnarCache()) {
+            return;
+        }
         try (Reader reader = new InputStreamReader(getCsvStream(), StandardCharsets.UTF_8)) {
             CSVParser csvParser = CSVParser.parse(reader, csvFormat);
             csvRecords = csvParser.getRecords();
         }
         prepareFeaturizers();
+        writeColumnarCache();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The key of a local CSV file contains its size and modified time, so the {@link
+     * ColumnarCache} is rebuilt when the file changes.
+     */
+    @Override
+    protected String getSourceKey() throws IOException {
+        StringBuilder sb = new StringBuilder(csvUrl.toString());
+        sb.append('\n').append(csvFormat);
+        if ("file".equals(csvUrl.getProtocol())) {
+            try {
+                Path file = Paths.get(csvUrl.toURI());
+                sb.append('\n').append(Files.size(file));
+                sb.append('\n').append(Files.getLastModifiedTime(file).toMillis());
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid CSV file URL: " + csvUrl, e);
+            }
+        }
+        return sb.toString();
     }
 
     private InputStream getCsvStream() throws IOException {
@@ -89,7 +124,7 @@ public class CsvDataset extends TabularDataset {
      * @return a list of column name
      */
     public List<String> getColumnNames() {
-        if (csvRecords.isEmpty()) {
+        if (csvRecords == null || csvRecords.isEmpty()) {
             return Collections.emptyList();
         }
         return csvRecords.get(0).getParser().getHeaderNames();
@@ -16,14 +16,19 @@ import ai.djl.basicdataset.tabular.utils.DynamicBuffer;
 import ai.djl.basicdataset.tabular.utils.Feature;
 import ai.djl.basicdataset.tabular.utils.Featurizers;
 import ai.djl.basicdataset.tabular.utils.PreparedFeaturizer;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDArrays;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.Shape;
 import ai.djl.training.dataset.RandomAccessDataset;
 import ai.djl.training.dataset.Record;
+import ai.djl.translate.Batchifier;
 import ai.djl.translate.TranslatorOptions;
 
+import java.io.IOException;
 import java.nio.FloatBuffer;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -34,6 +39,8 @@ public abstract class TabularDataset extends RandomAccessDataset {
 
     protected List<Feature> features;
     protected List<Feature> labels;
+    protected Path columnarCachePath;
+    protected ColumnarCache columnarCache;
 
     /**
      * Creates a new instance of {@link RandomAccessDataset} with the given necessary
@@ -45,6 +52,7 @@ public abstract class TabularDataset extends RandomAccessDataset {
         super(builder);
         features = builder.features;
         labels = builder.labels;
+        columnarCachePath = builder.columnarCachePath;
 
         if (features.isEmpty()) {
             throw new IllegalArgumentException("Missing features.");
@@ -105,6 +113,30 @@ public abstract class TabularDataset extends RandomAccessDataset {
         return new Record(data, label);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>With a {@link ColumnarCache} and the default stack batchifiers, the batch is read from
+     * the cached columns at once with {@link #getBatchFeatures(NDManager, long[], List)}.
+     */
+    @Override
+    protected Record getBatch(NDManager manager, List<Long> indices) {
+        if (columnarCache == null
+                || dataBatchifier != Batchifier.STACK
+                || labelBatchifier != Batchifier.STACK) {
+            return null;
+        }
+        long[] rows = indices.stream().mapToLong(Long::longValue).toArray();
+        NDList data = new NDList(getBatchFeatures(manager, rows, features));
+        NDList label;
+        if (labels.isEmpty()) {
+            label = new NDList();
+        } else {
+            label = new NDList(getBatchFeatures(manager, rows, labels));
+        }
+        return new Record(data, label);
+    }
+
     /**
      * Returns the direct designated features (either data or label features) from a row.
      *
@@ -129,6 +161,9 @@ public abstract class TabularDataset extends RandomAccessDataset {
      * @return the features formatted as an {@link NDList}
      */
     public NDList getRowFeatures(NDManager manager, long index, List<Feature> selected) {
+        if (columnarCache != null) {
+            return columnarCache.getRow(manager, index, selected);
+        }
         DynamicBuffer bb = new DynamicBuffer();
         for (Feature feature : selected) {
             String name = feature.getName();
@@ -157,6 +192,98 @@ public abstract class TabularDataset extends RandomAccessDataset {
         }
     }
 
+    /**
+     * Loads the {@link ColumnarCache} if it is configured and exists, and prepares the {@link
+     * PreparedFeaturizer}s from the cached values.
+     *
+     * @return {@code true} if the cache is loaded and the source data doesn't need to be parsed
+     * @throws IOException if failed to read the cache file
+     */
+    protected boolean loadColumnarCache() throws IOException {
+        if (columnarCachePath == null) {
+            return false;
+        }
+        List<Feature> all = getAllFeatures();
+        String key = ColumnarCache.getKey(getSourceKey(), all);
+        columnarCache = ColumnarCache.open(columnarCachePath, all, key);
+        if (columnarCache == null) {
+            return false;
+        }
+        columnarCache.prepareFeaturizers(all);
+        return true;
+    }
+
+    /**
+     * Writes the featurized values into the {@link ColumnarCache} if it is configured, must be
+     * called after the featurizers are prepared.
+     *
+     * @throws IOException if failed to write the cache file
+     */
+    protected void writeColumnarCache() throws IOException {
+        if (columnarCachePath == null) {
+            return;
+        }
+        List<Feature> all = getAllFeatures();
+        String key = ColumnarCache.getKey(getSourceKey(), all);
+        int rows = Math.toIntExact(availableSize());
+        ColumnarCache.write(columnarCachePath, this, all, key, rows);
+        columnarCache = ColumnarCache.open(columnarCachePath, all, key);
+    }
+
+    /**
+     * Returns the key of the source data, which invalidates the {@link ColumnarCache} when the
+     * source data changes.
+     *
+     * @return the key of the source data
+     * @throws IOException if failed to read the source data attributes
+     */
+    protected String getSourceKey() throws IOException {
+        return getClass().getName();
+    }
+
+    /**
+     * Returns the designated features (either data or label features) of a batch of rows as one
+     * array of shape (batch, width).
+     *
+     * <p>With a {@link ColumnarCache}, the values are read from the cached columns in one pass,
+     * and consecutive rows of a single numeric column are not copied.
+     *
+     * @param manager the manager used to create the array
+     * @param indices the indices of the rows
+     * @param selected the features to pull from the rows
+     * @return the features of the rows
+     */
+    public NDArray getBatchFeatures(NDManager manager, long[] indices, List<Feature> selected) {
+        if (columnarCache != null) {
+            if (isConsecutive(indices)) {
+                long start = indices.length == 0 ? 0 : indices[0];
+                return columnarCache.getRows(manager, start, indices.length, selected);
+            }
+            return columnarCache.getRows(manager, indices, selected);
+        }
+        NDList rows = new NDList(indices.length);
+        for (long index : indices) {
+            rows.add(getRowFeatures(manager, index, selected).singletonOrThrow());
+        }
+        return NDArrays.stack(rows);
+    }
+
+    private static boolean isConsecutive(long[] indices) {
+        for (int i = 1; i < indices.length; ++i) {
+            if (indices[i] != indices[i - 1] + 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<Feature> getAllFeatures() {
+        List<Feature> all = new ArrayList<>(features.size() + labels.size());
+        all.addAll(features);
+        all.addAll(labels);
+        return all;
+    }
+
     /**
      * Returns a cell in the dataset.
      *
@@ -183,6 +310,7 @@ public abstract class TabularDataset extends RandomAccessDataset {
         protected List<Feature> features;
         protected List<Feature> labels;
         protected boolean allowNoLabels;
+        protected Path columnarCachePath;
 
         protected BaseBuilder() {
             features = new ArrayList<>();
@@ -339,5 +467,20 @@ public abstract class TabularDataset extends RandomAccessDataset {
             allowNoLabels = true;
             return self();
         }
+
+        /**
+         * Sets the file to cache the featurized columns.
+         *
+         * <p>The first run parses the source data and writes the cache, later runs read the
+         * featurized values from the memory-mapped cache without parsing the source data again.
+         * The cache is rebuilt if the source data, the features or their featurizers change.
+         *
+         * @param columnarCachePath the cache file path
+         * @return this builder
+         */
+        public T optColumnarCache(Path columnarCachePath) {
+            this.columnarCachePath = columnarCachePath;
+            return self();
+        }
     }
 }
@@ -38,6 +38,27 @@ public interface Featurizer {
      */
     Object deFeaturize(float[] data);
 
+    /**
+     * Returns a key that identifies how the featurizer converts the inputs, used to invalidate the
+     * cached featurized values when the featurizer changes.
+     *
+     * <p>The default key is the class name. A featurizer with a configuration, e.g. a fixed map or
+     * a date pattern, must include it in the key. The state learned by {@link
+     * PreparedFeaturizer#prepare(java.util.List)} is derived from the data and doesn't need to be
+     * included.
+     *
+     * @return the cache key of the featurizer
+     */
+    default String getCacheKey() {
+        String type = getClass().getName();
+        // the name of a lambda class is not stable across runs
+        int pos = type.indexOf("$$Lambda");
+        if (pos >= 0) {
+            type = type.substring(0, pos);
+        }
+        return type;
+    }
+
     /**
      * A {@link Featurizer} that only supports the data featurize operations, but not the full
      * deFeaturize operations used by labels.
@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -200,6 +201,16 @@ public final class Featurizers {
             return new Classifications(classNames, probabilities);
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public String getCacheKey() {
+            if (map == null) {
+                return Featurizer.super.getCacheKey();
+            }
+            // the fixed map is a part of the configuration
+            return Featurizer.super.getCacheKey() + new TreeMap<>(map);
+        }
+
         protected final void buildClassNames() {
             classNames = Arrays.asList(new String[map.size()]);
             for (Map.Entry<String, Integer> entry : map.entrySet()) {
@@ -230,6 +241,13 @@ public final class Featurizers {
             super(null);
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public String getCacheKey() {
+            // the map is prepared from the data
+            return getClass().getName();
+        }
+
         /** {@inheritDoc} */
         @Override
         public void prepare(List<String> inputs) {
@@ -274,6 +292,16 @@ public final class Featurizers {
             buf.put(value);
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public String getCacheKey() {
+            if (autoMap) {
+                // the map is built from the data
+                return getClass().getName();
+            }
+            return super.getCacheKey();
+        }
+
         /** {@inheritDoc} */
         @Override
         public Object deFeaturize(float[] data) {
@@ -324,6 +352,12 @@ public final class Featurizers {
             return 1;
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public String getCacheKey() {
+            return getClass().getName() + '(' + datePattern + ')';
+        }
+
         /** {@inheritDoc} */
         @Override
         public Object deFeaturize(float[] data) {
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.basicdataset.tabular;
+
+import ai.djl.basicdataset.tabular.utils.Feature;
+import ai.djl.basicdataset.tabular.utils.Featurizers;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.training.dataset.Batch;
+import ai.djl.training.dataset.Record;
+import ai.djl.translate.TranslateException;
+import ai.djl.util.Utils;
+
+import org.apache.commons.csv.CSVFormat;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ColumnarCacheTest {
+
+    @Test
+    public void testColumnarCache() throws IOException, TranslateException {
+        Path dir = Paths.get("build/tmp/columnar");
+        Utils.deleteQuietly(dir);
+        Files.createDirectories(dir);
+        Path csv = dir.resolve("data.csv");
+        String content = "x,color,y\n1.5,red,10\n2.5,green,20\n3.5,red,30\n4.5,blue,40\n";
+        Files.write(csv, content.getBytes(StandardCharsets.UTF_8));
+        Path cacheFile = dir.resolve("data.cache");
+
+        CsvDataset dataset = build(csv, cacheFile);
+        dataset.prepare();
+        Assert.assertTrue(Files.isRegularFile(cacheFile));
+
+        // the second dataset reads the cache without parsing the CSV file
+        CsvDataset cached = build(csv, cacheFile);
+        cached.prepare();
+        Assert.assertEquals(cached.size(), 4);
+        Assert.assertThrows(IllegalStateException.class, () -> cached.getCell(0, "x"));
+
+        try (NDManager manager = NDManager.newBaseManager()) {
+            for (int i = 0; i < 4; ++i) {
+                Record expected = dataset.get(manager, i);
+                Record actual = cached.get(manager, i);
+                Assert.assertEquals(
+                        actual.getData().head().toFloatArray(),
+                        expected.getData().head().toFloatArray());
+                Assert.assertEquals(
+                        actual.getLabels().head().toFloatArray(),
+                        expected.getLabels().head().toFloatArray());
+            }
+            float[] data = cached.get(manager, 2).getData().head().toFloatArray();
+            Assert.assertEquals(data, new float[] {3.5f, 0f, 0f, 1f});
+
+            float[] y = cached.columnarCache.getColumn(manager, "y").toFloatArray();
+            Assert.assertEquals(y, new float[] {10f, 20f, 30f, 40f});
+
+            NDArray batch = cached.getBatchFeatures(manager, new long[] {1, 2}, cached.features);
+            Assert.assertEquals(batch.getShape(), new Shape(2, 4));
+            Assert.assertEquals(
+                    batch.toFloatArray(), new float[] {2.5f, 0f, 1f, 0f, 3.5f, 0f, 0f, 1f});
+            NDArray labels = cached.getBatchFeatures(manager, new long[] {3, 0}, cached.labels);
+            Assert.assertEquals(labels.toFloatArray(), new float[] {40f, 10f});
+
+            // the data iterator reads the batches from the cached columns
+            Batch first = cached.getData(manager).iterator().next();
+            Assert.assertEquals(
+                    first.getData().head().toFloatArray(),
+                    new float[] {1.5f, 0f, 0f, 1f, 2.5f, 0f, 1f, 0f});
+            Assert.assertEquals(first.getLabels().head().getShape(), new Shape(2, 1));
+            first.close();
+        }
+
+        // a modified CSV file invalidates the cache
+        content = "x,color,y\n1.5,red,10\n2.5,green,20\n";
+        Files.write(csv, content.getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(csv, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        CsvDataset modified = build(csv, cacheFile);
+        modified.prepare();
+        Assert.assertEquals(modified.size(), 2);
+    }
+
+    @Test
+    public void testNormalizedColumn() throws IOException, TranslateException {
+        Path dir = Paths.get("build/tmp/columnar-normalized");
+        Utils.deleteQuietly(dir);
+        Files.createDirectories(dir);
+        Path csv = dir.resolve("data.csv");
+        String content = "x,y\n1,10\n2,20\n3,30\n6,40\n";
+        Files.write(csv, content.getBytes(StandardCharsets.UTF_8));
+        Path cacheFile = dir.resolve("data.cache");
+
+        CsvDataset dataset = buildNormalized(csv, cacheFile);
+        dataset.prepare();
+        CsvDataset cached = buildNormalized(csv, cacheFile);
+        cached.prepare();
+        Assert.assertThrows(IllegalStateException.class, () -> cached.getCell(0, "x"));
+        try (NDManager manager = NDManager.newBaseManager()) {
+            // the featurizer is prepared again from the cached numbers
+            float[] expected = dataset.get(manager, 3).getData().head().toFloatArray();
+            Assert.assertEquals(cached.get(manager, 3).getData().head().toFloatArray(), expected);
+            NDArray x = cached.columnarCache.getRows(manager, 0, 4, cached.features);
+            Assert.assertEquals(x.getShape(), new Shape(4, 1));
+            Assert.assertEquals(x.toFloatArray()[3], expected[0]);
+        }
+
+        // the cache of other featurizers is stale
+        CsvDataset raw =
+                CsvDataset.builder()
+                        .optCsvFile(csv)
+                        .setCsvFormat(getFormat())
+                        .addNumericFeature("x")
+                        .addNumericLabel("y")
+                        .optColumnarCache(cacheFile)
+                        .setSampling(2, false)
+                        .build();
+        raw.prepare();
+        Assert.assertEquals(raw.getCell(3, "x"), "6");
+    }
+
+    @Test
+    public void testCacheKey() {
+        Feature day = new Feature("day", Featurizers.getEpochDayFeaturizer("yyyy-MM-dd"));
+        Feature other = new Feature("day", Featurizers.getEpochDayFeaturizer("dd/MM/yyyy"));
+        Assert.assertNotEquals(
+                ColumnarCache.getKey("src", Collections.singletonList(day)),
+                ColumnarCache.getKey("src", Collections.singletonList(other)));
+
+        Map<String, Integer> map = new ConcurrentHashMap<>();
+        map.put("red", 0);
+        map.put("blue", 1);
+        Feature color = new Feature("color", map, true);
+        Map<String, Integer> swapped = new ConcurrentHashMap<>();
+        swapped.put("red", 1);
+        swapped.put("blue", 0);
+        Feature swappedColor = new Feature("color", swapped, true);
+        Assert.assertNotEquals(
+                ColumnarCache.getKey("src", Collections.singletonList(color)),
+                ColumnarCache.getKey("src", Collections.singletonList(swappedColor)));
+    }
+
+    private static CsvDataset build(Path csv, Path cacheFile) {
+        return CsvDataset.builder()
+                .optCsvFile(csv)
+                .setCsvFormat(getFormat())
+                .addNumericFeature("x")
+                .addCategoricalFeature("color")
+                .addNumericLabel("y")
+                .optColumnarCache(cacheFile)
+                .setSampling(2, false)
+                .build();
+    }
+
+    private static CsvDataset buildNormalized(Path csv, Path cacheFile) {
+        return CsvDataset.builder()
+                .optCsvFile(csv)
+                .setCsvFormat(getFormat())
+                .addNumericFeature("x", true)
+                .addNumericLabel("y")
+                .optColumnarCache(cacheFile)
+                .setSampling(2, false)
+                .build();
+    }
+
+    private static CSVFormat getFormat() {
+        return CSVFormat.DEFAULT.builder().setHeader().setSkipHeaderRecord(true).get();
+    }
+}
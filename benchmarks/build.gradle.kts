@@ -0,0 +1,56 @@
+plugins {
+    ai.djl.javaProject
+}
+
+dependencies {
+    implementation(project(":api"))
+    implementation(project(":extensions:tokenizers"))
+    implementation(libs.jmh.core)
+    annotationProcessor(libs.jmh.generator.annprocess)
+
+    runtimeOnly(libs.slf4j.simple)
+    runtimeOnly(project(":engines:pytorch:pytorch-engine"))
+    runtimeOnly(project(":engines:pytorch:pytorch-jni"))
+    runtimeOnly(project(":engines:onnxruntime:onnxruntime-engine"))
+}
+
+tasks {
+    compileJava {
+        options.apply {
+            release = 11
+            // JMH generates the benchmark harness with an annotation processor, keep the lint
+            // and -Werror flags of the project but let the processor run
+            compilerArgs = compilerArgs.filter { it != "-proc:none" } + "-Xlint:-processing"
+        }
+    }
+
+    // ./gradlew :benchmarks:jmh -Djmh.includes=NDArray -Djmh.args="-p shape=32,512"
+    register<JavaExec>("jmh") {
+        group = "benchmark"
+        description = "Runs the JMH benchmarks on CPU."
+        classpath = sourceSets.main.get().runtimeClasspath
+        mainClass = "org.openjdk.jmh.Main"
+
+        val results = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+        doFirst {
+            results.parentFile.mkdirs()
+        }
+        val extra = System.getProperty("jmh.args", "").split(" ").filter { it.isNotBlank() }
+        args = listOf(
+            System.getProperty("jmh.includes", ".*"),
+            "-rf", "json",
+            "-rff", results.absolutePath,
+            "-prof", "gc",
+        ) + extra
+
+        // make sure the benchmarks never pick up a GPU
+        environment("PYTORCH_FLAVOR" to "cpu")
+        environment("CUDA_VISIBLE_DEVICES" to "")
+        for (prop in System.getProperties().iterator()) {
+            val key = prop.key.toString()
+            if (key.startsWith("ai.djl.")) {
+                systemProperty(key, prop.value)
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.benchmarks;
+
+import ai.djl.Device;
+import ai.djl.engine.Engine;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.NDScope;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.translate.Batchifier;
+import ai.djl.translate.StackBatchifier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/** Benchmarks {@link StackBatchifier}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchifierBenchmark {
+
+    @Param({"PyTorch", "OnnxRuntime"})
+    String engine;
+
+    @Param({"1", "8", "32"})
+    int batchSize;
+
+    @Param({"128", "3,224,224"})
+    String shape;
+
+    private NDManager manager;
+    private Batchifier batchifier;
+    private NDList[] inputs;
+    private NDList batch;
+
+    /** Creates the inputs of a batch. */
+    @Setup(Level.Trial)
+    public void setup() {
+        manager = Engine.getEngine(engine).newBaseManager(Device.cpu());
+        batchifier = new StackBatchifier();
+        Shape itemShape = BenchmarkUtils.parseShape(shape);
+        inputs = new NDList[batchSize];
+        for (int i = 0; i < batchSize; ++i) {
+            float[] data = BenchmarkUtils.randomData(itemShape.size());
+            inputs[i] = new NDList(manager.create(data, itemShape));
+        }
+        batch = batchifier.batchify(inputs);
+    }
+
+    /** Releases the native memory. */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        manager.close();
+    }
+
+    /**
+     * Benchmarks {@link StackBatchifier#batchify(NDList[])}.
+     *
+     * @param bh the {@link Blackhole}
+     */
+    @Benchmark
+    @SuppressWarnings("try")
+    public void batchify(Blackhole bh) {
+        try (NDScope ignore = new NDScope()) {
+            bh.consume(batchifier.batchify(inputs));
+        }
+    }
+
+    /**
+     * Benchmarks {@link StackBatchifier#unbatchify(NDList)}.
+     *
+     * @param bh the {@link Blackhole}
+     */
+    @Benchmark
+    @SuppressWarnings("try")
+    public void unbatchify(Blackhole bh) {
+        try (NDScope ignore = new NDScope()) {
+            bh.consume(batchifier.unbatchify(batch));
+        }
+    }
+}
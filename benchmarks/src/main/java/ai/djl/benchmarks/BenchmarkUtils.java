@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.benchmarks;
+
+import ai.djl.ndarray.types.Shape;
+
+import java.util.Arrays;
+
+/** Utility functions shared by the benchmarks. */
+final class BenchmarkUtils {
+
+    private BenchmarkUtils() {}
+
+    /**
+     * Parses a shape parameter like {@code "32,512"}.
+     *
+     * @param value the comma separated dimensions
+     * @return the {@link Shape}
+     */
+    static Shape parseShape(String value) {
+        return new Shape(Arrays.stream(value.split(",")).mapToLong(Long::parseLong).toArray());
+    }
+
+    /**
+     * Returns deterministic pseudo random data.
+     *
+     * @param size the number of elements
+     * @return the data
+     */
+    static float[] randomData(long size) {
+        float[] data = new float[Math.toIntExact(size)];
+        long seed = 42;
+        for (int i = 0; i < data.length; ++i) {
+            seed = seed * 6364136223846793005L + 1442695040888963407L;
+            data[i] = (seed >>> 40) / (float) (1 << 24);
+        }
+        return data;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.benchmarks;
+
+import ai.djl.Device;
+import ai.djl.engine.Engine;
+import ai.djl.modality.cv.BufferedImageFactory;
+import ai.djl.modality.cv.Image;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/** Benchmarks the conversion from {@code BufferedImage} to {@link NDArray}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImageBenchmark {
+
+    @Param({"PyTorch", "OnnxRuntime"})
+    String engine;
+
+    @Param({"224", "640"})
+    int size;
+
+    @Param({"3BYTE_BGR", "INT_RGB", "INT_ARGB", "BYTE_GRAY"})
+    String imageType;
+
+    private NDManager manager;
+    private Image image;
+
+    /** Creates the image. */
+    @Setup(Level.Trial)
+    public void setup() {
+        manager = Engine.getEngine(engine).newBaseManager(Device.cpu());
+        BufferedImage img = new BufferedImage(size, size, toImageType(imageType));
+        float[] data = BenchmarkUtils.randomData((long) size * size);
+        for (int y = 0; y < size; ++y) {
+            for (int x = 0; x < size; ++x) {
+                int value = (int) (data[y * size + x] * 0xFFFFFF);
+                img.setRGB(x, y, 0xFF000000 | value);
+            }
+        }
+        image = new BufferedImageFactory().fromImage(img);
+    }
+
+    /** Releases the native memory. */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        manager.close();
+    }
+
+    /** Benchmarks {@link Image#toNDArray(NDManager, Image.Flag)} with color images. */
+    @Benchmark
+    public void toNDArray() {
+        image.toNDArray(manager, Image.Flag.COLOR).close();
+    }
+
+    /** Benchmarks {@link Image#toNDArray(NDManager, Image.Flag)} with grayscale images. */
+    @Benchmark
+    public void toGrayscaleNDArray() {
+        image.toNDArray(manager, Image.Flag.GRAYSCALE).close();
+    }
+
+    private static int toImageType(String type) {
+        switch (type) {
+            case "3BYTE_BGR":
+                return BufferedImage.TYPE_3BYTE_BGR;
+            case "INT_RGB":
+                return BufferedImage.TYPE_INT_RGB;
+            case "INT_ARGB":
+                return BufferedImage.TYPE_INT_ARGB;
+            case "BYTE_GRAY":
+                return BufferedImage.TYPE_BYTE_GRAY;
+            default:
+                throw new IllegalArgumentException("Unsupported image type: " + type);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.benchmarks;
+
+import ai.djl.Device;
+import ai.djl.engine.Engine;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.NDScope;
+import ai.djl.ndarray.types.Shape;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the creation, the data copy and the common operators of {@link NDArray}.
+ *
+ * <p>OnnxRuntime runs the NDArray operators on its alternative engine, only PyTorch is covered.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NDArrayBenchmark {
+
+    @Param({"PyTorch"})
+    String engine;
+
+    @Param({"32,512", "1,224,224,3", "8,128,768"})
+    String shape;
+
+    private NDManager manager;
+    private float[] data;
+    private FloatBuffer buffer;
+    private Shape arrayShape;
+    private NDArray a;
+    private NDArray b;
+
+    /** Creates the input arrays. */
+    @Setup(Level.Trial)
+    public void setup() {
+        manager = Engine.getEngine(engine).newBaseManager(Device.cpu());
+        arrayShape = BenchmarkUtils.parseShape(shape);
+        data = BenchmarkUtils.randomData(arrayShape.size());
+        buffer = FloatBuffer.wrap(data);
+        a = manager.create(data, arrayShape);
+        b = manager.create(BenchmarkUtils.randomData(arrayShape.size()), arrayShape);
+    }
+
+    /** Releases the native memory. */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        manager.close();
+    }
+
+    /** Benchmarks {@link NDManager#create(float[], Shape)}. */
+    @Benchmark
+    public void createFromArray() {
+        manager.create(data, arrayShape).close();
+    }
+
+    /** Benchmarks {@link NDManager#create(java.nio.Buffer, Shape)} with a heap buffer. */
+    @Benchmark
+    public void createFromBuffer() {
+        buffer.rewind();
+        manager.create(buffer, arrayShape).close();
+    }
+
+    /**
+     * Benchmarks {@link NDArray#toFloatArray()}.
+     *
+     * @return the data of the array
+     */
+    @Benchmark
+    public float[] toFloatArray() {
+        return a.toFloatArray();
+    }
+
+    /**
+     * Benchmarks {@link NDArray#add(NDArray)}.
+     *
+     * @param bh the {@link Blackhole}
+     */
+    @Benchmark
+    @SuppressWarnings("try")
+    public void add(Blackhole bh) {
+        try (NDScope ignore = new NDScope()) {
+            bh.consume(a.add(b));
+        }
+    }
+
+    /**
+     * Benchmarks {@link NDArray#softmax(int)} on the last axis.
+     *
+     * @param bh the {@link Blackhole}
+     */
+    @Benchmark
+    @SuppressWarnings("try")
+    public void softmax(Blackhole bh) {
+        try (NDScope ignore = new NDScope()) {
+            bh.consume(a.softmax(-1));
+        }
+    }
+
+    /**
+     * Benchmarks {@link NDArray#sum(int[])} on the last axis.
+     *
+     * @param bh the {@link Blackhole}
+     */
+    @Benchmark
+    @SuppressWarnings("try")
+    public void sum(Blackhole bh) {
+        try (NDScope ignore = new NDScope()) {
+            bh.consume(a.sum(new int[] {-1}));
+        }
+    }
+
+    /**
+     * Benchmarks the matrix multiplication of the last two axes.
+     *
+     * @param bh the {@link Blackhole}
+     */
+    @Benchmark
+    @SuppressWarnings("try")
+    public void matMul(Blackhole bh) {
+        try (NDScope ignore = new NDScope()) {
+            int dim = arrayShape.dimension();
+            int[] axes = new int[dim];
+            for (int i = 0; i < dim; ++i) {
+                axes[i] = i;
+            }
+            axes[dim - 1] = dim - 2;
+            axes[dim - 2] = dim - 1;
+            bh.consume(a.matMul(b.transpose(axes)));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.benchmarks;
+
+import ai.djl.Device;
+import ai.djl.engine.Engine;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.Shape;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** Benchmarks the serialization of {@link NDList}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NDListBenchmark {
+
+    @Param({"PyTorch", "OnnxRuntime"})
+    String engine;
+
+    @Param({"1", "16"})
+    int numArrays;
+
+    @Param({"128", "1,3,224,224"})
+    String shape;
+
+    private NDManager manager;
+    private NDList list;
+    private byte[] encoded;
+
+    /** Creates the list to serialize. */
+    @Setup(Level.Trial)
+    public void setup() {
+        manager = Engine.getEngine(engine).newBaseManager(Device.cpu());
+        Shape arrayShape = BenchmarkUtils.parseShape(shape);
+        list = new NDList(numArrays);
+        for (int i = 0; i < numArrays; ++i) {
+            float[] data = BenchmarkUtils.randomData(arrayShape.size());
+            list.add(manager.create(data, arrayShape));
+        }
+        encoded = list.encode();
+    }
+
+    /** Releases the native memory. */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        manager.close();
+    }
+
+    /**
+     * Benchmarks {@link NDList#encode()}.
+     *
+     * @return the encoded bytes
+     */
+    @Benchmark
+    public byte[] encode() {
+        return list.encode();
+    }
+
+    /**
+     * Benchmarks {@link NDList#decode(NDManager, byte[])}.
+     *
+     * @return the number of decoded arrays
+     */
+    @Benchmark
+    public int decode() {
+        NDList decoded = NDList.decode(manager, encoded);
+        int size = decoded.size();
+        decoded.close();
+        return size;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.benchmarks;
+
+import ai.djl.Device;
+import ai.djl.Model;
+import ai.djl.inference.Predictor;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.NDScope;
+import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.nn.Activation;
+import ai.djl.nn.SequentialBlock;
+import ai.djl.nn.core.Linear;
+import ai.djl.translate.NoopTranslator;
+import ai.djl.translate.TranslateException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link Predictor} overhead with a small MLP.
+ *
+ * <p>OnnxRuntime cannot run a DJL block, only PyTorch is covered.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PredictorBenchmark {
+
+    @Param({"1", "8", "32"})
+    int batchSize;
+
+    @Param({"128", "1024"})
+    int features;
+
+    private Model model;
+    private Predictor<NDList, NDList> predictor;
+    private NDManager manager;
+    private NDList input;
+
+    /** Creates the model and the input. */
+    @Setup(Level.Trial)
+    public void setup() {
+        model = Model.newInstance("mlp", Device.cpu(), "PyTorch");
+        SequentialBlock block =
+                new SequentialBlock()
+                        .add(Linear.builder().setUnits(features).build())
+                        .add(Activation::relu)
+                        .add(Linear.builder().setUnits(10).build());
+        Shape shape = new Shape(batchSize, features);
+        block.initialize(model.getNDManager(), DataType.FLOAT32, shape);
+        model.setBlock(block);
+        predictor = model.newPredictor(new NoopTranslator(null));
+
+        manager = model.getNDManager().newSubManager();
+        float[] data = BenchmarkUtils.randomData(shape.size());
+        NDArray array = manager.create(data, shape);
+        input = new NDList(array);
+    }
+
+    /** Releases the model. */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        predictor.close();
+        manager.close();
+        model.close();
+    }
+
+    /**
+     * Benchmarks {@link Predictor#predict(Object)}.
+     *
+     * @param bh the {@link Blackhole}
+     * @throws TranslateException if prediction fails
+     */
+    @Benchmark
+    @SuppressWarnings("try")
+    public void predict(Blackhole bh) throws TranslateException {
+        try (NDScope ignore = new NDScope()) {
+            bh.consume(predictor.predict(input));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.benchmarks;
+
+import ai.djl.huggingface.tokenizers.Encoding;
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link HuggingFaceTokenizer#batchEncode(List)}.
+ *
+ * <p>The tokenizer is downloaded from the Hugging Face hub, set the {@code tokenizer} system
+ * property to benchmark another tokenizer, or a local {@code tokenizer.json} file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenizerBenchmark {
+
+    private static final String[] WORDS = {
+        "the", "quick", "brown", "fox", "jumps", "over", "lazy", "dog", "deep", "learning",
+        "inference", "tokenizer", "benchmark", "sentence", "embedding", "performance"
+    };
+
+    @Param({"1", "8", "32"})
+    int batchSize;
+
+    @Param({"16", "128"})
+    int numWords;
+
+    private HuggingFaceTokenizer tokenizer;
+    private List<String> inputs;
+
+    /** Loads the tokenizer and creates the inputs. */
+    @Setup(Level.Trial)
+    public void setup() {
+        String name = System.getProperty("tokenizer", "bert-base-uncased");
+        tokenizer = HuggingFaceTokenizer.newInstance(name);
+        inputs = new ArrayList<>(batchSize);
+        float[] data = BenchmarkUtils.randomData((long) batchSize * numWords);
+        for (int i = 0; i < batchSize; ++i) {
+            StringBuilder sb = new StringBuilder();
+            for (int j = 0; j < numWords; ++j) {
+                int index = (int) (data[i * numWords + j] * WORDS.length);
+                sb.append(WORDS[index]).append(' ');
+            }
+            inputs.add(sb.toString().trim());
+        }
+    }
+
+    /** Releases the tokenizer. */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        tokenizer.close();
+    }
+
+    /**
+     * Benchmarks {@link HuggingFaceTokenizer#batchEncode(List)}.
+     *
+     * @return the encodings
+     */
+    @Benchmark
+    public Encoding[] batchEncode() {
+        return tokenizer.batchEncode(inputs);
+    }
+}
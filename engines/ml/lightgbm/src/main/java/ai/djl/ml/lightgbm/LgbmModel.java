@@ -62,6 +62,7 @@ public class LgbmModel extends BaseModel {
             if (inferenceType != null) {
                 setInferenceType(inferenceType);
             }
+            setNumThreads(ArgumentsUtil.intValue(options, "num_threads"));
         }
     }
 
@@ -115,6 +116,24 @@ public class LgbmModel extends BaseModel {
         ((LgbmSymbolBlock) block).setInferenceType(inferenceType);
     }
 
+    /**
+     * Sets the number of threads used by LightGBM for prediction.
+     *
+     * @param numThreads the number of threads, 0 to use the LightGBM default
+     */
+    public void setNumThreads(int numThreads) {
+        ((LgbmSymbolBlock) block).setNumThreads(numThreads);
+    }
+
+    /**
+     * Returns the number of threads used by LightGBM for prediction.
+     *
+     * @return the number of threads, 0 means the LightGBM default
+     */
+    public int getNumThreads() {
+        return ((LgbmSymbolBlock) block).getNumThreads();
+    }
+
     /**
      * Returns the string representation of the current model inference type.
      *
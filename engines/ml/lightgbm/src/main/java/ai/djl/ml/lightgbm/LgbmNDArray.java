@@ -12,6 +12,7 @@
  */
 package ai.djl.ml.lightgbm;
 
+import ai.djl.ml.lightgbm.jni.JniUtils;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDArrayAdapter;
 import ai.djl.ndarray.NDManager;
@@ -19,27 +20,24 @@ import ai.djl.ndarray.types.DataType;
 import ai.djl.ndarray.types.Shape;
 import ai.djl.ndarray.types.SparseFormat;
 
-import com.microsoft.ml.lightgbm.SWIGTYPE_p_double;
-import com.microsoft.ml.lightgbm.SWIGTYPE_p_float;
 import com.microsoft.ml.lightgbm.SWIGTYPE_p_void;
-import com.microsoft.ml.lightgbm.lightgbmlib;
 import com.microsoft.ml.lightgbm.lightgbmlibConstants;
 
 import java.nio.ByteBuffer;
-import java.nio.DoubleBuffer;
-import java.nio.FloatBuffer;
+import java.nio.ByteOrder;
 import java.util.concurrent.atomic.AtomicReference;
 
 /** {@code LgbmNDArray} is the LightGBM implementation of {@link NDArray}. */
 public class LgbmNDArray extends NDArrayAdapter {
 
     private ByteBuffer data;
+    private ByteBuffer nativeData;
+    private ByteBuffer indptr;
+    private ByteBuffer indices;
     private SparseFormat format;
 
     private AtomicReference<SWIGTYPE_p_void> handle;
     private int typeConstant;
-    private AtomicReference<SWIGTYPE_p_float> floatDataRef;
-    private AtomicReference<SWIGTYPE_p_double> doubleDataRef;
 
     LgbmNDArray(
             NDManager manager,
@@ -52,8 +50,20 @@ public class LgbmNDArray extends NDArrayAdapter {
         this.format = SparseFormat.DENSE;
         manager.attachInternal(uid, this);
         handle = new AtomicReference<>();
-        floatDataRef = new AtomicReference<>();
-        doubleDataRef = new AtomicReference<>();
+    }
+
+    LgbmNDArray(
+            NDManager manager,
+            NDManager alternativeManager,
+            ByteBuffer data,
+            ByteBuffer indptr,
+            ByteBuffer indices,
+            Shape shape,
+            DataType dataType) {
+        this(manager, alternativeManager, data, shape, dataType);
+        this.indptr = indptr;
+        this.indices = indices;
+        this.format = SparseFormat.CSR;
     }
 
     /** {@inheritDoc} */
@@ -70,6 +80,9 @@ public class LgbmNDArray extends NDArrayAdapter {
      * @return the native LightGBM handle to the array
      */
     public SWIGTYPE_p_void getHandle() {
+        if (format == SparseFormat.CSR) {
+            throw new UnsupportedOperationException("CSR array does not have a dense handle.");
+        }
         if (handle.get() == null) {
             if (shape.dimension() != 2) {
                 throw new IllegalArgumentException(
@@ -78,30 +91,19 @@ public class LgbmNDArray extends NDArrayAdapter {
                                 + shape.dimension()
                                 + " dimensions");
             }
-            int size = Math.toIntExact(size());
-
             if (getDataType() == DataType.FLOAT32) {
                 typeConstant = lightgbmlibConstants.C_API_DTYPE_FLOAT32;
-                FloatBuffer d1 = toByteBuffer().asFloatBuffer();
-                floatDataRef.set(lightgbmlib.new_floatArray(size));
-                for (int i = 0; i < size; i++) {
-                    lightgbmlib.floatArray_setitem(floatDataRef.get(), i, d1.get(i));
-                }
-                handle.set(lightgbmlib.float_to_voidp_ptr(floatDataRef.get()));
             } else if (getDataType() == DataType.FLOAT64) {
                 typeConstant = lightgbmlibConstants.C_API_DTYPE_FLOAT64;
-                DoubleBuffer d1 = toByteBuffer().asDoubleBuffer();
-                doubleDataRef.set(lightgbmlib.new_doubleArray(size));
-                for (int i = 0; i < size; i++) {
-                    lightgbmlib.doubleArray_setitem(doubleDataRef.get(), i, d1.get(i));
-                }
-                handle.set(lightgbmlib.double_to_voidp_ptr(doubleDataRef.get()));
             } else {
                 throw new IllegalArgumentException(
                         "The LightGBM operation can only be performed with a Float32 or Float64"
                                 + " array, but was given a "
                                 + getDataType());
             }
+            // LightGBM reads the matrix straight from the direct buffer
+            nativeData = toNativeBuffer(toByteBuffer());
+            handle.set(JniUtils.toVoidPointer(nativeData));
         }
         return handle.get();
     }
@@ -133,6 +135,36 @@ public class LgbmNDArray extends NDArrayAdapter {
         return typeConstant;
     }
 
+    /**
+     * Returns the non-zero values of a CSR array.
+     *
+     * @return the non-zero values of a CSR array
+     */
+    public ByteBuffer getValues() {
+        data.rewind();
+        return data;
+    }
+
+    /**
+     * Returns the row pointers of a CSR array as int32.
+     *
+     * @return the row pointers of a CSR array as int32
+     */
+    public ByteBuffer getIndptr() {
+        indptr.rewind();
+        return indptr;
+    }
+
+    /**
+     * Returns the column indices of a CSR array as int32.
+     *
+     * @return the column indices of a CSR array as int32
+     */
+    public ByteBuffer getIndices() {
+        indices.rewind();
+        return indices;
+    }
+
     /** {@inheritDoc} */
     @Override
     public SparseFormat getSparseFormat() {
@@ -145,6 +177,9 @@ public class LgbmNDArray extends NDArrayAdapter {
         if (data == null) {
             throw new UnsupportedOperationException("Cannot obtain value from DMatrix");
         }
+        if (format == SparseFormat.CSR) {
+            throw new UnsupportedOperationException("Cannot obtain dense value from CSR array");
+        }
         data.rewind();
         return data;
     }
@@ -154,16 +189,11 @@ public class LgbmNDArray extends NDArrayAdapter {
     public void intern(NDArray replaced) {
         LgbmNDArray array = (LgbmNDArray) replaced;
 
-        SWIGTYPE_p_float floatData = floatDataRef.getAndSet(array.floatDataRef.getAndSet(null));
-        if (floatData != null) {
-            lightgbmlib.delete_floatArray(floatData);
-        }
-        SWIGTYPE_p_double doubleData = doubleDataRef.getAndSet(array.doubleDataRef.getAndSet(null));
-        if (doubleData != null) {
-            lightgbmlib.delete_doubleArray(doubleData);
-        }
         handle.set(array.handle.getAndSet(null));
         data = array.data;
+        nativeData = array.nativeData;
+        indptr = array.indptr;
+        indices = array.indices;
         format = array.format;
         typeConstant = array.typeConstant;
         shape = array.shape;
@@ -182,15 +212,23 @@ public class LgbmNDArray extends NDArrayAdapter {
     @Override
     public void close() {
         super.close();
-        SWIGTYPE_p_float floatData = floatDataRef.getAndSet(null);
-        if (floatData != null) {
-            lightgbmlib.delete_floatArray(floatData);
-        }
-        SWIGTYPE_p_double doubleData = doubleDataRef.getAndSet(null);
-        if (doubleData != null) {
-            lightgbmlib.delete_doubleArray(doubleData);
-        }
         handle.set(null);
         data = null;
+        nativeData = null;
+        indptr = null;
+        indices = null;
+    }
+
+    private ByteBuffer toNativeBuffer(ByteBuffer buf) {
+        if (buf.isDirect() && buf.order() == ByteOrder.nativeOrder()) {
+            return buf;
+        }
+        ByteBuffer bb = manager.allocateDirect(buf.remaining());
+        if (getDataType() == DataType.FLOAT32) {
+            bb.asFloatBuffer().put(buf.asFloatBuffer());
+        } else {
+            bb.asDoubleBuffer().put(buf.asDoubleBuffer());
+        }
+        return bb;
     }
 }
@@ -26,6 +26,7 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
 import java.nio.file.Path;
 
 /** {@code LgbmNDManager} is the LightGBM implementation of {@link NDManager}. */
@@ -98,6 +99,34 @@ public class LgbmNDManager extends BaseNDManager {
                         + " FloatBuffer with Float32, or a DoubleBuffer with Float64.");
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public NDArray createCSR(Buffer data, long[] indptr, long[] indices, Shape shape) {
+        if (shape.dimension() != 2) {
+            throw new UnsupportedOperationException("Shape must be in two dimension");
+        }
+        DataType dataType = DataType.fromBuffer(data);
+        ByteBuffer values;
+        if (dataType == DataType.FLOAT32) {
+            values = allocateDirect(data.remaining() * 4);
+            values.asFloatBuffer().put((FloatBuffer) data);
+        } else if (dataType == DataType.FLOAT64) {
+            values = allocateDirect(data.remaining() * 8);
+            values.asDoubleBuffer().put((DoubleBuffer) data);
+        } else {
+            throw new UnsupportedOperationException(
+                    "LgbmNDArray only supports float32 and float64, actual " + dataType);
+        }
+        return new LgbmNDArray(
+                this,
+                alternativeManager,
+                values,
+                toIntBuffer(indptr),
+                toIntBuffer(indices),
+                shape,
+                dataType);
+    }
+
     /** {@inheritDoc} */
     @Override
     public NDList load(Path path) {
@@ -114,6 +143,15 @@ public class LgbmNDManager extends BaseNDManager {
         }
     }
 
+    private ByteBuffer toIntBuffer(long[] data) {
+        ByteBuffer bb = allocateDirect(data.length * 4);
+        IntBuffer ib = bb.asIntBuffer();
+        for (long value : data) {
+            ib.put(Math.toIntExact(value));
+        }
+        return bb;
+    }
+
     /** The SystemManager is the root {@link LgbmNDManager} of which all others are children. */
     private static final class SystemManager extends LgbmNDManager implements SystemNDManager {
 
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.ml.lightgbm;
+
+import ai.djl.ml.lightgbm.jni.JniUtils;
+
+import com.microsoft.ml.lightgbm.SWIGTYPE_p_double;
+import com.microsoft.ml.lightgbm.SWIGTYPE_p_long_long;
+import com.microsoft.ml.lightgbm.SWIGTYPE_p_p_void;
+import com.microsoft.ml.lightgbm.lightgbmlib;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@code LgbmSingleRowPredictor} scores one row at a time with the LightGBM fast single row API.
+ *
+ * <p>The prediction config is set up once when the predictor is created, and the row is passed to
+ * LightGBM without going through an {@code NDArray}. This is intended for low latency online
+ * scoring, use {@link ai.djl.inference.Predictor} for batches.
+ *
+ * <p>A {@code LgbmSingleRowPredictor} is not thread-safe, each thread should create its own
+ * predictor with {@link LgbmSymbolBlock#newSingleRowPredictor()}.
+ */
+public class LgbmSingleRowPredictor implements AutoCloseable {
+
+    private AtomicReference<SWIGTYPE_p_p_void> fastConfig;
+    private int numFeatures;
+    private SWIGTYPE_p_long_long outLength;
+    private SWIGTYPE_p_double outResult;
+    private ByteBuffer outBuffer;
+    private DoubleBuffer output;
+
+    LgbmSingleRowPredictor(SWIGTYPE_p_p_void fastConfig, int numFeatures, int outputLength) {
+        this.fastConfig = new AtomicReference<>(fastConfig);
+        this.numFeatures = numFeatures;
+        outLength = lightgbmlib.new_int64_tp();
+        outBuffer = ByteBuffer.allocateDirect(outputLength * 8).order(ByteOrder.nativeOrder());
+        outResult = JniUtils.toDoublePointer(outBuffer);
+        output = outBuffer.asDoubleBuffer();
+    }
+
+    /**
+     * Returns the number of features of a row.
+     *
+     * @return the number of features of a row
+     */
+    public int getNumFeatures() {
+        return numFeatures;
+    }
+
+    /**
+     * Predicts one row.
+     *
+     * @param row the features of the row
+     * @return the prediction of the row
+     */
+    public double[] predict(double[] row) {
+        if (row.length != numFeatures) {
+            throw new IllegalArgumentException(
+                    "Expect " + numFeatures + " features, but got " + row.length);
+        }
+        SWIGTYPE_p_p_void config = fastConfig.get();
+        if (config == null) {
+            throw new IllegalStateException("LgbmSingleRowPredictor has been closed.");
+        }
+        int length = JniUtils.predictSingleRowFast(config, row, outLength, outResult);
+        double[] ret = new double[length];
+        output.rewind();
+        output.get(ret);
+        return ret;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        SWIGTYPE_p_p_void config = fastConfig.getAndSet(null);
+        if (config != null) {
+            JniUtils.freeFastConfig(config);
+            lightgbmlib.delete_int64_tp(outLength);
+        }
+    }
+}
@@ -37,6 +37,7 @@ public class LgbmSymbolBlock extends AbstractSymbolBlock implements AutoCloseabl
     private String uid;
     private LgbmNDManager manager;
     private int inferenceType;
+    private int numThreads;
 
     /**
      * Constructs a {@code LgbmSymbolBlock}.
@@ -69,7 +70,13 @@ public class LgbmSymbolBlock extends AbstractSymbolBlock implements AutoCloseabl
         try (LgbmNDManager sub = (LgbmNDManager) manager.newSubManager()) {
             LgbmNDArray lgbmNDArray = sub.from(array);
             Pair<Integer, ByteBuffer> result =
-                    JniUtils.inference(getHandle(), iterations, lgbmNDArray, inferenceType);
+                    JniUtils.inference(
+                            manager,
+                            getHandle(),
+                            iterations,
+                            lgbmNDArray,
+                            inferenceType,
+                            getPredictParameter());
 
             NDArray ret =
                     manager.create(
@@ -81,6 +88,24 @@ public class LgbmSymbolBlock extends AbstractSymbolBlock implements AutoCloseabl
         }
     }
 
+    /**
+     * Creates a new {@link LgbmSingleRowPredictor} for low latency prediction of one row at a time.
+     *
+     * <p>The predictor uses the inference type and the number of threads of this block at the time
+     * it is created.
+     *
+     * @return a new {@link LgbmSingleRowPredictor}
+     */
+    public LgbmSingleRowPredictor newSingleRowPredictor() {
+        SWIGTYPE_p_p_void model = getHandle();
+        int numFeatures = JniUtils.getNumFeatures(model);
+        int outputLength = JniUtils.getOutputLength(model, inferenceType, 1, iterations);
+        SWIGTYPE_p_p_void fastConfig =
+                JniUtils.createFastConfig(
+                        model, iterations, numFeatures, inferenceType, getPredictParameter());
+        return new LgbmSingleRowPredictor(fastConfig, numFeatures, outputLength);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void close() {
@@ -134,6 +159,18 @@ public class LgbmSymbolBlock extends AbstractSymbolBlock implements AutoCloseabl
         }
     }
 
+    void setNumThreads(int numThreads) {
+        this.numThreads = numThreads;
+    }
+
+    int getNumThreads() {
+        return numThreads;
+    }
+
+    private String getPredictParameter() {
+        return numThreads > 0 ? "num_threads=" + numThreads : "";
+    }
+
     String getInferenceType() {
         if (inferenceType == lightgbmlibConstants.C_API_PREDICT_NORMAL) {
             return "NORMAL";
@@ -19,15 +19,20 @@ import ai.djl.ml.lightgbm.LgbmNDManager;
 import ai.djl.ml.lightgbm.LgbmSymbolBlock;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.types.SparseFormat;
 import ai.djl.util.Pair;
 
 import com.microsoft.ml.lightgbm.SWIGTYPE_p_double;
 import com.microsoft.ml.lightgbm.SWIGTYPE_p_int;
 import com.microsoft.ml.lightgbm.SWIGTYPE_p_long_long;
 import com.microsoft.ml.lightgbm.SWIGTYPE_p_p_void;
+import com.microsoft.ml.lightgbm.SWIGTYPE_p_void;
 import com.microsoft.ml.lightgbm.lightgbmlib;
 import com.microsoft.ml.lightgbm.lightgbmlibConstants;
 
+import com.sun.jna.Native;
+import com.sun.jna.Pointer;
+
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.DoubleBuffer;
@@ -61,7 +66,12 @@ public final class JniUtils {
     }
 
     public static Pair<Integer, ByteBuffer> inference(
-            SWIGTYPE_p_p_void model, int iterations, NDArray a, int inferenceType) {
+            LgbmNDManager manager,
+            SWIGTYPE_p_p_void model,
+            int iterations,
+            NDArray a,
+            int inferenceType,
+            String parameter) {
         if (a instanceof LgbmDataset) {
             LgbmDataset dataset = (LgbmDataset) a;
             switch (dataset.getSrcType()) {
@@ -70,71 +80,219 @@ public final class JniUtils {
                             "LightGBM can only do inference with an Array LightGBMDataset");
                 case ARRAY:
                     return inferenceMat(
-                            model, iterations, dataset.getSrcArrayConverted(), inferenceType);
+                            manager,
+                            model,
+                            iterations,
+                            dataset.getSrcArrayConverted(),
+                            inferenceType,
+                            parameter);
                 default:
                     throw new IllegalArgumentException("Unexpected LgbmDataset SrcType");
             }
         }
         if (a instanceof LgbmNDArray) {
-            return inferenceMat(model, iterations, (LgbmNDArray) a, inferenceType);
+            LgbmNDArray array = (LgbmNDArray) a;
+            if (array.getSparseFormat() == SparseFormat.CSR) {
+                return inferenceCSR(manager, model, iterations, array, inferenceType, parameter);
+            }
+            return inferenceMat(manager, model, iterations, array, inferenceType, parameter);
         }
         throw new IllegalArgumentException("LightGBM inference must be called with a LgbmNDArray");
     }
 
     public static Pair<Integer, ByteBuffer> inferenceMat(
-            SWIGTYPE_p_p_void model, int iterations, LgbmNDArray a, int inferenceType) {
-        SWIGTYPE_p_long_long outLength = lightgbmlib.new_int64_tp();
-        SWIGTYPE_p_double outBuffer = null;
+            LgbmNDManager manager,
+            SWIGTYPE_p_p_void model,
+            int iterations,
+            LgbmNDArray a,
+            int inferenceType,
+            String parameter) {
+        return predict(
+                manager,
+                model,
+                iterations,
+                a.getRows(),
+                inferenceType,
+                a.getDataType(),
+                (outLength, outResult) ->
+                        lightgbmlib.LGBM_BoosterPredictForMat(
+                                lightgbmlib.voidpp_value(model),
+                                a.getHandle(),
+                                a.getTypeConstant(),
+                                a.getRows(),
+                                a.getCols(),
+                                1,
+                                inferenceType,
+                                0,
+                                iterations,
+                                parameter,
+                                outLength,
+                                outResult));
+    }
+
+    public static Pair<Integer, ByteBuffer> inferenceCSR(
+            LgbmNDManager manager,
+            SWIGTYPE_p_p_void model,
+            int iterations,
+            LgbmNDArray a,
+            int inferenceType,
+            String parameter) {
+        ByteBuffer indptr = a.getIndptr();
+        ByteBuffer indices = a.getIndices();
+        ByteBuffer values = a.getValues();
+        int nindptr = indptr.remaining() / 4;
+        int nelem = indices.remaining() / 4;
+        boolean isFloat = a.getDataType() == DataType.FLOAT32;
+        int dataType =
+                isFloat
+                        ? lightgbmlibConstants.C_API_DTYPE_FLOAT32
+                        : lightgbmlibConstants.C_API_DTYPE_FLOAT64;
+        // LightGBM reads the CSR arrays straight from the direct buffers
+        SWIGTYPE_p_void indptrPtr = new VoidPointer(getAddress(indptr));
+        SWIGTYPE_p_int indicesPtr = new IntPointer(getAddress(indices));
+        SWIGTYPE_p_void valuesPtr = new VoidPointer(getAddress(values));
+        return predict(
+                manager,
+                model,
+                iterations,
+                a.getRows(),
+                inferenceType,
+                a.getDataType(),
+                (outLength, outResult) ->
+                        lightgbmlib.LGBM_BoosterPredictForCSR(
+                                lightgbmlib.voidpp_value(model),
+                                indptrPtr,
+                                lightgbmlibConstants.C_API_DTYPE_INT32,
+                                indicesPtr,
+                                valuesPtr,
+                                dataType,
+                                nindptr,
+                                nelem,
+                                a.getCols(),
+                                inferenceType,
+                                0,
+                                iterations,
+                                parameter,
+                                outLength,
+                                outResult));
+    }
+
+    public static SWIGTYPE_p_p_void createFastConfig(
+            SWIGTYPE_p_p_void model,
+            int iterations,
+            int numFeatures,
+            int inferenceType,
+            String parameter) {
+        SWIGTYPE_p_p_void handle = lightgbmlib.new_voidpp();
+        int result =
+                lightgbmlib.LGBM_BoosterPredictForMatSingleRowFastInit(
+                        lightgbmlib.voidpp_value(model),
+                        inferenceType,
+                        0,
+                        iterations,
+                        lightgbmlibConstants.C_API_DTYPE_FLOAT64,
+                        numFeatures,
+                        parameter,
+                        handle);
+        checkCall(result);
+        return handle;
+    }
+
+    public static int predictSingleRowFast(
+            SWIGTYPE_p_p_void fastConfig,
+            double[] row,
+            SWIGTYPE_p_long_long outLength,
+            SWIGTYPE_p_double outResult) {
+        int result =
+                lightgbmlib.LGBM_BoosterPredictForMatSingleRowFastCriticalSWIG(
+                        row, lightgbmlib.voidpp_value(fastConfig), outLength, outResult);
+        checkCall(result);
+        return Math.toIntExact(lightgbmlib.int64_tp_value(outLength));
+    }
+
+    public static void freeFastConfig(SWIGTYPE_p_p_void handle) {
+        int result = lightgbmlib.LGBM_FastConfigFree(lightgbmlib.voidpp_value(handle));
+        checkCall(result);
+    }
+
+    public static int getNumFeatures(SWIGTYPE_p_p_void model) {
+        SWIGTYPE_p_int outp = lightgbmlib.new_intp();
         try {
-            int bufferLength = calculateBufferLength(model, inferenceType, a.getRows(), iterations);
-            outBuffer = lightgbmlib.new_doubleArray(bufferLength);
             int result =
-                    lightgbmlib.LGBM_BoosterPredictForMat(
-                            lightgbmlib.voidpp_value(model),
-                            a.getHandle(),
-                            a.getTypeConstant(),
-                            a.getRows(),
-                            a.getCols(),
-                            1,
-                            inferenceType,
-                            0,
-                            iterations,
-                            "",
-                            outLength,
-                            outBuffer);
+                    lightgbmlib.LGBM_BoosterGetNumFeature(lightgbmlib.voidpp_value(model), outp);
             checkCall(result);
+            return lightgbmlib.intp_value(outp);
+        } finally {
+            lightgbmlib.delete_intp(outp);
+        }
+    }
+
+    public static int getOutputLength(
+            SWIGTYPE_p_p_void model, int inferenceType, int rows, int iterations) {
+        return calculateBufferLength(model, inferenceType, rows, iterations);
+    }
+
+    /**
+     * Returns a pointer to the memory of a direct buffer.
+     *
+     * <p>The buffer must stay reachable as long as the pointer is used.
+     *
+     * @param buf the direct buffer
+     * @return a pointer to the memory of the direct buffer
+     */
+    public static SWIGTYPE_p_void toVoidPointer(ByteBuffer buf) {
+        return new VoidPointer(getAddress(buf));
+    }
+
+    /**
+     * Returns a pointer to the memory of a direct buffer.
+     *
+     * <p>The buffer must stay reachable as long as the pointer is used.
+     *
+     * @param buf the direct buffer
+     * @return a pointer to the memory of the direct buffer
+     */
+    public static SWIGTYPE_p_double toDoublePointer(ByteBuffer buf) {
+        return new DoublePointer(getAddress(buf));
+    }
+
+    private static Pair<Integer, ByteBuffer> predict(
+            LgbmNDManager manager,
+            SWIGTYPE_p_p_void model,
+            int iterations,
+            int rows,
+            int inferenceType,
+            DataType dataType,
+            PredictCall call) {
+        if (dataType != DataType.FLOAT32 && dataType != DataType.FLOAT64) {
+            throw new IllegalArgumentException(
+                    "Unexpected data type for LightGBM inference. Expected Float32 or Float64,"
+                            + " but found "
+                            + dataType);
+        }
+        SWIGTYPE_p_long_long outLength = lightgbmlib.new_int64_tp();
+        try {
+            int bufferLength = calculateBufferLength(model, inferenceType, rows, iterations);
+            ByteBuffer bb = manager.allocateDirect(bufferLength * 8);
+            // LightGBM writes the result straight into the direct buffer
+            checkCall(call.predict(outLength, toDoublePointer(bb)));
             int length = Math.toIntExact(lightgbmlib.int64_tp_value(outLength));
-            if (a.getDataType() == DataType.FLOAT32) {
-                ByteBuffer bb =
-                        ByteBuffer.allocateDirect(length * 4).order(ByteOrder.nativeOrder());
-                FloatBuffer wrapped = bb.asFloatBuffer();
-                for (int i = 0; i < length; i++) {
-                    wrapped.put((float) lightgbmlib.doubleArray_getitem(outBuffer, i));
-                }
-                bb.rewind();
+            DoubleBuffer wrapped = bb.asDoubleBuffer();
+            if (dataType == DataType.FLOAT64) {
+                bb.limit(length * 8);
                 return new Pair<>(length, bb);
-            } else if (a.getDataType() == DataType.FLOAT64) {
-                ByteBuffer bb =
-                        ByteBuffer.allocateDirect(length * 8).order(ByteOrder.nativeOrder());
-                DoubleBuffer wrapped = bb.asDoubleBuffer();
-                for (int i = 0; i < length; i++) {
-                    wrapped.put(lightgbmlib.doubleArray_getitem(outBuffer, i));
-                }
-                bb.rewind();
-                return new Pair<>(length, bb);
-            } else {
-                throw new IllegalArgumentException(
-                        "Unexpected data type for LightGBM inference. Expected Float32 or Float64,"
-                                + " but found "
-                                + a.getDataType());
             }
+            // narrow in place, each float is written before or over the double just read
+            FloatBuffer narrowed = bb.asFloatBuffer();
+            for (int i = 0; i < length; i++) {
+                narrowed.put(i, (float) wrapped.get(i));
+            }
+            bb.limit(length * 4);
+            return new Pair<>(length, bb.slice().order(ByteOrder.nativeOrder()));
         } catch (EngineException e) {
             throw new EngineException("Failed to run inference using LightGBM native engine", e);
         } finally {
             lightgbmlib.delete_int64_tp(outLength);
-            if (outBuffer != null) {
-                lightgbmlib.delete_doubleArray(outBuffer);
-            }
         }
     }
 
@@ -220,4 +378,40 @@ public final class JniUtils {
         int result = lightgbmlib.LGBM_DatasetFree(lightgbmlib.voidpp_value(handle));
         checkCall(result);
     }
+
+    private static long getAddress(ByteBuffer buf) {
+        if (!buf.isDirect()) {
+            throw new IllegalArgumentException("Only direct buffer is supported.");
+        }
+        return Pointer.nativeValue(Native.getDirectBufferPointer(buf));
+    }
+
+    private interface PredictCall {
+
+        int predict(SWIGTYPE_p_long_long outLength, SWIGTYPE_p_double outResult);
+    }
+
+    /** A {@code void*} that points to the memory of a direct buffer. */
+    private static final class VoidPointer extends SWIGTYPE_p_void {
+
+        VoidPointer(long address) {
+            super(address, false);
+        }
+    }
+
+    /** A {@code double*} that points to the memory of a direct buffer. */
+    private static final class DoublePointer extends SWIGTYPE_p_double {
+
+        DoublePointer(long address) {
+            super(address, false);
+        }
+    }
+
+    /** An {@code int*} that points to the memory of a direct buffer. */
+    private static final class IntPointer extends SWIGTYPE_p_int {
+
+        IntPointer(long address) {
+            super(address, false);
+        }
+    }
 }
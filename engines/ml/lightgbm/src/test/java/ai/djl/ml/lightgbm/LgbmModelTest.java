@@ -30,6 +30,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.nio.FloatBuffer;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -74,4 +75,48 @@ public class LgbmModelTest {
             Assert.assertThrows(() -> lgbm.setInferenceType("invalid"));
         }
     }
+
+    @Test
+    public void testSparseAndSingleRow() throws ModelException, IOException, TranslateException {
+        TestRequirements.notArm();
+        Path modelDir = Paths.get("build/model");
+        DownloadUtils.download(
+                "https://resources.djl.ai/test-models/lightgbm/quadratic.txt",
+                modelDir.resolve("quadratic.txt").toString());
+
+        Criteria<NDList, NDList> criteria =
+                Criteria.builder()
+                        .setTypes(NDList.class, NDList.class)
+                        .optModelPath(modelDir)
+                        .optModelName("quadratic")
+                        .optOption("num_threads", "1")
+                        .build();
+
+        try (ZooModel<NDList, NDList> model = criteria.loadModel();
+                Predictor<NDList, NDList> predictor = model.newPredictor()) {
+            LgbmModel lgbm = (LgbmModel) model.getWrappedModel();
+            Assert.assertEquals(lgbm.getNumThreads(), 1);
+            try (NDManager manager = NDManager.newBaseManager()) {
+                float[] data = {1f, 0f, 2f, 0f, 0f, 3f, 0f, 4f};
+                NDArray dense = manager.create(data, new Shape(2, 4));
+                float[] expected = predictor.predict(new NDList(dense)).head().toFloatArray();
+
+                FloatBuffer values = FloatBuffer.wrap(new float[] {1f, 2f, 3f, 4f});
+                long[] indptr = {0, 2, 4};
+                long[] indices = {0, 2, 1, 3};
+                NDArray csr = manager.createCSR(values, indptr, indices, new Shape(2, 4));
+                NDArray output = predictor.predict(new NDList(csr)).head();
+                Assert.assertEquals(output.getDataType(), DataType.FLOAT32);
+                Assert.assertEquals(output.toFloatArray(), expected, 1e-6f);
+
+                LgbmSymbolBlock block = (LgbmSymbolBlock) model.getBlock();
+                try (LgbmSingleRowPredictor single = block.newSingleRowPredictor()) {
+                    Assert.assertEquals(single.getNumFeatures(), 4);
+                    double[] row = {0, 3, 0, 4};
+                    Assert.assertEquals(single.predict(row)[0], expected[1], 1e-5);
+                    Assert.assertThrows(() -> single.predict(new double[1]));
+                }
+            }
+        }
+    }
 }
@@ -20,6 +20,7 @@ import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.DataType;
 import ai.djl.ndarray.types.Shape;
 import ai.djl.ndarray.types.SparseFormat;
+import ai.djl.training.dataset.Batch;
 import ai.djl.util.JsonUtils;
 
 import com.google.gson.JsonArray;
@@ -58,6 +59,10 @@ public class XgbNDManager extends BaseNDManager {
         this.missingValue = missingValue;
     }
 
+    float getMissingValue() {
+        return missingValue;
+    }
+
     /**
      * Sets the default number of threads.
      *
@@ -122,6 +127,33 @@ public class XgbNDManager extends BaseNDManager {
         return new XgbNDArray(this, alternativeManager, handle, shape, SparseFormat.DENSE);
     }
 
+    /**
+     * Creates {@link XgbNDArray} from a stream of {@link Batch}es.
+     *
+     * <p>The batches are handed over to XGBoost one at a time through the callback iterator as
+     * dense array interface columns, so the feature matrix is never materialized in one buffer.
+     * XGBoost builds a quantized {@code QuantileDMatrix} from them. With a {@code cachePrefix}, it
+     * builds an external memory {@code ExtMemQuantileDMatrix} that keeps its pages in cache files
+     * starting with the prefix, which allows datasets larger than the memory.
+     *
+     * <p>The data of each batch must be a matrix of shape [batch, features], and the optional label
+     * of shape [batch]. The arrays must be readable with {@link NDArray#toByteBuffer()}, for
+     * example loaded with the manager of another engine. Each batch is closed after it is consumed.
+     *
+     * @param batches the batches, for example {@code dataset.getData(manager)}
+     * @param cachePrefix the path prefix of the external memory cache files, or {@code null} to
+     *     keep the DMatrix in memory
+     * @return a new instance of {@link NDArray}
+     */
+    public NDArray create(Iterable<Batch> batches, String cachePrefix) {
+        long[] shape = new long[2];
+        long handle =
+                JniUtils.createDMatrix(
+                        batches.iterator(), cachePrefix, missingValue, nthread, shape);
+        return new XgbNDArray(
+                this, alternativeManager, handle, new Shape(shape), SparseFormat.DENSE);
+    }
+
     /** {@inheritDoc} */
     @Override
     public NDArray create(Buffer data, Shape shape, DataType dataType) {
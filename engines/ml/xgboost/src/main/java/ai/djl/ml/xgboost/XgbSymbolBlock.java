@@ -20,12 +20,17 @@ import ai.djl.nn.AbstractSymbolBlock;
 import ai.djl.nn.ParameterList;
 import ai.djl.nn.SymbolBlock;
 import ai.djl.training.ParameterStore;
+import ai.djl.training.dataset.Batch;
 import ai.djl.util.PairList;
 
 import ml.dmlc.xgboost4j.java.JniUtils;
 
 import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /** {@code XgbSymbolBlock} is the XGBoost implementation of {@link SymbolBlock}. */
 public class XgbSymbolBlock extends AbstractSymbolBlock implements AutoCloseable {
@@ -77,6 +82,62 @@ public class XgbSymbolBlock extends AbstractSymbolBlock implements AutoCloseable
         }
     }
 
+    /**
+     * Predicts the rows of a matrix in fixed-size chunks.
+     *
+     * <p>Only one chunk of rows is copied into a direct buffer at a time, and the buffer is reused
+     * for every chunk. This bounds the native memory used for the input, so the rows can be backed
+     * by a memory-mapped file that is larger than the memory.
+     *
+     * @param rows the row-major matrix of the features
+     * @param numFeatures the number of features of a row
+     * @param chunkRows the max number of rows to predict at a time
+     * @return the prediction of all the rows
+     */
+    public float[] predict(FloatBuffer rows, int numFeatures, int chunkRows) {
+        int numRows = checkRows(rows, numFeatures);
+        chunkRows = Math.max(1, Math.min(chunkRows, numRows));
+        ByteBuffer buf = manager.allocateDirect(chunkRows * numFeatures * 4);
+        return predictChunks(rows, numFeatures, chunkRows, buf);
+    }
+
+    /**
+     * Predicts a stream of {@link Batch}es in fixed-size chunks.
+     *
+     * <p>The data of each batch must be a matrix of shape [batch, features]. The batches are
+     * predicted in order with one direct buffer of {@code chunkRows} rows that is reused for every
+     * chunk, and each batch is closed after it is predicted.
+     *
+     * @param batches the batches, for example {@code dataset.getData(manager)}
+     * @param chunkRows the max number of rows to predict at a time
+     * @param consumer the consumer that receives the prediction of each batch
+     */
+    public void predict(Iterable<Batch> batches, int chunkRows, Consumer<float[]> consumer) {
+        ByteBuffer buf = null;
+        int numFeatures = 0;
+        for (Batch batch : batches) {
+            try (Batch b = batch) {
+                NDArray features = b.getData().head();
+                Shape shape = features.getShape();
+                if (shape.dimension() != 2) {
+                    throw new IllegalArgumentException(
+                            "Expect features of shape [batch, features], got: " + shape);
+                }
+                if (buf == null) {
+                    numFeatures = Math.toIntExact(shape.get(1));
+                    chunkRows = Math.max(1, chunkRows);
+                    buf = manager.allocateDirect(chunkRows * numFeatures * 4);
+                }
+                if (features.getDataType() != DataType.FLOAT32) {
+                    features = features.toType(DataType.FLOAT32, false);
+                }
+                FloatBuffer rows = features.toByteBuffer().asFloatBuffer();
+                checkRows(rows, numFeatures);
+                consumer.accept(predictChunks(rows, numFeatures, chunkRows, buf));
+            }
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void close() {
@@ -101,6 +162,52 @@ public class XgbSymbolBlock extends AbstractSymbolBlock implements AutoCloseable
         return reference;
     }
 
+    private float[] predictChunks(
+            FloatBuffer rows, int numFeatures, int chunkRows, ByteBuffer buf) {
+        FloatBuffer src = rows.duplicate();
+        FloatBuffer chunk = buf.asFloatBuffer();
+        float missing = manager.getMissingValue();
+        List<float[]> outputs = new ArrayList<>();
+        int total = 0;
+        while (src.hasRemaining()) {
+            int numRows = Math.min(chunkRows, src.remaining() / numFeatures);
+            int size = numRows * numFeatures;
+            FloatBuffer slice = src.duplicate();
+            slice.limit(slice.position() + size);
+            chunk.clear();
+            chunk.put(slice);
+            src.position(src.position() + size);
+
+            // the DMatrix references the direct buffer without copy
+            long dmatrix = JniUtils.createDMatrix(buf, new Shape(numRows, numFeatures), missing);
+            try {
+                float[] result = JniUtils.inference(this, dmatrix, treeLimit, mode);
+                outputs.add(result);
+                total += result.length;
+            } finally {
+                JniUtils.deleteDMatrix(dmatrix);
+            }
+        }
+        if (outputs.size() == 1) {
+            return outputs.get(0);
+        }
+        float[] ret = new float[total];
+        int pos = 0;
+        for (float[] result : outputs) {
+            System.arraycopy(result, 0, ret, pos, result.length);
+            pos += result.length;
+        }
+        return ret;
+    }
+
+    private static int checkRows(FloatBuffer rows, int numFeatures) {
+        if (numFeatures <= 0 || rows.remaining() % numFeatures != 0) {
+            throw new IllegalArgumentException(
+                    "The number of values must be a multiple of numFeatures: " + numFeatures);
+        }
+        return rows.remaining() / numFeatures;
+    }
+
     void setMode(Mode mode) {
         this.mode = mode;
     }
@@ -16,12 +16,21 @@ import ai.djl.engine.EngineException;
 import ai.djl.ml.xgboost.XgbNDArray;
 import ai.djl.ml.xgboost.XgbNDManager;
 import ai.djl.ml.xgboost.XgbSymbolBlock;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.types.DataType;
 import ai.djl.ndarray.types.Shape;
+import ai.djl.training.dataset.Batch;
+import ai.djl.util.JsonUtils;
 
 import com.sun.jna.Native;
 import com.sun.jna.PointerProxy;
 
 import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import java.util.Locale;
 
 /** DJL class that has access to XGBoost JNI. */
 @SuppressWarnings("MissingJavadocMethod")
@@ -54,6 +63,35 @@ public final class JniUtils {
         return handles[0];
     }
 
+    public static long createDMatrix(
+            Iterator<Batch> batches, String cachePrefix, float missing, int nthread, long[] shape) {
+        long[] handles = new long[1];
+        DenseBatchIterator iterator = new DenseBatchIterator(batches);
+        StringBuilder config = new StringBuilder();
+        config.append(
+                String.format(
+                        Locale.ROOT,
+                        "{\"missing\":%f,\"max_bin\":%d,\"nthread\":%d",
+                        missing,
+                        256,
+                        nthread));
+        if (cachePrefix == null) {
+            config.append('}');
+            checkCall(
+                    XGBoostJNI.XGQuantileDMatrixCreateFromCallback(
+                            iterator, null, config.toString(), handles));
+        } else {
+            config.append(",\"cache_prefix\":").append(JsonUtils.GSON.toJson(cachePrefix));
+            config.append('}');
+            checkCall(
+                    XGBoostJNI.XGExtMemQuantileDMatrixCreateFromCallback(
+                            iterator, null, config.toString(), handles));
+        }
+        shape[0] = iterator.rows;
+        shape[1] = iterator.cols;
+        return handles[0];
+    }
+
     public static long createDMatrix(ColumnBatch columnBatch, float missing, int nthread) {
         long[] handles = new long[1];
         String json = columnBatch.toFeaturesJson();
@@ -82,10 +120,15 @@ public final class JniUtils {
 
     public static float[] inference(
             XgbSymbolBlock block, XgbNDArray array, int treeLimit, XgbSymbolBlock.Mode mode) {
+        return inference(block, array.getHandle(), treeLimit, mode);
+    }
+
+    public static float[] inference(
+            XgbSymbolBlock block, long dmatrix, int treeLimit, XgbSymbolBlock.Mode mode) {
         float[][] output = new float[1][];
         checkCall(
                 XGBoostJNI.XGBoosterPredict(
-                        block.getHandle(), array.getHandle(), treeLimit, mode.getValue(), output));
+                        block.getHandle(), dmatrix, treeLimit, mode.getValue(), output));
         return output[0];
     }
 
@@ -98,4 +141,127 @@ public final class JniUtils {
         checkCall(XGBoostJNI.XGBoosterCreate(matrixHandles, handles));
         return handles[0];
     }
+
+    /**
+     * Wraps dense {@link Batch}es as the array interface {@link ColumnBatch}es consumed by the
+     * XGBoost callback iterator, one batch at a time.
+     */
+    private static final class DenseBatchIterator implements Iterator<ColumnBatch> {
+
+        private Iterator<Batch> batches;
+        long rows;
+        int cols = -1;
+        private ByteBuffer features;
+        private ByteBuffer labels;
+
+        DenseBatchIterator(Iterator<Batch> batches) {
+            this.batches = batches;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasNext() {
+            return batches.hasNext();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ColumnBatch next() {
+            try (Batch batch = batches.next()) {
+                NDArray data = batch.getData().head();
+                Shape shape = data.getShape();
+                if (shape.dimension() != 2) {
+                    throw new IllegalArgumentException(
+                            "Expect features of shape [batch, features], got: " + shape);
+                }
+                int n = Math.toIntExact(shape.get(0));
+                int c = Math.toIntExact(shape.get(1));
+                if (cols < 0) {
+                    cols = c;
+                } else if (c != cols) {
+                    throw new IllegalArgumentException(
+                            "Number of features mismatch, expected: " + cols + ", got: " + c);
+                }
+                // XGBoost copies each batch before it asks for the next one, so the buffers are
+                // reused as long as the batch size does not change
+                features = readFloats(data, features);
+                String featuresJson = toArrayInterface(features, n, c);
+
+                String labelJson = null;
+                NDList list = batch.getLabels();
+                if (list != null && !list.isEmpty()) {
+                    labels = readFloats(list.head(), labels);
+                    labelJson = toArrayInterface(labels, n, 1);
+                }
+                rows += n;
+                return new DenseColumnBatch(featuresJson, labelJson);
+            }
+        }
+
+        private static ByteBuffer readFloats(NDArray array, ByteBuffer buf) {
+            if (array.getDataType() != DataType.FLOAT32) {
+                array = array.toType(DataType.FLOAT32, false);
+            }
+            ByteBuffer bb = array.toByteBuffer();
+            if (buf == null || buf.capacity() != bb.remaining()) {
+                buf = ByteBuffer.allocateDirect(bb.remaining()).order(ByteOrder.nativeOrder());
+            }
+            buf.clear();
+            buf.asFloatBuffer().put(bb.asFloatBuffer());
+            return buf;
+        }
+
+        /** Describes each column of a row-major matrix as a strided array interface. */
+        private static String toArrayInterface(ByteBuffer buf, int rows, int cols) {
+            long address = new PointerProxy(Native.getDirectBufferPointer(buf)).getPeer();
+            String typestr = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN ? "<f4" : ">f4";
+            StringBuilder sb = new StringBuilder("[");
+            for (int i = 0; i < cols; ++i) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append("{\"data\":[")
+                        .append(address + i * 4L)
+                        .append(",true],\"shape\":[")
+                        .append(rows)
+                        .append("],\"strides\":[")
+                        .append(cols * 4L)
+                        .append("],\"typestr\":\"")
+                        .append(typestr)
+                        .append("\",\"version\":3}");
+            }
+            return sb.append(']').toString();
+        }
+    }
+
+    /** A {@link ColumnBatch} of the array interface of a dense batch. */
+    private static final class DenseColumnBatch extends ColumnBatch {
+
+        private String features;
+        private String label;
+
+        DenseColumnBatch(String features, String label) {
+            this.features = features;
+            this.label = label;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toJson() {
+            if (label == null) {
+                return "{\"features\":" + features + '}';
+            }
+            return "{\"features\":" + features + ",\"label\":" + label + '}';
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public String toFeaturesJson() {
+            return features;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() {}
+    }
 }
@@ -24,9 +24,11 @@ import ai.djl.ndarray.types.DataType;
 import ai.djl.ndarray.types.Shape;
 import ai.djl.ndarray.types.SparseFormat;
 import ai.djl.testing.TestRequirements;
+import ai.djl.training.dataset.Batch;
 import ai.djl.training.util.DownloadUtils;
 import ai.djl.translate.NoopTranslator;
 import ai.djl.translate.TranslateException;
+import ai.djl.util.Utils;
 
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
@@ -35,8 +37,13 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.FloatBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
 
 public class XgbModelTest {
 
@@ -88,6 +95,65 @@ public class XgbModelTest {
         }
     }
 
+    @Test
+    public void testStreaming() throws MalformedModelException, IOException {
+        try (Model model = Model.newInstance("XGBoost")) {
+            model.load(Paths.get("build/model"), "regression");
+            XgbSymbolBlock block = (XgbSymbolBlock) model.getBlock();
+            XgbNDManager manager = (XgbNDManager) model.getNDManager();
+
+            float[] data = new float[10 * 13];
+            for (int i = 0; i < data.length; ++i) {
+                data[i] = i % 7;
+            }
+            ByteBuffer bb = manager.allocateDirect(data.length * 4);
+            bb.asFloatBuffer().put(data);
+            float[] expected;
+            try (NDArray array = manager.create(bb, new Shape(10, 13), DataType.FLOAT32)) {
+                expected = block.forward(null, new NDList(array), false).head().toFloatArray();
+            }
+
+            FloatBuffer rows = FloatBuffer.wrap(data);
+            Assert.assertEquals(block.predict(rows, 13, 3), expected);
+            Assert.assertEquals(block.predict(rows, 13, 100), expected);
+            Assert.assertThrows(() -> block.predict(rows, 12, 3));
+
+            List<float[]> outputs = new ArrayList<>();
+            block.predict(newBatches(manager, data), 3, outputs::add);
+            Assert.assertEquals(outputs.size(), 2);
+            Assert.assertEquals(outputs.get(0), Arrays.copyOfRange(expected, 0, 5));
+            Assert.assertEquals(outputs.get(1), Arrays.copyOfRange(expected, 5, 10));
+
+            NDArray dmatrix = manager.create(newBatches(manager, data), null);
+            Assert.assertEquals(dmatrix.getShape(), new Shape(10, 13));
+            // the quantized DMatrix predicts from the bins, not the raw values
+            float[] result = block.forward(null, new NDList(dmatrix), false).head().toFloatArray();
+            Assert.assertEquals(result.length, expected.length);
+        }
+    }
+
+    @Test
+    public void testExternalMemory() throws IOException {
+        Path dir = Files.createTempDirectory("xgb");
+        try (XgbNDManager manager =
+                (XgbNDManager) XgbNDManager.getSystemManager().newSubManager()) {
+            float[] data = new float[10 * 13];
+            for (int i = 0; i < data.length; ++i) {
+                data[i] = i % 7;
+            }
+            String cachePrefix = dir.resolve("cache").toString();
+            try (NDArray dmatrix = manager.create(newBatches(manager, data), cachePrefix)) {
+                Assert.assertEquals(dmatrix.getShape(), new Shape(10, 13));
+                try (Stream<Path> stream = Files.list(dir)) {
+                    Assert.assertTrue(
+                            stream.anyMatch(p -> p.getFileName().toString().startsWith("cache")));
+                }
+            }
+        } finally {
+            Utils.deleteQuietly(dir);
+        }
+    }
+
     @Test
     public void testNDArray() {
         try (XgbNDManager manager =
@@ -132,4 +198,17 @@ public class XgbModelTest {
             Assert.assertEquals(array.getSparseFormat(), SparseFormat.CSR);
         }
     }
+
+    private static List<Batch> newBatches(XgbNDManager manager, float[] data) {
+        List<Batch> batches = new ArrayList<>();
+        for (int i = 0; i < 2; ++i) {
+            NDManager sub = manager.newSubManager();
+            ByteBuffer bb = sub.allocateDirect(5 * 13 * 4);
+            bb.asFloatBuffer().put(data, i * 5 * 13, 5 * 13);
+            // output only NDArray, readable with toByteBuffer()
+            NDArray features = new XgbNDArray(sub, null, bb, new Shape(5, 13), DataType.FLOAT32);
+            batches.add(new Batch(sub, new NDList(features), new NDList(), 5, null, null, i, 2));
+        }
+        return batches;
+    }
 }
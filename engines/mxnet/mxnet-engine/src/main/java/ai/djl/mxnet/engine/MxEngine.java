@@ -146,8 +146,16 @@ public final class MxEngine extends Engine {
     /** {@inheritDoc} */
     @Override
     public ParameterServer newParameterServer(Optimizer optimizer) {
-        return Boolean.getBoolean("ai.djl.use_local_parameter_server")
-                ? new LocalParameterServer(optimizer)
+        if (optimizer.isForeach()) {
+            // MXNet can't make the parameters views of flat arrays
+            throw new UnsupportedOperationException(
+                    "The multi-tensor update is not supported by MXNet.");
+        }
+        // gradient norm clipping is implemented by the local server
+        boolean local =
+                Boolean.getBoolean("ai.djl.use_local_parameter_server")
+                        || optimizer.getClipGradNorm() > 0;
+        return local
                 : new MxParameterServer(optimizer);
     }
 
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.onnxruntime.engine;
+
+import ai.djl.engine.EngineException;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.types.Shape;
+import ai.onnxruntime.NodeInfo;
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OnnxValue;
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+import ai.onnxruntime.TensorInfo;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code OrtIoBinding} runs an {@link OrtSymbolBlock} with input and output tensors that are
+ * allocated once and reused by every call.
+ *
+ * <p>Each bound tensor is backed by a direct {@code ByteBuffer} that ONNX Runtime reads from or
+ * writes to in place. The caller fills the input buffers and reads the output buffers, no tensor,
+ * map or {@code NDManager} is created by {@link #run()} for the bound outputs. This is useful for
+ * models that are called repeatedly with the same fixed shapes.
+ *
+ * <pre>
+ * try (OrtIoBinding binding = block.newIoBinding()) {
+ *     FloatBuffer input = binding.bindInput("input", new Shape(1, 4)).asFloatBuffer();
+ *     NDArray label = binding.bindOutput("output_label", new Shape(1));
+ *     for (float[] row : rows) {
+ *         input.clear();
+ *         input.put(row);
+ *         binding.run();
+ *         long[] result = label.toLongArray();
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>The outputs that are not bound are allocated by ONNX Runtime and stay valid until the next
+ * {@link #run()} call. An {@code OrtIoBinding} is not thread-safe, each thread should create its
+ * own binding.
+ */
+public class OrtIoBinding implements AutoCloseable {
+
+    private OrtSymbolBlock block;
+    private OrtNDManager manager;
+    private OrtNDManager runManager;
+    private Map<String, OnnxTensor> inputs;
+    private Map<String, OnnxTensor> pinnedOutputs;
+    private Map<String, OrtNDArray> outputArrays;
+
+    OrtIoBinding(OrtSymbolBlock block, OrtNDManager manager) {
+        this.block = block;
+        this.manager = manager;
+        inputs = new HashMap<>(block.getInputNames().size() * 2);
+        pinnedOutputs = new HashMap<>();
+        outputArrays = new HashMap<>();
+    }
+
+    /**
+     * Binds an input of the model to a new direct buffer, using the data type declared by the
+     * model.
+     *
+     * @param name the name of the input
+     * @param shape the fixed shape of the input
+     * @return the direct buffer in native order that holds the input data
+     */
+    public ByteBuffer bindInput(String name, Shape shape) {
+        NodeInfo info = block.getInputInfo(name);
+        return bindInput(name, shape, getDataType(info));
+    }
+
+    /**
+     * Binds an input of the model to a new direct buffer.
+     *
+     * @param name the name of the input
+     * @param shape the fixed shape of the input
+     * @param dataType the data type of the input
+     * @return the direct buffer in native order that holds the input data
+     */
+    public ByteBuffer bindInput(String name, Shape shape, DataType dataType) {
+        validateShape(name, block.getInputInfo(name), shape);
+        ByteBuffer buf = allocate(shape, dataType);
+        inputs.put(name, manager.create(buf, shape, dataType).getTensor());
+        return buf;
+    }
+
+    /**
+     * Binds an input of the model to an existing {@link NDArray}.
+     *
+     * <p>Only an {@link OrtNDArray} is bound without copy, other arrays are copied once into a
+     * direct buffer. The array must stay open as long as this binding is used.
+     *
+     * @param name the name of the input
+     * @param array the input data
+     */
+    public void bindInput(String name, NDArray array) {
+        validateShape(name, block.getInputInfo(name), array.getShape());
+        inputs.put(name, manager.from(array).getTensor());
+    }
+
+    /**
+     * Binds an output of the model to a new direct buffer, using the data type declared by the
+     * model.
+     *
+     * @param name the name of the output
+     * @param shape the fixed shape of the output
+     * @return the {@link NDArray} that receives the output of every {@link #run()} call
+     */
+    public NDArray bindOutput(String name, Shape shape) {
+        NodeInfo info = block.getOutputInfo(name);
+        DataType dataType = getDataType(info);
+        validateShape(name, info, shape);
+        OrtNDArray array = manager.create(allocate(shape, dataType), shape, dataType);
+        array.setName(name);
+        OrtNDArray old = outputArrays.put(name, array);
+        if (old != null) {
+            old.close();
+        }
+        pinnedOutputs.put(name, array.getTensor());
+        return array;
+    }
+
+    /**
+     * Runs the model with the bound inputs.
+     *
+     * @return the outputs of the model in the order declared by the model, the bound outputs are
+     *     the arrays returned by {@link #bindOutput(String, Shape)}
+     */
+    public NDList run() {
+        List<String> inputNames = block.getInputNames();
+        if (inputs.size() != inputNames.size()) {
+            throw new IllegalStateException("All inputs must be bound, looking for: " + inputNames);
+        }
+        if (runManager != null) {
+            runManager.close();
+            runManager = null;
+        }
+        List<String> outputNames = block.getOutputNames();
+        Set<String> unboundOutputs = new LinkedHashSet<>(outputNames);
+        unboundOutputs.removeAll(pinnedOutputs.keySet());
+        try {
+            OrtSession.Result results =
+                    block.getSession().run(inputs, unboundOutputs, pinnedOutputs);
+            NDList ret = new NDList(outputNames.size());
+            for (String name : outputNames) {
+                OrtNDArray array = outputArrays.get(name);
+                if (array != null) {
+                    ret.add(array);
+                    continue;
+                }
+                OnnxValue value =
+                        results.get(name)
+                                .orElseThrow(
+                                        () -> new EngineException("Output not found: " + name));
+                if (runManager == null) {
+                    runManager = (OrtNDManager) manager.newSubManager();
+                }
+                block.addOutput(ret, name, value, runManager);
+            }
+            return ret;
+        } catch (OrtException e) {
+            throw new EngineException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        inputs.clear();
+        pinnedOutputs.clear();
+        outputArrays.clear();
+        runManager = null;
+        manager.close();
+    }
+
+    private ByteBuffer allocate(Shape shape, DataType dataType) {
+        if (dataType == DataType.STRING) {
+            throw new IllegalArgumentException("String tensor cannot be bound.");
+        }
+        // the tensor references the direct buffer, ONNX Runtime reads and writes it in place
+        return manager.allocateDirect(Math.toIntExact(shape.size() * dataType.getNumOfBytes()));
+    }
+
+    private static DataType getDataType(NodeInfo info) {
+        if (!(info.getInfo() instanceof TensorInfo)) {
+            throw new IllegalArgumentException("Not a tensor: " + info.getName());
+        }
+        return OrtUtils.toDataType(((TensorInfo) info.getInfo()).type);
+    }
+
+    private static void validateShape(String name, NodeInfo info, Shape shape) {
+        if (!(info.getInfo() instanceof TensorInfo)) {
+            return;
+        }
+        long[] expected = ((TensorInfo) info.getInfo()).getShape();
+        if (expected.length != shape.dimension()) {
+            throw new IllegalArgumentException("Invalid shape for " + name + ": " + shape);
+        }
+        for (int i = 0; i < expected.length; ++i) {
+            // dynamic dimensions are negative
+            if (expected[i] >= 0 && expected[i] != shape.get(i)) {
+                throw new IllegalArgumentException("Invalid shape for " + name + ": " + shape);
+            }
+        }
+    }
+}
@@ -24,6 +24,7 @@ import ai.djl.nn.ParameterList;
 import ai.djl.nn.SymbolBlock;
 import ai.djl.training.ParameterStore;
 import ai.djl.util.PairList;
+import ai.onnxruntime.NodeInfo;
 import ai.onnxruntime.OnnxJavaType;
 import ai.onnxruntime.OnnxMap;
 import ai.onnxruntime.OnnxModelMetadata;
@@ -35,9 +36,9 @@ import ai.onnxruntime.OrtSession;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@code OrtSymbolBlock} is the ONNX Runtime implementation of {@link SymbolBlock}.
@@ -49,6 +50,10 @@ public class OrtSymbolBlock extends AbstractSymbolBlock implements AutoCloseable
 
     private OrtSession session;
     private OrtNDManager manager;
+    private List<String> inputNames;
+    private List<String> outputNames;
+    private Map<String, NodeInfo> inputInfo;
+    private Map<String, NodeInfo> outputInfo;
 
     /**
      * Constructs a {@code OrtSymbolBlock}.
@@ -63,6 +68,15 @@ public class OrtSymbolBlock extends AbstractSymbolBlock implements AutoCloseable
     public OrtSymbolBlock(OrtSession session, OrtNDManager manager) {
         this.session = session;
         this.manager = manager;
+        // resolve the model signature once instead of on every forward call
+        try {
+            inputInfo = session.getInputInfo();
+            outputInfo = session.getOutputInfo();
+        } catch (OrtException e) {
+            throw new EngineException(e);
+        }
+        inputNames = new ArrayList<>(inputInfo.keySet());
+        outputNames = new ArrayList<>(outputInfo.keySet());
         manager.attachInternal(NDManager.nextUid(), this);
     }
 
@@ -72,6 +86,16 @@ public class OrtSymbolBlock extends AbstractSymbolBlock implements AutoCloseable
         throw new UnsupportedOperationException("ONNX Runtime not supported");
     }
 
+    /**
+     * Creates a new {@link OrtIoBinding} to run this block with pre-allocated input and output
+     * tensors.
+     *
+     * @return a new {@link OrtIoBinding}
+     */
+    public OrtIoBinding newIoBinding() {
+        return new OrtIoBinding(this, (OrtNDManager) manager.newSubManager());
+    }
+
     /** {@inheritDoc} */
     @Override
     protected NDList forwardInternal(
@@ -79,42 +103,58 @@ public class OrtSymbolBlock extends AbstractSymbolBlock implements AutoCloseable
             NDList inputs,
             boolean training,
             PairList<String, Object> params) {
-        List<String> inputNames = new ArrayList<>(session.getInputNames());
         if (inputs.size() != inputNames.size()) {
             throw new IllegalArgumentException("Input mismatch, looking for: " + inputNames);
         }
 
-        Map<String, OnnxTensor> container = new ConcurrentHashMap<>();
-        // forward
-        try (OrtNDManager sub = (OrtNDManager) manager.newSubManager()) {
+        Map<String, OnnxTensor> container = new HashMap<>(inputNames.size() * 2);
+        // only non ONNX Runtime inputs need to be converted with a temporary manager
+        OrtNDManager sub = null;
+        try {
             // If input data has name
-            if (inputs.get(0).getName() != null) {
-                for (NDArray input : inputs) {
-                    String name = input.getName();
+            boolean named = inputs.get(0).getName() != null;
+            for (int i = 0; i < inputs.size(); ++i) {
+                NDArray input = inputs.get(i);
+                String name;
+                if (named) {
+                    name = input.getName();
                     if (name == null) {
                         throw new IllegalArgumentException(
                                 "All or none of input tensors must have a name.");
                     }
-                    if (!inputNames.contains(name)) {
+                    if (!inputInfo.containsKey(name)) {
                         throw new IllegalArgumentException("Invalid input tensor name: " + name);
                     }
-                    OrtNDArray ortNDArray = sub.from(input);
-                    container.put(name, ortNDArray.getTensor());
+                } else {
+                    // feed data in to match names
+                    name = inputNames.get(i);
                 }
-            } else {
-                // feed data in to match names
-                for (int i = 0; i < inputNames.size(); ++i) {
-                    OrtNDArray ortNDArray = sub.from(inputs.get(i));
-                    container.put(inputNames.get(i), ortNDArray.getTensor());
+                OrtNDArray ortNDArray;
+                if (input instanceof OrtNDArray) {
+                    ortNDArray = (OrtNDArray) input;
+                } else {
+                    if (sub == null) {
+                        sub = (OrtNDManager) manager.newSubManager();
+                    }
+                    ortNDArray = sub.from(input);
                 }
+                container.put(name, ortNDArray.getTensor());
             }
 
+            // forward
             OrtSession.Result results = session.run(container);
-            NDList ret = evaluateOutput(results);
+            NDList ret = new NDList(outputNames.size());
+            for (Map.Entry<String, OnnxValue> r : results) {
+                addOutput(ret, r.getKey(), r.getValue(), manager);
+            }
             ret.attach(inputs.head().getManager());
             return ret;
         } catch (OrtException e) {
             throw new EngineException(e);
+        } finally {
+            if (sub != null) {
+                sub.close();
+            }
         }
     }
 
@@ -122,7 +162,7 @@ public class OrtSymbolBlock extends AbstractSymbolBlock implements AutoCloseable
     @Override
     public PairList<String, Shape> describeInput() {
         PairList<String, Shape> result = new PairList<>();
-        for (String name : session.getInputNames()) {
+        for (String name : inputNames) {
             result.add(name, null);
         }
         return result;
@@ -139,79 +179,126 @@ public class OrtSymbolBlock extends AbstractSymbolBlock implements AutoCloseable
         }
     }
 
-    private NDList evaluateOutput(OrtSession.Result results) {
-        NDList output = new NDList();
-        for (Map.Entry<String, OnnxValue> r : results) {
-            OnnxValue value = r.getValue();
-            if ((value instanceof OnnxTensor)) {
-                NDArray array = manager.createInternal((OnnxTensor) value);
-                array.setName(r.getKey());
+    void addOutput(NDList output, String name, OnnxValue value, OrtNDManager target) {
+        if (value instanceof OnnxTensor) {
+            NDArray array = target.createInternal((OnnxTensor) value);
+            array.setName(name);
+            output.add(array);
+        } else if (value instanceof OnnxSequence) {
+            OnnxSequence seq = (OnnxSequence) value;
+            if (seq.getInfo().isSequenceOfMaps()) {
+                NDArray array = seq2Nd(seq, target);
+                array.setName(name);
                 output.add(array);
-            } else if (value instanceof OnnxSequence) {
-                // TODO: avoid memory copying to heap
-                OnnxSequence seq = (OnnxSequence) value;
-                if (seq.getInfo().isSequenceOfMaps()) {
-                    NDArray array = seq2Nd(seq);
-                    array.setName(r.getKey());
-                    output.add(array);
-                } else {
-                    output.addAll(seq2NdList(seq));
-                }
             } else {
-                throw new UnsupportedOperationException("Unsupported output type! " + r.getKey());
+                output.addAll(seq2NdList(seq, target));
             }
+        } else {
+            throw new UnsupportedOperationException("Unsupported output type! " + name);
         }
-        return output;
+    }
+
+    OrtSession getSession() {
+        if (session == null) {
+            throw new IllegalStateException("OrtSymbolBlock is already closed.");
+        }
+        return session;
+    }
+
+    List<String> getInputNames() {
+        return inputNames;
+    }
+
+    List<String> getOutputNames() {
+        return outputNames;
+    }
+
+    NodeInfo getInputInfo(String name) {
+        NodeInfo info = inputInfo.get(name);
+        if (info == null) {
+            throw new IllegalArgumentException("Invalid input tensor name: " + name);
+        }
+        return info;
+    }
+
+    NodeInfo getOutputInfo(String name) {
+        NodeInfo info = outputInfo.get(name);
+        if (info == null) {
+            throw new IllegalArgumentException("Invalid output tensor name: " + name);
+        }
+        return info;
     }
 
     @SuppressWarnings("unchecked")
-    private NDArray seq2Nd(OnnxSequence seq) {
+    private NDArray seq2Nd(OnnxSequence seq, OrtNDManager target) {
         try {
             List<OnnxMap> values = (List<OnnxMap>) seq.getValue();
-            DataType dp;
-            List<Object> finalData = new ArrayList<>();
             OnnxJavaType type = seq.getInfo().mapInfo.valueType;
+            int count = 0;
             for (OnnxMap map : values) {
-                finalData.addAll(((Map<Object, Object>) map.getValue()).values());
+                count += map.size();
             }
-            Shape shape = new Shape(values.size(), finalData.size() / values.size());
-            ByteBuffer buffer = ByteBuffer.allocate(finalData.size() * type.size);
+            Shape shape = new Shape(values.size(), count / values.size());
+            // write the map values straight into the buffer of the tensor
+            ByteBuffer buffer = target.allocateDirect(count * type.size);
+            DataType dataType;
             switch (type) {
                 case FLOAT:
-                    finalData.forEach(ele -> buffer.putFloat((Float) ele));
-                    buffer.rewind();
-                    return manager.create(buffer.asFloatBuffer(), shape, DataType.FLOAT32);
+                    dataType = DataType.FLOAT32;
+                    for (OnnxMap map : values) {
+                        for (Object v : ((Map<Object, Object>) map.getValue()).values()) {
+                            buffer.putFloat((Float) v);
+                        }
+                    }
+                    break;
                 case DOUBLE:
-                    finalData.forEach(ele -> buffer.putDouble((Double) ele));
-                    buffer.rewind();
-                    return manager.create(buffer.asDoubleBuffer(), shape, DataType.FLOAT64);
+                    dataType = DataType.FLOAT64;
+                    for (OnnxMap map : values) {
+                        for (Object v : ((Map<Object, Object>) map.getValue()).values()) {
+                            buffer.putDouble((Double) v);
+                        }
+                    }
+                    break;
                 case BOOL:
                 case INT8:
-                    dp = (type == OnnxJavaType.BOOL) ? DataType.BOOLEAN : DataType.INT8;
-                    finalData.forEach(ele -> buffer.put((Byte) ele));
-                    buffer.rewind();
-                    return manager.create(buffer, shape, dp);
+                    dataType = (type == OnnxJavaType.BOOL) ? DataType.BOOLEAN : DataType.INT8;
+                    for (OnnxMap map : values) {
+                        for (Object v : ((Map<Object, Object>) map.getValue()).values()) {
+                            buffer.put((Byte) v);
+                        }
+                    }
+                    break;
                 case INT32:
-                    finalData.forEach(ele -> buffer.putInt((Integer) ele));
-                    buffer.rewind();
-                    return manager.create(buffer.asIntBuffer(), shape, DataType.INT32);
+                    dataType = DataType.INT32;
+                    for (OnnxMap map : values) {
+                        for (Object v : ((Map<Object, Object>) map.getValue()).values()) {
+                            buffer.putInt((Integer) v);
+                        }
+                    }
+                    break;
                 case INT64:
-                    finalData.forEach(ele -> buffer.putLong((Long) ele));
-                    buffer.rewind();
-                    return manager.create(buffer.asLongBuffer(), shape, DataType.INT64);
+                    dataType = DataType.INT64;
+                    for (OnnxMap map : values) {
+                        for (Object v : ((Map<Object, Object>) map.getValue()).values()) {
+                            buffer.putLong((Long) v);
+                        }
+                    }
+                    break;
                 default:
                     throw new UnsupportedOperationException("type is not supported: " + type);
             }
+            buffer.rewind();
+            return target.create(buffer, shape, dataType);
         } catch (OrtException e) {
             throw new EngineException(e);
         }
     }
 
-    private NDList seq2NdList(OnnxSequence sequence) {
+    private NDList seq2NdList(OnnxSequence sequence, OrtNDManager target) {
         try {
             NDList list = new NDList();
             for (OnnxValue value : sequence.getValue()) {
-                list.add(manager.createInternal((OnnxTensor) value));
+                list.add(target.createInternal((OnnxTensor) value));
             }
             return list;
         } catch (OrtException e) {
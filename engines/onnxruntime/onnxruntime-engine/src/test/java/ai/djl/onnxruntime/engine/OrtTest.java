@@ -37,6 +37,7 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -120,6 +121,42 @@ public class OrtTest {
         }
     }
 
+    @Test
+    public void testIoBinding() throws ModelException, IOException {
+        Criteria<NDList, NDList> criteria =
+                Criteria.builder()
+                        .setTypes(NDList.class, NDList.class)
+                        .optModelUrls("djl://ai.djl.onnxruntime/iris_flowers")
+                        .optEngine("OnnxRuntime")
+                        .build();
+        try (ZooModel<NDList, NDList> model = criteria.loadModel()) {
+            OrtSymbolBlock block = (OrtSymbolBlock) model.getBlock();
+            String input = block.getInputNames().get(0);
+            String label = block.getOutputNames().get(0);
+            NDManager manager = model.getNDManager();
+            float[] data = {1.0f, 2.0f, 3.0f, 4.0f};
+            NDArray x = manager.create(data, new Shape(1, 4));
+            NDList expected = block.forward(null, new NDList(x), false);
+
+            try (OrtIoBinding binding = block.newIoBinding()) {
+                Assert.assertThrows(IllegalStateException.class, binding::run);
+                Assert.assertThrows(() -> binding.bindInput(input, new Shape(1, 5)));
+
+                ByteBuffer buf = binding.bindInput(input, new Shape(1, 4));
+                NDArray output = binding.bindOutput(label, new Shape(1));
+                buf.asFloatBuffer().put(data);
+                for (int i = 0; i < 2; ++i) {
+                    NDList result = binding.run();
+                    Assert.assertSame(result.get(0), output);
+                    Assert.assertEquals(result.size(), expected.size());
+                    Assert.assertEquals(output.toLongArray(), expected.get(0).toLongArray());
+                    Assert.assertEquals(
+                            result.get(1).toFloatArray(), expected.get(1).toFloatArray());
+                }
+            }
+        }
+    }
+
     @Test
     public void testNDArray() throws OrtException {
         try (NDManager manager = OrtNDManager.getSystemManager().newSubManager()) {
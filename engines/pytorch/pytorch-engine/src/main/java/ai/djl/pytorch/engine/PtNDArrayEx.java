@@ -287,6 +287,14 @@ public class PtNDArrayEx implements NDArrayEx {
         JniUtils.zeroGrad(manager.from(weights.singletonOrThrow()));
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void bindFlatParameters(NDList weights, NDArray grads) {
+        PtNDManager manager = array.getManager();
+        PtNDArray[] arrays = weights.stream().map(manager::from).toArray(PtNDArray[]::new);
+        JniUtils.bindFlatParameters(arrays, array, manager.from(grads));
+    }
+
     /** {@inheritDoc} */
     @Override
     public NDList convolution(
@@ -72,10 +72,24 @@ public class PtNDManager extends BaseNDManager {
             return JniUtils.createNdFromByteBuffer(
                     this, (ByteBuffer) data, shape, dataType, SparseFormat.DENSE, device);
         }
-        ByteBuffer buf = allocateDirect(size * dataType.getNumOfBytes());
-        copyBuffer(data, buf);
-        return JniUtils.createNdFromByteBuffer(
-                this, buf, shape, dataType, SparseFormat.DENSE, device);
+        int capacity = size * dataType.getNumOfBytes();
+        if (!device.isGpu() && !Boolean.getBoolean("ai.djl.pytorch.use_mkldnn")) {
+            // CPU tensor shares the memory with the buffer, and its views can outlive the array,
+            // so the buffer must not be reused
+            ByteBuffer buf = allocateDirect(capacity);
+            copyBuffer(data, buf);
+            return JniUtils.createNdFromByteBuffer(
+                    this, buf, shape, dataType, SparseFormat.DENSE, device);
+        }
+        // GPU and MKLDNN tensors copy the data, the staging buffer can be reused right away
+        ByteBuffer buf = allocatePooledBuffer(capacity);
+        try {
+            copyBuffer(data, buf);
+            return JniUtils.createNdFromByteBuffer(
+                    this, buf, shape, dataType, SparseFormat.DENSE, device);
+        } finally {
+            releasePooledBuffer(buf);
+        }
     }
 
     /** {@inheritDoc} */
@@ -1863,6 +1863,13 @@ public final class JniUtils {
         PyTorchLibrary.LIB.zeroGrad(weight.getHandle());
     }
 
+    public static void bindFlatParameters(
+            PtNDArray[] weights, PtNDArray flatWeight, PtNDArray flatGrad) {
+        long[] pointers = Arrays.stream(weights).mapToLong(PtNDArray::getHandle).toArray();
+        PyTorchLibrary.LIB.bindFlatParameters(
+                pointers, flatWeight.getHandle(), flatGrad.getHandle());
+    }
+
     public static void adamUpdate(
             PtNDArray weight,
             PtNDArray grad,
@@ -662,6 +662,8 @@ final class PyTorchLibrary {
 
     native void zeroGrad(long handle);
 
+    native void bindFlatParameters(long[] weights, long flatWeight, long flatGrad);
+
     native void adamUpdate(
             long weight,
             long grad,
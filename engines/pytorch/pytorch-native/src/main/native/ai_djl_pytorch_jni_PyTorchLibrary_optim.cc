@@ -89,3 +89,21 @@ JNIEXPORT void JNICALL Java_ai_djl_pytorch_jni_PyTorchLibrary_zeroGrad(JNIEnv* e
   }
   API_END()
 }
+
+JNIEXPORT void JNICALL Java_ai_djl_pytorch_jni_PyTorchLibrary_bindFlatParameters(
+    JNIEnv* env, jobject jthis, jlongArray jweights, jlong jflat_weight, jlong jflat_grad) {
+  API_BEGIN()
+  torch::NoGradGuard NoGradGuard;
+  const auto* flat_weight_ptr = reinterpret_cast<torch::Tensor*>(jflat_weight);
+  const auto* flat_grad_ptr = reinterpret_cast<torch::Tensor*>(jflat_grad);
+  std::vector<torch::Tensor> weights = djl::utils::jni::GetObjectVecFromJHandles<torch::Tensor>(env, jweights);
+  int64_t offset = 0;
+  for (auto& weight : weights) {
+    const int64_t numel = weight.numel();
+    // the weight keeps its autograd identity, only its storage and gradient are replaced
+    weight.set_data(flat_weight_ptr->narrow(0, offset, numel).view(weight.sizes()));
+    weight.mutable_grad() = flat_grad_ptr->narrow(0, offset, numel).view(weight.sizes());
+    offset += numel;
+  }
+  API_END()
+}
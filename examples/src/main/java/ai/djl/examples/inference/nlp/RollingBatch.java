@@ -15,9 +15,11 @@ package ai.djl.examples.inference.nlp;
 import ai.djl.ModelException;
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
 import ai.djl.inference.Predictor;
+import ai.djl.inference.streaming.ChunkedBytesSupplier;
 import ai.djl.modality.nlp.generate.CausalLMOutput;
 import ai.djl.modality.nlp.generate.ContrastiveSeqBatchScheduler;
 import ai.djl.modality.nlp.generate.SearchConfig;
+import ai.djl.modality.nlp.generate.SeqBatchEngine;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
@@ -30,7 +32,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public final class RollingBatch {
 
@@ -114,4 +120,61 @@ public final class RollingBatch {
         }
         return testResult;
     }
+
+    public static String[] seqBatchEngineWithPyTorchContrastive()
+            throws ModelException, IOException, InterruptedException {
+        String url = "https://djl-misc.s3.amazonaws.com/test/models/gpt2/gpt2_pt.zip";
+
+        Criteria<NDList, CausalLMOutput> criteria =
+                Criteria.builder()
+                        .setTypes(NDList.class, CausalLMOutput.class)
+                        .optModelUrls(url)
+                        .optEngine("PyTorch")
+                        .optTranslatorFactory(new DeferredTranslatorFactory())
+                        .build();
+
+        String[] inputs = {
+            "DeepMind Company is",
+            "Memories follow me left and right. I can",
+            "A person gets sent back"
+        };
+        String[] testResult = new String[inputs.length];
+
+        try (ZooModel<NDList, CausalLMOutput> model = criteria.loadModel();
+                Predictor<NDList, CausalLMOutput> predictor = model.newPredictor();
+                NDManager manager = model.getNDManager().newSubManager();
+                HuggingFaceTokenizer tokenizer = HuggingFaceTokenizer.newInstance("gpt2")) {
+
+            SearchConfig config = new SearchConfig();
+            config.setMaxSeqLength(30);
+            config.setAlpha(0.6f);
+            config.setK(5);
+            config.setPadTokenId(220);
+
+            ContrastiveSeqBatchScheduler scheduler =
+                    new ContrastiveSeqBatchScheduler(predictor, config);
+
+            // The token budget only allows two sequences to run at the same time, the third
+            // prompt is admitted once one of them finishes
+            try (SeqBatchEngine engine = new SeqBatchEngine(scheduler, manager, 60)) {
+                List<ChunkedBytesSupplier> streams = new ArrayList<>();
+                for (String input : inputs) {
+                    streams.add(engine.submit(tokenizer.encode(input).getIds()));
+                }
+                for (int i = 0; i < inputs.length; ++i) {
+                    ChunkedBytesSupplier stream = streams.get(i);
+                    List<Long> ids = new ArrayList<>();
+                    while (stream.hasNext()) {
+                        byte[] chunk = stream.nextChunk(1, TimeUnit.MINUTES);
+                        if (chunk.length > 0) {
+                            ids.add(ByteBuffer.wrap(chunk).getLong());
+                        }
+                    }
+                    long[] tokens = ids.stream().mapToLong(Long::longValue).toArray();
+                    testResult[i] = inputs[i] + tokenizer.decode(tokens);
+                }
+            }
+        }
+        return testResult;
+    }
 }
@@ -106,6 +106,17 @@ public class TextGenerationTest {
                         + " after.\n");
     }
 
+    @Test
+    public void testSeqBatchEngine() throws InterruptedException, ModelException, IOException {
+        TestRequirements.linux();
+        TestRequirements.weekly();
+        String[] output = RollingBatch.seqBatchEngineWithPyTorchContrastive();
+        Assert.assertEquals(output.length, 3);
+        Assert.assertTrue(output[0].startsWith("DeepMind Company is a"));
+        Assert.assertTrue(output[1].length() > "Memories follow me left and right. I can".length());
+        Assert.assertTrue(output[2].length() > "A person gets sent back".length());
+    }
+
     @Test
     public void testTextGenerationWithOnnx()
             throws TranslateException, ModelException, IOException {
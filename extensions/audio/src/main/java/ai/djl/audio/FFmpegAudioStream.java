@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.audio;
+
+import ai.djl.modality.audio.Audio;
+
+import org.bytedeco.javacv.FFmpegFrameGrabber;
+import org.bytedeco.javacv.Frame;
+import org.bytedeco.javacv.FrameGrabber;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * {@code FFmpegAudioStream} decodes an audio file incrementally with FFmpeg.
+ *
+ * <p>Unlike {@link FFmpegAudioFactory}, which decodes the whole file into memory, the frames are
+ * only decoded when the samples are read. The audio is down mixed to mono and resampled to the
+ * given sample rate.
+ *
+ * <pre>
+ * try (FFmpegAudioStream stream = new FFmpegAudioStream(path, 16000)) {
+ *     Audio segment;
+ *     while ((segment = stream.readSegment(480000)) != null) {
+ *         // process 30 seconds of audio
+ *     }
+ * }
+ * </pre>
+ */
+public class FFmpegAudioStream implements AutoCloseable {
+
+    private FFmpegFrameGrabber grabber;
+    private int sampleRate;
+    private Buffer current;
+    private boolean eof;
+
+    /**
+     * Opens an audio file.
+     *
+     * @param path the path of the audio file
+     * @param sampleRate the sample rate to resample to
+     * @throws IOException if failed to open the file
+     */
+    public FFmpegAudioStream(Path path, int sampleRate) throws IOException {
+        this(new FFmpegFrameGrabber(path.toFile()), sampleRate);
+    }
+
+    /**
+     * Opens an audio stream.
+     *
+     * @param is the input stream of the audio
+     * @param sampleRate the sample rate to resample to
+     * @throws IOException if failed to open the stream
+     */
+    public FFmpegAudioStream(InputStream is, int sampleRate) throws IOException {
+        this(new FFmpegFrameGrabber(is), sampleRate);
+    }
+
+    private FFmpegAudioStream(FFmpegFrameGrabber grabber, int sampleRate) throws IOException {
+        this.grabber = grabber;
+        this.sampleRate = sampleRate;
+        grabber.setAudioChannels(1);
+        grabber.setSampleRate(sampleRate);
+        try {
+            grabber.start();
+        } catch (FrameGrabber.Exception e) {
+            grabber.close();
+            throw new IOException("Unsupported Audio file", e);
+        }
+    }
+
+    /**
+     * Returns the sample rate of the samples.
+     *
+     * @return the sample rate of the samples
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Reads up to {@code len} samples into the buffer, decoding more frames as needed.
+     *
+     * @param buf the buffer to read into
+     * @param off the offset in the buffer
+     * @param len the max number of samples to read
+     * @return the number of samples read, or -1 at the end of the stream
+     * @throws IOException if failed to decode the audio
+     */
+    public int read(float[] buf, int off, int len) throws IOException {
+        int read = 0;
+        while (read < len) {
+            if (current == null || !current.hasRemaining()) {
+                if (!nextFrame()) {
+                    break;
+                }
+                continue;
+            }
+            int count = Math.min(len - read, current.remaining());
+            int pos = off + read;
+            if (current instanceof ShortBuffer) {
+                ShortBuffer sb = (ShortBuffer) current;
+                for (int i = 0; i < count; ++i) {
+                    buf[pos + i] = sb.get() / 32768.0f;
+                }
+            } else if (current instanceof IntBuffer) {
+                IntBuffer ib = (IntBuffer) current;
+                for (int i = 0; i < count; ++i) {
+                    buf[pos + i] = ib.get() / 2147483648.0f;
+                }
+            } else {
+                ((FloatBuffer) current).get(buf, pos, count);
+            }
+            read += count;
+        }
+        return read == 0 && len > 0 ? -1 : read;
+    }
+
+    /**
+     * Reads the next segment of the audio.
+     *
+     * @param numSamples the max number of samples of the segment
+     * @return the next segment, or {@code null} at the end of the stream
+     * @throws IOException if failed to decode the audio
+     */
+    public Audio readSegment(int numSamples) throws IOException {
+        float[] buf = new float[numSamples];
+        int size = 0;
+        while (size < numSamples) {
+            int read = read(buf, size, numSamples - size);
+            if (read < 0) {
+                break;
+            }
+            size += read;
+        }
+        if (size == 0) {
+            return null;
+        }
+        if (size < numSamples) {
+            buf = Arrays.copyOf(buf, size);
+        }
+        return new Audio(buf, sampleRate, 1);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        grabber.close();
+    }
+
+    private boolean nextFrame() throws IOException {
+        if (eof) {
+            return false;
+        }
+        try {
+            Frame frame = grabber.grabFrame(true, false, true, false, false);
+            if (frame == null) {
+                eof = true;
+                return false;
+            }
+            Buffer buf = frame.samples[0];
+            if (!(buf instanceof ShortBuffer)
+                    && !(buf instanceof IntBuffer)
+                    && !(buf instanceof FloatBuffer)) {
+                throw new UnsupportedOperationException("Unsupported sample format: " + buf);
+            }
+            current = buf;
+            return true;
+        } catch (FrameGrabber.Exception e) {
+            throw new IOException("Failed to decode audio", e);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.audio.processor;
+
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.Shape;
+
+import org.jtransforms.fft.FloatFFT_1D;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Computes the Whisper log Mel spectrogram of a fixed length segment on the CPU.
+ *
+ * <p>This is the same as {@link PadOrTrim} followed by {@link LogMelSpectrogram}: the segment is
+ * padded with zeros or trimmed to the segment length, framed into overlapping windows with reflect
+ * padding at both ends, and projected to the Mel scale. The frames are computed one at a time with
+ * reused buffers, no intermediate STFT tensor is created. This bounds the memory used for long
+ * audio that is transcribed segment by segment.
+ */
+public class StreamingLogMelSpectrogram implements AudioProcessor {
+
+    private static final int N_FFT = 400;
+    private static final int HOP_LENGTH = 160;
+    private static final int N_BINS = N_FFT / 2 + 1;
+
+    private float[] melFilters;
+    private int numMel;
+    private int segmentSamples;
+    private int numFrames;
+    private float[] window;
+    private FloatFFT_1D fft;
+
+    /**
+     * Constructs a new instance of {@code StreamingLogMelSpectrogram}.
+     *
+     * @param melFilters the mel filters of shape (numMel, 201)
+     * @param segmentSamples the number of samples of a segment, 480000 for 30 seconds of 16kHz
+     *     audio
+     */
+    public StreamingLogMelSpectrogram(NDArray melFilters, int segmentSamples) {
+        Shape shape = melFilters.getShape();
+        if (shape.dimension() != 2 || shape.get(1) != N_BINS) {
+            throw new IllegalArgumentException("Invalid mel filters shape: " + shape);
+        }
+        if (segmentSamples <= N_FFT / 2) {
+            throw new IllegalArgumentException("Segment is too short: " + segmentSamples);
+        }
+        this.melFilters = melFilters.toFloatArray();
+        this.numMel = (int) shape.get(0);
+        this.segmentSamples = segmentSamples;
+        numFrames = segmentSamples / HOP_LENGTH;
+        window = new float[N_FFT];
+        // periodic hanning window, the same as NDManager.hanningWindow()
+        for (int i = 1; i < N_FFT; i++) {
+            window[i] = (float) (0.5 * (1 - Math.cos((2 * Math.PI * i) / N_FFT)));
+        }
+        fft = new FloatFFT_1D(N_FFT);
+    }
+
+    /**
+     * Loads the mel filterbank matrix for projecting STFT into a Mel spectrogram.
+     *
+     * @param melFile the mel file saved in .npz format
+     * @param numMel number of mel
+     * @param segmentSamples the number of samples of a segment
+     * @param manager manager to load the mel filters
+     * @return a new instance of {@code StreamingLogMelSpectrogram}
+     * @throws IOException file not loadable
+     */
+    public static StreamingLogMelSpectrogram newInstance(
+            Path melFile, int numMel, int segmentSamples, NDManager manager) throws IOException {
+        try (InputStream is = Files.newInputStream(melFile);
+                NDList list = NDList.decode(manager, is)) {
+            return new StreamingLogMelSpectrogram(list.get("mel_" + numMel), segmentSamples);
+        }
+    }
+
+    /**
+     * Returns the number of mel bins.
+     *
+     * @return the number of mel bins
+     */
+    public int getNumMel() {
+        return numMel;
+    }
+
+    /**
+     * Returns the number of frames of a segment.
+     *
+     * @return the number of frames of a segment
+     */
+    public int getNumFrames() {
+        return numFrames;
+    }
+
+    /**
+     * Returns the number of samples of a segment.
+     *
+     * @return the number of samples of a segment
+     */
+    public int getSegmentSamples() {
+        return segmentSamples;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public NDArray extractFeatures(NDManager manager, NDArray samples) {
+        if (samples.getShape().dimension() != 1) {
+            throw new UnsupportedOperationException("Batch samples not supported.");
+        }
+        float[] data = samples.toFloatArray();
+        float[] out = new float[numMel * numFrames];
+        compute(data, 0, Math.min(data.length, segmentSamples), out);
+        return manager.create(out, new Shape(numMel, numFrames));
+    }
+
+    /**
+     * Computes the log Mel spectrogram of a segment.
+     *
+     * <p>The samples after {@code length} are treated as zeros up to the segment length.
+     *
+     * @param samples the buffer that holds the samples
+     * @param offset the offset of the segment in the buffer
+     * @param length the number of samples of the segment, no more than the segment length
+     * @param out the output of shape (numMel, numFrames) in row major order
+     */
+    public void compute(float[] samples, int offset, int length, float[] out) {
+        if (length > segmentSamples || out.length < numMel * numFrames) {
+            throw new IllegalArgumentException("Invalid segment or output size.");
+        }
+        float[] frame = new float[N_FFT];
+        float[] power = new float[N_BINS];
+        int half = N_FFT / 2;
+        float max = Float.NEGATIVE_INFINITY;
+        for (int t = 0; t < numFrames; ++t) {
+            int start = t * HOP_LENGTH - half;
+            for (int i = 0; i < N_FFT; ++i) {
+                int index = start + i;
+                // reflect padding of the centered frames
+                if (index < 0) {
+                    index = -index;
+                } else if (index >= segmentSamples) {
+                    index = 2 * segmentSamples - 2 - index;
+                }
+                float value = index < length ? samples[offset + index] : 0f;
+                frame[i] = value * window[i];
+            }
+            fft.realForward(frame);
+            power[0] = frame[0] * frame[0];
+            power[half] = frame[1] * frame[1];
+            for (int k = 1; k < half; ++k) {
+                float re = frame[2 * k];
+                float im = frame[2 * k + 1];
+                power[k] = re * re + im * im;
+            }
+            for (int m = 0; m < numMel; ++m) {
+                int base = m * N_BINS;
+                float sum = 0;
+                for (int k = 0; k < N_BINS; ++k) {
+                    sum += melFilters[base + k] * power[k];
+                }
+                float logSpec = (float) Math.log10(Math.max(sum, 1e-10f));
+                out[m * numFrames + t] = logSpec;
+                if (logSpec > max) {
+                    max = logSpec;
+                }
+            }
+        }
+        float floor = max - 8.0f;
+        int size = numMel * numFrames;
+        for (int i = 0; i < size; ++i) {
+            out[i] = (Math.max(out[i], floor) + 4.0f) / 4.0f;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.audio.translator;
+
+import ai.djl.audio.FFmpegAudioStream;
+import ai.djl.inference.Predictor;
+import ai.djl.modality.audio.Audio;
+import ai.djl.translate.TranslateException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@code WhisperTranscriber} transcribes long audio with a Whisper {@link Predictor}.
+ *
+ * <p>The audio is decoded incrementally and split into 30 second segments, which are passed to
+ * the predictor in batches. Only one batch of segments is kept in memory, and the text of each
+ * batch is emitted as soon as it is transcribed, before the rest of the file is decoded.
+ *
+ * <p>Use the {@code streamingFeatures} argument of {@link WhisperTranslatorFactory} to compute the
+ * log Mel spectrogram of each segment with {@link
+ * ai.djl.audio.processor.StreamingLogMelSpectrogram}.
+ */
+public class WhisperTranscriber {
+
+    /** The number of samples of a 30 second segment at 16kHz. */
+    public static final int SEGMENT_SAMPLES = 480000;
+
+    /** The sample rate expected by Whisper. */
+    public static final int SAMPLE_RATE = 16000;
+
+    private Predictor<Audio, String> predictor;
+    private int batchSize;
+
+    /**
+     * Constructs a new instance of {@code WhisperTranscriber}.
+     *
+     * @param predictor the Whisper predictor
+     * @param batchSize the number of segments to pass to the predictor at a time
+     */
+    public WhisperTranscriber(Predictor<Audio, String> predictor, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Invalid batch size: " + batchSize);
+        }
+        this.predictor = predictor;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Transcribes an audio file.
+     *
+     * @param path the path of the audio file
+     * @return the text of the audio
+     * @throws IOException if failed to decode the audio
+     * @throws TranslateException if failed to transcribe the audio
+     */
+    public String transcribe(Path path) throws IOException, TranslateException {
+        StringBuilder sb = new StringBuilder();
+        transcribe(path, sb::append);
+        return sb.toString();
+    }
+
+    /**
+     * Transcribes an audio file, the text of each segment is passed to the consumer in order.
+     *
+     * @param path the path of the audio file
+     * @param consumer the consumer of the text of each segment
+     * @throws IOException if failed to decode the audio
+     * @throws TranslateException if failed to transcribe the audio
+     */
+    public void transcribe(Path path, Consumer<String> consumer)
+            throws IOException, TranslateException {
+        try (FFmpegAudioStream stream = new FFmpegAudioStream(path, SAMPLE_RATE)) {
+            transcribe(stream, consumer);
+        }
+    }
+
+    /**
+     * Transcribes an audio stream, the text of each segment is passed to the consumer in order.
+     *
+     * @param stream the audio stream with 16kHz sample rate
+     * @param consumer the consumer of the text of each segment
+     * @throws IOException if failed to decode the audio
+     * @throws TranslateException if failed to transcribe the audio
+     */
+    public void transcribe(FFmpegAudioStream stream, Consumer<String> consumer)
+            throws IOException, TranslateException {
+        if (stream.getSampleRate() != SAMPLE_RATE) {
+            throw new IllegalArgumentException("Whisper requires 16kHz audio.");
+        }
+        List<Audio> batch = new ArrayList<>(batchSize);
+        Audio segment;
+        while ((segment = stream.readSegment(SEGMENT_SAMPLES)) != null) {
+            batch.add(segment);
+            if (batch.size() == batchSize) {
+                predict(batch, consumer);
+            }
+        }
+        if (!batch.isEmpty()) {
+            predict(batch, consumer);
+        }
+    }
+
+    private void predict(List<Audio> batch, Consumer<String> consumer) throws TranslateException {
+        for (String text : predictor.batchPredict(batch)) {
+            consumer.accept(text);
+        }
+        batch.clear();
+    }
+}
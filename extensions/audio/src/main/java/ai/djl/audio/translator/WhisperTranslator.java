@@ -15,6 +15,7 @@ package ai.djl.audio.translator;
 import ai.djl.audio.processor.AudioProcessor;
 import ai.djl.audio.processor.LogMelSpectrogram;
 import ai.djl.audio.processor.PadOrTrim;
+import ai.djl.audio.processor.StreamingLogMelSpectrogram;
 import ai.djl.modality.audio.Audio;
 import ai.djl.modality.nlp.DefaultVocabulary;
 import ai.djl.modality.nlp.Vocabulary;
@@ -49,10 +50,22 @@ public class WhisperTranslator implements NoBatchifyTranslator<Audio, String> {
     private static final Map<Character, Byte> BYTES_DECODER = bpeDecoder();
     private List<AudioProcessor> processors;
     private Vocabulary vocabulary;
+    private boolean streamingFeatures;
 
     /** Constructs a new instance of {@code WhisperTranslator}. */
     public WhisperTranslator() {
+        this(false);
+    }
+
+    /**
+     * Constructs a new instance of {@code WhisperTranslator}.
+     *
+     * @param streamingFeatures {@code true} to compute the log Mel spectrogram on the CPU with
+     *     {@link StreamingLogMelSpectrogram} instead of the engine
+     */
+    public WhisperTranslator(boolean streamingFeatures) {
         processors = new ArrayList<>();
+        this.streamingFeatures = streamingFeatures;
     }
 
     /** {@inheritDoc} */
@@ -61,10 +74,16 @@ public class WhisperTranslator implements NoBatchifyTranslator<Audio, String> {
         Path path = ctx.getModel().getModelPath();
         Path melFile = path.resolve("mel_80_filters.npz");
 
-        processors.add(new PadOrTrim(480000));
         // Use model's NDManager
         NDManager modelManager = ctx.getModel().getNDManager();
-        processors.add(LogMelSpectrogram.newInstance(melFile, 80, modelManager));
+        if (streamingFeatures) {
+            processors.add(
+                    StreamingLogMelSpectrogram.newInstance(
+                            melFile, 80, WhisperTranscriber.SEGMENT_SAMPLES, modelManager));
+        } else {
+            processors.add(new PadOrTrim(WhisperTranscriber.SEGMENT_SAMPLES));
+            processors.add(LogMelSpectrogram.newInstance(melFile, 80, modelManager));
+        }
 
         Map<String, Integer> vocab;
         Map<String, Integer> added;
@@ -14,6 +14,7 @@ package ai.djl.audio.translator;
 
 import ai.djl.Model;
 import ai.djl.modality.audio.Audio;
+import ai.djl.translate.ArgumentsUtil;
 import ai.djl.translate.Translator;
 import ai.djl.translate.TranslatorFactory;
 import ai.djl.util.Pair;
@@ -47,7 +48,8 @@ public class WhisperTranslatorFactory implements TranslatorFactory, Serializable
     public <I, O> Translator<I, O> newInstance(
             Class<I> input, Class<O> output, Model model, Map<String, ?> arguments) {
         if (input == Audio.class && output == String.class) {
-            return (Translator<I, O>) new WhisperTranslator();
+            boolean streamingFeatures = ArgumentsUtil.booleanValue(arguments, "streamingFeatures");
+            return (Translator<I, O>) new WhisperTranslator(streamingFeatures);
         }
         throw new IllegalArgumentException("Unsupported input/output types.");
     }
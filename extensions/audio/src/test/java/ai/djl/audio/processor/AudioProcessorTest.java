@@ -78,6 +78,30 @@ public class AudioProcessorTest {
         }
     }
 
+    @Test
+    void testStreamingLogMelSpectrogram() throws IOException {
+        try (NDManager manager = NDManager.newBaseManager()) {
+            AudioProcessor expected =
+                    LogMelSpectrogram.newInstance(
+                            Paths.get("build/test/mel_80_filters.npz"), 80, manager);
+            AudioProcessor processor =
+                    StreamingLogMelSpectrogram.newInstance(
+                            Paths.get("build/test/mel_80_filters.npz"), 80, 480000, manager);
+            NDArray samples = manager.randomUniform(-1, 1, new Shape(480000));
+            NDArray result = processor.extractFeatures(manager, samples);
+            Assert.assertEquals(result.getShape(), new Shape(80, 3000));
+            NDArray ref = expected.extractFeatures(manager, samples);
+            Assert.assertTrue(result.allClose(ref, 1e-3, 1e-3, false));
+
+            // shorter segment is padded with zeros
+            samples = samples.get(":16000");
+            result = processor.extractFeatures(manager, samples);
+            NDArray padded = new PadOrTrim(480000).extractFeatures(manager, samples);
+            ref = expected.extractFeatures(manager, padded);
+            Assert.assertTrue(result.allClose(ref, 1e-3, 1e-3, false));
+        }
+    }
+
     @Test
     public static void testLinearSpecgram() {
         NDManager manager = NDManager.newBaseManager(Device.cpu());
@@ -16,10 +16,13 @@ package ai.djl.timeseries.dataset;
 import ai.djl.basicdataset.tabular.utils.DynamicBuffer;
 import ai.djl.basicdataset.tabular.utils.Feature;
 import ai.djl.basicdataset.tabular.utils.PreparedFeaturizer;
+import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.Shape;
 import ai.djl.timeseries.TimeSeriesData;
+import ai.djl.timeseries.transform.InstanceSampler;
+import ai.djl.training.dataset.Record;
 import ai.djl.util.Pair;
 import ai.djl.util.PairList;
 import ai.djl.util.Progress;
@@ -40,7 +43,10 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.zip.GZIPInputStream;
 
 /** {@code CsvTimeSeriesDataset} represents the dataset that store in a .csv file. */
@@ -51,6 +57,12 @@ public class CsvTimeSeriesDataset extends TimeSeriesDataset {
     protected URL csvUrl;
     protected CSVFormat csvFormat;
     protected List<CSVRecord> csvRecords;
+    protected boolean cacheSeries;
+    protected TimeSeriesStore store;
+    protected InstanceSampler windowSampler;
+    protected int pastLength;
+    protected int futureLength;
+    protected float dummyValue;
 
     protected CsvTimeSeriesDataset(CsvBuilder<?> builder) {
         super(builder);
@@ -58,6 +70,58 @@ public class CsvTimeSeriesDataset extends TimeSeriesDataset {
         startTimeFeature = builder.startTimeFeatures;
         csvUrl = builder.csvUrl;
         csvFormat = builder.csvFormat;
+        cacheSeries = builder.cacheSeries;
+        windowSampler = builder.windowSampler;
+        pastLength = builder.pastLength;
+        futureLength = builder.futureLength;
+        dummyValue = builder.dummyValue;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>With window sampling, the record is a window sampled from the {@link TimeSeriesStore}
+     * instead of the transformed series.
+     */
+    @Override
+    public Record get(NDManager manager, long index) {
+        if (windowSampler == null) {
+            return super.get(manager, index);
+        }
+        Record batch = getBatch(manager, Collections.singletonList(index));
+        NDList data = new NDList(batch.getData().size());
+        for (NDArray array : batch.getData()) {
+            data.add(array.squeeze(0));
+        }
+        return new Record(data, new NDList(batch.getLabels().head().squeeze(0)));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>With window sampling, the windows of the whole batch are gathered at once from the {@link
+     * TimeSeriesStore} with {@link TimeSeriesStore#sampleWindows(NDManager, int[],
+     * InstanceSampler, int, int, float)}.
+     */
+    @Override
+    protected Record getBatch(NDManager manager, List<Long> indices) {
+        if (windowSampler == null) {
+            return null;
+        }
+        int[] idx = new int[indices.size()];
+        for (int i = 0; i < idx.length; ++i) {
+            idx[i] = Math.toIntExact(indices.get(i));
+        }
+        TimeSeriesData data =
+                store.sampleWindows(
+                        manager, idx, windowSampler, pastLength, futureLength, dummyValue);
+
+        // (batch, time) layout, the label is the end of the context and the future target
+        NDArray contextTarget =
+                data.get("PAST_" + FieldName.TARGET).get(":, {}:", -contextLength + 1);
+        NDArray futureTarget = data.get("FUTURE_" + FieldName.TARGET);
+        NDList label = new NDList(contextTarget.concat(futureTarget, 1));
+        return new Record(data.toNDList(), label);
     }
 
     /** {@inheritDoc} */
@@ -74,6 +138,9 @@ public class CsvTimeSeriesDataset extends TimeSeriesDataset {
             csvRecords = csvParser.getRecords();
         }
         prepareFeaturizers();
+        if (cacheSeries && !fieldFeatures.get(FieldName.TARGET).isEmpty()) {
+            prepareStore();
+        }
     }
 
     private InputStream getCsvStream() throws IOException {
@@ -86,6 +153,9 @@ public class CsvTimeSeriesDataset extends TimeSeriesDataset {
     /** {@inheritDoc} */
     @Override
     public TimeSeriesData getTimeSeriesData(NDManager manager, long index) {
+        if (store != null) {
+            return store.get(manager, Math.toIntExact(index));
+        }
         TimeSeriesData data = new TimeSeriesData(fieldFeatures.size());
         for (Pair<FieldName, List<Feature>> pair : fieldFeatures) {
             if (!pair.getValue().isEmpty()) {
@@ -99,6 +169,38 @@ public class CsvTimeSeriesDataset extends TimeSeriesDataset {
         return data;
     }
 
+    /**
+     * Returns the {@link TimeSeriesStore} of the dataset, or {@code null} if the series are not
+     * cached.
+     *
+     * @return the {@link TimeSeriesStore} of the dataset
+     */
+    public TimeSeriesStore getTimeSeriesStore() {
+        return store;
+    }
+
+    /** Featurizes all rows once into a {@link TimeSeriesStore}. */
+    protected void prepareStore() {
+        int availableSize = Math.toIntExact(availableSize());
+        TimeSeriesStore.Builder builder = TimeSeriesStore.builder();
+        for (int i = 0; i < availableSize; i++) {
+            Map<FieldName, float[]> fields = new LinkedHashMap<>();
+            for (Pair<FieldName, List<Feature>> pair : fieldFeatures) {
+                if (!pair.getValue().isEmpty()) {
+                    DynamicBuffer bb = new DynamicBuffer();
+                    for (Feature feature : pair.getValue()) {
+                        feature.getFeaturizer().featurize(bb, getCell(i, feature.getName()));
+                    }
+                    float[] values = new float[bb.getLength()];
+                    bb.getBuffer().get(values);
+                    fields.put(pair.getKey(), values);
+                }
+            }
+            builder.addSeries(getStartTime(i), fields);
+        }
+        store = builder.build();
+    }
+
     /** Prepares the {@link PreparedFeaturizer}s. */
     protected void prepareFeaturizers() {
         int availableSize = Math.toIntExact(availableSize());
@@ -172,6 +274,11 @@ public class CsvTimeSeriesDataset extends TimeSeriesDataset {
         protected Feature startTimeFeatures;
         protected URL csvUrl;
         protected CSVFormat csvFormat;
+        protected boolean cacheSeries = true;
+        protected InstanceSampler windowSampler;
+        protected int pastLength;
+        protected int futureLength;
+        protected float dummyValue;
 
         protected CsvBuilder() {
             fieldFeatures = new PairList<>(DATASET_FIELD_NAMES.length);
@@ -228,6 +335,40 @@ public class CsvTimeSeriesDataset extends TimeSeriesDataset {
             return self();
         }
 
+        /**
+         * Sets whether to featurize all rows once when the dataset is prepared, and keep the
+         * series in a {@link TimeSeriesStore}. Defaults to true.
+         *
+         * @param cacheSeries whether to cache the series
+         * @return this builder
+         */
+        public T optCacheSeries(boolean cacheSeries) {
+            this.cacheSeries = cacheSeries;
+            return self();
+        }
+
+        /**
+         * Sets to sample the training windows of a batch at once from the {@link
+         * TimeSeriesStore}, instead of applying the transformation to each series.
+         *
+         * <p>The series must be cached with {@link #optCacheSeries(boolean)}, and the
+         * transformation is not applied.
+         *
+         * @param sampler the {@link InstanceSampler} to select the split index of each series
+         * @param pastLength the length of the past windows
+         * @param futureLength the length of the future windows
+         * @param dummyValue the value for padding
+         * @return this builder
+         */
+        public T optWindowSampling(
+                InstanceSampler sampler, int pastLength, int futureLength, float dummyValue) {
+            this.windowSampler = sampler;
+            this.pastLength = pastLength;
+            this.futureLength = futureLength;
+            this.dummyValue = dummyValue;
+            return self();
+        }
+
         /**
          * Add the features to the correspongding {@link FieldName}.
          *
@@ -256,6 +397,11 @@ public class CsvTimeSeriesDataset extends TimeSeriesDataset {
                 throw new IllegalArgumentException("Missing target");
             } else if (startTimeFeatures == null) {
                 throw new IllegalArgumentException("Missing start time");
+            } else if (windowSampler != null && !cacheSeries) {
+                throw new IllegalArgumentException("Window sampling requires cached series");
+            } else if (windowSampler != null && pastLength < contextLength - 1) {
+                throw new IllegalArgumentException(
+                        "The past length must not be less than the context length - 1");
             }
         }
 
@@ -0,0 +1,486 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.timeseries.dataset;
+
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.timeseries.TimeSeriesData;
+import ai.djl.timeseries.timefeature.TimeFeatureCache;
+import ai.djl.timeseries.transform.InstanceSampler;
+import ai.djl.util.RandomUtils;
+
+import java.nio.FloatBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * A memory resident columnar store of time series.
+ *
+ * <p>The values of each field of all series are stored in one contiguous {@code float} array, so
+ * a series is read without parsing, and the windows of a batch of series are gathered in one pass
+ * with {@link #sampleWindows(NDManager, int[], InstanceSampler, int, int, float)}.
+ *
+ * <p>The time series fields ({@link FieldName#TARGET}, {@link FieldName#FEAT_DYNAMIC_CAT} and
+ * {@link FieldName#FEAT_DYNAMIC_REAL}) are stored in (dimension, time) layout, their length must
+ * be a multiple of the length of the target.
+ */
+public class TimeSeriesStore {
+
+    private LocalDateTime[] startTimes;
+    private int[] lengths;
+    private Map<FieldName, Column> columns;
+
+    TimeSeriesStore(Builder builder) {
+        int size = builder.startTimes.size();
+        startTimes = builder.startTimes.toArray(new LocalDateTime[0]);
+        lengths = new int[size];
+        columns = new LinkedHashMap<>();
+        for (Map.Entry<FieldName, List<float[]>> entry : builder.values.entrySet()) {
+            FieldName fieldName = entry.getKey();
+            List<float[]> list = entry.getValue();
+            int[] offsets = new int[size + 1];
+            long total = 0;
+            for (int i = 0; i < size; ++i) {
+                total += list.get(i).length;
+                offsets[i + 1] = Math.toIntExact(total);
+            }
+            float[] values = new float[offsets[size]];
+            for (int i = 0; i < size; ++i) {
+                float[] array = list.get(i);
+                System.arraycopy(array, 0, values, offsets[i], array.length);
+            }
+            columns.put(fieldName, new Column(values, offsets, isTimeSeries(fieldName)));
+        }
+        Column target = columns.get(FieldName.TARGET);
+        for (int i = 0; i < size; ++i) {
+            lengths[i] = target.offsets[i + 1] - target.offsets[i];
+        }
+    }
+
+    /**
+     * Creates a builder to build a {@code TimeSeriesStore}.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of series in the store.
+     *
+     * @return the number of series
+     */
+    public int size() {
+        return startTimes.length;
+    }
+
+    /**
+     * Returns the length of the target of a series.
+     *
+     * @param index the index of the series
+     * @return the length of the target
+     */
+    public int getLength(int index) {
+        return lengths[index];
+    }
+
+    /**
+     * Returns the start time of a series.
+     *
+     * @param index the index of the series
+     * @return the start time
+     */
+    public LocalDateTime getStartTime(int index) {
+        return startTimes[index];
+    }
+
+    /**
+     * Returns the {@link TimeSeriesData} of a series, the fields are one dimensional arrays.
+     *
+     * @param manager the manager to create the arrays
+     * @param index the index of the series
+     * @return the {@link TimeSeriesData}
+     */
+    public TimeSeriesData get(NDManager manager, int index) {
+        TimeSeriesData data = new TimeSeriesData(columns.size());
+        for (Map.Entry<FieldName, Column> entry : columns.entrySet()) {
+            Column column = entry.getValue();
+            int offset = column.offsets[index];
+            int length = column.offsets[index + 1] - offset;
+            FloatBuffer buf = FloatBuffer.wrap(column.values, offset, length);
+            data.add(entry.getKey(), manager.create(buf, new Shape(length)));
+        }
+        data.setStartTime(startTimes[index]);
+        return data;
+    }
+
+    /**
+     * Samples a window of each series, and returns the windows of all series as a batch.
+     *
+     * <p>The window of a series is split at an index picked uniformly from the indices returned by
+     * the {@link InstanceSampler}, in the same way as {@link
+     * ai.djl.timeseries.transform.split.InstanceSplit} with the "NTC" layout. The batch contains
+     * the "PAST_" and "FUTURE_" parts of each time series field with shape (batch, time) or
+     * (batch, time, dimension), the "PAST_IS_PAD" indicator, and the static fields with shape
+     * (batch, dimension). The time steps out of the series are filled with the dummy value.
+     *
+     * @param manager the manager to create the arrays
+     * @param indices the indices of the series in the batch
+     * @param sampler the {@link InstanceSampler} to select the split index of each series
+     * @param pastLength the length of the past windows
+     * @param futureLength the length of the future windows
+     * @param dummyValue the value for padding
+     * @return the batch of windows
+     */
+    public TimeSeriesData sampleWindows(
+            NDManager manager,
+            int[] indices,
+            InstanceSampler sampler,
+            int pastLength,
+            int futureLength,
+            float dummyValue) {
+        return sampleWindows(
+                manager, indices, sampler, pastLength, futureLength, dummyValue, null, null);
+    }
+
+    /**
+     * Samples a window of each series with the time features of the windows, and returns the
+     * windows of all series as a batch.
+     *
+     * <p>In addition to {@link #sampleWindows(NDManager, int[], InstanceSampler, int, int,
+     * float)}, the batch contains the "PAST_FEAT_TIME" and "FUTURE_FEAT_TIME" fields with shape
+     * (batch, time, features). The time features are computed once for each start time with
+     * {@link TimeFeatureCache}.
+     *
+     * @param manager the manager to create the arrays
+     * @param indices the indices of the series in the batch
+     * @param sampler the {@link InstanceSampler} to select the split index of each series
+     * @param pastLength the length of the past windows
+     * @param futureLength the length of the future windows
+     * @param dummyValue the value for padding
+     * @param freq the frequency of the series
+     * @param timeFeatures the time features, or {@code null} for no time feature
+     * @return the batch of windows
+     */
+    public TimeSeriesData sampleWindows(
+            NDManager manager,
+            int[] indices,
+            InstanceSampler sampler,
+            int pastLength,
+            int futureLength,
+            float dummyValue,
+            String freq,
+            List<BiFunction<NDManager, List<LocalDateTime>, NDArray>> timeFeatures) {
+        int batchSize = indices.length;
+        int[] splits = new int[batchSize];
+        for (int b = 0; b < batchSize; ++b) {
+            List<Integer> sampled = sampler.call(lengths[indices[b]]);
+            if (sampled.isEmpty()) {
+                throw new IllegalArgumentException(
+                        "No window can be sampled from series: " + indices[b]);
+            }
+            // the sampled indices are sorted, pick one uniformly to avoid a bias to the start
+            splits[b] = sampled.get(RandomUtils.nextInt(sampled.size()));
+        }
+
+        TimeSeriesData data = new TimeSeriesData(columns.size() * 2 + 3);
+        for (Map.Entry<FieldName, Column> entry : columns.entrySet()) {
+            String name = entry.getKey().name();
+            Column column = entry.getValue();
+            if (!column.timeSeries) {
+                data.add(name, gatherStatic(manager, column, indices));
+                continue;
+            }
+            int dim = getDimension(column, indices);
+            float[] past = new float[batchSize * pastLength * dim];
+            float[] future = new float[batchSize * futureLength * dim];
+            for (int b = 0; b < batchSize; ++b) {
+                int index = indices[b];
+                int offset = column.offsets[index];
+                int length = lengths[index];
+                int split = splits[b];
+                copyWindow(
+                        column.values,
+                        offset,
+                        length,
+                        dim,
+                        split - pastLength,
+                        pastLength,
+                        past,
+                        b * pastLength * dim,
+                        dummyValue);
+                copyWindow(
+                        column.values,
+                        offset,
+                        length,
+                        dim,
+                        split,
+                        futureLength,
+                        future,
+                        b * futureLength * dim,
+                        dummyValue);
+            }
+            data.add("PAST_" + name, manager.create(past, windowShape(batchSize, pastLength, dim)));
+            data.add(
+                    "FUTURE_" + name,
+                    manager.create(future, windowShape(batchSize, futureLength, dim)));
+        }
+
+        float[] isPad = new float[batchSize * pastLength];
+        for (int b = 0; b < batchSize; ++b) {
+            int padLength = Math.min(Math.max(pastLength - splits[b], 0), pastLength);
+            for (int t = 0; t < padLength; ++t) {
+                isPad[b * pastLength + t] = 1f;
+            }
+        }
+        NDArray padIndicator = manager.create(isPad, new Shape(batchSize, pastLength));
+        data.add("PAST_" + FieldName.IS_PAD.name(), padIndicator);
+
+        if (timeFeatures != null) {
+            addTimeFeatures(
+                    manager,
+                    data,
+                    indices,
+                    splits,
+                    pastLength,
+                    futureLength,
+                    dummyValue,
+                    freq,
+                    timeFeatures);
+        }
+        return data;
+    }
+
+    private void addTimeFeatures(
+            NDManager manager,
+            TimeSeriesData data,
+            int[] indices,
+            int[] splits,
+            int pastLength,
+            int futureLength,
+            float dummyValue,
+            String freq,
+            List<BiFunction<NDManager, List<LocalDateTime>, NDArray>> timeFeatures) {
+        int batchSize = indices.length;
+        int numFeatures = timeFeatures.size();
+        float[] past = new float[batchSize * pastLength * numFeatures];
+        float[] future = new float[batchSize * futureLength * numFeatures];
+        for (int b = 0; b < batchSize; ++b) {
+            int end = Math.max(splits[b] + futureLength, 1);
+            float[][] features =
+                    TimeFeatureCache.getFeatures(
+                            manager, startTimes[indices[b]], end, freq, timeFeatures);
+            for (int f = 0; f < numFeatures; ++f) {
+                copyRow(
+                        features[f],
+                        0,
+                        end,
+                        f,
+                        numFeatures,
+                        splits[b] - pastLength,
+                        pastLength,
+                        past,
+                        b * pastLength * numFeatures,
+                        dummyValue);
+                copyRow(
+                        features[f],
+                        0,
+                        end,
+                        f,
+                        numFeatures,
+                        splits[b],
+                        futureLength,
+                        future,
+                        b * futureLength * numFeatures,
+                        dummyValue);
+            }
+        }
+        String name = FieldName.FEAT_TIME.name();
+        data.add(
+                "PAST_" + name,
+                manager.create(past, new Shape(batchSize, pastLength, numFeatures)));
+        data.add(
+                "FUTURE_" + name,
+                manager.create(future, new Shape(batchSize, futureLength, numFeatures)));
+    }
+
+    private NDArray gatherStatic(NDManager manager, Column column, int[] indices) {
+        int dim = column.offsets[indices[0] + 1] - column.offsets[indices[0]];
+        float[] buf = new float[indices.length * dim];
+        for (int b = 0; b < indices.length; ++b) {
+            int offset = column.offsets[indices[b]];
+            if (column.offsets[indices[b] + 1] - offset != dim) {
+                throw new IllegalArgumentException("The static features have different sizes.");
+            }
+            System.arraycopy(column.values, offset, buf, b * dim, dim);
+        }
+        return manager.create(buf, new Shape(indices.length, dim));
+    }
+
+    private int getDimension(Column column, int[] indices) {
+        int dim = -1;
+        for (int index : indices) {
+            int length = lengths[index];
+            int size = column.offsets[index + 1] - column.offsets[index];
+            int d = length == 0 ? 1 : size / length;
+            if (dim != -1 && d != dim) {
+                throw new IllegalArgumentException("The time series have different dimensions.");
+            }
+            dim = d;
+        }
+        return dim;
+    }
+
+    private static Shape windowShape(int batchSize, int length, int dim) {
+        if (dim == 1) {
+            return new Shape(batchSize, length);
+        }
+        return new Shape(batchSize, length, dim);
+    }
+
+    private static void copyWindow(
+            float[] src,
+            int offset,
+            int length,
+            int dim,
+            int start,
+            int count,
+            float[] dst,
+            int dstOffset,
+            float dummyValue) {
+        for (int d = 0; d < dim; ++d) {
+            copyRow(
+                    src,
+                    offset + d * length,
+                    length,
+                    d,
+                    dim,
+                    start,
+                    count,
+                    dst,
+                    dstOffset,
+                    dummyValue);
+        }
+    }
+
+    private static void copyRow(
+            float[] src,
+            int rowOffset,
+            int length,
+            int d,
+            int dim,
+            int start,
+            int count,
+            float[] dst,
+            int dstOffset,
+            float dummyValue) {
+        // copies the time steps [start, start + count) of a row of a (dimension, time) array to
+        // the column d of a (time, dimension) window, the time steps out of the series are padded
+        int from = Math.max(start, 0);
+        int to = Math.min(start + count, length);
+        if (dim == 1 && from < to) {
+            // contiguous fast path for one dimensional series
+            Arrays.fill(dst, dstOffset, dstOffset + from - start, dummyValue);
+            System.arraycopy(src, rowOffset + from, dst, dstOffset + from - start, to - from);
+            Arrays.fill(dst, dstOffset + to - start, dstOffset + count, dummyValue);
+            return;
+        }
+        for (int t = 0; t < count; ++t) {
+            int pos = start + t;
+            float value = pos >= from && pos < to ? src[rowOffset + pos] : dummyValue;
+            dst[dstOffset + t * dim + d] = value;
+        }
+    }
+
+    private static boolean isTimeSeries(FieldName fieldName) {
+        return fieldName == FieldName.TARGET
+                || fieldName == FieldName.FEAT_DYNAMIC_CAT
+                || fieldName == FieldName.FEAT_DYNAMIC_REAL;
+    }
+
+    private static final class Column {
+
+        float[] values;
+        int[] offsets;
+        boolean timeSeries;
+
+        Column(float[] values, int[] offsets, boolean timeSeries) {
+            this.values = values;
+            this.offsets = offsets;
+            this.timeSeries = timeSeries;
+        }
+    }
+
+    /** The builder to construct a {@link TimeSeriesStore}. */
+    public static final class Builder {
+
+        List<LocalDateTime> startTimes = new ArrayList<>();
+        Map<FieldName, List<float[]>> values = new LinkedHashMap<>();
+
+        Builder() {}
+
+        /**
+         * Adds a series to the store.
+         *
+         * @param startTime the start time of the series
+         * @param fields the values of each field of the series, all series must have the same
+         *     fields
+         * @return this builder
+         */
+        public Builder addSeries(LocalDateTime startTime, Map<FieldName, float[]> fields) {
+            float[] target = fields.get(FieldName.TARGET);
+            if (target == null) {
+                throw new IllegalArgumentException("Missing target");
+            }
+            if (startTimes.isEmpty()) {
+                for (FieldName fieldName : fields.keySet()) {
+                    values.put(fieldName, new ArrayList<>());
+                }
+            } else if (!values.keySet().equals(fields.keySet())) {
+                throw new IllegalArgumentException("Inconsistent fields: " + fields.keySet());
+            }
+            for (Map.Entry<FieldName, float[]> entry : fields.entrySet()) {
+                float[] array = entry.getValue();
+                if (isTimeSeries(entry.getKey())
+                        && (target.length == 0
+                                ? array.length != 0
+                                : array.length % target.length != 0)) {
+                    throw new IllegalArgumentException(
+                            "The length of " + entry.getKey() + " doesn't match the target.");
+                }
+                values.get(entry.getKey()).add(array);
+            }
+            startTimes.add(startTime);
+            return this;
+        }
+
+        /**
+         * Builds the {@link TimeSeriesStore}.
+         *
+         * @return the {@link TimeSeriesStore}
+         */
+        public TimeSeriesStore build() {
+            if (startTimes.isEmpty()) {
+                throw new IllegalArgumentException("The store is empty");
+            }
+            return new TimeSeriesStore(this);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.timeseries.timefeature;
+
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.Shape;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * A cache of the time features of a time range.
+ *
+ * <p>The time features only depend on the start time, the frequency and the length, and most
+ * datasets share a few start times. The features are computed once for each start time and
+ * frequency, and the cached values are reused by all the series and windows within the range.
+ */
+public final class TimeFeatureCache {
+
+    private static final int MAX_ENTRIES = 256;
+
+    private static final Map<Key, float[][]> CACHE =
+            new LinkedHashMap<Key, float[][]>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                /** {@inheritDoc} */
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, float[][]> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            };
+
+    private TimeFeatureCache() {}
+
+    /**
+     * Returns the time features of a time range as an array of shape (features, length).
+     *
+     * @param manager the {@link NDManager} to create the array
+     * @param start the start time
+     * @param length the number of time steps
+     * @param freq the frequency string, such as "1D"
+     * @param timeFeatures the time features
+     * @return the time features
+     */
+    public static NDArray get(
+            NDManager manager,
+            LocalDateTime start,
+            int length,
+            String freq,
+            List<BiFunction<NDManager, List<LocalDateTime>, NDArray>> timeFeatures) {
+        float[][] features = getFeatures(manager, start, length, freq, timeFeatures);
+        float[] data = new float[features.length * length];
+        for (int i = 0; i < features.length; ++i) {
+            System.arraycopy(features[i], 0, data, i * length, length);
+        }
+        return manager.create(data, new Shape(features.length, length));
+    }
+
+    /**
+     * Returns the time features of a time range.
+     *
+     * <p>The returned arrays are shared and must not be modified. Each array contains at least
+     * {@code length} time steps.
+     *
+     * @param manager the {@link NDManager} used to compute the features
+     * @param start the start time
+     * @param length the number of time steps
+     * @param freq the frequency string, such as "1D"
+     * @param timeFeatures the time features
+     * @return the values of each time feature
+     */
+    public static float[][] getFeatures(
+            NDManager manager,
+            LocalDateTime start,
+            int length,
+            String freq,
+            List<BiFunction<NDManager, List<LocalDateTime>, NDArray>> timeFeatures) {
+        Key key = new Key(start, freq, timeFeatures);
+        float[][] features;
+        synchronized (CACHE) {
+            features = CACHE.get(key);
+        }
+        if (features != null && (features.length == 0 || features[0].length >= length)) {
+            return features;
+        }
+        // grow the cached range to avoid recomputing for slightly longer series
+        int capacity = features == null ? length : Math.max(length, features[0].length * 2);
+        features = compute(manager, start, capacity, freq, timeFeatures);
+        synchronized (CACHE) {
+            CACHE.put(key, features);
+        }
+        return features;
+    }
+
+    /**
+     * Parses a frequency string, such as "1D" or "12H".
+     *
+     * @param freq the frequency string
+     * @return the time between two steps
+     */
+    public static TemporalAmount parseFrequency(String freq) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(freq);
+        if (!freq.matches("\\d+.*")) {
+            sb.insert(0, 1);
+        }
+
+        if (freq.endsWith("H") || freq.endsWith("T") || freq.endsWith("S")) {
+            sb.insert(0, "PT");
+            return Duration.parse(sb.toString());
+        }
+        sb.insert(0, "P");
+        return Period.parse(sb.toString());
+    }
+
+    private static float[][] compute(
+            NDManager manager,
+            LocalDateTime start,
+            int length,
+            String freq,
+            List<BiFunction<NDManager, List<LocalDateTime>, NDArray>> timeFeatures) {
+        TemporalAmount timeFreq = parseFrequency(freq);
+        List<LocalDateTime> index = new ArrayList<>(length);
+        LocalDateTime temp = start;
+        for (int i = 0; i < length; i++) {
+            index.add(temp);
+            temp = temp.plus(timeFreq);
+        }
+
+        float[][] features = new float[timeFeatures.size()][];
+        try (NDManager scope = manager.newSubManager()) {
+            for (int i = 0; i < features.length; ++i) {
+                features[i] = timeFeatures.get(i).apply(scope, index).toFloatArray();
+            }
+        }
+        return features;
+    }
+
+    private static final class Key {
+
+        private LocalDateTime start;
+        private String freq;
+        private List<BiFunction<NDManager, List<LocalDateTime>, NDArray>> timeFeatures;
+
+        Key(
+                LocalDateTime start,
+                String freq,
+                List<BiFunction<NDManager, List<LocalDateTime>, NDArray>> timeFeatures) {
+            this.start = start;
+            this.freq = freq;
+            this.timeFeatures = timeFeatures;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return start.equals(key.start)
+                    && freq.equals(key.freq)
+                    && timeFeatures.equals(key.timeFeatures);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            return Objects.hash(start, freq, timeFeatures);
+        }
+    }
+}
@@ -13,7 +13,6 @@
 
 package ai.djl.timeseries.transform;
 
-import ai.djl.ndarray.NDArray;
 import ai.djl.util.RandomUtils;
 
 import java.util.ArrayList;
@@ -44,8 +43,8 @@ public class ExpectedNumInstanceSampler extends InstanceSampler {
 
     /** {@inheritDoc} */
     @Override
-    public List<Integer> call(NDArray ts) {
-        int[] bound = getBounds(ts);
+    public List<Integer> call(int length) {
+        int[] bound = getBounds(length);
         int windowSize = bound[1] - bound[0] + 1;
 
         if (windowSize <= 0) {
@@ -50,10 +50,17 @@ public abstract class InstanceSampler {
      * @return the indices bound
      */
     public int[] getBounds(NDArray ts) {
-        int start = minPast;
-        int posAxis = axis < 0 ? ts.getShape().dimension() + axis : axis;
-        int end = (int) ts.getShape().get(posAxis) - minFuture;
-        return new int[] {start, end};
+        return getBounds(getLength(ts));
+    }
+
+    /**
+     * Returns the sampled indices bounds of a time series with the given length.
+     *
+     * @param length the length of the time series
+     * @return the indices bound
+     */
+    public int[] getBounds(int length) {
+        return new int[] {minPast, length - minFuture};
     }
 
     /**
@@ -62,5 +69,23 @@ public abstract class InstanceSampler {
      * @param ts the time series
      * @return list of indices
      */
-    public abstract List<Integer> call(NDArray ts);
+    public List<Integer> call(NDArray ts) {
+        return call(getLength(ts));
+    }
+
+    /**
+     * Call the sample process on a time series with the given length.
+     *
+     * <p>This allows to sample windows from a {@link ai.djl.timeseries.dataset.TimeSeriesStore}
+     * without creating the {@link NDArray} of the series.
+     *
+     * @param length the length of the time series
+     * @return list of indices
+     */
+    public abstract List<Integer> call(int length);
+
+    private int getLength(NDArray ts) {
+        int posAxis = axis < 0 ? ts.getShape().dimension() + axis : axis;
+        return (int) ts.getShape().get(posAxis);
+    }
 }
@@ -39,8 +39,8 @@ public class PredictionSplitSampler extends InstanceSampler {
 
     /** {@inheritDoc} * */
     @Override
-    public List<Integer> call(NDArray ts) {
-        int[] bound = getBounds(ts);
+    public List<Integer> call(int length) {
+        int[] bound = getBounds(length);
         List<Integer> ret = new ArrayList<>();
         if (bound[0] < bound[1]) {
             ret.add(bound[1]);
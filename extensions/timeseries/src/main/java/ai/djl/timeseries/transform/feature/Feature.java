@@ -15,17 +15,13 @@ package ai.djl.timeseries.transform.feature;
 
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDArrays;
-import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.Shape;
 import ai.djl.timeseries.TimeSeriesData;
 import ai.djl.timeseries.dataset.FieldName;
+import ai.djl.timeseries.timefeature.TimeFeatureCache;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.Period;
-import java.time.temporal.TemporalAmount;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
 
@@ -109,39 +105,14 @@ public final class Feature {
             boolean isTrain) {
         if (timeFeatures.isEmpty()) {
             data.setField(outputField, null);
+            return;
         }
 
         LocalDateTime start = data.getStartTime();
         int length = targetTransformationLength(data.get(targetField), predictionLength, isTrain);
-
-        StringBuilder sb = new StringBuilder();
-        sb.append(freq);
-        if (!freq.matches("\\d+.*")) {
-            sb.insert(0, 1);
-        }
-
-        TemporalAmount timeFreq;
-        if (freq.endsWith("H") || freq.endsWith("T") || freq.endsWith("S")) {
-            sb.insert(0, "PT");
-            timeFreq = Duration.parse(sb.toString());
-        } else {
-            sb.insert(0, "P");
-            timeFreq = Period.parse(sb.toString());
-        }
-
-        List<LocalDateTime> index = new ArrayList<>();
-        LocalDateTime temp = start;
-        for (int i = 0; i < length; i++) {
-            index.add(temp);
-            temp = temp.plus(timeFreq);
-        }
-
-        NDList outputs = new NDList(timeFeatures.size());
-        for (BiFunction<NDManager, List<LocalDateTime>, NDArray> f : timeFeatures) {
-            outputs.add(f.apply(manager, index));
-        }
-
-        data.setField(outputField, NDArrays.stack(outputs));
+        // the features of the same start time are computed once and shared by all series
+        data.setField(
+                outputField, TimeFeatureCache.get(manager, start, length, freq, timeFeatures));
     }
 
     /**
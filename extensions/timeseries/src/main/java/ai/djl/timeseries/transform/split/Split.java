@@ -20,6 +20,7 @@ import ai.djl.ndarray.types.Shape;
 import ai.djl.timeseries.TimeSeriesData;
 import ai.djl.timeseries.dataset.FieldName;
 import ai.djl.timeseries.transform.InstanceSampler;
+import ai.djl.util.RandomUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -33,7 +34,8 @@ public final class Split {
     /**
      * Selects training instances, by slicing the target and other time series like arrays at random
      * points in training mode or at the last time point in prediction mode. Assumption is that all
-     * time like arrays start at the same time point.
+     * time like arrays start at the same time point. The split point is picked uniformly from the
+     * indices returned by the {@link InstanceSampler}.
      *
      * <p>The target and each time_series_field is removed and instead two corresponding fields with
      * prefix `past_` and `future_` are included. E.g.
@@ -87,7 +89,9 @@ public final class Split {
         List<Integer> sampledIndices = instanceSampler.call(target);
 
         // TODO: add yield method
-        for (int i : sampledIndices.subList(0, 1)) {
+        // the sampled indices are sorted, pick one uniformly to avoid a bias to the start
+        int pick = sampledIndices.isEmpty() ? 0 : RandomUtils.nextInt(sampledIndices.size());
+        for (int i : sampledIndices.subList(pick, pick + 1)) {
             int padLength = Math.max(pastLength - i, 0);
             for (FieldName tsField : sliceCols) {
                 NDArray pastPiece;
@@ -19,9 +19,11 @@ import ai.djl.basicdataset.tabular.utils.Feature;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.Shape;
 import ai.djl.nn.Blocks;
 import ai.djl.nn.Parameter;
 import ai.djl.testing.TestRequirements;
+import ai.djl.timeseries.transform.ExpectedNumInstanceSampler;
 import ai.djl.timeseries.transform.TimeSeriesTransform;
 import ai.djl.training.DefaultTrainingConfig;
 import ai.djl.training.Trainer;
@@ -39,6 +41,7 @@ import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 
 public class M5ForecastTest {
@@ -112,4 +115,52 @@ public class M5ForecastTest {
             }
         }
     }
+
+    @Test
+    public void testWindowSampling() throws IOException, TranslateException {
+        TrainingConfig config = new DefaultTrainingConfig(Loss.l2Loss());
+
+        try (Model model = Model.newInstance("model")) {
+            model.setBlock(Blocks.identityBlock());
+
+            M5Forecast.Builder builder =
+                    M5Forecast.builder()
+                            .optUsage(Dataset.Usage.TEST)
+                            .optRepository(BasicDatasets.REPOSITORY)
+                            .optGroupId(BasicDatasets.GROUP_ID)
+                            .optArtifactId("m5forecast-unittest")
+                            .setTransformation(Collections.emptyList())
+                            .setContextLength(4)
+                            .optWindowSampling(
+                                    new ExpectedNumInstanceSampler(0, 1, 2, 1), 8, 2, 0f)
+                            .setSampling(32, true);
+            for (int i = 1; i <= 277; i++) {
+                builder.addFeature("w_" + i, FieldName.TARGET);
+            }
+            M5Forecast m5Forecast =
+                    builder.addFeature("state_id", FieldName.FEAT_STATIC_CAT)
+                            .addFieldFeature(
+                                    FieldName.START,
+                                    new Feature(
+                                            "date",
+                                            TimeFeaturizers.getConstantTimeFeaturizer(
+                                                    LocalDateTime.parse("2011-01-29T00:00"))))
+                            .build();
+            m5Forecast.prepare();
+
+            Record record = m5Forecast.get(model.getNDManager(), 0);
+            Assert.assertEquals(record.getLabels().head().getShape(), new Shape(5));
+
+            try (Trainer trainer = model.newTrainer(config)) {
+                Batch batch = trainer.iterateDataset(m5Forecast).iterator().next();
+                NDList data = batch.getData();
+                // PAST_TARGET, FUTURE_TARGET, FEAT_STATIC_CAT and PAST_IS_PAD
+                Assert.assertEquals(data.size(), 4);
+                Assert.assertEquals(data.get(0).getShape(), new Shape(32, 8));
+                Assert.assertEquals(data.get(1).getShape(), new Shape(32, 2));
+                Assert.assertEquals(batch.getLabels().head().getShape(), new Shape(32, 5));
+                batch.close();
+            }
+        }
+    }
 }
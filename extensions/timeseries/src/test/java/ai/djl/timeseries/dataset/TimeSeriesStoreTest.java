@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.timeseries.dataset;
+
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.timeseries.TimeSeriesData;
+import ai.djl.timeseries.transform.ExpectedNumInstanceSampler;
+import ai.djl.timeseries.transform.InstanceSampler;
+import ai.djl.timeseries.transform.PredictionSplitSampler;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+public class TimeSeriesStoreTest {
+
+    @Test
+    public void testSampleWindows() {
+        LocalDateTime start = LocalDateTime.parse("2011-01-29T00:00");
+        Map<FieldName, float[]> first = new LinkedHashMap<>();
+        first.put(FieldName.TARGET, new float[] {1, 2, 3, 4, 5});
+        first.put(FieldName.FEAT_STATIC_CAT, new float[] {0, 1});
+        Map<FieldName, float[]> second = new LinkedHashMap<>();
+        second.put(FieldName.TARGET, new float[] {10, 11, 12});
+        second.put(FieldName.FEAT_STATIC_CAT, new float[] {2, 3});
+        TimeSeriesStore store =
+                TimeSeriesStore.builder()
+                        .addSeries(start, first)
+                        .addSeries(start.plusDays(1), second)
+                        .build();
+        Assert.assertEquals(store.size(), 2);
+        Assert.assertEquals(store.getLength(1), 3);
+
+        try (NDManager manager = NDManager.newBaseManager()) {
+            TimeSeriesData data = store.get(manager, 1);
+            NDArray target = data.get(FieldName.TARGET);
+            Assert.assertEquals(target.toFloatArray(), new float[] {10, 11, 12});
+            Assert.assertEquals(data.getStartTime(), start.plusDays(1));
+
+            TimeSeriesData batch =
+                    store.sampleWindows(
+                            manager,
+                            new int[] {0, 1},
+                            PredictionSplitSampler.newTestSplitSampler(),
+                            4,
+                            2,
+                            0f);
+            NDArray past = batch.get("PAST_" + FieldName.TARGET);
+            Assert.assertEquals(past.getShape(), new Shape(2, 4));
+            Assert.assertEquals(past.toFloatArray(), new float[] {2, 3, 4, 5, 0, 10, 11, 12});
+            NDArray future = batch.get("FUTURE_" + FieldName.TARGET);
+            Assert.assertEquals(future.getShape(), new Shape(2, 2));
+            NDArray isPad = batch.get("PAST_" + FieldName.IS_PAD);
+            Assert.assertEquals(isPad.toFloatArray(), new float[] {0, 0, 0, 0, 1, 0, 0, 0});
+            NDArray staticCat = batch.get(FieldName.FEAT_STATIC_CAT.name());
+            Assert.assertEquals(staticCat.toFloatArray(), new float[] {0, 1, 2, 3});
+        }
+    }
+
+    @Test
+    public void testSampleWindowsUniformly() {
+        LocalDateTime start = LocalDateTime.parse("2011-01-29T00:00");
+        Map<FieldName, float[]> fields = new LinkedHashMap<>();
+        fields.put(FieldName.TARGET, new float[] {1, 2, 3, 4, 5});
+        TimeSeriesStore store = TimeSeriesStore.builder().addSeries(start, fields).build();
+
+        // the sampler returns every index of the series
+        InstanceSampler sampler = new ExpectedNumInstanceSampler(0, 1, 0, 100);
+        Set<Float> lastValues = new HashSet<>();
+        try (NDManager manager = NDManager.newBaseManager()) {
+            for (int i = 0; i < 100; ++i) {
+                TimeSeriesData batch =
+                        store.sampleWindows(manager, new int[] {0}, sampler, 1, 0, 0f);
+                lastValues.add(batch.get("PAST_" + FieldName.TARGET).getFloat(0, 0));
+            }
+        }
+        Assert.assertTrue(lastValues.size() > 1, "Always sampled the same window");
+    }
+}
@@ -29,7 +29,8 @@ use std::str::FromStr;
 
 use jni::errors::Error;
 use jni::objects::{
-    JClass, JLongArray, JMethodID, JObject, JObjectArray, JString, JValue, ReleaseMode,
+    JByteBuffer, JClass, JLongArray, JMethodID, JObject, JObjectArray, JString, JValue,
+    ReleaseMode,
 };
 use jni::sys::JNI_FALSE;
 
@@ -37,7 +38,7 @@ use jni::sys::{jboolean, jint, jlong, jobjectArray, jsize, jvalue, JNI_TRUE};
 use jni::JNIEnv;
 use tk::models::bpe::BPE;
 use tk::tokenizer::{EncodeInput, Encoding};
-use tk::utils::padding::{PaddingParams, PaddingStrategy};
+use tk::utils::padding::{PaddingDirection, PaddingParams, PaddingStrategy};
 use tk::utils::truncation::{TruncationParams, TruncationStrategy};
 use tk::Offsets;
 use tk::Tokenizer;
@@ -330,6 +331,140 @@ pub extern "system" fn Java_ai_djl_huggingface_tokenizers_jni_TokenizersLibrary_
     ret
 }
 
+// Encodes a batch for writeBatchToBuffer, the returned handle must be freed with
+// deleteBatchEncoding.
+#[no_mangle]
+pub extern "system" fn Java_ai_djl_huggingface_tokenizers_jni_TokenizersLibrary_batchEncodeForBuffer<
+    'local,
+>(
+    mut env: JNIEnv<'local>,
+    _: JObject,
+    handle: jlong,
+    text: JObjectArray<'local>,
+    text_pair: JObjectArray<'local>,
+    add_special_tokens: jboolean,
+) -> jlong {
+    let tokenizer = cast_handle::<Tokenizer>(handle);
+    let len = env.get_array_length(&text).unwrap();
+    let mut array: Vec<EncodeInput> = Vec::with_capacity(len as usize);
+    for i in 0..len {
+        let item = env.get_object_array_element(&text, i).unwrap().into();
+        let sequence: String = env
+            .get_string(&item)
+            .expect("Couldn't get text string!")
+            .into();
+        if text_pair.is_null() {
+            array.push(EncodeInput::Single(tk::InputSequence::from(sequence)));
+        } else {
+            let item = env.get_object_array_element(&text_pair, i).unwrap().into();
+            let sequence2: String = env
+                .get_string(&item)
+                .expect("Couldn't get text_pair string!")
+                .into();
+            let input_sequence1 = tk::InputSequence::from(sequence);
+            let input_sequence2 = tk::InputSequence::from(sequence2);
+            array.push(EncodeInput::Dual(input_sequence1, input_sequence2));
+        }
+    }
+
+    // tokens and offsets are not needed, skip the char offsets conversion
+    let encodings = match tokenizer.encode_batch(array, add_special_tokens == JNI_TRUE) {
+        Ok(output) => output,
+        Err(err) => {
+            env.throw(err.to_string()).unwrap();
+            return 0;
+        }
+    };
+    to_handle(encodings)
+}
+
+// Returns the padded sequence length of an encoded batch.
+#[no_mangle]
+pub extern "system" fn Java_ai_djl_huggingface_tokenizers_jni_TokenizersLibrary_getBatchSequenceLength(
+    _: JNIEnv,
+    _: JObject,
+    handle: jlong,
+) -> jlong {
+    let encodings = cast_handle::<Vec<Encoding>>(handle);
+    batch_sequence_length(encodings) as jlong
+}
+
+fn batch_sequence_length(encodings: &[Encoding]) -> usize {
+    encodings.iter().map(|e| e.get_ids().len()).max().unwrap_or(0)
+}
+
+// Writes the padded ids, attention mask and type ids of an encoded batch into a direct buffer.
+#[no_mangle]
+pub extern "system" fn Java_ai_djl_huggingface_tokenizers_jni_TokenizersLibrary_writeBatchToBuffer<
+    'local,
+>(
+    mut env: JNIEnv<'local>,
+    _: JObject,
+    handle: jlong,
+    batch_handle: jlong,
+    int32: jboolean,
+    with_type_ids: jboolean,
+    buffer: JByteBuffer<'local>,
+) {
+    let tokenizer = cast_handle::<Tokenizer>(handle);
+    let encodings = cast_handle::<Vec<Encoding>>(batch_handle);
+    let seq_len = batch_sequence_length(encodings);
+    let num_arrays = if with_type_ids == JNI_TRUE { 3 } else { 2 };
+    let elem_size = if int32 == JNI_TRUE { 4 } else { 8 };
+    let size = encodings.len() * seq_len;
+    let capacity = env.get_direct_buffer_capacity(&buffer).unwrap();
+    if capacity < size * num_arrays * elem_size {
+        env.throw("The buffer is too small for the encoded batch.").unwrap();
+        return;
+    }
+
+    let (pad_id, pad_type_id, left) = match tokenizer.get_padding() {
+        Some(params) => (
+            params.pad_id,
+            params.pad_type_id,
+            params.direction == PaddingDirection::Left,
+        ),
+        None => (0, 0, false),
+    };
+    let data = env.get_direct_buffer_address(&buffer).unwrap();
+    let write = |index: usize, value: u32| unsafe {
+        if int32 == JNI_TRUE {
+            (data.add(index * 4) as *mut i32).write_unaligned(value as i32);
+        } else {
+            (data.add(index * 8) as *mut i64).write_unaligned(value as i64);
+        }
+    };
+    for (row, encoding) in encodings.iter().enumerate() {
+        let ids = encoding.get_ids();
+        let mask = encoding.get_attention_mask();
+        let type_ids = encoding.get_type_ids();
+        let padding = seq_len - ids.len();
+        let start = if left { padding } else { 0 };
+        for col in 0..seq_len {
+            let index = row * seq_len + col;
+            let token = if col >= start && col < start + ids.len() {
+                Some(col - start)
+            } else {
+                None
+            };
+            write(index, token.map_or(pad_id, |t| ids[t]));
+            write(size + index, token.map_or(0, |t| mask[t]));
+            if with_type_ids == JNI_TRUE {
+                write(size * 2 + index, token.map_or(pad_type_id, |t| type_ids[t]));
+            }
+        }
+    }
+}
+
+#[no_mangle]
+pub extern "system" fn Java_ai_djl_huggingface_tokenizers_jni_TokenizersLibrary_deleteBatchEncoding(
+    _: JNIEnv,
+    _: JObject,
+    handle: jlong,
+) {
+    drop_handle::<Vec<Encoding>>(handle);
+}
+
 #[no_mangle]
 pub extern "system" fn Java_ai_djl_huggingface_tokenizers_jni_TokenizersLibrary_deleteEncoding(
     _: JNIEnv,
@@ -13,11 +13,13 @@
 package ai.djl.huggingface.tokenizers;
 
 import ai.djl.huggingface.tokenizers.jni.CharSpan;
-import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.types.Shape;
 
-import java.util.Arrays;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /** A class holds token encoding information. */
 public class Encoding {
@@ -67,44 +69,66 @@ public class Encoding {
      */
     public static NDList toNDList(
             Encoding[] encodings, NDManager manager, boolean withTokenType, boolean int32) {
-        NDList list = new NDList();
-        if (!int32) {
-            long[][] ids = new long[encodings.length][];
-            long[][] attentionMask = new long[encodings.length][];
-            long[][] typeIds = new long[encodings.length][];
-            for (int i = 0; i < encodings.length; i++) {
-                ids[i] = encodings[i].getIds();
-                attentionMask[i] = encodings[i].getAttentionMask();
-                if (withTokenType) {
-                    typeIds[i] = encodings[i].getTypeIds();
+        int batch = encodings.length;
+        int seqLength = batch == 0 ? 0 : encodings[0].ids.length;
+        int numArrays = withTokenType ? 3 : 2;
+        int size = batch * seqLength;
+        ByteBuffer bb = manager.allocateDirect(size * numArrays * (int32 ? 4 : 8));
+        for (int i = 0; i < numArrays; ++i) {
+            for (Encoding encoding : encodings) {
+                long[] values;
+                if (i == 0) {
+                    values = encoding.ids;
+                } else if (i == 1) {
+                    values = encoding.attentionMask;
+                } else {
+                    values = encoding.typeIds;
+                }
+                if (values.length != seqLength) {
+                    throw new IllegalArgumentException(
+                            "The encodings must be padded to the same length.");
+                }
+                for (long value : values) {
+                    if (int32) {
+                        bb.putInt((int) value);
+                    } else {
+                        bb.putLong(value);
+                    }
                 }
             }
-            list.add(manager.create(ids));
-            NDArray inputAttentionMask = manager.create(attentionMask);
-            list.add(inputAttentionMask);
-            if (withTokenType) {
-                list.add(manager.create(typeIds));
-            }
-            return list;
         }
+        bb.rewind();
+        return toNDList(manager, bb, batch, seqLength, numArrays, int32);
+    }
 
-        int[][] ids = new int[encodings.length][];
-        int[][] attentionMask = new int[encodings.length][];
-        int[][] typeIds = new int[encodings.length][];
-        for (int i = 0; i < encodings.length; i++) {
-            ids[i] = Arrays.stream(encodings[i].getIds()).mapToInt(l -> (int) l).toArray();
-            attentionMask[i] =
-                    Arrays.stream(encodings[i].getAttentionMask()).mapToInt(l -> (int) l).toArray();
-            if (withTokenType) {
-                typeIds[i] =
-                        Arrays.stream(encodings[i].getTypeIds()).mapToInt(l -> (int) l).toArray();
-            }
-        }
-        list.add(manager.create(ids));
-        NDArray inputAttentionMask = manager.create(attentionMask);
-        list.add(inputAttentionMask);
-        if (withTokenType) {
-            list.add(manager.create(typeIds));
+    /**
+     * Returns the {@link NDList} backed by a buffer that contains numArrays [batch, seqLength]
+     * arrays one after another.
+     *
+     * @param manager the {@link NDManager} to create the NDList
+     * @param bb the direct buffer
+     * @param batch the batch size
+     * @param seqLength the sequence length
+     * @param numArrays the number of arrays
+     * @param int32 true if the buffer contains int32 values, otherwise int64
+     * @return the {@link NDList}
+     */
+    static NDList toNDList(
+            NDManager manager,
+            ByteBuffer bb,
+            int batch,
+            int seqLength,
+            int numArrays,
+            boolean int32) {
+        DataType dataType = int32 ? DataType.INT32 : DataType.INT64;
+        Shape shape = new Shape(batch, seqLength);
+        int size = batch * seqLength * dataType.getNumOfBytes();
+        NDList list = new NDList(numArrays);
+        for (int i = 0; i < numArrays; ++i) {
+            bb.limit(size * (i + 1));
+            bb.position(size * i);
+            ByteBuffer slice = bb.slice().order(ByteOrder.nativeOrder());
+            list.add(manager.create(slice, shape, dataType));
         }
         return list;
     }
@@ -121,13 +145,10 @@ public class Encoding {
         // Converting encoding to int32 NDList because candle can't convert int64 to fp16 in cuda
         NDList list = new NDList(withTokenType ? 3 : 2);
         if (int32) {
-            int[] intIds = Arrays.stream(ids).mapToInt(i -> (int) i).toArray();
-            int[] intAttentionMask = Arrays.stream(attentionMask).mapToInt(i -> (int) i).toArray();
-            list.add(manager.create(intIds));
-            list.add(manager.create(intAttentionMask));
+            list.add(manager.create(toIntArray(ids)));
+            list.add(manager.create(toIntArray(attentionMask)));
             if (withTokenType) {
-                int[] intTypeIds = Arrays.stream(typeIds).mapToInt(i -> (int) i).toArray();
-                list.add(manager.create(intTypeIds));
+                list.add(manager.create(toIntArray(typeIds)));
             }
         } else {
             list.add(manager.create(ids));
@@ -228,4 +249,12 @@ public class Encoding {
     public Encoding[] getOverflowing() {
         return overflowing;
     }
+
+    private static int[] toIntArray(long[] values) {
+        int[] ret = new int[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            ret[i] = (int) values[i];
+        }
+        return ret;
+    }
 }
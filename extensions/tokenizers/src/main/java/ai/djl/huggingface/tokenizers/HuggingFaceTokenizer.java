@@ -16,6 +16,7 @@ import ai.djl.huggingface.tokenizers.jni.CharSpan;
 import ai.djl.huggingface.tokenizers.jni.LibUtils;
 import ai.djl.huggingface.tokenizers.jni.TokenizersLibrary;
 import ai.djl.modality.nlp.preprocess.Tokenizer;
+import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
 import ai.djl.translate.ArgumentsUtil;
 import ai.djl.util.Ec2Utils;
@@ -29,6 +30,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -534,6 +536,62 @@ public final class HuggingFaceTokenizer extends NativeResource<Long> implements
         return batchEncode(inputs, addSpecialTokens, withOverflowingTokens);
     }
 
+    /**
+     * Returns the padded token ids, attention mask and optionally token type ids of the input
+     * sentences in batch.
+     *
+     * <p>Unlike {@link #batchEncode(String[])}, this method doesn't create {@link Encoding}
+     * objects: the native tokenizer writes the padded ids directly into a direct buffer, which is
+     * shared by the returned arrays. Tokens, spans and overflowing tokens are not available.
+     *
+     * @param manager the {@link NDManager} to create the NDList
+     * @param inputs the batch of input sentence
+     * @param withTokenType true to include the token type id
+     * @param int32 true to use int32 datatype
+     * @return the {@link NDList} of shape [batch, seq] arrays
+     */
+    public NDList batchEncodeToNDList(
+            NDManager manager, String[] inputs, boolean withTokenType, boolean int32) {
+        if (doLowerCase != null) {
+            for (int i = 0; i < inputs.length; ++i) {
+                inputs[i] = inputs[i].toLowerCase(doLowerCase);
+            }
+        } else if (Arrays.stream(inputs).anyMatch(Objects::isNull)) {
+            throw new NullPointerException("input text cannot be null");
+        }
+        return encodeToNDList(manager, inputs, null, withTokenType, int32);
+    }
+
+    /**
+     * Returns the padded token ids, attention mask and optionally token type ids of the input text
+     * pair in batch.
+     *
+     * @param manager the {@link NDManager} to create the NDList
+     * @param inputs the batch of input text pair
+     * @param withTokenType true to include the token type id
+     * @param int32 true to use int32 datatype
+     * @return the {@link NDList} of shape [batch, seq] arrays
+     * @see #batchEncodeToNDList(NDManager, String[], boolean, boolean)
+     */
+    public NDList batchEncodeToNDList(
+            NDManager manager,
+            PairList<String, String> inputs,
+            boolean withTokenType,
+            boolean int32) {
+        String[] text = inputs.keyArray(Utils.EMPTY_ARRAY);
+        String[] textPair = inputs.valueArray(Utils.EMPTY_ARRAY);
+        if (doLowerCase != null) {
+            for (int i = 0; i < text.length; ++i) {
+                text[i] = text[i].toLowerCase(doLowerCase);
+                textPair[i] = textPair[i].toLowerCase(doLowerCase);
+            }
+        } else if (Stream.concat(inputs.keys().stream(), inputs.values().stream())
+                .anyMatch(Objects::isNull)) {
+            throw new NullPointerException("text pair cannot be null");
+        }
+        return encodeToNDList(manager, text, textPair, withTokenType, int32);
+    }
+
     /**
      * Returns the decoded String from the input ids.
      *
@@ -723,6 +781,31 @@ public final class HuggingFaceTokenizer extends NativeResource<Long> implements
         }
     }
 
+    private NDList encodeToNDList(
+            NDManager manager,
+            String[] text,
+            String[] textPair,
+            boolean withTokenType,
+            boolean int32) {
+        int batch = text.length;
+        int numArrays = withTokenType ? 3 : 2;
+        int elemSize = int32 ? 4 : 8;
+        // the returned arrays may share the buffer, so it is sized exactly for the encoded batch
+        long batchHandle =
+                TokenizersLibrary.LIB.batchEncodeForBuffer(
+                        getHandle(), text, textPair, addSpecialTokens);
+        try {
+            int seqLength =
+                    Math.toIntExact(TokenizersLibrary.LIB.getBatchSequenceLength(batchHandle));
+            ByteBuffer buf = manager.allocateDirect(batch * seqLength * numArrays * elemSize);
+            TokenizersLibrary.LIB.writeBatchToBuffer(
+                    getHandle(), batchHandle, int32, withTokenType, buf);
+            return Encoding.toNDList(manager, buf, batch, seqLength, numArrays, int32);
+        } finally {
+            TokenizersLibrary.LIB.deleteBatchEncoding(batchHandle);
+        }
+    }
+
     private Encoding toEncoding(long encoding, boolean withOverflowingTokens) {
         long[] ids = TokenizersLibrary.LIB.getTokenIds(encoding);
         long[] typeIds = TokenizersLibrary.LIB.getTypeIds(encoding);
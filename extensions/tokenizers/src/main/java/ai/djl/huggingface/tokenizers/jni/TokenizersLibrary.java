@@ -12,6 +12,8 @@
  */
 package ai.djl.huggingface.tokenizers.jni;
 
+import java.nio.ByteBuffer;
+
 /** A class containing utilities to interact with the Tokenizer JNI layer. */
 @SuppressWarnings("MissingJavadocMethod")
 public final class TokenizersLibrary {
@@ -40,6 +42,41 @@ public final class TokenizersLibrary {
     public native long[] batchEncodePair(
             long tokenizer, String[] text, String[] textPair, boolean addSpecialTokens);
 
+    /**
+     * Encodes a batch for {@link #writeBatchToBuffer}.
+     *
+     * @param tokenizer the tokenizer handle
+     * @param text the input texts
+     * @param textPair the paired texts, or {@code null}
+     * @param addSpecialTokens whether to add special tokens
+     * @return the batch handle, must be freed with {@link #deleteBatchEncoding(long)}
+     */
+    public native long batchEncodeForBuffer(
+            long tokenizer, String[] text, String[] textPair, boolean addSpecialTokens);
+
+    /**
+     * Returns the padded sequence length of an encoded batch.
+     *
+     * @param batch the batch handle
+     * @return the padded sequence length
+     */
+    public native long getBatchSequenceLength(long batch);
+
+    /**
+     * Writes the padded token ids, attention mask and token type ids of an encoded batch into a
+     * direct buffer, one [batch, seq] block after another.
+     *
+     * @param tokenizer the tokenizer handle
+     * @param batch the batch handle
+     * @param int32 true to write int32 values, otherwise int64
+     * @param withTypeIds true to write the token type ids
+     * @param buffer the direct buffer in native order
+     */
+    public native void writeBatchToBuffer(
+            long tokenizer, long batch, boolean int32, boolean withTypeIds, ByteBuffer buffer);
+
+    public native void deleteBatchEncoding(long batch);
+
     public native String[] batchDecode(long tokenizer, long[][] batchIds, boolean addSpecialTokens);
 
     public native void deleteEncoding(long encoding);
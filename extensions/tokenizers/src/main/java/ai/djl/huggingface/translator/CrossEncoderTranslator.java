@@ -19,6 +19,7 @@ import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
 import ai.djl.translate.ArgumentsUtil;
 import ai.djl.translate.Batchifier;
+import ai.djl.translate.StackBatchifier;
 import ai.djl.translate.Translator;
 import ai.djl.translate.TranslatorContext;
 import ai.djl.util.PairList;
@@ -71,6 +72,9 @@ public class CrossEncoderTranslator implements Translator<StringPair, float[]> {
     public NDList batchProcessInput(TranslatorContext ctx, List<StringPair> inputs) {
         NDManager manager = ctx.getNDManager();
         PairList<String, String> list = new PairList<>(inputs);
+        if (batchifier instanceof StackBatchifier) {
+            return tokenizer.batchEncodeToNDList(manager, list, includeTokenTypes, int32);
+        }
         Encoding[] encodings = tokenizer.batchEncode(list);
         NDList[] batch = new NDList[encodings.length];
         for (int i = 0; i < encodings.length; ++i) {
@@ -20,9 +20,11 @@ import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
 import ai.djl.translate.ArgumentsUtil;
 import ai.djl.translate.Batchifier;
+import ai.djl.translate.StackBatchifier;
 import ai.djl.translate.Translator;
 import ai.djl.translate.TranslatorContext;
 import ai.djl.util.JsonUtils;
+import ai.djl.util.Utils;
 
 import java.io.IOException;
 import java.io.Reader;
@@ -79,6 +81,10 @@ public class TextClassificationTranslator implements Translator<String, Classifi
     @Override
     public NDList batchProcessInput(TranslatorContext ctx, List<String> inputs) {
         NDManager manager = ctx.getNDManager();
+        if (batchifier instanceof StackBatchifier) {
+            String[] array = inputs.toArray(Utils.EMPTY_ARRAY);
+            return tokenizer.batchEncodeToNDList(manager, array, includeTokenTypes, int32);
+        }
         Encoding[] encodings = tokenizer.batchEncode(inputs);
         NDList[] batch = new NDList[encodings.length];
         for (int i = 0; i < encodings.length; ++i) {
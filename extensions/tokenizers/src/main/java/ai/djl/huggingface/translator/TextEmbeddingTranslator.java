@@ -23,6 +23,7 @@ import ai.djl.translate.ArgumentsUtil;
 import ai.djl.translate.Batchifier;
 import ai.djl.translate.Translator;
 import ai.djl.translate.TranslatorContext;
+import ai.djl.util.Utils;
 
 import java.io.InputStream;
 import java.nio.file.Files;
@@ -110,8 +111,8 @@ public class TextEmbeddingTranslator implements Translator<String, float[]> {
     @Override
     public NDList batchProcessInput(TranslatorContext ctx, List<String> inputs) {
         NDManager manager = ctx.getNDManager();
-        Encoding[] encodings = tokenizer.batchEncode(inputs);
-        NDList list = Encoding.toNDList(encodings, manager, includeTokenTypes, int32);
+        String[] array = inputs.toArray(Utils.EMPTY_ARRAY);
+        NDList list = tokenizer.batchEncodeToNDList(manager, array, includeTokenTypes, int32);
         ctx.setAttachment("attentionMask", list.get(1));
         return list;
     }
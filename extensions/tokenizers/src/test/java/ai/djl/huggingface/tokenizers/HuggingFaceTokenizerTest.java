@@ -15,6 +15,10 @@ package ai.djl.huggingface.tokenizers;
 
 import ai.djl.engine.Engine;
 import ai.djl.huggingface.tokenizers.jni.CharSpan;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.DataType;
+import ai.djl.ndarray.types.Shape;
 import ai.djl.testing.TestRequirements;
 import ai.djl.training.util.DownloadUtils;
 import ai.djl.util.PairList;
@@ -266,6 +270,51 @@ public class HuggingFaceTokenizerTest {
         }
     }
 
+    @Test
+    public void testBatchEncodeToNDList() throws IOException {
+        String[] inputs = {"Hello, y'all! How are you?", "I am happy"};
+        Map<String, String> options = new ConcurrentHashMap<>();
+        options.put("tokenizer", "google-bert/bert-base-cased");
+        options.put("padding", "false");
+
+        try (HuggingFaceTokenizer tokenizer = HuggingFaceTokenizer.builder(options).build();
+                NDManager manager = NDManager.newBaseManager()) {
+            Encoding[] encodings = tokenizer.batchEncode(inputs.clone());
+            int length = encodings[0].getIds().length;
+            Assert.assertTrue(encodings[1].getIds().length < length);
+
+            NDList list = tokenizer.batchEncodeToNDList(manager, inputs.clone(), true, false);
+            Assert.assertEquals(list.size(), 3);
+            Assert.assertEquals(list.get(0).getDataType(), DataType.INT64);
+            Assert.assertEquals(list.get(0).getShape(), new Shape(2, length));
+            for (int i = 0; i < encodings.length; ++i) {
+                // the shorter sentence is padded
+                long[] ids = Arrays.copyOf(encodings[i].getIds(), length);
+                long[] mask = Arrays.copyOf(encodings[i].getAttentionMask(), length);
+                Assert.assertEquals(list.get(0).get(i).toLongArray(), ids);
+                Assert.assertEquals(list.get(1).get(i).toLongArray(), mask);
+            }
+
+            options.put("padding", "true");
+            try (HuggingFaceTokenizer padded = HuggingFaceTokenizer.builder(options).build()) {
+                encodings = padded.batchEncode(inputs.clone());
+                NDList expected = Encoding.toNDList(encodings, manager, false, true);
+                list = padded.batchEncodeToNDList(manager, inputs.clone(), false, true);
+                Assert.assertEquals(list.size(), 2);
+                Assert.assertEquals(list.get(0).getDataType(), DataType.INT32);
+                Assert.assertEquals(list, expected);
+
+                PairList<String, String> pairs = new PairList<>();
+                pairs.add("How are you?", "I am happy");
+                pairs.add("Hello", "Today is a sunny day");
+                encodings = padded.batchEncode(pairs);
+                expected = Encoding.toNDList(encodings, manager, true, false);
+                list = padded.batchEncodeToNDList(manager, pairs, true, false);
+                Assert.assertEquals(list, expected);
+            }
+        }
+    }
+
     @Test
     public void testMaxModelLengthTruncationAndAllPaddings() throws IOException {
         String repeat = "hi,";
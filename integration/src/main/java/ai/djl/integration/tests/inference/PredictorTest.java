@@ -15,10 +15,15 @@ package ai.djl.integration.tests.inference;
 import ai.djl.Device;
 import ai.djl.Model;
 import ai.djl.basicmodelzoo.basic.Mlp;
+import ai.djl.inference.BatchingPredictor;
 import ai.djl.inference.Predictor;
+import ai.djl.inference.PredictorPool;
 import ai.djl.integration.util.TestUtils;
+import ai.djl.metric.Metrics;
+import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.DataType;
 import ai.djl.ndarray.types.Shape;
 import ai.djl.nn.Block;
 import ai.djl.testing.TestRequirements;
@@ -26,12 +31,21 @@ import ai.djl.training.DefaultTrainingConfig;
 import ai.djl.training.Trainer;
 import ai.djl.training.TrainingConfig;
 import ai.djl.training.loss.Loss;
+import ai.djl.translate.Batchifier;
 import ai.djl.translate.NoopTranslator;
 import ai.djl.translate.TranslateException;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 public class PredictorTest {
 
     @Test
@@ -50,6 +64,123 @@ public class PredictorTest {
         predictWithDeviceHelper(Device.gpu(), Device.cpu());
     }
 
+    @Test
+    public void testBatchingPredictor() throws TranslateException {
+        try (NDManager manager = NDManager.newBaseManager(TestUtils.getEngine());
+                Model model = Model.newInstance("mlp", TestUtils.getEngine())) {
+            Block block = new Mlp(10, 10, new int[] {10});
+            model.setBlock(block);
+            block.initialize(manager, DataType.FLOAT32, new Shape(1, 10));
+
+            Metrics metrics = new Metrics();
+            Predictor<NDList, NDList> predictor =
+                    model.newPredictor(new NoopTranslator(Batchifier.STACK));
+            try (BatchingPredictor<NDList, NDList> batching =
+                    new BatchingPredictor<>(predictor, 4, 100)) {
+                batching.setMetrics(metrics);
+                List<CompletableFuture<NDList>> futures = new ArrayList<>();
+                for (int i = 0; i < 8; ++i) {
+                    futures.add(batching.submit(new NDList(manager.ones(new Shape(10)))));
+                }
+                for (CompletableFuture<NDList> future : futures) {
+                    NDList result = future.join();
+                    Assert.assertEquals(result.singletonOrThrow().getShape(), new Shape(10));
+                }
+
+                NDList result = batching.predict(new NDList(manager.ones(new Shape(10))));
+                Assert.assertEquals(result.singletonOrThrow().getShape(), new Shape(10));
+            }
+            Assert.assertTrue(metrics.hasMetric("BatchSize"));
+            Assert.assertTrue(metrics.hasMetric("QueueTime"));
+            Assert.assertEquals(metrics.latestMetric("BatchSize").getValue().intValue(), 1);
+        }
+    }
+
+    @Test
+    public void testPredictAsync() {
+        try (NDManager manager = NDManager.newBaseManager(TestUtils.getEngine());
+                Model model = Model.newInstance("mlp", TestUtils.getEngine())) {
+            Block block = new Mlp(10, 10, new int[] {10});
+            model.setBlock(block);
+            block.initialize(manager, DataType.FLOAT32, new Shape(1, 10));
+
+            Metrics metrics = new Metrics();
+            try (Predictor<NDList, NDList> predictor =
+                    model.newPredictor(new NoopTranslator(Batchifier.STACK))) {
+                predictor.setMetrics(metrics);
+                List<CompletableFuture<List<NDList>>> futures = new ArrayList<>();
+                for (int i = 0; i < 4; ++i) {
+                    List<NDList> batch = new ArrayList<>();
+                    for (int j = 0; j < 3; ++j) {
+                        batch.add(new NDList(manager.ones(new Shape(10))));
+                    }
+                    futures.add(predictor.batchPredictAsync(batch));
+                }
+                for (CompletableFuture<List<NDList>> future : futures) {
+                    List<NDList> results = future.join();
+                    Assert.assertEquals(results.size(), 3);
+                    NDArray array = results.get(0).singletonOrThrow();
+                    Assert.assertEquals(array.getShape(), new Shape(10));
+                }
+
+                NDList input = new NDList(manager.ones(new Shape(10)));
+                NDList result = predictor.predictAsync(input).join();
+                Assert.assertEquals(result.singletonOrThrow().getShape(), new Shape(10));
+            }
+            Assert.assertEquals(metrics.getMetric("Inference").size(), 5);
+            Assert.assertEquals(metrics.getMetric("InferenceQueueTime").size(), 5);
+            Assert.assertTrue(metrics.hasMetric("InferenceQueueSize"));
+        }
+    }
+
+    @Test
+    public void testPredictorPool() throws Exception {
+        try (NDManager manager = NDManager.newBaseManager(TestUtils.getEngine());
+                Model model = Model.newInstance("mlp", TestUtils.getEngine())) {
+            Block block = new Mlp(10, 10, new int[] {10});
+            model.setBlock(block);
+            block.initialize(manager, DataType.FLOAT32, new Shape(1, 10));
+
+            Metrics metrics = new Metrics();
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try (PredictorPool<NDList, NDList> pool =
+                    model.newPredictorPool(new NoopTranslator(Batchifier.STACK), 2)) {
+                pool.setMetrics(metrics);
+                List<Future<NDList>> futures = new ArrayList<>();
+                for (int i = 0; i < 8; ++i) {
+                    NDList input = new NDList(manager.ones(new Shape(10)));
+                    futures.add(executor.submit(() -> pool.predict(input)));
+                }
+                for (Future<NDList> future : futures) {
+                    Assert.assertEquals(future.get().singletonOrThrow().getShape(), new Shape(10));
+                }
+                Assert.assertTrue(pool.getCreatedCount() <= 2);
+                Assert.assertEquals(pool.getActiveCount(), 0);
+
+                Predictor<NDList, NDList> p1 = pool.borrow();
+                Predictor<NDList, NDList> p2 = pool.borrow();
+                Assert.assertNotSame(p1, p2);
+                Assert.assertNull(pool.borrow(10, TimeUnit.MILLISECONDS));
+                pool.release(p1);
+                Assert.assertSame(pool.borrow(), p1);
+                pool.release(p1);
+                pool.release(p2);
+
+                // double release and foreign predictors are rejected
+                Assert.assertThrows(IllegalArgumentException.class, () -> pool.release(p1));
+                try (Predictor<NDList, NDList> other = model.newPredictor(new NoopTranslator())) {
+                    Assert.assertThrows(IllegalArgumentException.class, () -> pool.release(other));
+                }
+                Assert.assertEquals(pool.getActiveCount(), 0);
+            } finally {
+                executor.shutdown();
+            }
+            Assert.assertEquals(metrics.getMetric("PoolWaitTime").size(), 11);
+            Assert.assertTrue(metrics.hasMetric("PoolCreated"));
+            Assert.assertTrue(metrics.hasMetric("PoolUtilization"));
+        }
+    }
+
     public void predictWithDeviceHelper(Device device, Device predictorDevice)
             throws TranslateException {
         // Create simple model on modelDevice
@@ -16,6 +16,7 @@ import ai.djl.Model;
 import ai.djl.basicdataset.cv.classification.Cifar10;
 import ai.djl.integration.util.TestUtils;
 import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.DataType;
 import ai.djl.ndarray.types.Shape;
@@ -30,11 +31,13 @@ import ai.djl.training.dataset.BatchSampler;
 import ai.djl.training.dataset.Dataset;
 import ai.djl.training.dataset.RandomAccessDataset;
 import ai.djl.training.dataset.RandomSampler;
+import ai.djl.training.dataset.Record;
 import ai.djl.training.dataset.SequenceSampler;
 import ai.djl.training.initializer.Initializer;
 import ai.djl.training.loss.Loss;
 import ai.djl.translate.TranslateException;
 import ai.djl.util.Pair;
+import ai.djl.util.Progress;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -299,6 +302,39 @@ public class DatasetTest {
         }
     }
 
+    @Test
+    public void testRecordParallelism()
+            throws IOException, InterruptedException, TranslateException {
+        try (Model model = Model.newInstance("model", TestUtils.getEngine())) {
+            model.setBlock(Blocks.identityBlock());
+
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            RandomAccessDataset dataset =
+                    new IndexDataset.Builder()
+                            .setSampling(8, false)
+                            .optPrefetchNumber(3)
+                            .optRecordParallelism(4)
+                            .build();
+
+            TrainingConfig threadedConfig = config().optExecutorService(executor);
+            try (Trainer trainer = model.newTrainer(threadedConfig)) {
+                long expected = 0;
+                for (Batch batch : trainer.iterateDataset(dataset)) {
+                    Assert.assertTrue(batch.getWaitTime() >= 0);
+                    long[] values = batch.getData().head().toLongArray();
+                    Assert.assertEquals(values.length, 8);
+                    for (long value : values) {
+                        Assert.assertEquals(value, expected++);
+                    }
+                    batch.close();
+                }
+                Assert.assertEquals(expected, 64);
+                executor.shutdown();
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.SECONDS);
+            }
+        }
+    }
+
     @Test
     public void testDatasetToArray() throws IOException, TranslateException {
         TestUtils.requiresEngine("MXNet", "PyTorch", "TensorFlow");
@@ -328,4 +364,41 @@ public class DatasetTest {
         return new DefaultTrainingConfig(Loss.l2Loss())
                 .optInitializer(Initializer.ONES, Parameter.Type.WEIGHT);
     }
+
+    private static final class IndexDataset extends RandomAccessDataset {
+
+        IndexDataset(Builder builder) {
+            super(builder);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Record get(NDManager manager, long index) {
+            NDArray array = manager.create(index);
+            return new Record(new NDList(array), new NDList(array));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected long availableSize() {
+            return 64;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void prepare(Progress progress) {}
+
+        static final class Builder extends BaseBuilder<Builder> {
+
+            /** {@inheritDoc} */
+            @Override
+            protected Builder self() {
+                return this;
+            }
+
+            IndexDataset build() {
+                return new IndexDataset(this);
+            }
+        }
+    }
 }
@@ -35,6 +35,7 @@ import ai.djl.training.optimizer.Optimizer;
 import ai.djl.training.tracker.Tracker;
 import ai.djl.translate.Batchifier;
 
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 public class OptimizerTest {
@@ -327,6 +328,109 @@ public class OptimizerTest {
         }
     }
 
+    @Test
+    public void testForeach() {
+        // the other engines can't make the parameters views of flat arrays
+        TestUtils.requiresEngine("PyTorch");
+        Optimizer sgd =
+                Optimizer.sgd()
+                        .setLearningRateTracker(Tracker.fixed(0.1f))
+                        .optMomentum(0.9f)
+                        .optForeach(true)
+                        .build();
+        runForeach(sgd, new float[] {0.68f, -0.16f}, new float[] {0.2032f, -0.3984f});
+
+        Optimizer adam =
+                Optimizer.adam()
+                        .optLearningRateTracker(Tracker.fixed(0.1f))
+                        .optForeach(true)
+                        .build();
+        runForeach(
+                adam,
+                new float[] {0.8999999761581421f, -0.10000064f},
+                new float[] {0.80060977f, -0.19939029f});
+
+        Optimizer adamW =
+                Optimizer.adamW()
+                        .optLearningRateTracker(Tracker.fixed(0.1f))
+                        .optForeach(true)
+                        .build();
+        runForeach(
+                adamW,
+                new float[] {0.8990001082420349f, -0.10000064f},
+                new float[] {0.7987207174301147f, -0.19939029f});
+    }
+
+    @Test
+    public void testClipGradNorm() {
+        for (boolean foreach : new boolean[] {false, true}) {
+            if (foreach && !"PyTorch".equals(TestUtils.getEngine())) {
+                continue;
+            }
+            Optimizer sgd =
+                    Optimizer.sgd()
+                            .setLearningRateTracker(Tracker.fixed(0.1f))
+                            .optClipGradNorm(1f)
+                            .optForeach(foreach)
+                            .build();
+
+            Device[] devices = TestUtils.getDevices(1);
+            TrainingConfig config =
+                    new DefaultTrainingConfig(Loss.l2Loss())
+                            .optInitializer(Initializer.ONES, Parameter.Type.WEIGHT)
+                            .optOptimizer(sgd)
+                            .optDevices(devices);
+            Block block = Linear.builder().setUnits(CHANNELS).build();
+            try (Model model = Model.newInstance("model", devices[0], TestUtils.getEngine())) {
+                model.setBlock(block);
+
+                try (Trainer trainer = model.newTrainer(config)) {
+                    int batchSize = config.getDevices().length * BATCH_SIZE;
+                    trainer.initialize(new Shape(batchSize, CHANNELS));
+
+                    NDManager manager = trainer.getManager();
+                    NDList before = new NDList();
+                    block.getParameters()
+                            .forEach(p -> before.add(p.getValue().getArray().duplicate()));
+                    runOptimizer(manager, trainer, block, batchSize);
+                    Assert.assertTrue(sgd.getGradientNorm() > 1f);
+
+                    // the step of sgd without momentum is learning_rate * clipped gradients
+                    float sum = 0;
+                    for (int i = 0; i < before.size(); ++i) {
+                        NDArray weight = block.getParameters().valueAt(i).getArray();
+                        sum += weight.sub(before.get(i)).square().sum().getFloat();
+                    }
+                    Assert.assertEquals((float) Math.sqrt(sum), 0.1f, 1e-4f);
+                }
+            }
+        }
+    }
+
+    private void runForeach(Optimizer optim, float[] expected, float[] expected2) {
+        Device[] devices = TestUtils.getDevices(1);
+        TrainingConfig config =
+                new DefaultTrainingConfig(Loss.l2Loss())
+                        .optInitializer(Initializer.ONES, Parameter.Type.WEIGHT)
+                        .optOptimizer(optim)
+                        .optDevices(devices);
+        Block block = Linear.builder().setUnits(CHANNELS).build();
+        try (Model model = Model.newInstance("model", devices[0], TestUtils.getEngine())) {
+            model.setBlock(block);
+
+            try (Trainer trainer = model.newTrainer(config)) {
+                int batchSize = config.getDevices().length * BATCH_SIZE;
+                trainer.initialize(new Shape(batchSize, CHANNELS));
+
+                NDManager manager = trainer.getManager();
+                NDArray result = runOptimizer(manager, trainer, block, batchSize);
+                NDArray result2 = runOptimizer(manager, trainer, block, batchSize);
+                Assertions.assertAlmostEquals(result, manager.create(expected));
+                Assertions.assertAlmostEquals(result2, manager.create(expected2));
+            }
+        }
+    }
+
     private NDArray runOptimizer(NDManager manager, Trainer trainer, Block block, int batchSize) {
         NDArray data = manager.ones(new Shape(batchSize, CHANNELS)).mul(2);
         NDArray label = data.mul(2);
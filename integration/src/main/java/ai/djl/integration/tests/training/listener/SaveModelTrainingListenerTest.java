@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"). You may not use this file except in compliance
+ * with the License. A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0/
+ *
+ * or in the "license" file accompanying this file. This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package ai.djl.integration.tests.training.listener;
+
+import ai.djl.Model;
+import ai.djl.integration.util.TestUtils;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.nn.Block;
+import ai.djl.nn.Parameter;
+import ai.djl.nn.core.Linear;
+import ai.djl.testing.Assertions;
+import ai.djl.training.DefaultTrainingConfig;
+import ai.djl.training.Trainer;
+import ai.djl.training.initializer.Initializer;
+import ai.djl.training.listener.SaveModelTrainingListener;
+import ai.djl.training.loss.Loss;
+import ai.djl.training.util.ShardedCheckpoint;
+import ai.djl.util.Pair;
+import ai.djl.util.Utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+public class SaveModelTrainingListenerTest {
+
+    @Test
+    public void testAsyncCheckpoint() throws Exception {
+        Path dir = Paths.get("build/tmp/async_checkpoint");
+        Utils.deleteQuietly(dir);
+
+        SaveModelTrainingListener listener =
+                new SaveModelTrainingListener(dir.toString(), "linear", 1);
+        listener.setAsyncCheckpoint(true);
+        listener.setMaxCheckpoints(2);
+        listener.setMaxPendingWrites(2);
+        listener.setShardSize(64);
+
+        Block block = Linear.builder().setUnits(10).build();
+        try (Model model = Model.newInstance("model", TestUtils.getEngine())) {
+            model.setBlock(block);
+            DefaultTrainingConfig config =
+                    new DefaultTrainingConfig(Loss.l2Loss())
+                            .optInitializer(Initializer.ONES, Parameter.Type.WEIGHT)
+                            .addTrainingListeners(listener);
+            try (Trainer trainer = model.newTrainer(config)) {
+                trainer.initialize(new Shape(1, 10));
+                for (int i = 0; i < 3; ++i) {
+                    trainer.notifyListeners(l -> l.onEpoch(trainer));
+                    // parameters change after the snapshot
+                    block.getParameters().forEach(p -> p.getValue().getArray().addi(1));
+                }
+                // the trainer calls onTrainingEnd when closed
+            }
+
+            // epoch 1 is removed, the final model is saved in the standard format
+            Assert.assertTrue(Files.notExists(dir.resolve("linear-0001.ckpt")));
+            Assert.assertTrue(Files.exists(dir.resolve("linear-0003.params")));
+            Assert.assertEquals(ShardedCheckpoint.getLatestEpoch(dir, "linear"), 3);
+
+            try (ShardedCheckpoint checkpoint =
+                    ShardedCheckpoint.open(ShardedCheckpoint.getCheckpointPath(dir, "linear", 2))) {
+                Assert.assertEquals(checkpoint.getEpoch(), 2);
+                Assert.assertEquals(checkpoint.getProperties().get("Epoch"), "2");
+
+                checkpoint.loadParameters(block);
+                for (Pair<String, Parameter> pair : block.getParameters()) {
+                    NDArray array = pair.getValue().getArray();
+                    NDArray expected = checkpoint.get(model.getNDManager(), pair.getKey());
+                    Assertions.assertAlmostEquals(array, expected);
+                }
+                NDArray weight = block.getParameters().get("weight").getArray();
+                Assertions.assertAlmostEquals(weight, weight.onesLike().add(1));
+            }
+
+            // shards that can't be opened for writing are mapped read-only
+            Path checkpointDir = ShardedCheckpoint.getCheckpointPath(dir, "linear", 2);
+            try (Stream<Path> files = Files.list(checkpointDir)) {
+                files.forEach(f -> Assert.assertTrue(f.toFile().setWritable(false)));
+            }
+            try (ShardedCheckpoint checkpoint = ShardedCheckpoint.open(checkpointDir)) {
+                NDArray weight = checkpoint.get(model.getNDManager(), "weight");
+                Assertions.assertAlmostEquals(weight.addi(1), weight.onesLike().add(2));
+            }
+        }
+    }
+
+    @Test
+    public void testRemoveOldCheckpoints() throws IOException {
+        Path dir = Paths.get("build/tmp/sync_checkpoint");
+        Utils.deleteQuietly(dir);
+
+        SaveModelTrainingListener listener =
+                new SaveModelTrainingListener(dir.toString(), "linear", 1);
+        listener.setMaxCheckpoints(1);
+
+        Block block = Linear.builder().setUnits(10).build();
+        try (Model model = Model.newInstance("model", TestUtils.getEngine())) {
+            model.setBlock(block);
+            DefaultTrainingConfig config =
+                    new DefaultTrainingConfig(Loss.l2Loss()).addTrainingListeners(listener);
+            try (Trainer trainer = model.newTrainer(config)) {
+                trainer.initialize(new Shape(1, 10));
+                trainer.notifyListeners(l -> l.onEpoch(trainer));
+                trainer.notifyListeners(l -> l.onEpoch(trainer));
+            }
+        }
+        Assert.assertTrue(Files.notExists(dir.resolve("linear-0001.params")));
+        Assert.assertTrue(Files.exists(dir.resolve("linear-0002.params")));
+    }
+}
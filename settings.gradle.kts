@@ -6,6 +6,7 @@ plugins {
 
 include(":api")
 include(":basicdataset")
+include(":benchmarks")
 include(":djl-zero")
 include(":engines:ml:lightgbm")
 include(":engines:ml:xgboost")